@@ -0,0 +1,104 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.benchmark;
+
+import com.blazebit.persistence.CriteriaBuilder;
+import com.blazebit.persistence.CriteriaBuilderFactory;
+import com.blazebit.persistence.JoinType;
+import com.blazebit.persistence.benchmark.model.Document;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the builder pipeline from {@link CriteriaBuilderFactory#create} to the rendered query string.
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CriteriaBuilderBenchmark {
+
+    private CriteriaBuilderFactory cbf;
+    private EntityManager em;
+
+    @Setup(Level.Trial)
+    public void setup(PersistenceState persistenceState) {
+        cbf = persistenceState.getCriteriaBuilderFactory();
+        em = persistenceState.getEntityManagerFactory().createEntityManager();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        em.close();
+    }
+
+    @Benchmark
+    public String simpleQuery() {
+        return cbf.create(em, Document.class, "d")
+                .where("d.name").eq("doc")
+                .getQueryString();
+    }
+
+    @Benchmark
+    public String joinWhereOrderByQuery() {
+        return createJoinWhereOrderByQuery().getQueryString();
+    }
+
+    @Benchmark
+    public String subqueryQuery() {
+        return cbf.create(em, Document.class, "d")
+                .where("d.owner.age").gtExpression("1")
+                .where("d.id").in()
+                    .from(Document.class, "sub")
+                    .select("sub.id")
+                    .where("sub.owner.friend.name").like().value("friend%").noEscape()
+                .end()
+                .orderByDesc("d.creationDate")
+                .orderByAsc("d.id")
+                .getQueryString();
+    }
+
+    CriteriaBuilder<Tuple> createJoinWhereOrderByQuery() {
+        return cbf.create(em, Tuple.class)
+                .from(Document.class, "d")
+                .innerJoin("d.owner", "o")
+                .leftJoinOn("o.friend", "f")
+                    .on("f.age").gtExpression("o.age")
+                .end()
+                .joinDefault("d.partners", "p", JoinType.LEFT)
+                .select("d.name")
+                .select("o.name")
+                .select("COALESCE(f.name, 'none')")
+                .select("COUNT(p.id)")
+                .whereOr()
+                    .where("d.age").betweenExpression("1").andExpression("10")
+                    .where("UPPER(o.name)").like().value("A%").noEscape()
+                .endOr()
+                .where("d.creationDate").isNotNull()
+                .groupBy("d.id", "d.name", "o.name", "f.name")
+                .orderByAsc("o.name")
+                .orderByDesc("d.id");
+    }
+}
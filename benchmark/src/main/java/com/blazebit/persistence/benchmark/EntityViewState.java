@@ -0,0 +1,93 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.benchmark;
+
+import com.blazebit.persistence.benchmark.model.Document;
+import com.blazebit.persistence.benchmark.model.Person;
+import com.blazebit.persistence.benchmark.view.DocumentWithOwnerDocumentsView;
+import com.blazebit.persistence.benchmark.view.DocumentWithOwnerView;
+import com.blazebit.persistence.benchmark.view.DocumentWithPartnersView;
+import com.blazebit.persistence.benchmark.view.PersonView;
+import com.blazebit.persistence.benchmark.view.PersonWithFriendView;
+import com.blazebit.persistence.benchmark.view.SimpleDocumentView;
+import com.blazebit.persistence.view.EntityViewManager;
+import com.blazebit.persistence.view.EntityViews;
+import com.blazebit.persistence.view.spi.EntityViewConfiguration;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds the entity view manager and persists a fixed data set once per benchmark.
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+@State(Scope.Benchmark)
+public class EntityViewState {
+
+    public static final int PERSON_COUNT = 100;
+    public static final int DOCUMENTS_PER_PERSON = 10;
+    public static final int PARTNERS_PER_DOCUMENT = 3;
+
+    private EntityViewManager evm;
+
+    @Setup(Level.Trial)
+    public void setup(PersistenceState persistenceState) {
+        EntityViewConfiguration cfg = EntityViews.createDefaultConfiguration();
+        cfg.addEntityView(SimpleDocumentView.class);
+        cfg.addEntityView(PersonView.class);
+        cfg.addEntityView(PersonWithFriendView.class);
+        cfg.addEntityView(DocumentWithOwnerView.class);
+        cfg.addEntityView(DocumentWithPartnersView.class);
+        cfg.addEntityView(DocumentWithOwnerDocumentsView.class);
+        evm = cfg.createEntityViewManager(persistenceState.getCriteriaBuilderFactory());
+
+        EntityManager em = persistenceState.getEntityManagerFactory().createEntityManager();
+        try {
+            em.getTransaction().begin();
+            if (em.createQuery("SELECT COUNT(*) FROM Document", Long.class).getSingleResult() == 0L) {
+                persistData(em);
+            }
+            em.getTransaction().commit();
+        } finally {
+            em.close();
+        }
+    }
+
+    private static void persistData(EntityManager em) {
+        LocalDate creationDate = LocalDate.of(2020, 1, 1);
+        List<Person> persons = new ArrayList<>(PERSON_COUNT);
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            Person person = new Person("Person " + i, 20 + i % 50);
+            if (i > 0) {
+                person.setFriend(persons.get(i - 1));
+            }
+            persons.add(person);
+            em.persist(person);
+        }
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            Person owner = persons.get(i);
+            for (int j = 0; j < DOCUMENTS_PER_PERSON; j++) {
+                Document document = new Document("Doc " + i + "-" + j, j, creationDate.plusDays(j), owner);
+                for (int k = 1; k <= PARTNERS_PER_DOCUMENT; k++) {
+                    document.getPartners().add(persons.get((i + k) % PERSON_COUNT));
+                }
+                em.persist(document);
+            }
+        }
+    }
+
+    public EntityViewManager getEntityViewManager() {
+        return evm;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.benchmark;
+
+import com.blazebit.persistence.parser.FunctionKind;
+import com.blazebit.persistence.parser.expression.Expression;
+import com.blazebit.persistence.parser.expression.ExpressionFactory;
+import com.blazebit.persistence.parser.expression.ExpressionFactoryImpl;
+import com.blazebit.persistence.parser.expression.SimpleCachingExpressionFactory;
+import com.blazebit.persistence.parser.predicate.Predicate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures expression parsing via {@link ExpressionFactoryImpl} and the cache lookups of the caching expression factory.
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExpressionParsingBenchmark {
+
+    private static final String PATH_EXPRESSION = "d.owner.friend.name";
+    private static final String SIMPLE_EXPRESSION = "COALESCE(d.owner.name, UPPER(d.name)) || CASE WHEN d.age > 10 THEN 'old' ELSE 'new' END";
+    private static final String PREDICATE_EXPRESSION = "d.age BETWEEN 1 AND 10 AND (d.name LIKE 'A%' OR d.owner.name IN ('a', 'b', 'c')) AND d.creationDate IS NOT NULL";
+
+    private final ExpressionFactory expressionFactory = new ExpressionFactoryImpl(new HashMap<String, FunctionKind>(), true, true);
+    private final ExpressionFactory cachingExpressionFactory = new SimpleCachingExpressionFactory(expressionFactory);
+
+    @Benchmark
+    public Expression parsePathExpression() {
+        return expressionFactory.createPathExpression(PATH_EXPRESSION);
+    }
+
+    @Benchmark
+    public Expression parseSimpleExpression() {
+        return expressionFactory.createSimpleExpression(SIMPLE_EXPRESSION, false, false, false, null, null);
+    }
+
+    @Benchmark
+    public Predicate parsePredicate() {
+        return expressionFactory.createBooleanExpression(PREDICATE_EXPRESSION, false, null, null);
+    }
+
+    @Benchmark
+    public Expression cachedPathExpression() {
+        return cachingExpressionFactory.createPathExpression(PATH_EXPRESSION);
+    }
+
+    @Benchmark
+    public Expression cachedSimpleExpression() {
+        return cachingExpressionFactory.createSimpleExpression(SIMPLE_EXPRESSION, false, false, false, null, null);
+    }
+
+    @Benchmark
+    public Predicate cachedPredicate() {
+        return cachingExpressionFactory.createBooleanExpression(PREDICATE_EXPRESSION, false, null, null);
+    }
+}
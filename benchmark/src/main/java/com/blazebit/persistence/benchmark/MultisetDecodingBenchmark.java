@@ -0,0 +1,121 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.benchmark;
+
+import com.blazebit.persistence.parser.JsonParser;
+import com.blazebit.persistence.view.impl.type.BigDecimalBasicUserType;
+import com.blazebit.persistence.view.impl.type.BooleanBasicUserType;
+import com.blazebit.persistence.view.impl.type.IntegerBasicUserType;
+import com.blazebit.persistence.view.impl.type.LocalDateTimeBasicUserType;
+import com.blazebit.persistence.view.impl.type.LongBasicUserType;
+import com.blazebit.persistence.view.impl.type.StringBasicUserType;
+import com.blazebit.persistence.view.spi.type.BasicUserTypeStringSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the client side decoding of the JSON that the database produces for <code>MULTISET</code> fetched collections,
+ * i.e. the part of <code>MultisetFetchCollectionsBenchmarkTest#testMultisetFetch</code> that runs after the JDBC result is read.
+ * The JSON is parsed with {@link JsonParser#parseStringOnly(CharSequence, String...)} and the values are converted with the
+ * basic user types as done by the <code>MultisetTupleTransformer</code>. The <code>decodeViaStrings</code> benchmark converts
+ * copies of the values instead, which is how values were decoded before the basic user types parsed the JSON directly.
+ * Run with <code>-prof gc</code> to compare the allocation rate.
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MultisetDecodingBenchmark {
+
+    private static final String[] FIELDS = { "f0", "f1", "f2", "f3", "f4", "f5" };
+    @SuppressWarnings("unchecked")
+    private static final BasicUserTypeStringSupport<Object>[] CONVERTERS = new BasicUserTypeStringSupport[] {
+        LongBasicUserType.INSTANCE,
+        StringBasicUserType.INSTANCE,
+        IntegerBasicUserType.INSTANCE,
+        LocalDateTimeBasicUserType.INSTANCE,
+        BooleanBasicUserType.INSTANCE,
+        BigDecimalBasicUserType.INSTANCE
+    };
+
+    /**
+     * The number of elements of the multiset.
+     */
+    @Param({ "10", "100", "1000" })
+    private int elements;
+
+    private String json;
+
+    @Setup
+    public void setup() {
+        StringBuilder sb = new StringBuilder();
+        sb.append('[');
+        for (int i = 0; i < elements; i++) {
+            if (i != 0) {
+                sb.append(',');
+            }
+            sb.append("{\"f0\":\"").append(1000000L + i)
+                .append("\",\"f1\":\"").append(i % 10 == 0 ? "Document \\\"" + i + "\\\"" : "Document " + i)
+                .append("\",\"f2\":\"").append(i % 100)
+                .append("\",\"f3\":\"2024-01-").append(10 + i % 20).append("T10:15:30")
+                .append("\",\"f4\":\"").append(i % 2 == 0)
+                .append("\",\"f5\":\"").append(i).append(".25")
+                .append("\"}");
+        }
+        sb.append(']');
+        json = sb.toString();
+    }
+
+    @Benchmark
+    public List<Object[]> parse() {
+        return JsonParser.parseStringOnly(json, FIELDS);
+    }
+
+    @Benchmark
+    public List<Object[]> decode() {
+        List<Object[]> objects = JsonParser.parseStringOnly(json, FIELDS);
+        for (int i = 0; i < objects.size(); i++) {
+            Object[] elementTuple = objects.get(i);
+            for (int j = 0; j < CONVERTERS.length; j++) {
+                if (elementTuple[j] instanceof CharSequence) {
+                    elementTuple[j] = CONVERTERS[j].fromString((CharSequence) elementTuple[j]);
+                }
+            }
+        }
+        return objects;
+    }
+
+    @Benchmark
+    public List<Object[]> decodeViaStrings() {
+        List<Object[]> objects = JsonParser.parseStringOnly(json, FIELDS);
+        for (int i = 0; i < objects.size(); i++) {
+            Object[] elementTuple = objects.get(i);
+            for (int j = 0; j < CONVERTERS.length; j++) {
+                if (elementTuple[j] instanceof CharSequence) {
+                    elementTuple[j] = CONVERTERS[j].fromString(elementTuple[j].toString());
+                }
+            }
+        }
+        return objects;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.benchmark;
+
+import com.blazebit.persistence.CriteriaBuilder;
+import com.blazebit.persistence.ObjectBuilder;
+import com.blazebit.persistence.benchmark.model.Document;
+import com.blazebit.persistence.benchmark.view.DocumentWithOwnerDocumentsView;
+import com.blazebit.persistence.benchmark.view.DocumentWithOwnerView;
+import com.blazebit.persistence.benchmark.view.DocumentWithPartnersView;
+import com.blazebit.persistence.benchmark.view.SimpleDocumentView;
+import com.blazebit.persistence.impl.query.ObjectBuilderTypedQuery;
+import com.blazebit.persistence.view.EntityViewManager;
+import com.blazebit.persistence.view.EntityViewSetting;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the materialization of entity views from query result tuples, i.e. the object builders created from
+ * the view type object builder templates along with the tuple transformations, for different view shapes.
+ *
+ * The raw tuples are fetched once and every invocation feeds copies of them through the object builder,
+ * so the database is not part of the measurement. The only exception are batch correlations,
+ * because they are loaded while transforming the result list.
+ * Run with <code>-prof gc</code> to report the allocation rate per view shape.
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObjectBuilderBenchmark {
+
+    /**
+     * The view shapes.
+     *
+     * @author Christian Beikov
+     * @since 1.6.15
+     */
+    public enum ViewShape {
+        FLAT(SimpleDocumentView.class),
+        SUBVIEW(DocumentWithOwnerView.class),
+        MULTISET(DocumentWithPartnersView.class),
+        BATCH_CORRELATION(DocumentWithOwnerDocumentsView.class);
+
+        private final Class<?> viewClass;
+
+        ViewShape(Class<?> viewClass) {
+            this.viewClass = viewClass;
+        }
+    }
+
+    @Param
+    private ViewShape viewShape;
+
+    private EntityManager em;
+    private ObjectBuilder<Object> objectBuilder;
+    private List<Object[]> tuples;
+
+    @Setup(Level.Trial)
+    public void setup(PersistenceState persistenceState, EntityViewState entityViewState) {
+        em = persistenceState.getEntityManagerFactory().createEntityManager();
+        CriteriaBuilder<Document> cb = persistenceState.getCriteriaBuilderFactory().create(em, Document.class, "d")
+                .orderByAsc("d.id");
+        @SuppressWarnings("unchecked")
+        ObjectBuilderTypedQuery<Object> query = (ObjectBuilderTypedQuery<Object>) applySetting(entityViewState.getEntityViewManager(), viewShape.viewClass, cb).getQuery();
+        objectBuilder = query.getObjectBuilder();
+        TypedQuery<Object> rawQuery = query.getDelegate();
+        List<Object> rawResults = rawQuery.getResultList();
+        tuples = new ArrayList<>(rawResults.size());
+        for (Object rawResult : rawResults) {
+            tuples.add(rawResult instanceof Object[] ? (Object[]) rawResult : new Object[]{ rawResult });
+        }
+    }
+
+    private static <T> CriteriaBuilder<T> applySetting(EntityViewManager evm, Class<T> viewClass, CriteriaBuilder<Document> cb) {
+        return evm.applySetting(EntityViewSetting.create(viewClass), cb);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        em.close();
+    }
+
+    @Benchmark
+    public List<Object> buildList() {
+        int size = tuples.size();
+        List<Object> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            // Tuple transformers may replace elements in the tuple, so every invocation needs a fresh copy
+            list.add(objectBuilder.build(tuples.get(i).clone()));
+        }
+        return objectBuilder.buildList(list);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.benchmark;
+
+import com.blazebit.persistence.CriteriaBuilder;
+import com.blazebit.persistence.CriteriaBuilderFactory;
+import com.blazebit.persistence.PaginatedCriteriaBuilder;
+import com.blazebit.persistence.benchmark.model.Document;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the query generation of paginated criteria builders i.e. the id, count and object queries,
+ * as well as the keyset predicate generation.
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PaginationBenchmark {
+
+    private CriteriaBuilderFactory cbf;
+    private EntityManager em;
+
+    @Setup(Level.Trial)
+    public void setup(PersistenceState persistenceState) {
+        cbf = persistenceState.getCriteriaBuilderFactory();
+        em = persistenceState.getEntityManagerFactory().createEntityManager();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        em.close();
+    }
+
+    @Benchmark
+    public void offsetPagination(Blackhole blackhole) {
+        PaginatedCriteriaBuilder<Document> pcb = createQuery()
+                .leftJoinFetch("d.partners", "p")
+                .page(20, 10);
+        blackhole.consume(pcb.getPageIdQueryString());
+        blackhole.consume(pcb.getPageCountQueryString());
+        blackhole.consume(pcb.getQueryString());
+    }
+
+    @Benchmark
+    public String keysetAfter() {
+        return createQuery()
+                .afterKeyset("doc", 5L)
+                .getQueryString();
+    }
+
+    @Benchmark
+    public void keysetPagination(Blackhole blackhole) {
+        PaginatedCriteriaBuilder<Document> pcb = createQuery()
+                .leftJoinFetch("d.partners", "p")
+                .afterKeyset("doc", 5L)
+                .page(20, 10)
+                .withKeysetExtraction(true);
+        blackhole.consume(pcb.getPageIdQueryString());
+        blackhole.consume(pcb.getQueryString());
+    }
+
+    private CriteriaBuilder<Document> createQuery() {
+        return cbf.create(em, Document.class, "d")
+                .where("d.owner.name").like().value("A%").noEscape()
+                .orderByAsc("d.name")
+                .orderByAsc("d.id");
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.benchmark.view;
+
+import com.blazebit.persistence.benchmark.model.Document;
+import com.blazebit.persistence.view.BatchFetch;
+import com.blazebit.persistence.view.EntityView;
+import com.blazebit.persistence.view.FetchStrategy;
+import com.blazebit.persistence.view.MappingCorrelatedSimple;
+
+import java.util.Set;
+
+/**
+ * A view with a correlated subview collection that is fetched in batches.
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+@EntityView(Document.class)
+public interface DocumentWithOwnerDocumentsView extends SimpleDocumentView {
+
+    @BatchFetch(size = 20)
+    @MappingCorrelatedSimple(
+            correlated = Document.class,
+            correlationBasis = "owner.id",
+            correlationExpression = "owner.id IN correlationKey",
+            fetch = FetchStrategy.SELECT
+    )
+    Set<SimpleDocumentView> getOwnerDocuments();
+}
@@ -0,0 +1,21 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.benchmark.view;
+
+import com.blazebit.persistence.benchmark.model.Document;
+import com.blazebit.persistence.view.EntityView;
+
+/**
+ * A view with nested subviews.
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+@EntityView(Document.class)
+public interface DocumentWithOwnerView extends SimpleDocumentView {
+
+    PersonWithFriendView getOwner();
+}
@@ -0,0 +1,26 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.benchmark.view;
+
+import com.blazebit.persistence.benchmark.model.Document;
+import com.blazebit.persistence.view.EntityView;
+import com.blazebit.persistence.view.FetchStrategy;
+import com.blazebit.persistence.view.Mapping;
+
+import java.util.Set;
+
+/**
+ * A view with a subview collection that is fetched via MULTISET.
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+@EntityView(Document.class)
+public interface DocumentWithPartnersView extends SimpleDocumentView {
+
+    @Mapping(fetch = FetchStrategy.MULTISET)
+    Set<PersonView> getPartners();
+}
@@ -0,0 +1,31 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.benchmark.view;
+
+import com.blazebit.persistence.benchmark.model.Document;
+import com.blazebit.persistence.view.EntityView;
+import com.blazebit.persistence.view.IdMapping;
+
+import java.time.LocalDate;
+
+/**
+ * A view without subviews.
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+@EntityView(Document.class)
+public interface SimpleDocumentView {
+
+    @IdMapping
+    Long getId();
+
+    String getName();
+
+    long getAge();
+
+    LocalDate getCreationDate();
+}
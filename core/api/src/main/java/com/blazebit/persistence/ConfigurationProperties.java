@@ -97,6 +97,17 @@ public final class ConfigurationProperties {
      */
     public static final String EXPRESSION_CACHE_CLASS = "com.blazebit.persistence.expression.cache_class";
 
+    /**
+     * The maximum number of entries per cache name of the expression cache.
+     * The value is passed to the <code>int</code> constructor of the configured {@link #EXPRESSION_CACHE_CLASS}
+     * and is only supported by size bounded implementations like <code>com.blazebit.persistence.parser.expression.BoundedExpressionCache</code>.
+     * By default, the no-arg constructor is used and the implementation decides about the size.
+     * If set, the value must be an integer greater than or equal to <code>1</code>.
+     *
+     * @since 1.6.15
+     */
+    public static final String EXPRESSION_CACHE_MAX_SIZE = "com.blazebit.persistence.expression.cache_max_size";
+
     /**
      * If set to false, tuples of a VALUES clause with all null values won't be filtered out.
      * Valid values for this property are <code>true</code> or <code>false</code>.
@@ -108,6 +119,39 @@ public final class ConfigurationProperties {
      */
     public static final String VALUES_CLAUSE_FILTER_NULLS = "com.blazebit.persistence.values.filter_nulls";
 
+    /**
+     * If set to true, the VALUES clause is bound through one array parameter per column instead of one parameter per value and column,
+     * if the DBMS supports turning array parameters into rows, see {@link com.blazebit.persistence.spi.DbmsDialect#supportsArrayValues()},
+     * and the JPA provider supports binding arrays, see {@link com.blazebit.persistence.spi.ArrayParameterSupport}.
+     * Otherwise the VALUES clause silently falls back to one parameter per value and column, so the property can be enabled for any DBMS.
+     * This keeps the SQL independent of the value count. Note that the JPA provider must be able to bind arrays of the attribute Java types.
+     * VALUES clauses for associations, multi-column attributes or collection keys are always bound per value.
+     * Valid values for this property are <code>true</code> or <code>false</code>.
+     * Default is <code>false</code>
+     *
+     * The property can be changed for a criteria builder before using the VALUES clause.
+     *
+     * @since 1.6.15
+     */
+    public static final String VALUES_CLAUSE_ARRAY_BINDING = "com.blazebit.persistence.values.array_binding";
+
+    /**
+     * If set to true, the values of collection valued parameters and the value count of VALUES clauses are padded to the next power of two.
+     * Collection valued parameters of IN predicates are padded by repeating the last element, which does not change the result of the predicate.
+     * Collection valued parameters that are used elsewhere are never padded.
+     * VALUES clauses are padded with NULL rows, so padding is only done when {@link #VALUES_CLAUSE_FILTER_NULLS} is enabled.
+     * The strategies differ on purpose. A NULL element would turn a <code>NOT IN</code> predicate into unknown for every row,
+     * whereas a repeated VALUES row would duplicate the rows it is joined with.
+     * This reduces the amount of distinct SQL strings which helps the query plan caches of the JPA provider, the JDBC driver and the DBMS.
+     * Valid values for this property are <code>true</code> or <code>false</code>.
+     * Default is <code>false</code>
+     *
+     * The property can be changed for a criteria builder before constructing a query.
+     *
+     * @since 1.6.15
+     */
+    public static final String PARAMETER_LIST_PADDING = "com.blazebit.persistence.parameter_list_padding";
+
     /**
      * If set to false, parameters are always rendered as such, otherwise the values might get inlined when no type can be inferred.
      * Valid values for this property are <code>true</code> or <code>false</code>.
@@ -181,6 +225,20 @@ public final class ConfigurationProperties {
      */
     public static final String QUERY_PLAN_CACHE_ENABLED = "com.blazebit.persistence.query_plan_cache_enabled";
 
+    /**
+     * The maximum number of query shapes for which the derived SQL is cached and reused across criteria builders.
+     * Queries that are executed through a custom SQL query e.g. due to the use of the VALUES clause, are keyed by their JPQL structure
+     * and the query configuration, so that the SQL derivation can be skipped for builders with an equal structure, regardless of the parameter values.
+     * The JPQL is still rendered for every builder and only the main query of non-paginated select builders is cached.
+     * Valid values for this property are non-negative integers. A value of <code>0</code> disables the cache.
+     * Default is <code>2048</code>.
+     *
+     * The cache is only used for a query if {@link #QUERY_PLAN_CACHE_ENABLED} is <code>true</code>.
+     *
+     * @since 1.6.15
+     */
+    public static final String QUERY_PLAN_CACHE_MAX_SIZE = "com.blazebit.persistence.query_plan_cache_max_size";
+
     /**
      * If set to true, JPA Criteria predicates are wrapped in a negation predicate instead of copied with negation being propagated.
      * Valid values for this property are <code>true</code> and <code>false</code>.
@@ -200,6 +258,18 @@ public final class ConfigurationProperties {
      */
     public static final String CRITERIA_VALUE_AS_PARAMETER = "com.blazebit.persistence.criteria_value_as_parameter";
 
+    /**
+     * If set to true, the <code>TO_MULTISET</code> function encodes the rows as native two dimensional text array instead of JSON or XML
+     * for DBMS dialects that support it, see {@link com.blazebit.persistence.spi.DbmsDialect#supportsArrayMultiset()}.
+     * Valid values for this property are <code>true</code> and <code>false</code>.
+     * Default is <code>false</code>.
+     *
+     * The property must be set before creating the criteria builder factory.
+     *
+     * @since 1.6.15
+     */
+    public static final String MULTISET_ARRAY_ENCODING = "com.blazebit.persistence.multiset_array_encoding";
+
     private ConfigurationProperties() {
     }
 }
@@ -0,0 +1,41 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence;
+
+/**
+ * A simple default implementation for the {@link KeysetRange} interface.
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+public class DefaultKeysetRange implements KeysetRange {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Keyset lowerBound;
+    private final Keyset upperBound;
+
+    /**
+     * Creates a new {@link KeysetRange}.
+     *
+     * @param lowerBound The inclusive lower bound or <code>null</code>
+     * @param upperBound The exclusive upper bound or <code>null</code>
+     */
+    public DefaultKeysetRange(Keyset lowerBound, Keyset upperBound) {
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+    }
+
+    @Override
+    public Keyset getLowerBound() {
+        return lowerBound;
+    }
+
+    @Override
+    public Keyset getUpperBound() {
+        return upperBound;
+    }
+}
@@ -7,6 +7,9 @@ package com.blazebit.persistence;
 
 import javax.persistence.TypedQuery;
 import java.lang.reflect.Constructor;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * A base interface for builders that support normal query functionality.
@@ -285,6 +288,70 @@ public interface FullQueryBuilder<T, X extends FullQueryBuilder<T, X>> extends Q
      */
     public CriteriaBuilder<Object[]> createPageIdQuery(KeysetPage keysetPage, int firstResult, int maxResults, String identifierExpression, String... identifierExpressions);
 
+    /**
+     * Returns an iterator over the result of this query builder in chunks of at most the given size, fetched through keyset pagination.
+     * The first chunk is fetched like {@link #page(int, int)} and every further chunk is fetched through a keyset predicate based on the highest key of the previous chunk.
+     * The query for fetching the further chunks is reused as long as the structure of the keyset predicate does not change, which is only the case when null values are encountered.
+     * Since chunks are fetched lazily, processing a big result set only requires memory for a single chunk.
+     * The order by items of the query builder must produce unique tuples, just like for {@link #page(KeysetPage, int, int)}.
+     * If <code>clearPersistenceContext</code> is <code>true</code>, the persistence context is cleared before fetching the next chunk, thereby detaching the entities of the previous chunk.
+     * Note that changes done to entities of a chunk are not flushed before clearing.
+     *
+     * @param chunkSize The maximum number of results of a chunk
+     * @param clearPersistenceContext Whether to clear the persistence context before fetching the next chunk
+     * @return An iterator over the result chunks
+     * @since 1.6.15
+     */
+    public Iterator<List<T>> getKeysetChunkIterator(int chunkSize, boolean clearPersistenceContext);
+
+    /**
+     * Like {@link #getKeysetChunkIterator(int, boolean)} but returns a sequential stream over the elements of the chunks.
+     *
+     * @param chunkSize The maximum number of results of a chunk
+     * @param clearPersistenceContext Whether to clear the persistence context before fetching the next chunk
+     * @return A stream over the result
+     * @since 1.6.15
+     */
+    public Stream<T> getKeysetChunkedResultStream(int chunkSize, boolean clearPersistenceContext);
+
+    /**
+     * Splits the result of this query builder into the given number of disjoint keyset ranges whose sizes differ by at most one element.
+     * The boundaries of the ranges are determined by first counting the result and then sampling the keyset of the first element of every range,
+     * skipping from boundary to boundary through a keyset predicate. If the result has fewer elements than the requested range count,
+     * one range per element is returned, or a single range if the result is empty.
+     * Every range can then be scanned with {@link #getKeysetChunkIterator(KeysetRange, int, boolean)} on a query builder for a different entity manager,
+     * which allows to process a big result set concurrently.
+     * The order by items of the query builder must produce unique tuples, just like for {@link #page(KeysetPage, int, int)}.
+     *
+     * @param rangeCount The maximum number of ranges to split the result into
+     * @return The keyset ranges, ordered like the result
+     * @since 1.6.15
+     */
+    public List<KeysetRange> getKeysetRanges(int rangeCount);
+
+    /**
+     * Like {@link #getKeysetChunkIterator(int, boolean)} but only iterates over the elements within the given keyset range.
+     * The keyset range must have been determined through {@link #getKeysetRanges(int)} for a query builder with the same ordering.
+     *
+     * @param keysetRange The keyset range to iterate over
+     * @param chunkSize The maximum number of results of a chunk
+     * @param clearPersistenceContext Whether to clear the persistence context before fetching the next chunk
+     * @return An iterator over the result chunks within the keyset range
+     * @since 1.6.15
+     */
+    public Iterator<List<T>> getKeysetChunkIterator(KeysetRange keysetRange, int chunkSize, boolean clearPersistenceContext);
+
+    /**
+     * Like {@link #getKeysetChunkIterator(KeysetRange, int, boolean)} but returns a sequential stream over the elements of the chunks.
+     *
+     * @param keysetRange The keyset range to iterate over
+     * @param chunkSize The maximum number of results of a chunk
+     * @param clearPersistenceContext Whether to clear the persistence context before fetching the next chunk
+     * @return A stream over the result within the keyset range
+     * @since 1.6.15
+     */
+    public Stream<T> getKeysetChunkedResultStream(KeysetRange keysetRange, int chunkSize, boolean clearPersistenceContext);
+
     /*
      * Join methods
      */
@@ -0,0 +1,43 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence;
+
+/**
+ * An object builder that might need multiple consecutive tuples to build a single object, like e.g. for collection fetches.
+ * In that case, {@link #build(Object[])} returns intermediate tuples that are reduced to objects by {@link #buildList(java.util.List)}.
+ * The group key of intermediate tuples is used to detect object boundaries, which allows to stream results
+ * by invoking {@link #buildList(java.util.List)} for every group of tuples, as long as the tuples of a group are consecutive.
+ *
+ * @param <T> The type that this builder produces
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+public interface GroupingObjectBuilder<T> extends ObjectBuilder<T> {
+
+    /**
+     * Returns whether the object builder groups tuples, in which case the query must be ordered such that the tuples of a group are consecutive.
+     *
+     * @return Whether the object builder groups tuples
+     */
+    public boolean isGrouping();
+
+    /**
+     * Returns the key of the group to which the given intermediate tuple, as returned by {@link #build(Object[])}, belongs to,
+     * or <code>null</code> if the object builder does not group tuples.
+     *
+     * @param tuple The intermediate tuple
+     * @return The group key or <code>null</code>
+     */
+    public Object getGroupKey(Object tuple);
+
+    /**
+     * Returns the number of consecutive groups that should be reduced by a single {@link #buildList(java.util.List)} invocation when streaming.
+     * Reducing multiple groups at once allows the object builder to load data for multiple objects at once, like e.g. for batched correlations.
+     *
+     * @return The number of groups to reduce at once, at least 1
+     */
+    public int getGroupBatchSize();
+}
@@ -0,0 +1,33 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence;
+
+import java.io.Serializable;
+
+/**
+ * An interface that represents a range of keysets.
+ * The key ranges returned by {@link FullQueryBuilder#getKeysetRanges(int)} are disjoint and can be scanned independently,
+ * e.g. concurrently with multiple entity managers via {@link FullQueryBuilder#getKeysetChunkIterator(KeysetRange, int, boolean)}.
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+public interface KeysetRange extends Serializable {
+
+    /**
+     * Returns the inclusive lower bound of the range or <code>null</code> if the range is unbounded at the start.
+     *
+     * @return The inclusive lower bound
+     */
+    public Keyset getLowerBound();
+
+    /**
+     * Returns the exclusive upper bound of the range or <code>null</code> if the range is unbounded at the end.
+     *
+     * @return The exclusive upper bound
+     */
+    public Keyset getUpperBound();
+}
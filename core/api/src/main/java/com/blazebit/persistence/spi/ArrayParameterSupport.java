@@ -0,0 +1,27 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.spi;
+
+import javax.persistence.Query;
+
+/**
+ * An optional capability of a {@link JpaProvider} to bind a Java array of basic values to a parameter in an untyped context,
+ * like e.g. a function argument. A JPA provider that supports this implements this interface in addition to {@link JpaProvider}.
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+public interface ArrayParameterSupport {
+
+    /**
+     * Binds the given array of basic values to the parameter with the given name, that occurs in an untyped context like e.g. a function argument.
+     *
+     * @param query The query
+     * @param parameterName The parameter name
+     * @param array The array to bind
+     */
+    public void setArrayParameter(Query query, String parameterName, Object[] array);
+}
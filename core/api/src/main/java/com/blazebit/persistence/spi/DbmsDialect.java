@@ -385,6 +385,37 @@ public interface DbmsDialect {
      */
     public ValuesStrategy getValuesStrategy();
 
+    /**
+     * Returns whether the DBMS supports a table function that turns array parameters, one per column, into rows.
+     * If supported, a VALUES clause can be bound with one array parameter per column, rather than one parameter per value and column.
+     *
+     * @return True if supported, otherwise false
+     * @since 1.6.15
+     */
+    public boolean supportsArrayValues();
+
+    /**
+     * Appends a table function that turns array parameters, one per column, into rows like e.g. <code>unnest(?, ?)</code>.
+     * The produced columns must be in the order of the given column types.
+     * This is only invoked if {@link #supportsArrayValues()} returns <code>true</code>.
+     *
+     * @param sqlSb The string builder to which to append the table function
+     * @param columnTypes The SQL types of the array elements
+     * @since 1.6.15
+     */
+    public void appendArrayValues(StringBuilder sqlSb, String[] columnTypes);
+
+    /**
+     * Returns whether the DBMS supports encoding a multiset as native two dimensional text array.
+     * If supported and enabled through {@link com.blazebit.persistence.ConfigurationProperties#MULTISET_ARRAY_ENCODING},
+     * the array encoding is used for multisets instead of the JSON or XML encoding,
+     * as it avoids the construction of JSON objects on the DBMS side and is cheaper to parse.
+     *
+     * @return True if supported, otherwise false
+     * @since 1.6.15
+     */
+    public boolean supportsArrayMultiset();
+
     /**
      * Returns whether select items need to have unique names even though table column aliasing is used
      * i.e. `from (select ...) t(c1,c2)`.
@@ -47,6 +47,7 @@ import com.blazebit.persistence.impl.keyset.KeysetLink;
 import com.blazebit.persistence.impl.keyset.KeysetManager;
 import com.blazebit.persistence.impl.keyset.KeysetMode;
 import com.blazebit.persistence.impl.keyset.SimpleKeysetLink;
+import com.blazebit.persistence.impl.plan.QueryPlanCache;
 import com.blazebit.persistence.impl.query.AbstractCustomQuery;
 import com.blazebit.persistence.impl.query.CTENode;
 import com.blazebit.persistence.impl.query.CustomQuerySpecification;
@@ -189,6 +190,8 @@ public abstract class AbstractCommonQueryBuilder<QueryResultType, BuilderType, S
     // Cache
     protected String cachedQueryString;
     protected String cachedExternalQueryString;
+    protected QueryPlanCache.Key cachedQueryPlanKey;
+    protected QueryPlanCache.CachedQueryPlan cachedQueryPlan;
     protected ResolvedExpression[] cachedGroupByIdentifierExpressions;
     protected Set<JoinNode> keyRestrictedLeftJoins;
     protected boolean hasGroupBy = false;
@@ -2880,13 +2883,41 @@ public abstract class AbstractCommonQueryBuilder<QueryResultType, BuilderType, S
                 limit = Integer.toString(maxResults);
             }
         }
-        List<String> keyRestrictedLeftJoinAliases = getKeyRestrictedLeftJoinAliases(baseQuery, keyRestrictedLeftJoins, Collections.<ClauseType>emptySet());
-        List<EntityFunctionNode> entityFunctionNodes = getEntityFunctionNodes(baseQuery, 0);
         boolean shouldRenderCteNodes = lateralSb == null && renderCteNodes(false);
         List<CTENode> ctes = shouldRenderCteNodes ? getCteNodes(false) : Collections.<CTENode>emptyList();
+        QueryPlanCache.CachedQueryPlan queryPlan = null;
+        List<String> keyRestrictedLeftJoinAliases;
+        List<EntityFunctionNode> entityFunctionNodes;
+        // The structure of the query is fully represented by the base query string only if there are no CTEs, lateral joins or late inlined subqueries,
+        // so such queries are never cached and always go through the SQL derivation
+        QueryPlanCache queryPlanCache = mainQuery.cbf.getQueryPlanCache();
+        if (queryPlanCache != null && lateralSb == null && ctes.isEmpty() && joinManager.getLateInlineNodes().isEmpty() && mainQuery.getQueryConfiguration().isQueryPlanCacheEnabled()) {
+            // The base query string is rendered once per builder state, so the key of an unchanged builder compares by identity
+            // The configuration of the factory is shared, whereas the configuration that was changed for a builder is compared by its property values
+            QueryConfiguration queryConfiguration = mainQuery.getQueryConfiguration();
+            Object configurationKey = queryConfiguration instanceof MutableQueryConfiguration ? queryConfiguration.getProperties() : queryConfiguration;
+            QueryPlanCache.Key queryPlanKey = new QueryPlanCache.Key(baseQueryString, limit, offset, configurationKey);
+            if (queryPlanKey.equals(cachedQueryPlanKey)) {
+                queryPlan = cachedQueryPlan;
+            } else {
+                queryPlan = queryPlanCache.get(queryPlanKey);
+                if (queryPlan == null) {
+                    keyRestrictedLeftJoinAliases = getKeyRestrictedLeftJoinAliases(baseQuery, keyRestrictedLeftJoins, Collections.<ClauseType>emptySet());
+                    entityFunctionNodes = getEntityFunctionNodes(baseQuery, 0);
+                    queryPlan = queryPlanCache.putIfAbsent(queryPlanKey, new QueryPlanCache.CachedQueryPlan(keyRestrictedLeftJoinAliases, entityFunctionNodes));
+                }
+                cachedQueryPlanKey = queryPlanKey;
+                cachedQueryPlan = queryPlan;
+            }
+            keyRestrictedLeftJoinAliases = queryPlan.getKeyRestrictedLeftJoinAliases();
+            entityFunctionNodes = queryPlan.getEntityFunctionNodes();
+        } else {
+            keyRestrictedLeftJoinAliases = getKeyRestrictedLeftJoinAliases(baseQuery, keyRestrictedLeftJoins, Collections.<ClauseType>emptySet());
+            entityFunctionNodes = getEntityFunctionNodes(baseQuery, 0);
+        }
         QuerySpecification querySpecification = new CustomQuerySpecification(
                 this, baseQuery, parameterManager.getParameterImpls(), parameterListNames, limit, offset, keyRestrictedLeftJoinAliases, entityFunctionNodes,
-                mainQuery.cteManager.isRecursive(), ctes, shouldRenderCteNodes, mainQuery.getQueryConfiguration().isQueryPlanCacheEnabled(), null
+                mainQuery.cteManager.isRecursive(), ctes, shouldRenderCteNodes, mainQuery.getQueryConfiguration().isQueryPlanCacheEnabled(), null, queryPlan
         );
 
         TypedQuery<QueryResultType> query = new CustomSQLTypedQuery<QueryResultType>(
@@ -3240,6 +3271,7 @@ public abstract class AbstractCommonQueryBuilder<QueryResultType, BuilderType, S
 
     private Query getValuesExampleQuery(Class<?> clazz, int valueCount, boolean identifiableReference, String valueClazzAttributeName, String prefix, String castedParameter, String[] attributes, StringBuilder valuesSb, ValuesStrategy strategy, String dummyTable, JoinNode valuesNode) {
         String[] attributeParameter = new String[attributes.length];
+        String[] arrayColumnTypes = valuesNode.isValuesArrayBinding() ? new String[attributes.length] : null;
         // This size estimation roughly assumes a maximum attribute name length of 15
         StringBuilder sb = new StringBuilder(50 + valueCount * prefix.length() * attributes.length * 50);
         sb.append("SELECT ");
@@ -3247,6 +3279,9 @@ public abstract class AbstractCommonQueryBuilder<QueryResultType, BuilderType, S
         if (clazz == ValuesEntity.class) {
             sb.append("e.");
             attributeParameter[0] = mainQuery.dbmsDialect.needsCastParameters() ? castedParameter : "?";
+            if (arrayColumnTypes != null) {
+                arrayColumnTypes[0] = mainQuery.dbmsDialect.getSqlType(valuesNode.getNodeType().getJavaType());
+            }
             sb.append(attributes[0]);
             sb.append(',');
         } else {
@@ -3268,6 +3303,9 @@ public abstract class AbstractCommonQueryBuilder<QueryResultType, BuilderType, S
                     columnTypes = types.toArray(new String[types.size()]);
                 }
                 attributeParameter[i] = getCastedParameters(paramBuilder, mainQuery.dbmsDialect, columnTypes);
+                if (arrayColumnTypes != null) {
+                    arrayColumnTypes[i] = columnTypes[0];
+                }
 
                 // When the class for which we want a VALUES clause has *ToOne relations, we need to put their ids into the select
                 // otherwise we would fetch all of the types attributes, but the VALUES clause can only ever contain the id
@@ -3346,6 +3384,12 @@ public abstract class AbstractCommonQueryBuilder<QueryResultType, BuilderType, S
         sb.append(" WHERE ");
         joinManager.renderPlaceholderRequiringPredicate(sb, valuesNode, "e", false, false);
 
+        if (arrayColumnTypes != null) {
+            // A table function turns the array parameters into rows, so this can be used just like a VALUES clause
+            mainQuery.dbmsDialect.appendArrayValues(valuesSb, arrayColumnTypes);
+            return mainQuery.em.createQuery(sb.toString());
+        }
+
         if (strategy == ValuesStrategy.SELECT_VALUES || strategy == ValuesStrategy.VALUES) {
             valuesSb.append("(VALUES ");
         } else if (strategy == ValuesStrategy.SELECT_UNION) {
@@ -3606,6 +3650,8 @@ public abstract class AbstractCommonQueryBuilder<QueryResultType, BuilderType, S
         needsCheck = true;
         cachedQueryString = null;
         cachedExternalQueryString = null;
+        cachedQueryPlanKey = null;
+        cachedQueryPlan = null;
         cachedGroupByIdentifierExpressions = null;
         keyRestrictedLeftJoins = null;
         implicitJoinsApplied = false;
@@ -3687,6 +3733,32 @@ public abstract class AbstractCommonQueryBuilder<QueryResultType, BuilderType, S
         needsCheck = false;
     }
 
+    protected void verifyGroupedTuplesConsecutive() {
+        // A grouping object builder can only detect object boundaries if the tuples of a query root are consecutive,
+        // which is the case when the order by items that come before a unique item do not refer to collection joins
+        List<OrderByExpression> orderByExpressions = orderByManager.getOrderByExpressions(false, whereManager.rootPredicate.getPredicate(), hasGroupBy ? Arrays.asList(getGroupByIdentifierExpressions()) : Collections.<ResolvedExpression>emptyList(), null);
+        List<JoinNode> joinNodes = new ArrayList<>();
+        JoinNodeGathererVisitor joinNodeGathererVisitor = new JoinNodeGathererVisitor(joinNodes);
+        for (int i = 0; i < orderByExpressions.size(); i++) {
+            OrderByExpression orderByExpression = orderByExpressions.get(i);
+            joinNodes.clear();
+            orderByExpression.getExpression().accept(joinNodeGathererVisitor);
+            for (int j = 0; j < joinNodes.size(); j++) {
+                JoinNode node = joinNodes.get(j);
+                while (node != null && node.getParent() != null) {
+                    if (node.getParentTreeNode().isCollection()) {
+                        throw new IllegalStateException("The order by item '" + orderByExpression.getExpression() + "' refers to a collection which interleaves the tuples of different objects! Consider ordering by the entity identifier first!");
+                    }
+                    node = node.getParent();
+                }
+            }
+            if (orderByExpression.isResultUnique()) {
+                return;
+            }
+        }
+        throw new IllegalStateException("The order by items of the query builder are not guaranteed to produce unique tuples! Consider also ordering by the entity identifier!");
+    }
+
     protected void analyzeConstantifiedJoinNodes() {
         final ConstantifiedJoinNodeAttributeCollector constantifiedJoinNodeAttributeCollector = functionalDependencyAnalyzerVisitor.getConstantifiedJoinNodeAttributeCollector();
         final JoinNode firstRootNode = joinManager.getRoots().get(0);
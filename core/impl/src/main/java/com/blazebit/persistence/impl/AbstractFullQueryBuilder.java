@@ -7,12 +7,16 @@ package com.blazebit.persistence.impl;
 
 import com.blazebit.persistence.CaseWhenStarterBuilder;
 import com.blazebit.persistence.CriteriaBuilder;
+import com.blazebit.persistence.DefaultKeysetRange;
 import com.blazebit.persistence.FullQueryBuilder;
 import com.blazebit.persistence.HavingOrBuilder;
 import com.blazebit.persistence.JoinType;
+import com.blazebit.persistence.Keyset;
 import com.blazebit.persistence.KeysetPage;
+import com.blazebit.persistence.KeysetRange;
 import com.blazebit.persistence.MultipleSubqueryInitiator;
 import com.blazebit.persistence.ObjectBuilder;
+import com.blazebit.persistence.PagedList;
 import com.blazebit.persistence.PaginatedCriteriaBuilder;
 import com.blazebit.persistence.RestrictionBuilder;
 import com.blazebit.persistence.SelectObjectBuilder;
@@ -65,6 +69,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static com.blazebit.persistence.parser.util.JpaMetamodelUtils.ATTRIBUTE_NAME_COMPARATOR;
 
@@ -670,7 +676,7 @@ public abstract class AbstractFullQueryBuilder<T, X extends FullQueryBuilder<T,
             String valueParameterName = dualNode.getAlias() + "_value_0";
             String[][] parameterNames = new String[1][1];
             parameterNames[0][0] = valueParameterName;
-            ParameterManager.ValuesParameterWrapper valuesParameterWrapper = new ParameterManager.ValuesParameterWrapper(dualNode.getJavaType(), parameterNames, new AttributeAccessor[1]);
+            ParameterManager.ValuesParameterWrapper valuesParameterWrapper = new ParameterManager.ValuesParameterWrapper(dualNode.getJavaType(), 1, parameterNames, new AttributeAccessor[1], null, null);
             parameters.add(new ParameterManager.ParameterImpl<Object>(dualNode.getAlias(), false, null, null, valuesParameterWrapper));
             valuesParameters.put(valueParameterName, dualNode.getAlias());
             valuesBinders.put(dualNode.getAlias(), valuesParameterWrapper.getBinder());
@@ -927,6 +933,67 @@ public abstract class AbstractFullQueryBuilder<T, X extends FullQueryBuilder<T,
         return new PaginatedCriteriaBuilderImpl<T>(this, true, keysetPage, firstRow, pageSize, identifierExpressions);
     }
 
+    @Override
+    public Iterator<List<T>> getKeysetChunkIterator(int chunkSize, boolean clearPersistenceContext) {
+        return new KeysetChunkIterator<>(this, null, chunkSize, clearPersistenceContext);
+    }
+
+    @Override
+    public Stream<T> getKeysetChunkedResultStream(int chunkSize, boolean clearPersistenceContext) {
+        return StreamSupport.stream(new KeysetChunkIterator.ElementSpliterator<>(getKeysetChunkIterator(chunkSize, clearPersistenceContext)), false);
+    }
+
+    @Override
+    public List<KeysetRange> getKeysetRanges(int rangeCount) {
+        if (rangeCount <= 0) {
+            throw new IllegalArgumentException("rangeCount may not be zero or negative");
+        }
+        long count = getCountQuery().getSingleResult();
+        // There can't be more non-empty ranges than elements
+        int effectiveRangeCount = (int) Math.max(1L, Math.min(rangeCount, count));
+        // The first count % rangeCount ranges contain one element more than the others, so that the sizes differ by at most one
+        long baseRangeSize = count / effectiveRangeCount;
+        long remainder = count % effectiveRangeCount;
+        if (baseRangeSize + (remainder == 0 ? 0 : 1) > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("The range count " + rangeCount + " is too small for the result count " + count + "!");
+        }
+
+        List<KeysetRange> keysetRanges = new ArrayList<>(effectiveRangeCount);
+        Keyset lowerBound = null;
+        // The keyset of the first element of a range is the upper bound of the previous range
+        for (int i = 1; i < effectiveRangeCount; i++) {
+            int previousRangeSize = (int) baseRangeSize + (i - 1 < remainder ? 1 : 0);
+            PaginatedCriteriaBuilder<T> paginatedCriteriaBuilder;
+            if (lowerBound == null) {
+                paginatedCriteriaBuilder = page(previousRangeSize, 1);
+            } else {
+                // Skip from the previous boundary, which is excluded by the keyset predicate, to avoid scanning all previous elements
+                paginatedCriteriaBuilder = page(previousRangeSize - 1, 1).afterKeyset(lowerBound);
+            }
+            PagedList<T> result = paginatedCriteriaBuilder.withKeysetExtraction(true)
+                    .withCountQuery(false)
+                    .getResultList();
+            if (result.isEmpty()) {
+                break;
+            }
+            Keyset upperBound = result.getKeysetPage().getLowest();
+            keysetRanges.add(new DefaultKeysetRange(lowerBound, upperBound));
+            lowerBound = upperBound;
+        }
+        keysetRanges.add(new DefaultKeysetRange(lowerBound, null));
+        return keysetRanges;
+    }
+
+    @Override
+    public Iterator<List<T>> getKeysetChunkIterator(KeysetRange keysetRange, int chunkSize, boolean clearPersistenceContext) {
+        return new KeysetChunkIterator<>(this, keysetRange, chunkSize, clearPersistenceContext);
+    }
+
+    @Override
+    public Stream<T> getKeysetChunkedResultStream(KeysetRange keysetRange, int chunkSize, boolean clearPersistenceContext) {
+        return StreamSupport.stream(new KeysetChunkIterator.ElementSpliterator<>(getKeysetChunkIterator(keysetRange, chunkSize, clearPersistenceContext)), false);
+    }
+
     protected static String expressionString(ResolvedExpression[] identifierExpressions) {
         StringBuilder sb = new StringBuilder();
         for (ResolvedExpression identifierExpression : identifierExpressions) {
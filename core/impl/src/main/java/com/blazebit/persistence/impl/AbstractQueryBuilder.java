@@ -11,6 +11,8 @@ import java.util.stream.Stream;
 import javax.persistence.TypedQuery;
 
 import com.blazebit.persistence.FullQueryBuilder;
+import com.blazebit.persistence.GroupingObjectBuilder;
+import com.blazebit.persistence.ObjectBuilder;
 import com.blazebit.persistence.Queryable;
 import com.blazebit.persistence.spi.DbmsStatementType;
 
@@ -54,7 +56,12 @@ public abstract class AbstractQueryBuilder<T, X extends Queryable<T, X>, Z, W, F
 
     @Override
     public Stream<T> getResultStream() {
-        return getQuery().getResultStream();
+        TypedQuery<T> query = getQuery();
+        ObjectBuilder<T> objectBuilder = selectManager.getSelectObjectBuilder();
+        if (objectBuilder instanceof GroupingObjectBuilder<?> && ((GroupingObjectBuilder<?>) objectBuilder).isGrouping()) {
+            verifyGroupedTuplesConsecutive();
+        }
+        return query.getResultStream();
     }
 
 }
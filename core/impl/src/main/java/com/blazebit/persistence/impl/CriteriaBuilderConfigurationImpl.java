@@ -410,6 +410,7 @@ import com.blazebit.persistence.impl.function.timestampiso.MySQLTimestampIsoFunc
 import com.blazebit.persistence.impl.function.timestampiso.PostgreSQLTimestampIsoFunction;
 import com.blazebit.persistence.impl.function.timestampiso.SQLServerTimestampIsoFunction;
 import com.blazebit.persistence.impl.function.timestampiso.TimestampIsoFunction;
+import com.blazebit.persistence.impl.function.tomultiset.ArrayToMultisetFunction;
 import com.blazebit.persistence.impl.function.tomultiset.ToMultisetFunction;
 import com.blazebit.persistence.impl.function.tostringjson.AbstractToStringJsonFunction;
 import com.blazebit.persistence.impl.function.tostringjson.ForJsonPathToStringJsonFunction;
@@ -1913,6 +1914,17 @@ public class CriteriaBuilderConfigurationImpl implements CriteriaBuilderConfigur
         registerFunction(jpqlFunctionGroup);
     }
 
+    private void loadArrayMultisetFunction() {
+        JpqlFunctionGroup jpqlFunctionGroup = functions.get(ToMultisetFunction.FUNCTION_NAME);
+        if (jpqlFunctionGroup != null) {
+            for (Map.Entry<String, DbmsDialect> dialectEntry : this.dbmsDialects.entrySet()) {
+                if (dialectEntry.getValue().supportsArrayMultiset()) {
+                    jpqlFunctionGroup.add(dialectEntry.getKey(), new ArrayToMultisetFunction());
+                }
+            }
+        }
+    }
+
     private void loadWindowFunctions() {
         JpqlFunctionGroup jpqlFunctionGroup;
         // window every
@@ -2185,6 +2197,7 @@ public class CriteriaBuilderConfigurationImpl implements CriteriaBuilderConfigur
         properties.put(ConfigurationProperties.INLINE_ID_QUERY, "auto");
         properties.put(ConfigurationProperties.INLINE_COUNT_QUERY, "auto");
         properties.put(ConfigurationProperties.INLINE_CTES, "true");
+        properties.put(ConfigurationProperties.MULTISET_ARRAY_ENCODING, "false");
     }
 
     private void loadExtendedQuerySupport() {
@@ -2305,6 +2318,9 @@ public class CriteriaBuilderConfigurationImpl implements CriteriaBuilderConfigur
 
     @Override
     public CriteriaBuilderFactory createCriteriaBuilderFactory(EntityManagerFactory emf) {
+        if (Boolean.valueOf(getProperty(ConfigurationProperties.MULTISET_ARRAY_ENCODING))) {
+            loadArrayMultisetFunction();
+        }
         return new CriteriaBuilderFactoryImpl(this, emf);
     }
 
@@ -12,6 +12,7 @@ import com.blazebit.persistence.InsertCriteriaBuilder;
 import com.blazebit.persistence.LeafOngoingFinalSetOperationCriteriaBuilder;
 import com.blazebit.persistence.StartOngoingSetOperationCriteriaBuilder;
 import com.blazebit.persistence.UpdateCriteriaBuilder;
+import com.blazebit.persistence.impl.plan.QueryPlanCache;
 import com.blazebit.persistence.parser.FunctionKind;
 import com.blazebit.persistence.parser.expression.ExpressionCache;
 import com.blazebit.persistence.parser.expression.ExpressionFactory;
@@ -19,6 +20,7 @@ import com.blazebit.persistence.parser.expression.ExpressionFactoryImpl;
 import com.blazebit.persistence.parser.expression.MacroConfiguration;
 import com.blazebit.persistence.parser.expression.SimpleCachingExpressionFactory;
 import com.blazebit.persistence.parser.expression.SubqueryExpressionFactory;
+import com.blazebit.persistence.spi.ArrayParameterSupport;
 import com.blazebit.persistence.spi.ConfigurationSource;
 import com.blazebit.persistence.spi.DbmsDialect;
 import com.blazebit.persistence.spi.EntityManagerFactoryIntegrator;
@@ -56,6 +58,7 @@ public class CriteriaBuilderFactoryImpl implements CriteriaBuilderFactory {
     private final ExpressionFactory expressionFactory;
     private final ExpressionFactory subqueryExpressionFactory;
     private final QueryConfiguration queryConfiguration;
+    private final QueryPlanCache queryPlanCache;
 
     private final MacroConfiguration macroConfiguration;
     private final String configuredDbms;
@@ -64,6 +67,7 @@ public class CriteriaBuilderFactoryImpl implements CriteriaBuilderFactory {
     private final Map<String, String> registeredFunctionNames;
     private final JpaProviderFactory configuredJpaProviderFactory;
     private final JpaProvider jpaProvider;
+    private final ArrayParameterSupport arrayParameterSupport;
 
     public CriteriaBuilderFactoryImpl(CriteriaBuilderConfigurationImpl config, EntityManagerFactory entityManagerFactory) {
         List<EntityManagerFactoryIntegrator> integrators = config.getEntityManagerIntegrators();
@@ -94,10 +98,13 @@ public class CriteriaBuilderFactoryImpl implements CriteriaBuilderFactory {
         this.queryConfiguration = new ImmutableQueryConfiguration((Map<String, String>) (Map<?, ?>) config.getProperties());
         final boolean compatibleMode = queryConfiguration.isCompatibleModeEnabled();
         final boolean optimize = queryConfiguration.isExpressionOptimizationEnabled();
+        final int queryPlanCacheMaxSize = queryConfiguration.getQueryPlanCacheMaxSize();
+        this.queryPlanCache = queryPlanCacheMaxSize == 0 ? null : new QueryPlanCache(queryPlanCacheMaxSize);
 
         this.entityManagerFactory = entityManagerFactory;
         this.metamodel = new EntityMetamodelImpl(entityManagerFactory, configuredJpaProviderFactory);
         this.jpaProvider = new CachingJpaProvider(metamodel);
+        this.arrayParameterSupport = metamodel.getJpaProvider() instanceof ArrayParameterSupport ? (ArrayParameterSupport) metamodel.getJpaProvider() : null;
 
         this.transientEntityParameterTransformerFactory = new TransientEntityAssociationParameterTransformerFactory(metamodel, new AssociationToIdParameterTransformer(jpaProvider));
         this.extendedQuerySupport = config.getExtendedQuerySupport();
@@ -106,7 +113,7 @@ public class CriteriaBuilderFactoryImpl implements CriteriaBuilderFactory {
         this.namedTypes = resolveNamedTypes(config.getNamedTypes());
 
         ExpressionFactory originalExpressionFactory = new ExpressionFactoryImpl(functions, metamodel.getEntityTypes(), metamodel.getEnumTypes(), metamodel.getEnumTypesForLiterals(), !compatibleMode, optimize);
-        this.expressionCache = createCache(queryConfiguration.getExpressionCacheClass());
+        this.expressionCache = createCache(queryConfiguration.getExpressionCacheClass(), queryConfiguration.getExpressionCacheMaxSize());
         ExpressionFactory cachingExpressionFactory = new SimpleCachingExpressionFactory(originalExpressionFactory, expressionCache);
         ExpressionFactory cachingSubqueryExpressionFactory = new SimpleCachingExpressionFactory(new SubqueryExpressionFactory(functions, metamodel.getEntityTypes(), metamodel.getEnumTypes(), metamodel.getEnumTypesForLiterals(), !compatibleMode, optimize, originalExpressionFactory));
         this.macroConfiguration = MacroConfiguration.of(JpqlMacroAdapter.createMacros(config.getMacros(), cachingExpressionFactory));
@@ -115,9 +122,13 @@ public class CriteriaBuilderFactoryImpl implements CriteriaBuilderFactory {
         this.subqueryExpressionFactory = new JpqlMacroAwareExpressionFactory(cachingSubqueryExpressionFactory, macroStorage);
     }
 
-    private ExpressionCache createCache(String className) {
+    private ExpressionCache createCache(String className, Integer maxSize) {
         try {
-            return (ExpressionCache) Class.forName(className).newInstance();
+            Class<?> cacheClass = Class.forName(className);
+            if (maxSize == null) {
+                return (ExpressionCache) cacheClass.newInstance();
+            }
+            return (ExpressionCache) cacheClass.getConstructor(int.class).newInstance(maxSize);
         } catch (Exception ex) {
             throw new IllegalArgumentException("Could not instantiate expression cache: " + className, ex);
         }
@@ -181,10 +192,23 @@ public class CriteriaBuilderFactoryImpl implements CriteriaBuilderFactory {
         return jpaProvider;
     }
 
+    public ArrayParameterSupport getArrayParameterSupport() {
+        return arrayParameterSupport;
+    }
+
     public QueryConfiguration getQueryConfiguration() {
         return queryConfiguration;
     }
 
+    /**
+     * Returns the cache for query plans that are shared across criteria builders, or <code>null</code> if the cache is disabled.
+     *
+     * @return the query plan cache or <code>null</code>
+     */
+    public QueryPlanCache getQueryPlanCache() {
+        return queryPlanCache;
+    }
+
     public EntityMetamodelImpl getMetamodel() {
         return metamodel;
     }
@@ -353,8 +377,12 @@ public class CriteriaBuilderFactoryImpl implements CriteriaBuilderFactory {
             return (T) configuredJpaProviderFactory;
         } else if (JpaProvider.class.equals(serviceClass)) {
             return (T) jpaProvider;
+        } else if (ArrayParameterSupport.class.equals(serviceClass)) {
+            return (T) arrayParameterSupport;
         } else if (ExpressionCache.class.equals(serviceClass)) {
             return (T) expressionCache;
+        } else if (QueryPlanCache.class.equals(serviceClass)) {
+            return (T) queryPlanCache;
         } else if (Metamodel.class.isAssignableFrom(serviceClass)) {
             return (T) metamodel;
         } else if (EntityManagerFactory.class.equals(serviceClass)) {
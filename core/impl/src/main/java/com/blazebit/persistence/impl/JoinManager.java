@@ -15,6 +15,7 @@ import com.blazebit.persistence.impl.builder.predicate.PredicateBuilderEndedList
 import com.blazebit.persistence.impl.function.entity.EntityFunction;
 import com.blazebit.persistence.impl.function.entity.ValuesEntity;
 import com.blazebit.persistence.impl.function.nullfn.NullfnFunction;
+import com.blazebit.persistence.impl.function.param.ParamFunction;
 import com.blazebit.persistence.impl.transform.ExpressionModifierVisitor;
 import com.blazebit.persistence.impl.util.CompositeAttributeAccessor;
 import com.blazebit.persistence.impl.util.Keywords;
@@ -64,6 +65,8 @@ import com.blazebit.persistence.spi.ExtendedAttribute;
 import com.blazebit.persistence.spi.ExtendedManagedType;
 import com.blazebit.persistence.spi.JpaMetamodelAccessor;
 import com.blazebit.persistence.spi.JpaProvider;
+import com.blazebit.persistence.spi.ValuesStrategy;
+import com.blazebit.reflection.ReflectionUtils;
 
 import javax.persistence.metamodel.Attribute;
 import javax.persistence.metamodel.EmbeddableType;
@@ -391,7 +394,11 @@ public class JoinManager extends AbstractManager<ExpressionModifier> {
         if (rootAlias == null) {
             throw new IllegalArgumentException("Illegal empty alias for the VALUES clause: " + valueHolderEntityClass.getName());
         }
-        // TODO: we should pad the value count to avoid filling query caches
+        // Padding is done with NULL rows, so we can only do that if these rows are filtered
+        // Repeating the last row like for IN predicates is not an option, as that would duplicate the joined rows
+        if (mainQuery.getQueryConfiguration().isParameterListPaddingEnabled() && mainQuery.getQueryConfiguration().isValuesClauseFilterNullsEnabled()) {
+            valueCount = ParameterManager.getPaddedValueCount(valueCount);
+        }
         EntityType<?> entityType = mainQuery.metamodel.getEntity(valueHolderEntityClass);
         Type<?> type = mainQuery.metamodel.type(valueClass);
 
@@ -459,9 +466,13 @@ public class JoinManager extends AbstractManager<ExpressionModifier> {
             }
         }
 
-        String[][] parameterNames = new String[valueCount][attributePaths.size()];
+        // When binding through arrays, there is only a single parameter per attribute that is bound to an array of all values
+        boolean arrayBinding = isValuesArrayBindingPossible(extendedManagedType, attributePaths, valueClazzAttributeSingular, qualificationExpression);
+        int parameterCount = arrayBinding ? 1 : valueCount;
+        String[][] parameterNames = new String[parameterCount][attributePaths.size()];
         String[] attributes = new String[attributePaths.size()];
         AttributeAccessor<Object, Object>[] pathExpressions = new AttributeAccessor[attributePaths.size()];
+        Class<?>[] arrayElementTypes = arrayBinding ? new Class<?>[attributePaths.size()] : null;
 
         for (int i = 0; i < attributePaths.size(); i++) {
             String attributeName = attributePaths.get(i);
@@ -469,13 +480,13 @@ public class JoinManager extends AbstractManager<ExpressionModifier> {
             attributes[i] = attributeName;
             if (simpleValueAttributePrefix.isEmpty()) {
                 pathExpressions[i] = CompositeAttributeAccessor.of(mainQuery.metamodel.getManagedType(ExtendedManagedType.class, valueClass), attributeName);
-                for (int j = 0; j < valueCount; j++) {
+                for (int j = 0; j < parameterCount; j++) {
                     parameterNames[j][i] = rootAlias + '_' + parameterPart + '_' + j;
                 }
             } else {
                 if (attributeName.startsWith(simpleValueAttributePrefix)) {
                     pathExpressions[i] = CompositeAttributeAccessor.of(mainQuery.metamodel.getManagedType(ExtendedManagedType.class, valueClass), attributeName.substring(simpleValueAttributePrefix.length()));
-                    for (int j = 0; j < valueCount; j++) {
+                    for (int j = 0; j < parameterCount; j++) {
                         parameterNames[j][i] = rootAlias + '_' + parameterPart + '_' + j;
                     }
                 } else if (simpleValue || attributeName.equals(valuesClassAttributeName)) {
@@ -483,22 +494,34 @@ public class JoinManager extends AbstractManager<ExpressionModifier> {
                     if (qualificationExpression != null) {
                         parameterPart += '_' + qualificationExpression.toLowerCase();
                     }
-                    for (int j = 0; j < valueCount; j++) {
+                    for (int j = 0; j < parameterCount; j++) {
                         parameterNames[j][i] = rootAlias + '_' + parameterPart + '_' + j;
                     }
                 } else {
                     pathExpressions[i] = CompositeAttributeAccessor.of(mainQuery.metamodel.getManagedType(ExtendedManagedType.class, valueClass), attributeName);
-                    for (int j = 0; j < valueCount; j++) {
+                    for (int j = 0; j < parameterCount; j++) {
                         parameterNames[j][i] = rootAlias + '_' + parameterPart + '_' + j;
                     }
                 }
             }
         }
 
-        parameterManager.registerValuesParameter(rootAlias, valueClass, parameterNames, pathExpressions, queryBuilder);
+        if (arrayBinding) {
+            for (int i = 0; i < attributePaths.size(); i++) {
+                Class<?> elementType;
+                if (pathExpressions[i] == null) {
+                    elementType = valueClass;
+                } else {
+                    elementType = extendedManagedType.getAttribute(attributePaths.get(i)).getAttribute().getJavaType();
+                }
+                arrayElementTypes[i] = elementType.isPrimitive() ? ReflectionUtils.getObjectClassOfPrimitve(elementType) : elementType;
+            }
+        }
+
+        parameterManager.registerValuesParameter(rootAlias, valueClass, valueCount, parameterNames, pathExpressions, arrayElementTypes, queryBuilder);
 
         JoinAliasInfo rootAliasInfo = new JoinAliasInfo(rootAlias, rootAlias, false, true, aliasManager);
-        JoinNode rootNode = JoinNode.createValuesRootNode(type, entityType, typeName, valueCount, idAttributeNames, valueLikeClause, qualificationExpression, valueClazzAttributeSingular, simpleValue, valuesClassAttributeName, castedParameter, attributes, rootAliasInfo);
+        JoinNode rootNode = JoinNode.createValuesRootNode(type, entityType, typeName, valueCount, arrayBinding, idAttributeNames, valueLikeClause, qualificationExpression, valueClazzAttributeSingular, simpleValue, valuesClassAttributeName, castedParameter, attributes, rootAliasInfo);
         rootAliasInfo.setJoinNode(rootNode);
         rootNodes.add(rootNode);
         explicitJoinNodes.add(rootNode);
@@ -1629,12 +1652,33 @@ public class JoinManager extends AbstractManager<ExpressionModifier> {
         }
     }
 
+    private boolean isValuesArrayBindingPossible(ExtendedManagedType<?> extendedManagedType, List<String> attributePaths, boolean valueClazzAttributeSingular, String qualificationExpression) {
+        if (!mainQuery.getQueryConfiguration().isValuesClauseArrayBindingEnabled() || mainQuery.cbf.getArrayParameterSupport() == null || !mainQuery.dbmsDialect.supportsArrayValues()
+                || mainQuery.dbmsDialect.getValuesStrategy() == ValuesStrategy.SELECT_UNION || !valueClazzAttributeSingular || qualificationExpression != null) {
+            return false;
+        }
+        // Only attributes that map to a single basic column can be bound as array
+        for (String attributePath : attributePaths) {
+            ExtendedAttribute<?, ?> attribute = extendedManagedType.getAttributes().get(attributePath);
+            if (attribute == null || attribute.getAttribute().getPersistentAttributeType() != Attribute.PersistentAttributeType.BASIC || attribute.getColumnTypes().length != 1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     void renderPlaceholderRequiringPredicate(StringBuilder sb, JoinNode rootNode, String alias, boolean externalRepresentation, boolean renderMarkerPredicate) {
         // The rendering strategy is to render the VALUES clause predicate into JPQL with the values parameters
         // in the correct order. The whole SQL part of that will be replaced later by the correct SQL
         int valueCount = rootNode.getValueCount();
         if (!externalRepresentation) {
             if (valueCount > 0) {
+                String arrayParameterFunction = null;
+                if (rootNode.isValuesArrayBinding()) {
+                    // The array parameters must be rendered in an untyped context, so that the JPA provider doesn't validate them against the attribute type
+                    valueCount = 1;
+                    arrayParameterFunction = mainQuery.jpaProvider.getCustomFunctionInvocation(ParamFunction.FUNCTION_NAME, 1);
+                }
                 String typeName = rootNode.getValuesTypeName() == null ? null : rootNode.getValuesTypeName().toUpperCase();
                 String[] attributes = rootNode.getValuesAttributes();
                 String valueClazzAttributeName = rootNode.getValuesLikeAttribute();
@@ -1678,6 +1722,9 @@ public class JoinManager extends AbstractManager<ExpressionModifier> {
 
                         sb.append(" = ");
 
+                        if (arrayParameterFunction != null) {
+                            sb.append(arrayParameterFunction);
+                        }
                         sb.append(':');
                         sb.append(prefix);
                         sb.append('_');
@@ -1691,6 +1738,9 @@ public class JoinManager extends AbstractManager<ExpressionModifier> {
                             sb.append(rootNode.getQualificationExpression().toLowerCase());
                         }
                         sb.append('_').append(i);
+                        if (arrayParameterFunction != null) {
+                            sb.append(')');
+                        }
                         sb.append(" OR ");
                     }
                 }
@@ -67,6 +67,7 @@ public class JoinNode implements From, ExpressionModifier, BaseNode {
     private final EntityType<?> treatType;
     private final String valuesTypeName;
     private final int valueCount;
+    private final boolean valuesArrayBinding;
     private final EntityType<?> valueType;
     private final Set<String> valuesIdNames;
     private final String valuesLikeClause;
@@ -118,6 +119,7 @@ public class JoinNode implements From, ExpressionModifier, BaseNode {
         this.qualificationExpression = null;
         this.valuesTypeName = treatedJoinNode.valuesTypeName;
         this.valueCount = treatedJoinNode.valueCount;
+        this.valuesArrayBinding = treatedJoinNode.valuesArrayBinding;
         this.valueType = treatedJoinNode.valueType;
         this.valuesIdNames = treatedJoinNode.valuesIdNames;
         this.valuesLikeClause = treatedJoinNode.valuesLikeClause;
@@ -156,6 +158,7 @@ public class JoinNode implements From, ExpressionModifier, BaseNode {
         this.lateral = lateral;
         this.valuesTypeName = null;
         this.valueCount = 0;
+        this.valuesArrayBinding = false;
         this.valueType = null;
         this.valuesIdNames = null;
         this.valuesLikeClause = null;
@@ -178,7 +181,7 @@ public class JoinNode implements From, ExpressionModifier, BaseNode {
         onUpdate(null);
     }
 
-    private JoinNode(Type<?> nodeType, EntityType<?> valueType, String valuesTypeName, int valueCount, Set<String> valuesIdNames, String valuesLikeClause, String valueClazzAttributeQualificationExpression, boolean valueClazzAttributeSingular, boolean valueClazzSimpleValue, String valuesLikeAttribute, String valuesCastedParameter, String[] valuesAttributes, JoinAliasInfo aliasInfo) {
+    private JoinNode(Type<?> nodeType, EntityType<?> valueType, String valuesTypeName, int valueCount, boolean valuesArrayBinding, Set<String> valuesIdNames, String valuesLikeClause, String valueClazzAttributeQualificationExpression, boolean valueClazzAttributeSingular, boolean valueClazzSimpleValue, String valuesLikeAttribute, String valuesCastedParameter, String[] valuesAttributes, JoinAliasInfo aliasInfo) {
         this.parent = null;
         this.parentTreeNode = null;
         this.joinType = null;
@@ -188,6 +191,7 @@ public class JoinNode implements From, ExpressionModifier, BaseNode {
         this.treatType = null;
         this.valuesTypeName = valuesTypeName;
         this.valueCount = valueCount;
+        this.valuesArrayBinding = valuesArrayBinding;
         this.valueType = valueType;
         this.valuesIdNames = valuesIdNames;
         this.valuesLikeClause = valuesLikeClause;
@@ -211,11 +215,11 @@ public class JoinNode implements From, ExpressionModifier, BaseNode {
         String sqlType = mainQuery.dbmsDialect.getSqlType(Long.class);
         String valuesTypeName = mainQuery.cbf.getNamedTypes().get(Long.class);
         String valuesCastedParameter = mainQuery.dbmsDialect.cast("?", sqlType);
-        return new JoinNode(mainQuery.metamodel.type(nodeType), mainQuery.metamodel.entity(ValuesEntity.class), valuesTypeName, valueCount, null, null, null, true, true, "value", valuesCastedParameter, new String[] { "value" }, aliasInfo);
+        return new JoinNode(mainQuery.metamodel.type(nodeType), mainQuery.metamodel.entity(ValuesEntity.class), valuesTypeName, valueCount, false, null, null, null, true, true, "value", valuesCastedParameter, new String[] { "value" }, aliasInfo);
     }
 
-    public static JoinNode createValuesRootNode(Type<?> nodeType, EntityType<?> valueType, String valuesTypeName, int valueCount, Set<String> valuesIdName, String valuesLikeClause, String qualificationExpression, boolean valueClazzAttributeSingular, boolean valueClazzSimpleValue, String valuesLikeAttribute, String valuesCastedParameter, String[] valuesAttributes, JoinAliasInfo aliasInfo) {
-        return new JoinNode(nodeType, valueType, valuesTypeName, valueCount, valuesIdName, valuesLikeClause, qualificationExpression, valueClazzAttributeSingular, valueClazzSimpleValue, valuesLikeAttribute, valuesCastedParameter, valuesAttributes, aliasInfo);
+    public static JoinNode createValuesRootNode(Type<?> nodeType, EntityType<?> valueType, String valuesTypeName, int valueCount, boolean valuesArrayBinding, Set<String> valuesIdName, String valuesLikeClause, String qualificationExpression, boolean valueClazzAttributeSingular, boolean valueClazzSimpleValue, String valuesLikeAttribute, String valuesCastedParameter, String[] valuesAttributes, JoinAliasInfo aliasInfo) {
+        return new JoinNode(nodeType, valueType, valuesTypeName, valueCount, valuesArrayBinding, valuesIdName, valuesLikeClause, qualificationExpression, valueClazzAttributeSingular, valueClazzSimpleValue, valuesLikeAttribute, valuesCastedParameter, valuesAttributes, aliasInfo);
     }
 
     public static JoinNode createCorrelationRootNode(JoinNode correlationParent, String correlationPath, Attribute<?, ?> correlatedAttribute, Type<?> nodeType, EntityType<?> treatType, JoinAliasInfo aliasInfo, boolean lateral) {
@@ -234,7 +238,7 @@ public class JoinNode implements From, ExpressionModifier, BaseNode {
         // NOTE: no cloning of treatedJoinNodes and entityJoinNodes is intentional
         JoinNode newNode;
         if (valueCount > 0) {
-            newNode = createValuesRootNode(nodeType, valueType, valuesTypeName, valueCount, valuesIdNames, valuesLikeClause, qualificationExpression, valueClazzAttributeSingular, valueClazzSimpleValue, valuesLikeAttribute, valuesCastedParameter, valuesAttributes, aliasInfo);
+            newNode = createValuesRootNode(nodeType, valueType, valuesTypeName, valueCount, valuesArrayBinding, valuesIdNames, valuesLikeClause, qualificationExpression, valueClazzAttributeSingular, valueClazzSimpleValue, valuesLikeAttribute, valuesCastedParameter, valuesAttributes, aliasInfo);
         } else if (correlationParent == null) {
             newNode = createRootNode((EntityType<?>) nodeType, aliasInfo);
         } else {
@@ -708,6 +712,10 @@ public class JoinNode implements From, ExpressionModifier, BaseNode {
         return valueCount;
     }
 
+    public boolean isValuesArrayBinding() {
+        return valuesArrayBinding;
+    }
+
     public EntityType<?> getValueType() {
         return valueType;
     }
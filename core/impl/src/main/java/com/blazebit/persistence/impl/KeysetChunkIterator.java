@@ -0,0 +1,190 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.impl;
+
+import com.blazebit.persistence.DefaultKeysetPage;
+import com.blazebit.persistence.Keyset;
+import com.blazebit.persistence.KeysetPage;
+import com.blazebit.persistence.KeysetRange;
+import com.blazebit.persistence.PagedList;
+import com.blazebit.persistence.PaginatedCriteriaBuilder;
+import com.blazebit.persistence.PaginatedTypedQuery;
+import com.blazebit.persistence.impl.keyset.KeysetManager;
+
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * Iterates over the result of a query builder in chunks that are fetched through keyset pagination.
+ * The query for fetching the next chunk is reused and only the keyset parameters are rebound,
+ * unless the null elements of the keyset change, as that changes the structure of the keyset predicate.
+ * When a keyset range is given, the first chunk starts at the inclusive lower bound and all chunks are restricted by the exclusive upper bound.
+ *
+ * @param <T> The query result type
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+public class KeysetChunkIterator<T> implements Iterator<List<T>> {
+
+    private final AbstractFullQueryBuilder<T, ?, ?, ?, ?> builder;
+    private final int chunkSize;
+    private final boolean clearPersistenceContext;
+    private final Keyset lowerBound;
+    private final Keyset upperBound;
+    private KeysetPage keysetPage;
+    private PaginatedTypedQuery<T> keysetQuery;
+    private Serializable[] keysetQueryKey;
+    private int positionalOffset;
+    private List<T> nextChunk;
+    private boolean done;
+
+    public KeysetChunkIterator(AbstractFullQueryBuilder<T, ?, ?, ?, ?> builder, KeysetRange keysetRange, int chunkSize, boolean clearPersistenceContext) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize may not be zero or negative");
+        }
+        this.builder = builder;
+        this.chunkSize = chunkSize;
+        this.clearPersistenceContext = clearPersistenceContext;
+        if (keysetRange == null) {
+            this.lowerBound = null;
+            this.upperBound = null;
+        } else {
+            this.lowerBound = keysetRange.getLowerBound();
+            this.upperBound = keysetRange.getUpperBound();
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextChunk == null && !done) {
+            List<T> chunk = fetchChunk();
+            if (chunk.isEmpty()) {
+                done = true;
+            } else {
+                nextChunk = chunk;
+            }
+        }
+        return nextChunk != null;
+    }
+
+    @Override
+    public List<T> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        List<T> chunk = nextChunk;
+        nextChunk = null;
+        // A chunk that isn't full is the last one, so we can spare the query for the next chunk
+        if (chunk.size() < chunkSize) {
+            done = true;
+        }
+        return chunk;
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    private List<T> fetchChunk() {
+        PagedList<T> chunk;
+        if (keysetPage == null) {
+            PaginatedCriteriaBuilder<T> paginatedCriteriaBuilder;
+            if (lowerBound == null) {
+                paginatedCriteriaBuilder = builder.page(0, chunkSize);
+            } else {
+                // Requesting the same page as the one of the lower bound results in an inclusive keyset predicate
+                paginatedCriteriaBuilder = builder.page(new DefaultKeysetPage(chunkSize, chunkSize, lowerBound, lowerBound), chunkSize, chunkSize);
+            }
+            chunk = withUpperBound(paginatedCriteriaBuilder)
+                    .withKeysetExtraction(true)
+                    .withCountQuery(false)
+                    .getResultList();
+        } else {
+            if (clearPersistenceContext) {
+                builder.getEntityManager().clear();
+            }
+            Serializable[] highest = keysetPage.getHighest().getTuple();
+            if (keysetQuery == null || !hasSameNullElements(keysetQueryKey, highest)) {
+                keysetQuery = withUpperBound(builder.page(keysetPage, keysetPage.getFirstResult() + chunkSize, chunkSize))
+                        .withKeysetExtraction(true)
+                        .withCountQuery(false)
+                        .getQuery();
+                keysetQueryKey = highest;
+                positionalOffset = builder.parameterManager.getPositionalOffset();
+            } else {
+                // Only non-null key elements are rendered as parameters
+                for (int i = 0; i < highest.length; i++) {
+                    if (highest[i] != null) {
+                        keysetQuery.setParameter(KeysetManager.getKeysetParameterName(i, positionalOffset), highest[i]);
+                    }
+                }
+            }
+            chunk = keysetQuery.getResultList();
+        }
+
+        keysetPage = chunk.getKeysetPage();
+        return chunk;
+    }
+
+    private PaginatedCriteriaBuilder<T> withUpperBound(PaginatedCriteriaBuilder<T> paginatedCriteriaBuilder) {
+        if (upperBound == null) {
+            return paginatedCriteriaBuilder;
+        }
+        return ((PaginatedCriteriaBuilderImpl<T>) paginatedCriteriaBuilder).withKeysetUpperBound(upperBound);
+    }
+
+    private static boolean hasSameNullElements(Serializable[] key1, Serializable[] key2) {
+        if (key1.length != key2.length) {
+            return false;
+        }
+        for (int i = 0; i < key1.length; i++) {
+            if ((key1[i] == null) != (key2[i] == null)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A spliterator over the elements of the chunks of a {@link KeysetChunkIterator}.
+     *
+     * @param <T> The query result type
+     * @author Christian Beikov
+     * @since 1.6.15
+     */
+    public static class ElementSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+
+        private final Iterator<List<T>> chunkIterator;
+        private List<T> chunk;
+        private int index;
+
+        public ElementSpliterator(Iterator<List<T>> chunkIterator) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED);
+            this.chunkIterator = chunkIterator;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            while (chunk == null || index == chunk.size()) {
+                // Release the previous chunk before fetching the next one
+                chunk = null;
+                if (!chunkIterator.hasNext()) {
+                    return false;
+                }
+                chunk = chunkIterator.next();
+                index = 0;
+            }
+            action.accept(chunk.get(index++));
+            return true;
+        }
+    }
+}
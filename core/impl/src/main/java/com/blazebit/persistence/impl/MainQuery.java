@@ -37,7 +37,7 @@ public class MainQuery {
     private final JpqlMacroStorage macroStorage;
     private QueryConfiguration queryConfiguration;
 
-    private MainQuery(CriteriaBuilderFactoryImpl cbf, EntityManager em, JpaProvider jpaProvider, DbmsDialect dbmsDialect, Map<String, JpqlFunction> registeredFunctions, Map<String, String> registeredFunctionNames, ParameterManager parameterManager) {
+    private MainQuery(CriteriaBuilderFactoryImpl cbf, EntityManager em, JpaProvider jpaProvider, DbmsDialect dbmsDialect, Map<String, JpqlFunction> registeredFunctions, Map<String, String> registeredFunctionNames) {
         super();
         this.cbf = cbf;
         this.queryConfiguration = cbf.getQueryConfiguration();
@@ -51,7 +51,7 @@ public class MainQuery {
         this.dbmsDialect = dbmsDialect;
         this.registeredFunctions = registeredFunctions;
         this.registeredFunctionNames = registeredFunctionNames;
-        this.parameterManager = parameterManager;
+        this.parameterManager = new ParameterManager(this, jpaProvider, metamodel);
         this.cteManager = new CTEManager(this);
 
         if (jpaProvider.supportsTransientEntityAsParameter()) {
@@ -67,8 +67,7 @@ public class MainQuery {
         }
 
         JpaProvider jpaProvider = cbf.getJpaProvider();
-        ParameterManager parameterManager = new ParameterManager(jpaProvider, cbf.getMetamodel());
-        return new MainQuery(cbf, em, jpaProvider, dbmsDialect, registeredFunctions, registeredFunctionNames, parameterManager);
+        return new MainQuery(cbf, em, jpaProvider, dbmsDialect, registeredFunctions, registeredFunctionNames);
     }
 
     public final void registerMacro(String macroName, JpqlMacro jpqlMacro) {
@@ -90,6 +90,7 @@ public class PaginatedCriteriaBuilderImpl<T> extends AbstractFullQueryBuilder<T,
     private int highestOffset = 0;
     private final KeysetPage keysetPage;
     private final ResolvedExpression[] identifierExpressions;
+    private Keyset keysetUpperBound;
 
     // Mutable state
     private final Object entityId;
@@ -160,6 +161,9 @@ public class PaginatedCriteriaBuilderImpl<T> extends AbstractFullQueryBuilder<T,
         builder.withCountQuery(withCountQuery);
         builder.withForceIdQuery(withForceIdQuery);
         builder.withHighestKeysetOffset(highestOffset);
+        if (keysetUpperBound != null) {
+            ((PaginatedCriteriaBuilderImpl<Y>) builder).withKeysetUpperBound(keysetUpperBound);
+        }
         return builder;
     }
 
@@ -247,12 +251,25 @@ public class PaginatedCriteriaBuilderImpl<T> extends AbstractFullQueryBuilder<T,
         } else {
             this.keysetManager.setKeysetLink(new SimpleKeysetLink(keysetPage.getLowest(), keysetMode));
         }
+        // The keyset manager is shared with the base builder, so we have to set our own upper bound
+        if (keysetUpperBound == null) {
+            this.keysetManager.setUpperBoundKeysetLink(null);
+        } else {
+            this.keysetManager.setUpperBoundKeysetLink(new SimpleKeysetLink(keysetUpperBound, KeysetMode.PREVIOUS));
+        }
 
         if (keysetMode != oldMode) {
             prepareForModification(ClauseType.WHERE);
         }
     }
 
+    public PaginatedCriteriaBuilderImpl<T> withKeysetUpperBound(Keyset keysetUpperBound) {
+        this.keysetUpperBound = keysetUpperBound;
+        updateKeysetMode();
+        prepareForModification(ClauseType.WHERE);
+        return this;
+    }
+
     @Override
     public PaginatedCriteriaBuilder<T> withKeysetExtraction(boolean keysetExtraction) {
         this.keysetExtraction = keysetExtraction;
@@ -476,7 +493,7 @@ public class PaginatedCriteriaBuilderImpl<T> extends AbstractFullQueryBuilder<T,
             String valueParameterName = dualNode.getAlias() + "_value_0";
             String[][] parameterNames = new String[1][1];
             parameterNames[0][0] = valueParameterName;
-            ParameterManager.ValuesParameterWrapper valuesParameterWrapper = new ParameterManager.ValuesParameterWrapper(dualNode.getJavaType(), parameterNames, new AttributeAccessor[1]);
+            ParameterManager.ValuesParameterWrapper valuesParameterWrapper = new ParameterManager.ValuesParameterWrapper(dualNode.getJavaType(), 1, parameterNames, new AttributeAccessor[1], null, null);
             parameters.add(new ParameterManager.ParameterImpl<Object>(dualNode.getAlias(), false, null, null, valuesParameterWrapper));
             valuesParameters = new HashMap<>(valuesParameters);
             valuesParameters.put(valueParameterName, dualNode.getAlias());
@@ -752,7 +769,7 @@ public class PaginatedCriteriaBuilderImpl<T> extends AbstractFullQueryBuilder<T,
             throw new IllegalStateException("The order by items of the query builder are not guaranteed to produce unique tuples! Consider also ordering by the entity identifier!");
         }
 
-        if (keysetManager.hasKeyset()) {
+        if (keysetManager.hasKeyset() || keysetManager.hasUpperBound()) {
             keysetManager.initialize(orderByExpressions);
         }
 
@@ -824,6 +841,41 @@ public class PaginatedCriteriaBuilderImpl<T> extends AbstractFullQueryBuilder<T,
         orderByManager.buildImplicitGroupByClauses(groupByManager, hasGroupBy, joinVisitor);
     }
 
+    private void buildWhereClauseWithKeyset(StringBuilder sbSelectFrom, List<String> whereClauseConjuncts, List<String> optionalWhereClauseConjuncts) {
+        boolean hasKeysetPredicate = keysetMode != KeysetMode.NONE && keysetManager.getKeysetLink().getKeyset().getTuple() != null;
+        if (!hasKeysetPredicate && keysetUpperBound == null) {
+            whereManager.buildClause(sbSelectFrom, whereClauseConjuncts, optionalWhereClauseConjuncts);
+        } else {
+            sbSelectFrom.append(" WHERE ");
+
+            int positionalOffset = parameterManager.getPositionalOffset();
+            boolean optimized = mainQuery.getQueryConfiguration().isOptimizedKeysetPredicateRenderingEnabled();
+            if (hasKeysetPredicate) {
+                if (optimized) {
+                    keysetManager.buildOptimizedKeysetPredicate(sbSelectFrom, positionalOffset);
+                } else {
+                    keysetManager.buildKeysetPredicate(sbSelectFrom, positionalOffset);
+                }
+            }
+
+            if (keysetUpperBound != null) {
+                if (hasKeysetPredicate) {
+                    sbSelectFrom.append(" AND ");
+                    // Positional parameters of the upper bound are placed after the ones of the keyset predicate
+                    if (positionalOffset > -1) {
+                        positionalOffset += keysetUpperBound.getTuple().length;
+                    }
+                }
+                keysetManager.buildUpperBoundKeysetPredicate(sbSelectFrom, positionalOffset, optimized);
+            }
+
+            if (whereManager.hasPredicates() || !whereClauseConjuncts.isEmpty()) {
+                sbSelectFrom.append(" AND ");
+                whereManager.buildClausePredicate(sbSelectFrom, whereClauseConjuncts, optionalWhereClauseConjuncts);
+            }
+        }
+    }
+
     private void initializeOrderByAliasesWithIdentifierToUse(List<OrderByExpression> orderByExpressions) {
         ResolvedExpression[] identifierExpressionsToUse = getIdentifierExpressionsToUse();
         Map<String, Integer> identifierExpressionStringMap = new HashMap<>(identifierExpressionsToUse.length);
@@ -942,7 +994,7 @@ public class PaginatedCriteriaBuilderImpl<T> extends AbstractFullQueryBuilder<T,
                 String valueParameterName = dualNode.getAlias() + "_value_0";
                 String[][] parameterNames = new String[1][1];
                 parameterNames[0][0] = valueParameterName;
-                ParameterManager.ValuesParameterWrapper valuesParameterWrapper = new ParameterManager.ValuesParameterWrapper(dualNode.getJavaType(), parameterNames, new AttributeAccessor[1]);
+                ParameterManager.ValuesParameterWrapper valuesParameterWrapper = new ParameterManager.ValuesParameterWrapper(dualNode.getJavaType(), 1, parameterNames, new AttributeAccessor[1], null, null);
                 parameters.add(new ParameterManager.ParameterImpl<Object>(dualNode.getAlias(), false, null, null, valuesParameterWrapper));
                 valuesParameters = new HashMap<>(valuesParameters);
                 valuesParameters.put(valueParameterName, dualNode.getAlias());
@@ -1206,23 +1258,7 @@ public class PaginatedCriteriaBuilderImpl<T> extends AbstractFullQueryBuilder<T,
         Set<JoinNode> identifierExpressionsToUseNonRootJoinNodes = getIdentifierExpressionsToUseNonRootJoinNodes();
         Set<JoinNode> collectionJoins = joinManager.buildClause(sbSelectFrom, ID_QUERY_GROUP_BY_CLAUSE_EXCLUSIONS, null, true, externalRepresentation, true, false, optionalWhereClauseConjuncts, whereClauseConjuncts, explicitVersionEntities, idNodesToFetch, identifierExpressionsToUseNonRootJoinNodes, null, true);
 
-        if (keysetMode == KeysetMode.NONE || keysetManager.getKeysetLink().getKeyset().getTuple() == null) {
-            whereManager.buildClause(sbSelectFrom, whereClauseConjuncts, optionalWhereClauseConjuncts);
-        } else {
-            sbSelectFrom.append(" WHERE ");
-
-            int positionalOffset = parameterManager.getPositionalOffset();
-            if (mainQuery.getQueryConfiguration().isOptimizedKeysetPredicateRenderingEnabled()) {
-                keysetManager.buildOptimizedKeysetPredicate(sbSelectFrom, positionalOffset);
-            } else {
-                keysetManager.buildKeysetPredicate(sbSelectFrom, positionalOffset);
-            }
-
-            if (whereManager.hasPredicates() || !whereClauseConjuncts.isEmpty()) {
-                sbSelectFrom.append(" AND ");
-                whereManager.buildClausePredicate(sbSelectFrom, whereClauseConjuncts, optionalWhereClauseConjuncts);
-            }
-        }
+        buildWhereClauseWithKeyset(sbSelectFrom, whereClauseConjuncts, optionalWhereClauseConjuncts);
 
         boolean inverseOrder = keysetMode == KeysetMode.PREVIOUS;
 
@@ -1449,23 +1485,7 @@ public class PaginatedCriteriaBuilderImpl<T> extends AbstractFullQueryBuilder<T,
         } else {
             joinManager.buildClause(sbSelectFrom, hasGroupBy ? NO_CLAUSE_EXCLUSION : OBJECT_QUERY_WITHOUT_GROUP_BY_EXCLUSIONS, null, false, externalRepresentation, false, false, optionalWhereClauseConjuncts, whereClauseConjuncts, explicitVersionEntities, nodesToFetch, Collections.<JoinNode>emptySet(), null, true);
 
-            if (keysetMode == KeysetMode.NONE || keysetManager.getKeysetLink().getKeyset().getTuple() == null) {
-                whereManager.buildClause(sbSelectFrom, whereClauseConjuncts, optionalWhereClauseConjuncts);
-            } else {
-                sbSelectFrom.append(" WHERE ");
-
-                int positionalOffset = parameterManager.getPositionalOffset();
-                if (mainQuery.getQueryConfiguration().isOptimizedKeysetPredicateRenderingEnabled()) {
-                    keysetManager.buildOptimizedKeysetPredicate(sbSelectFrom, positionalOffset);
-                } else {
-                    keysetManager.buildKeysetPredicate(sbSelectFrom, positionalOffset);
-                }
-
-                if (whereManager.hasPredicates() || !whereClauseConjuncts.isEmpty()) {
-                    sbSelectFrom.append(" AND ");
-                    whereManager.buildClausePredicate(sbSelectFrom, whereClauseConjuncts, optionalWhereClauseConjuncts);
-                }
-            }
+            buildWhereClauseWithKeyset(sbSelectFrom, whereClauseConjuncts, optionalWhereClauseConjuncts);
             appendGroupByClause(sbSelectFrom);
         }
 
@@ -39,6 +39,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * @author Christian Beikov
@@ -299,73 +300,16 @@ public class PaginatedTypedQueryImpl<X> implements PaginatedTypedQuery<X> {
                     }
                 }
 
-                // extract count
-                if (inlinedCountQuery) {
-                    Object[] first = (Object[]) ids.get(0);
-                    totalSize = (long) first[first.length - 1];
-                }
-                List<Object> newIds = new ArrayList<Object>(ids.size());
-                if (identifierCount > 1) {
-                    for (int i = 0; i < ids.size(); i++) {
-                        Object[] tuple = (Object[]) ids.get(i);
-                        Object newId = new Object[identifierCount];
-                        System.arraycopy(tuple, 0, newId, 0, identifierCount);
-                        newIds.add(newId);
-                    }
-                } else {
-                    for (int i = 0; i < ids.size(); i++) {
-                        Object o = ids.get(i);
-                        if (o instanceof Object[]) {
-                            newIds.add(((Object[]) o)[0]);
-                        } else {
-                            newIds.add(o);
-                        }
-                    }
-                }
+            }
 
-                ids = newIds;
-            } else if (inlinedCountQuery) {
+            // extract count
+            if (inlinedCountQuery) {
                 Object[] first = (Object[]) ids.get(0);
-                int newSize = first.length - 1;
                 totalSize = (long) first[first.length - 1];
-                // If this would have been a non-object array type without the count query, we must unwrap the result
-                List<Object> newIds = new ArrayList<>(ids.size());
-                if (newSize == 1) {
-                    for (int i = 0; i < ids.size(); i++) {
-                        newIds.add(((Object[]) ids.get(i))[0]);
-                    }
-                } else {
-                    for (int i = 0; i < ids.size(); i++) {
-                        Object[] tuple = (Object[]) ids.get(i);
-                        Object newId = new Object[newSize];
-                        System.arraycopy(tuple, 0, newId, 0, newSize);
-                        newIds.add(newId);
-                    }
-                }
-                ids = newIds;
             }
 
-            if (identifierCount > 1) {
-                StringBuilder parameterNameBuilder = new StringBuilder(AbstractCommonQueryBuilder.ID_PARAM_NAME.length() + 10);
-                parameterNameBuilder.append(AbstractCommonQueryBuilder.ID_PARAM_NAME).append('_');
-                int start = parameterNameBuilder.length();
-                Object[] empty = ids.size() < pageSize ? new Object[identifierCount] : null;
-                for (int i = 0; i < pageSize; i++) {
-                    Object[] tuple;
-                    if (ids.size() > i) {
-                        tuple = (Object[]) ids.get(i);
-                    } else {
-                        tuple = empty;
-                    }
-                    for (int j = 0; j < identifierCount; j++) {
-                        parameterNameBuilder.setLength(start);
-                        parameterNameBuilder.append(j).append('_').append(i);
-                        objectQuery.setParameter(parameterNameBuilder.toString(), tuple[j]);
-                    }
-                }
-            } else {
-                objectQuery.setParameter(AbstractCommonQueryBuilder.ID_PARAM_NAME, ids);
-            }
+            ids = extractIds(ids);
+            bindIds(ids);
 
             KeysetPage newKeyset = null;
 
@@ -389,6 +333,10 @@ public class PaginatedTypedQueryImpl<X> implements PaginatedTypedQuery<X> {
                 }
             }
 
+            if (objectBuilder instanceof KeysetExtractionObjectBuilder<?>) {
+                // The query might be executed multiple times, so we have to reset the keyset extraction state
+                ((KeysetExtractionObjectBuilder<?>) objectBuilder).reset();
+            }
             List<X> result = objectQuery.getResultList();
 
             if (result.isEmpty()) {
@@ -459,6 +407,110 @@ public class PaginatedTypedQueryImpl<X> implements PaginatedTypedQuery<X> {
         }
     }
 
+    private List<?> extractIds(List<?> ids) {
+        if (needsNewIdList) {
+            List<Object> newIds = new ArrayList<Object>(ids.size());
+            if (identifierCount > 1) {
+                for (int i = 0; i < ids.size(); i++) {
+                    Object[] tuple = (Object[]) ids.get(i);
+                    Object newId = new Object[identifierCount];
+                    System.arraycopy(tuple, 0, newId, 0, identifierCount);
+                    newIds.add(newId);
+                }
+            } else {
+                for (int i = 0; i < ids.size(); i++) {
+                    Object o = ids.get(i);
+                    if (o instanceof Object[]) {
+                        newIds.add(((Object[]) o)[0]);
+                    } else {
+                        newIds.add(o);
+                    }
+                }
+            }
+
+            return newIds;
+        } else if (inlinedCountQuery) {
+            Object[] first = (Object[]) ids.get(0);
+            int newSize = first.length - 1;
+            // If this would have been a non-object array type without the count query, we must unwrap the result
+            List<Object> newIds = new ArrayList<>(ids.size());
+            if (newSize == 1) {
+                for (int i = 0; i < ids.size(); i++) {
+                    newIds.add(((Object[]) ids.get(i))[0]);
+                }
+            } else {
+                for (int i = 0; i < ids.size(); i++) {
+                    Object[] tuple = (Object[]) ids.get(i);
+                    Object newId = new Object[newSize];
+                    System.arraycopy(tuple, 0, newId, 0, newSize);
+                    newIds.add(newId);
+                }
+            }
+            return newIds;
+        }
+        return ids;
+    }
+
+    private void bindIds(List<?> ids) {
+        if (identifierCount > 1) {
+            StringBuilder parameterNameBuilder = new StringBuilder(AbstractCommonQueryBuilder.ID_PARAM_NAME.length() + 10);
+            parameterNameBuilder.append(AbstractCommonQueryBuilder.ID_PARAM_NAME).append('_');
+            int start = parameterNameBuilder.length();
+            Object[] empty = ids.size() < pageSize ? new Object[identifierCount] : null;
+            for (int i = 0; i < pageSize; i++) {
+                Object[] tuple;
+                if (ids.size() > i) {
+                    tuple = (Object[]) ids.get(i);
+                } else {
+                    tuple = empty;
+                }
+                for (int j = 0; j < identifierCount; j++) {
+                    parameterNameBuilder.setLength(start);
+                    parameterNameBuilder.append(j).append('_').append(i);
+                    objectQuery.setParameter(parameterNameBuilder.toString(), tuple[j]);
+                }
+            }
+        } else {
+            objectQuery.setParameter(AbstractCommonQueryBuilder.ID_PARAM_NAME, ids);
+        }
+    }
+
+    @Override
+    public Stream<X> getResultStream() {
+        // Determining the page of the reference entity requires the count query and results of previous pages must be reversed
+        if (entityId != null || keysetMode == KeysetMode.PREVIOUS || inlinedCountQuery && objectBuilder == null) {
+            return getResultList().stream();
+        }
+        int firstRow = firstResult;
+        if (idQuery != null) {
+            idQuery.setMaxResults(pageSize);
+
+            if (forceFirstResult || keysetMode == KeysetMode.NONE) {
+                idQuery.setFirstResult(firstRow);
+            } else {
+                idQuery.setFirstResult(0);
+            }
+
+            List<?> ids = idQuery.getResultList();
+            if (ids.isEmpty()) {
+                return Collections.<X>emptyList().stream();
+            }
+
+            bindIds(extractIds(ids));
+        } else if (!inlinedIdQuery) {
+            objectQuery.setMaxResults(pageSize);
+
+            if (forceFirstResult || keysetMode == KeysetMode.NONE) {
+                objectQuery.setFirstResult(firstRow);
+            } else {
+                objectQuery.setFirstResult(0);
+            }
+        }
+
+        // The object query results are streamed without materializing them into a paged list and without running the count query
+        return objectQuery.getResultStream();
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public X getSingleResult() {
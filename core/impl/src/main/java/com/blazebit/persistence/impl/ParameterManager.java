@@ -11,6 +11,7 @@ import com.blazebit.persistence.parser.expression.ParameterExpression;
 import com.blazebit.persistence.parser.util.LiteralFunctionTypeConverter;
 import com.blazebit.persistence.parser.util.TypeConverter;
 import com.blazebit.persistence.parser.util.TypeUtils;
+import com.blazebit.persistence.spi.ArrayParameterSupport;
 import com.blazebit.persistence.spi.AttributeAccessor;
 import com.blazebit.persistence.spi.JpaProvider;
 
@@ -53,6 +54,7 @@ public class ParameterManager {
     }
 
     private int counter;
+    private final MainQuery mainQuery;
     private final JpaProvider jpaProvider;
     private final EntityMetamodel entityMetamodel;
     private final Map<String, ParameterImpl<?>> parameters = new TreeMap<>();
@@ -62,7 +64,8 @@ public class ParameterManager {
     private Map<javax.persistence.criteria.ParameterExpression<?>, String> criteriaNameMapping;
     private int positionalOffset = -1; // Records the last positional parameter index that was used
 
-    public ParameterManager(JpaProvider jpaProvider, EntityMetamodel entityMetamodel) {
+    public ParameterManager(MainQuery mainQuery, JpaProvider jpaProvider, EntityMetamodel entityMetamodel) {
+        this.mainQuery = mainQuery;
         this.jpaProvider = jpaProvider;
         this.entityMetamodel = entityMetamodel;
         this.parameterRegistrationVisitor = new ParameterRegistrationVisitor(this);
@@ -147,12 +150,16 @@ public class ParameterManager {
                     if (param.isValueSet()) {
                         existingParameter.setValue(paramValue);
                     }
+                    if (param.isUsedInInPredicate()) {
+                        existingParameter.setUsedInInPredicate(true);
+                    }
                     continue;
                 }
             }
 
             parameterMapping.put(oldParameterName, newParameterName);
             addParameterMapping(newParameterName, paramValue, param.isImplicit());
+            parameters.get(newParameterName).setUsedInInPredicate(param.isUsedInInPredicate());
         }
 
         for (Map.Entry<String, String> entry : parameterManager.valuesParameters.entrySet()) {
@@ -203,6 +210,7 @@ public class ParameterManager {
     }
 
     void parameterizeQuery(Query q, String skippedParameterPrefix) {
+        boolean padParameterLists = mainQuery.getQueryConfiguration().isParameterListPaddingEnabled();
         Set<String> requestedValueParameters = new HashSet<String>();
         for (Parameter<?> p : q.getParameters()) {
             String parameterName = p.getName();
@@ -234,7 +242,7 @@ public class ParameterManager {
                     q.setParameter(parameterName, parameter.getValue());
                 }
             } else {
-                parameter.bind(q);
+                parameter.bind(q, padParameterLists && parameter.isUsedInInPredicate());
             }
         }
 
@@ -244,6 +252,41 @@ public class ParameterManager {
         }
     }
 
+    /**
+     * Returns the next power of two for the given value count, which is used for padding parameter lists and VALUES clauses.
+     * Padding reduces the amount of distinct SQL strings so that query plan caches are not filled with queries that only differ in the value count.
+     *
+     * @param valueCount The value count
+     * @return The padded value count
+     */
+    static int getPaddedValueCount(int valueCount) {
+        if (valueCount <= 2) {
+            return valueCount;
+        }
+        int paddedValueCount = Integer.highestOneBit(valueCount - 1) << 1;
+        // Overflow for very big value counts
+        if (paddedValueCount < 0) {
+            return valueCount;
+        }
+        return paddedValueCount;
+    }
+
+    static Collection<?> padValues(Collection<?> values) {
+        int size = values.size();
+        int paddedSize = getPaddedValueCount(size);
+        if (size == paddedSize) {
+            return values;
+        }
+        List<Object> paddedValues = new ArrayList<>(paddedSize);
+        paddedValues.addAll(values);
+        // Repeating the last element does not change the semantics of an IN predicate
+        Object lastValue = paddedValues.get(size - 1);
+        for (int i = size; i < paddedSize; i++) {
+            paddedValues.add(lastValue);
+        }
+        return paddedValues;
+    }
+
     public ParameterImpl<?> getParameter(String parameterName) {
         if (parameterName == null) {
             throw new NullPointerException("parameterName");
@@ -438,14 +481,14 @@ public class ParameterManager {
         }
     }
 
-    public void registerValuesParameter(String parameterName, Class<?> type, String[][] parameterNames, AttributeAccessor<Object, Object>[] pathExpressions, AbstractCommonQueryBuilder<?, ?, ?, ?, ?> queryBuilder) {
+    public void registerValuesParameter(String parameterName, Class<?> type, int valueCount, String[][] parameterNames, AttributeAccessor<Object, Object>[] pathExpressions, Class<?>[] arrayElementTypes, AbstractCommonQueryBuilder<?, ?, ?, ?, ?> queryBuilder) {
         if (parameterName == null) {
             throw new NullPointerException("parameterName");
         }
         if (parameters.containsKey(parameterName)) {
             throw new IllegalArgumentException("Can't register parameter for VALUES clause because there already exists a parameter with the name: " + parameterName);
         }
-        parameters.put(parameterName, new ParameterImpl<Object>(parameterName, false, ClauseType.JOIN, queryBuilder, new ValuesParameterWrapper(type, parameterNames, pathExpressions)));
+        parameters.put(parameterName, new ParameterImpl<Object>(parameterName, false, ClauseType.JOIN, queryBuilder, new ValuesParameterWrapper(type, valueCount, parameterNames, pathExpressions, mainQuery.cbf.getArrayParameterSupport(), arrayElementTypes)));
         for (int i = 0; i < parameterNames.length; i++) {
             for (int j = 0; j < parameterNames[i].length; j++) {
                 valuesParameters.put(parameterNames[i][j], parameterName);
@@ -539,6 +582,7 @@ public class ParameterManager {
         private final boolean implicit;
         private final Map<ClauseType, Set<AbstractCommonQueryBuilder<?, ?, ?, ?, ?>>> clauseTypes;
         private boolean usedInImplicitGroupBy;
+        private boolean usedInInPredicate;
         private Class<T> parameterType;
         private javax.persistence.criteria.ParameterExpression<T> criteriaParameter;
         private T value;
@@ -640,6 +684,14 @@ public class ParameterManager {
             this.usedInImplicitGroupBy = usedInImplicitGroupBy;
         }
 
+        public boolean isUsedInInPredicate() {
+            return usedInInPredicate;
+        }
+
+        public void setUsedInInPredicate(boolean usedInInPredicate) {
+            this.usedInInPredicate = usedInInPredicate;
+        }
+
         public ParameterValue getParameterValue() {
             if (value instanceof ParameterValue) {
                 return (ParameterValue) value;
@@ -714,6 +766,10 @@ public class ParameterManager {
         }
 
         public void bind(Query q) {
+            bind(q, false);
+        }
+
+        public void bind(Query q, boolean padCollection) {
             if (valueSet) {
                 if (value instanceof ParameterValue) {
                     if (name == null) {
@@ -722,10 +778,14 @@ public class ParameterManager {
                         ((ParameterValue) value).bind(q, name);
                     }
                 } else {
+                    Object boundValue = value;
+                    if (padCollection && value instanceof Collection<?>) {
+                        boundValue = padValues((Collection<?>) value);
+                    }
                     if (name == null) {
-                        q.setParameter(position, value);
+                        q.setParameter(position, boundValue);
                     } else {
-                        q.setParameter(name, value);
+                        q.setParameter(name, boundValue);
                     }
                 }
             }
@@ -886,9 +946,9 @@ public class ParameterManager {
         private final ValuesParameterBinder binder;
         private Collection<Object> value;
 
-        public ValuesParameterWrapper(Class<?> type, String[][] parameterNames, AttributeAccessor<Object, Object>[] pathExpressions) {
+        public ValuesParameterWrapper(Class<?> type, int valueCount, String[][] parameterNames, AttributeAccessor<Object, Object>[] pathExpressions, ArrayParameterSupport arrayParameterSupport, Class<?>[] arrayElementTypes) {
             this.type = type;
-            this.binder = new ValuesParameterBinder(parameterNames, pathExpressions);
+            this.binder = new ValuesParameterBinder(valueCount, parameterNames, pathExpressions, arrayParameterSupport, arrayElementTypes);
         }
 
         private ValuesParameterWrapper(Class<?> type, ValuesParameterBinder binder) {
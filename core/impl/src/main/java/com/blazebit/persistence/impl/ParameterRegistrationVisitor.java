@@ -6,8 +6,12 @@
 package com.blazebit.persistence.impl;
 
 import com.blazebit.persistence.parser.expression.ArrayExpression;
+import com.blazebit.persistence.parser.expression.Expression;
 import com.blazebit.persistence.parser.expression.ParameterExpression;
 import com.blazebit.persistence.parser.expression.VisitorAdapter;
+import com.blazebit.persistence.parser.predicate.InPredicate;
+
+import java.util.List;
 
 /**
  *
@@ -41,6 +45,16 @@ public class ParameterRegistrationVisitor extends VisitorAdapter {
         }
     }
 
+    @Override
+    public void visit(InPredicate predicate) {
+        super.visit(predicate);
+        List<Expression> right = predicate.getRight();
+        // Only a collection valued parameter that is the sole IN item may be padded by repeating elements
+        if (right.size() == 1 && right.get(0) instanceof ParameterExpression && ((ParameterExpression) right.get(0)).isCollectionValued()) {
+            parameterManager.getParameter(((ParameterExpression) right.get(0)).getName()).setUsedInInPredicate(true);
+        }
+    }
+
     @Override
     public void visit(ArrayExpression expression) {
         expression.getBase().accept(this);
@@ -22,6 +22,8 @@ public interface QueryConfiguration {
 
     public String getExpressionCacheClass();
 
+    public Integer getExpressionCacheMaxSize();
+
     public boolean isCountTransformationEnabled();
 
     public boolean isImplicitGroupByFromSelectEnabled();
@@ -32,6 +34,10 @@ public interface QueryConfiguration {
 
     public boolean isValuesClauseFilterNullsEnabled();
 
+    public boolean isValuesClauseArrayBindingEnabled();
+
+    public boolean isParameterListPaddingEnabled();
+
     public boolean isParameterAsLiteralRenderingEnabled();
 
     public boolean isOptimizedKeysetPredicateRenderingEnabled();
@@ -55,4 +61,6 @@ public interface QueryConfiguration {
     public boolean isCacheable();
 
     public boolean isQueryPlanCacheEnabled();
+
+    public int getQueryPlanCacheMaxSize();
 }
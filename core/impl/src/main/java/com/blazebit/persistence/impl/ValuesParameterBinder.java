@@ -5,9 +5,11 @@
 
 package com.blazebit.persistence.impl;
 
+import com.blazebit.persistence.spi.ArrayParameterSupport;
 import com.blazebit.persistence.spi.AttributeAccessor;
 
 import javax.persistence.Query;
+import java.lang.reflect.Array;
 import java.util.Collection;
 import java.util.Iterator;
 
@@ -18,15 +20,25 @@ import java.util.Iterator;
  */
 public class ValuesParameterBinder {
 
+    private final int valueCount;
     private final String[][] parameterNames;
     private final AttributeAccessor<Object, Object>[] pathExpressions;
+    private final ArrayParameterSupport arrayParameterSupport;
+    private final Class<?>[] arrayElementTypes;
 
-    public ValuesParameterBinder(String[][] parameterNames, AttributeAccessor<Object, Object>[] pathExpressions) {
+    public ValuesParameterBinder(int valueCount, String[][] parameterNames, AttributeAccessor<Object, Object>[] pathExpressions, ArrayParameterSupport arrayParameterSupport, Class<?>[] arrayElementTypes) {
+        this.valueCount = valueCount;
         this.parameterNames = parameterNames;
         this.pathExpressions = pathExpressions;
+        this.arrayParameterSupport = arrayParameterSupport;
+        this.arrayElementTypes = arrayElementTypes;
     }
 
     public void bind(Query query, Collection<Object> value) {
+        if (arrayElementTypes != null) {
+            bindArrays(query, value);
+            return;
+        }
         Iterator<Object> iterator = value.iterator();
         for (int i = 0; i < parameterNames.length; i++) {
             Object element;
@@ -46,6 +58,31 @@ public class ValuesParameterBinder {
         }
     }
 
+    private void bindArrays(Query query, Collection<Object> value) {
+        // There is no need for padding as the SQL is independent of the amount of values
+        String[] arrayParameterNames = parameterNames[0];
+        Object[][] arrays = new Object[arrayParameterNames.length][];
+        for (int j = 0; j < arrayParameterNames.length; j++) {
+            arrays[j] = (Object[]) Array.newInstance(arrayElementTypes[j], value.size());
+        }
+        int i = 0;
+        for (Object element : value) {
+            if (element != null) {
+                for (int j = 0; j < arrayParameterNames.length; j++) {
+                    if (pathExpressions[j] == null) {
+                        arrays[j][i] = element;
+                    } else {
+                        arrays[j][i] = pathExpressions[j].getNullSafe(element);
+                    }
+                }
+            }
+            i++;
+        }
+        for (int j = 0; j < arrayParameterNames.length; j++) {
+            arrayParameterSupport.setArrayParameter(query, arrayParameterNames[j], arrays[j]);
+        }
+    }
+
     public String[][] getParameterNames() {
         return parameterNames;
     }
@@ -55,6 +92,6 @@ public class ValuesParameterBinder {
     }
 
     public int size() {
-        return parameterNames.length;
+        return valueCount;
     }
 }
@@ -5,6 +5,7 @@
 
 package com.blazebit.persistence.impl.builder.object;
 
+import com.blazebit.persistence.GroupingObjectBuilder;
 import com.blazebit.persistence.ObjectBuilder;
 import com.blazebit.persistence.SelectBuilder;
 
@@ -15,7 +16,7 @@ import java.util.List;
  * @author Christian Beikov
  * @since 1.0.0
  */
-public class CountExtractionObjectBuilder<T> implements ObjectBuilder<T> {
+public class CountExtractionObjectBuilder<T> implements GroupingObjectBuilder<T> {
 
     private final ObjectBuilder<T> delegate;
     private long count = -1;
@@ -48,4 +49,24 @@ public class CountExtractionObjectBuilder<T> implements ObjectBuilder<T> {
         delegate.applySelects(queryBuilder);
     }
 
+    @Override
+    public boolean isGrouping() {
+        return delegate instanceof GroupingObjectBuilder<?> && ((GroupingObjectBuilder<?>) delegate).isGrouping();
+    }
+
+    @Override
+    public Object getGroupKey(Object tuple) {
+        if (delegate instanceof GroupingObjectBuilder<?>) {
+            return ((GroupingObjectBuilder<?>) delegate).getGroupKey(tuple);
+        }
+        return null;
+    }
+
+    @Override
+    public int getGroupBatchSize() {
+        if (delegate instanceof GroupingObjectBuilder<?>) {
+            return ((GroupingObjectBuilder<?>) delegate).getGroupBatchSize();
+        }
+        return 1;
+    }
 }
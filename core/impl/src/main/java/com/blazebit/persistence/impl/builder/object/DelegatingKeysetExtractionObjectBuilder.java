@@ -5,6 +5,7 @@
 
 package com.blazebit.persistence.impl.builder.object;
 
+import com.blazebit.persistence.GroupingObjectBuilder;
 import com.blazebit.persistence.ObjectBuilder;
 import com.blazebit.persistence.SelectBuilder;
 import com.blazebit.persistence.impl.keyset.KeysetMode;
@@ -16,7 +17,7 @@ import java.util.List;
  * @author Christian Beikov
  * @since 1.0.0
  */
-public class DelegatingKeysetExtractionObjectBuilder<T> extends KeysetExtractionObjectBuilder<T> {
+public class DelegatingKeysetExtractionObjectBuilder<T> extends KeysetExtractionObjectBuilder<T> implements GroupingObjectBuilder<T> {
 
     private final ObjectBuilder<T> objectBuilder;
 
@@ -40,4 +41,24 @@ public class DelegatingKeysetExtractionObjectBuilder<T> extends KeysetExtraction
         objectBuilder.applySelects(selectBuilder);
     }
 
+    @Override
+    public boolean isGrouping() {
+        return objectBuilder instanceof GroupingObjectBuilder<?> && ((GroupingObjectBuilder<?>) objectBuilder).isGrouping();
+    }
+
+    @Override
+    public Object getGroupKey(Object tuple) {
+        if (objectBuilder instanceof GroupingObjectBuilder<?>) {
+            return ((GroupingObjectBuilder<?>) objectBuilder).getGroupKey(tuple);
+        }
+        return null;
+    }
+
+    @Override
+    public int getGroupBatchSize() {
+        if (objectBuilder instanceof GroupingObjectBuilder<?>) {
+            return ((GroupingObjectBuilder<?>) objectBuilder).getGroupBatchSize();
+        }
+        return 1;
+    }
 }
@@ -57,6 +57,17 @@ public class KeysetExtractionObjectBuilder<T> implements ObjectBuilder<T> {
         this.keysetSuffix = suffix;
     }
 
+    public void reset() {
+        if (keysets != null) {
+            keysets.clear();
+        }
+        first = null;
+        last = null;
+        highest = null;
+        size = 0;
+        count = -1;
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public T build(Object[] tuple) {
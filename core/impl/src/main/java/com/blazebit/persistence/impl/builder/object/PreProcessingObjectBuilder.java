@@ -5,6 +5,7 @@
 
 package com.blazebit.persistence.impl.builder.object;
 
+import com.blazebit.persistence.GroupingObjectBuilder;
 import com.blazebit.persistence.ObjectBuilder;
 import com.blazebit.persistence.SelectBuilder;
 
@@ -15,7 +16,7 @@ import java.util.List;
  * @author Christian Beikov
  * @since 1.5.0
  */
-public class PreProcessingObjectBuilder<T> implements ObjectBuilder<T> {
+public class PreProcessingObjectBuilder<T> implements GroupingObjectBuilder<T> {
 
     private final ObjectBuilder<Object[]> preProcessor;
     private final ObjectBuilder<T> objectBuilder;
@@ -39,4 +40,25 @@ public class PreProcessingObjectBuilder<T> implements ObjectBuilder<T> {
     public List<T> buildList(List<T> list) {
         return objectBuilder.buildList(list);
     }
+
+    @Override
+    public boolean isGrouping() {
+        return objectBuilder instanceof GroupingObjectBuilder<?> && ((GroupingObjectBuilder<?>) objectBuilder).isGrouping();
+    }
+
+    @Override
+    public Object getGroupKey(Object tuple) {
+        if (objectBuilder instanceof GroupingObjectBuilder<?>) {
+            return ((GroupingObjectBuilder<?>) objectBuilder).getGroupKey(tuple);
+        }
+        return null;
+    }
+
+    @Override
+    public int getGroupBatchSize() {
+        if (objectBuilder instanceof GroupingObjectBuilder<?>) {
+            return ((GroupingObjectBuilder<?>) objectBuilder).getGroupBatchSize();
+        }
+        return 1;
+    }
 }
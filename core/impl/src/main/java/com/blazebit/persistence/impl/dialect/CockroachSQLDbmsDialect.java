@@ -22,6 +22,12 @@ public class CockroachSQLDbmsDialect extends PostgreSQLDbmsDialect {
         super(childSqlTypes);
     }
 
+    @Override
+    public boolean supportsArrayMultiset() {
+        // CockroachDB does not support multidimensional arrays
+        return false;
+    }
+
     @Override
     public void appendOrderByElement(StringBuilder sqlSb, OrderByElement element, String[] aliases) {
         if (!element.isNullable()) {
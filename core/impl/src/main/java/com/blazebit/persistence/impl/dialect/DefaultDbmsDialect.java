@@ -514,6 +514,21 @@ public class DefaultDbmsDialect implements DbmsDialect {
         return ValuesStrategy.VALUES;
     }
 
+    @Override
+    public boolean supportsArrayValues() {
+        return false;
+    }
+
+    @Override
+    public boolean supportsArrayMultiset() {
+        return false;
+    }
+
+    @Override
+    public void appendArrayValues(StringBuilder sqlSb, String[] columnTypes) {
+        throw new UnsupportedOperationException("Binding the VALUES clause through array parameters is not supported by the DBMS!");
+    }
+
     @Override
     public boolean needsUniqueSelectItemNamesAlsoWhenTableColumnAliasing() {
         return false;
@@ -96,6 +96,21 @@ public class H2DbmsDialect extends DefaultDbmsDialect {
         return ValuesStrategy.SELECT_VALUES;
     }
 
+    @Override
+    public boolean supportsArrayValues() {
+        return true;
+    }
+
+    @Override
+    public void appendArrayValues(StringBuilder sqlSb, String[] columnTypes) {
+        // The columns produced by unnest are named C1, C2, ... just like for the SELECT_VALUES strategy
+        sqlSb.append("unnest(");
+        for (int i = 0; i < columnTypes.length; i++) {
+            sqlSb.append("cast(? as ").append(columnTypes[i]).append(" array),");
+        }
+        sqlSb.setCharAt(sqlSb.length() - 1, ')');
+    }
+
     @Override
     public boolean needsUniqueSelectItemNamesAlsoWhenTableColumnAliasing() {
         return true;
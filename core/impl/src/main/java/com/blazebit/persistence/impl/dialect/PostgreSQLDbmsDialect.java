@@ -88,6 +88,25 @@ public class PostgreSQLDbmsDialect extends DefaultDbmsDialect {
         return true;
     }
 
+    @Override
+    public boolean supportsArrayValues() {
+        return true;
+    }
+
+    @Override
+    public boolean supportsArrayMultiset() {
+        return true;
+    }
+
+    @Override
+    public void appendArrayValues(StringBuilder sqlSb, String[] columnTypes) {
+        sqlSb.append("unnest(");
+        for (int i = 0; i < columnTypes.length; i++) {
+            sqlSb.append("cast(? as ").append(columnTypes[i]).append("[]),");
+        }
+        sqlSb.setCharAt(sqlSb.length() - 1, ')');
+    }
+
     @Override
     protected boolean needsSetOperationWrapper() {
         return false;
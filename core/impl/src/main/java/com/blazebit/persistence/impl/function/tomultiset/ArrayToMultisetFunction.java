@@ -0,0 +1,118 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.impl.function.tomultiset;
+
+import com.blazebit.persistence.impl.SubqueryInternalBuilder;
+import com.blazebit.persistence.impl.util.SqlUtils;
+import com.blazebit.persistence.parser.ArrayParser;
+import com.blazebit.persistence.parser.expression.Subquery;
+import com.blazebit.persistence.parser.expression.SubqueryExpression;
+import com.blazebit.persistence.spi.FunctionRenderContext;
+import com.blazebit.persistence.spi.JpqlFunction;
+import com.blazebit.persistence.spi.JpqlFunctionProcessor;
+
+import java.util.List;
+
+/**
+ * Encodes a multiset as two dimensional text array, one inner array per row, for DBMS that support that.
+ * Compared to the JSON encoding, this avoids building a JSON object with keys per row and the result is cheaper to parse.
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+public class ArrayToMultisetFunction implements JpqlFunction, JpqlFunctionProcessor<CharSequence> {
+
+    private static final String START_CHUNK = "(select array_agg(array[";
+
+    @Override
+    public boolean hasArguments() {
+        return true;
+    }
+
+    @Override
+    public boolean hasParenthesesIfNoArguments() {
+        return true;
+    }
+
+    @Override
+    public Class<?> getReturnType(Class<?> firstArgumentType) {
+        return String.class;
+    }
+
+    @Override
+    public Object process(CharSequence result, List<Object> arguments) {
+        if (result == null) {
+            return null;
+        }
+        SubqueryExpression subqueryExpression = (SubqueryExpression) arguments.get(0);
+        Subquery subquery = subqueryExpression.getSubquery();
+        if (subquery instanceof SubqueryInternalBuilder<?>) {
+            return ArrayParser.parseStringOnly(result, ((SubqueryInternalBuilder<?>) subquery).getSelectExpressions().size());
+        } else {
+            throw new IllegalArgumentException("Can't handle: " + subquery);
+        }
+    }
+
+    @Override
+    public void render(FunctionRenderContext context) {
+        if (context.getArgumentsSize() != 1) {
+            throw new RuntimeException("The to_multiset function needs exactly one argument <subquery>! args=" + context);
+        }
+
+        String subquery = context.getArgument(0);
+        int fromIndex = SqlUtils.indexOfFrom(subquery, 1);
+        String[] selectItemExpressions = SqlUtils.getSelectItemExpressions(subquery, SqlUtils.SELECT_FINDER.indexIn(subquery, 1));
+        context.addChunk(START_CHUNK);
+
+        int orderByIndex = SqlUtils.indexOfOrderBy(subquery, fromIndex);
+        if (orderByIndex == -1) {
+            renderArrayElements(context, selectItemExpressions);
+            context.addChunk("]) ");
+            context.addChunk(subquery.substring(fromIndex));
+        } else {
+            int limitIndex = SqlUtils.indexOfLimit(subquery, orderByIndex);
+            if (limitIndex == -1) {
+                // Order the aggregated rows through the aggregate, as the order of the input rows is not guaranteed to be preserved
+                renderArrayElements(context, selectItemExpressions);
+                context.addChunk("] ");
+                context.addChunk(subquery.substring(orderByIndex));
+                context.addChunk(") ");
+                context.addChunk(subquery.substring(fromIndex, orderByIndex));
+            } else {
+                // The rows are limited, so we aggregate the rows of a derived table
+                String[] fields = new String[selectItemExpressions.length];
+                for (int i = 0; i < fields.length; i++) {
+                    fields[i] = "f" + i;
+                }
+                renderArrayElements(context, fields);
+                context.addChunk("]) from (select ");
+                for (int i = 0; i < fields.length; i++) {
+                    if (i != 0) {
+                        context.addChunk(",");
+                    }
+                    context.addChunk(selectItemExpressions[i]);
+                    context.addChunk(" ");
+                    context.addChunk(fields[i]);
+                }
+                context.addChunk(" ");
+                context.addChunk(subquery.substring(fromIndex));
+                context.addChunk(" tmp)");
+            }
+        }
+    }
+
+    private void renderArrayElements(FunctionRenderContext context, String[] selectItemExpressions) {
+        // All elements of an array must have the same type, so we cast every element to text
+        for (int i = 0; i < selectItemExpressions.length; i++) {
+            if (i != 0) {
+                context.addChunk(",");
+            }
+            context.addChunk("cast(");
+            context.addChunk(selectItemExpressions[i]);
+            context.addChunk(" as text)");
+        }
+    }
+}
@@ -29,6 +29,7 @@ import java.util.List;
 public class KeysetManager extends AbstractKeysetBuilderEndedListener {
 
     private static final String KEY_SET_PARAMETER_NAME = "_keysetParameter";
+    private static final String KEY_SET_UPPER_BOUND_PARAMETER_NAME = "_keysetUpperBoundParameter";
 
     private final AbstractCommonQueryBuilder<?, ?, ?, ?, ?> queryBuilder;
     private final ResolvingQueryGenerator queryGenerator;
@@ -36,6 +37,8 @@ public class KeysetManager extends AbstractKeysetBuilderEndedListener {
     private final JpaProvider jpaProvider;
     private final DbmsDialect dbmsDialect;
     private List<OrderByExpression> orderByExpressions;
+    private KeysetLink upperBoundKeysetLink;
+    private String parameterNamePrefix = KEY_SET_PARAMETER_NAME;
 
     public KeysetManager(AbstractCommonQueryBuilder<?, ?, ?, ?, ?> queryBuilder, ResolvingQueryGenerator queryGenerator, ParameterManager parameterManager, JpaProvider jpaProvider, DbmsDialect dbmsDialect) {
         this.queryBuilder = queryBuilder;
@@ -49,16 +52,54 @@ public class KeysetManager extends AbstractKeysetBuilderEndedListener {
         return getKeysetLink() != null;
     }
 
+    public boolean hasUpperBound() {
+        return upperBoundKeysetLink != null;
+    }
+
+    public KeysetLink getUpperBoundKeysetLink() {
+        return upperBoundKeysetLink;
+    }
+
+    public void setUpperBoundKeysetLink(KeysetLink upperBoundKeysetLink) {
+        this.upperBoundKeysetLink = upperBoundKeysetLink;
+    }
+
     public void initialize(List<OrderByExpression> orderByExpressions) {
         this.orderByExpressions = orderByExpressions;
 
         KeysetLink keysetLink = getKeysetLink();
         // Checks if keyset fits for order by expressions
-        keysetLink.initialize(orderByExpressions);
+        if (keysetLink != null) {
+            keysetLink.initialize(orderByExpressions);
+        }
+        if (upperBoundKeysetLink != null) {
+            upperBoundKeysetLink.initialize(orderByExpressions);
+        }
     }
 
     public void buildOptimizedKeysetPredicate(StringBuilder sb, int positionalOffset) {
-        KeysetLink keysetLink = getKeysetLink();
+        buildOptimizedKeysetPredicate(sb, getKeysetLink(), positionalOffset);
+    }
+
+    public void buildKeysetPredicate(StringBuilder sb, int positionalOffset) {
+        buildKeysetPredicate(sb, getKeysetLink(), positionalOffset);
+    }
+
+    public void buildUpperBoundKeysetPredicate(StringBuilder sb, int positionalOffset, boolean optimized) {
+        // The upper bound uses separate parameters so that it can be combined with the keyset predicate
+        parameterNamePrefix = KEY_SET_UPPER_BOUND_PARAMETER_NAME;
+        try {
+            if (optimized) {
+                buildOptimizedKeysetPredicate(sb, upperBoundKeysetLink, positionalOffset);
+            } else {
+                buildKeysetPredicate(sb, upperBoundKeysetLink, positionalOffset);
+            }
+        } finally {
+            parameterNamePrefix = KEY_SET_PARAMETER_NAME;
+        }
+    }
+
+    private void buildOptimizedKeysetPredicate(StringBuilder sb, KeysetLink keysetLink, int positionalOffset) {
         KeysetMode keysetMode = keysetLink.getKeysetMode();
         Keyset keyset = keysetLink.getKeyset();
         Serializable[] key = keyset.getTuple();
@@ -139,8 +180,7 @@ public class KeysetManager extends AbstractKeysetBuilderEndedListener {
         }
     }
 
-    public void buildKeysetPredicate(StringBuilder sb, int positionalOffset) {
-        KeysetLink keysetLink = getKeysetLink();
+    private void buildKeysetPredicate(StringBuilder sb, KeysetLink keysetLink, int positionalOffset) {
         KeysetMode keysetMode = keysetLink.getKeysetMode();
         Keyset keyset = keysetLink.getKeyset();
         Serializable[] key = keyset.getTuple();
@@ -387,16 +427,25 @@ public class KeysetManager extends AbstractKeysetBuilderEndedListener {
     }
 
     private void applyKeysetParameter(StringBuilder sb, int position, Serializable keyElement, int positionalOffset) {
+        String parameterName = getParameterName(parameterNamePrefix, position, positionalOffset);
         if (positionalOffset > -1) {
             sb.append('?');
-            String parameterName = Integer.toString(position + positionalOffset);
-            sb.append(parameterName);
-            parameterManager.addParameterMapping(parameterName, keyElement, ClauseType.WHERE, queryBuilder);
         } else {
             sb.append(":");
-            String parameterName = new StringBuilder(KEY_SET_PARAMETER_NAME).append('_').append(position).toString();
-            sb.append(parameterName);
-            parameterManager.addParameterMapping(parameterName, keyElement, ClauseType.WHERE, queryBuilder);
+        }
+        sb.append(parameterName);
+        parameterManager.addParameterMapping(parameterName, keyElement, ClauseType.WHERE, queryBuilder);
+    }
+
+    public static String getKeysetParameterName(int position, int positionalOffset) {
+        return getParameterName(KEY_SET_PARAMETER_NAME, position, positionalOffset);
+    }
+
+    private static String getParameterName(String prefix, int position, int positionalOffset) {
+        if (positionalOffset > -1) {
+            return Integer.toString(position + positionalOffset);
+        } else {
+            return new StringBuilder(prefix).append('_').append(position).toString();
         }
     }
 
@@ -0,0 +1,197 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.impl.plan;
+
+import com.blazebit.persistence.impl.query.EntityFunctionNode;
+import com.blazebit.persistence.parser.util.BoundedCache;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A bounded cache for the SQL derivation artifacts of queries that are executed through a custom SQL query specification.
+ * The cache is keyed by the structure of a query i.e. the internal JPQL representation and the query configuration,
+ * but never by parameter values, so that builders which produce the same query shape can skip the SQL derivation.
+ * The JPQL is still rendered for every builder, as it is needed for creating the JPA query from which the SQL is derived.
+ * Only the main query of non-paginated select builders is cached, count, id and object queries of paginated builders,
+ * set operations and modification queries always go through the SQL derivation.
+ * Queries with CTEs, lateral joins or late inlined subqueries are never cached, because the JPQL of the base query
+ * does not represent their full structure.
+ *
+ * When the maximum size is reached, the least recently used entries are evicted first.
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+public class QueryPlanCache {
+
+    private final BoundedCache<Key, CachedQueryPlan> cache;
+
+    public QueryPlanCache(int maximumSize) {
+        this.cache = new BoundedCache<>(maximumSize);
+    }
+
+    public CachedQueryPlan get(Key key) {
+        return cache.get(key);
+    }
+
+    public CachedQueryPlan putIfAbsent(Key key, CachedQueryPlan plan) {
+        CachedQueryPlan oldPlan = cache.putIfAbsent(key, plan);
+        return oldPlan == null ? plan : oldPlan;
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    public int getMaximumSize() {
+        return cache.getMaximumSize();
+    }
+
+    public int getSize() {
+        return cache.getSize();
+    }
+
+    public long getHitCount() {
+        return cache.getHitCount();
+    }
+
+    public long getMissCount() {
+        return cache.getMissCount();
+    }
+
+    public long getEvictionCount() {
+        return cache.getEvictionCount();
+    }
+
+    /**
+     * The structural key of a query. The hash code is computed once, as keys are created for every query execution.
+     * Apart from the JPQL, the SQL derivation depends on the query configuration e.g. on the VALUES clause rendering options,
+     * so the configuration is part of the key.
+     *
+     * @author Christian Beikov
+     * @since 1.6.15
+     */
+    public static final class Key {
+
+        private final String queryString;
+        private final String limit;
+        private final String offset;
+        private final Object configuration;
+        private final int hash;
+
+        /**
+         * Creates a key for the given query structure.
+         *
+         * @param queryString The JPQL of the base query
+         * @param limit The limit that is rendered into the SQL or <code>null</code>
+         * @param offset The offset that is rendered into the SQL or <code>null</code>
+         * @param configuration The query configuration of the factory, or the properties of a query configuration that was changed for a builder
+         */
+        public Key(String queryString, String limit, String offset, Object configuration) {
+            this.queryString = queryString;
+            this.limit = limit;
+            this.offset = offset;
+            this.configuration = configuration;
+            int result = queryString.hashCode();
+            result = 31 * result + (limit != null ? limit.hashCode() : 0);
+            result = 31 * result + (offset != null ? offset.hashCode() : 0);
+            result = 31 * result + configuration.hashCode();
+            this.hash = result;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+
+            Key key = (Key) o;
+            return hash == key.hash
+                    && queryString.equals(key.queryString)
+                    && (limit != null ? limit.equals(key.limit) : key.limit == null)
+                    && (offset != null ? offset.equals(key.offset) : key.offset == null)
+                    && configuration.equals(key.configuration);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * The cached SQL derivation artifacts of a query shape.
+     * Since the final SQL depends on the sizes of collection valued parameters, it is cached per size combination.
+     *
+     * @author Christian Beikov
+     * @since 1.6.15
+     */
+    public static final class CachedQueryPlan {
+
+        private static final int MAX_SQL_VARIANTS = 32;
+
+        private final List<String> keyRestrictedLeftJoinAliases;
+        private final List<EntityFunctionNode> entityFunctionNodes;
+        private final ConcurrentMap<String, CachedSql> sqlVariants;
+
+        public CachedQueryPlan(List<String> keyRestrictedLeftJoinAliases, List<EntityFunctionNode> entityFunctionNodes) {
+            this.keyRestrictedLeftJoinAliases = Collections.unmodifiableList(keyRestrictedLeftJoinAliases);
+            this.entityFunctionNodes = Collections.unmodifiableList(entityFunctionNodes);
+            this.sqlVariants = new ConcurrentHashMap<>(4);
+        }
+
+        public List<String> getKeyRestrictedLeftJoinAliases() {
+            return keyRestrictedLeftJoinAliases;
+        }
+
+        public List<EntityFunctionNode> getEntityFunctionNodes() {
+            return entityFunctionNodes;
+        }
+
+        public CachedSql getSql(String listParameterSizes) {
+            return sqlVariants.get(listParameterSizes);
+        }
+
+        public void putSql(String listParameterSizes, String sql, Map<String, String> addedCtes) {
+            // Collection parameters with many distinct sizes would otherwise make this grow without bound
+            if (sqlVariants.size() < MAX_SQL_VARIANTS) {
+                sqlVariants.putIfAbsent(listParameterSizes, new CachedSql(sql, addedCtes));
+            }
+        }
+    }
+
+    /**
+     * The final SQL for a specific combination of collection valued parameter sizes.
+     *
+     * @author Christian Beikov
+     * @since 1.6.15
+     */
+    public static final class CachedSql {
+
+        private final String sql;
+        private final Map<String, String> addedCtes;
+
+        CachedSql(String sql, Map<String, String> addedCtes) {
+            this.sql = sql;
+            this.addedCtes = addedCtes;
+        }
+
+        public String getSql() {
+            return sql;
+        }
+
+        public Map<String, String> getAddedCtes() {
+            return addedCtes;
+        }
+    }
+}
@@ -9,6 +9,7 @@ import com.blazebit.persistence.impl.AbstractCommonQueryBuilder;
 import com.blazebit.persistence.impl.function.entity.EntityFunction;
 import com.blazebit.persistence.impl.plan.CustomSelectQueryPlan;
 import com.blazebit.persistence.impl.plan.ModificationQueryPlan;
+import com.blazebit.persistence.impl.plan.QueryPlanCache;
 import com.blazebit.persistence.impl.plan.SelectQueryPlan;
 import com.blazebit.persistence.impl.util.SqlUtils;
 import com.blazebit.persistence.spi.DbmsDialect;
@@ -58,6 +59,7 @@ public class CustomQuerySpecification<T> implements QuerySpecification<T> {
     protected final boolean queryPlanCacheEnabled;
     protected final Query countWrapperExampleQuery;
     protected final String countPrefix;
+    protected final QueryPlanCache.CachedQueryPlan cachedQueryPlan;
 
     protected boolean dirty;
     protected String sql;
@@ -67,6 +69,12 @@ public class CustomQuerySpecification<T> implements QuerySpecification<T> {
     public CustomQuerySpecification(AbstractCommonQueryBuilder<?, ?, ?, ?, ?> commonQueryBuilder, Query baseQuery, Collection<? extends Parameter<?>> parameters, Set<String> listParameters, String limit, String offset,
                                     List<String> keyRestrictedLeftJoinAliases, List<EntityFunctionNode> entityFunctionNodes, boolean recursive, List<CTENode> ctes, boolean shouldRenderCtes,
                                     boolean queryPlanCacheEnabled, Query countWrapperExampleQuery) {
+        this(commonQueryBuilder, baseQuery, parameters, listParameters, limit, offset, keyRestrictedLeftJoinAliases, entityFunctionNodes, recursive, ctes, shouldRenderCtes, queryPlanCacheEnabled, countWrapperExampleQuery, null);
+    }
+
+    public CustomQuerySpecification(AbstractCommonQueryBuilder<?, ?, ?, ?, ?> commonQueryBuilder, Query baseQuery, Collection<? extends Parameter<?>> parameters, Set<String> listParameters, String limit, String offset,
+                                    List<String> keyRestrictedLeftJoinAliases, List<EntityFunctionNode> entityFunctionNodes, boolean recursive, List<CTENode> ctes, boolean shouldRenderCtes,
+                                    boolean queryPlanCacheEnabled, Query countWrapperExampleQuery, QueryPlanCache.CachedQueryPlan cachedQueryPlan) {
         this.em = commonQueryBuilder.getEntityManager();
         this.dbmsDialect = commonQueryBuilder.getService(DbmsDialect.class);
         this.serviceProvider = commonQueryBuilder;
@@ -90,6 +98,7 @@ public class CustomQuerySpecification<T> implements QuerySpecification<T> {
         this.dirty = true;
         this.queryPlanCacheEnabled = queryPlanCacheEnabled;
         this.countWrapperExampleQuery = countWrapperExampleQuery;
+        this.cachedQueryPlan = cachedQueryPlan;
         if (countWrapperExampleQuery == null) {
             this.countPrefix = null;
         } else {
@@ -159,6 +168,21 @@ public class CustomQuerySpecification<T> implements QuerySpecification<T> {
             baseQuery.setParameter(entry.getKey(), entry.getValue());
         }
 
+        String listParameterSizes = null;
+        // A cached plan is only ever passed when no CTEs are involved, so the base query is the only participating query
+        if (cachedQueryPlan != null) {
+            listParameterSizes = getListParameterSizes();
+            QueryPlanCache.CachedSql cachedSql = cachedQueryPlan.getSql(listParameterSizes);
+            if (cachedSql != null) {
+                participatingQueries.add(baseQuery);
+                this.sql = cachedSql.getSql();
+                this.participatingQueries = participatingQueries;
+                this.addedCtes = cachedSql.getAddedCtes();
+                this.dirty = false;
+                return;
+            }
+        }
+
         String sqlQuery = extendedQuerySupport.getSql(em, baseQuery);
         StringBuilder sqlSb = applySqlTransformations(sqlQuery);
         StringBuilder withClause = applyCtes(sqlSb, baseQuery, participatingQueries);
@@ -174,6 +198,21 @@ public class CustomQuerySpecification<T> implements QuerySpecification<T> {
         this.participatingQueries = participatingQueries;
         this.addedCtes = addedCtes;
         this.dirty = false;
+
+        if (cachedQueryPlan != null) {
+            cachedQueryPlan.putSql(listParameterSizes, sql, addedCtes);
+        }
+    }
+
+    private String getListParameterSizes() {
+        if (listParameters.isEmpty()) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(listParameters.size() * 20);
+        for (Map.Entry<String, Collection<?>> entry : listParameters.entrySet()) {
+            sb.append(entry.getKey()).append('=').append(entry.getValue().size()).append(',');
+        }
+        return sb.toString();
     }
 
     protected Map<String, String> applyExtendedSql(StringBuilder sqlSb, boolean isSubquery, boolean isEmbedded, StringBuilder withClause, String dmlAffectedTable, String[] returningColumns, Map<DbmsModificationState, String> includedModificationStates) {
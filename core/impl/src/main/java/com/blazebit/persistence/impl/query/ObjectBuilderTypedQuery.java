@@ -5,13 +5,21 @@
 
 package com.blazebit.persistence.impl.query;
 
+import com.blazebit.persistence.GroupingObjectBuilder;
 import com.blazebit.persistence.ObjectBuilder;
 
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import javax.persistence.NoResultException;
 import javax.persistence.NonUniqueResultException;
@@ -33,6 +41,10 @@ public class ObjectBuilderTypedQuery<X> extends TypedQueryWrapper<X> {
         this.builder = builder;
     }
 
+    public ObjectBuilder<X> getObjectBuilder() {
+        return builder;
+    }
+
     @Override
     public X getSingleResult() {
         List<X> list = getResultList();
@@ -66,8 +78,18 @@ public class ObjectBuilderTypedQuery<X> extends TypedQueryWrapper<X> {
         return builder.buildList(newList);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
     public Stream<X> getResultStream() {
         final Stream<X> resultStream = super.getResultStream();
+        if (builder instanceof GroupingObjectBuilder<?>) {
+            return StreamSupport.stream(new GroupingSpliterator<>(resultStream.iterator(), (GroupingObjectBuilder<X>) builder), false).onClose(new Runnable() {
+                @Override
+                public void run() {
+                    resultStream.close();
+                }
+            });
+        }
         return resultStream.map(new Function<X, X>() {
             @Override
             public X apply(X tuple) {
@@ -91,4 +113,86 @@ public class ObjectBuilderTypedQuery<X> extends TypedQueryWrapper<X> {
         });
     }
 
+    /**
+     * Builds objects from consecutive tuples of the same group, so that only the tuples of a batch of groups have to be kept in memory.
+     * The groups are buffered up to the group batch size of the object builder, so that e.g. batched correlations can load the data
+     * for all objects of a batch with one query rather than one query per object.
+     *
+     * @author Christian Beikov
+     * @since 1.6.15
+     */
+    private static class GroupingSpliterator<X> extends Spliterators.AbstractSpliterator<X> {
+
+        private final Iterator<X> iterator;
+        private final GroupingObjectBuilder<X> builder;
+        private final int groupBatchSize;
+        private final List<X> group = new ArrayList<>();
+        private final List<X> results = new ArrayList<>();
+        private final Set<Object> completedGroupKeys = new HashSet<>();
+        private int resultIndex;
+        private Object groupKey;
+        private int groupCount;
+
+        public GroupingSpliterator(Iterator<X> iterator, GroupingObjectBuilder<X> builder) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED);
+            this.iterator = iterator;
+            this.builder = builder;
+            this.groupBatchSize = Math.max(1, builder.getGroupBatchSize());
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super X> action) {
+            while (resultIndex == results.size()) {
+                results.clear();
+                resultIndex = 0;
+                if (!iterator.hasNext()) {
+                    if (group.isEmpty()) {
+                        return false;
+                    }
+                    flush();
+                    continue;
+                }
+                X tuple = iterator.next();
+                Object[] array;
+                if (tuple instanceof Object[]) {
+                    array = (Object[]) tuple;
+                } else {
+                    array = new Object[]{tuple};
+                }
+                X result = builder.build(array);
+                Object key = builder.getGroupKey(result);
+                if (key == null) {
+                    if (result == array) {
+                        throw new UnsupportedOperationException("Object builder is not streaming capable: " + builder);
+                    }
+                    results.add(result);
+                } else {
+                    // The results must be ordered such that tuples of a group are consecutive, so a new key means the previous group is complete
+                    if (groupKey != null && !groupKey.equals(key)) {
+                        completedGroupKeys.add(groupKey);
+                        // The builder verifies the order by items up front, but we also detect interleaved groups within a batch
+                        if (completedGroupKeys.contains(key)) {
+                            throw new IllegalStateException("The tuples of the group " + key + " are not consecutive! Consider ordering by the entity identifier!");
+                        }
+                        if (++groupCount == groupBatchSize) {
+                            flush();
+                        }
+                    }
+                    groupKey = key;
+                    group.add(result);
+                }
+            }
+            action.accept(results.get(resultIndex++));
+            return true;
+        }
+
+        private void flush() {
+            results.addAll(builder.buildList(new ArrayList<>(group)));
+            group.clear();
+            completedGroupKeys.clear();
+            groupKey = null;
+            groupCount = 0;
+        }
+    }
+
 }
@@ -0,0 +1,45 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.impl;
+
+import com.blazebit.persistence.ConfigurationProperties;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+public class ImmutableQueryConfigurationTest {
+
+    @Test
+    public void testExpressionCacheMaxSize() {
+        ImmutableQueryConfiguration configuration = new ImmutableQueryConfiguration(Collections.singletonMap(ConfigurationProperties.EXPRESSION_CACHE_MAX_SIZE, "1"));
+        assertEquals(Integer.valueOf(1), configuration.getExpressionCacheMaxSize());
+    }
+
+    @Test
+    public void testExpressionCacheMaxSizeMustBePositive() {
+        try {
+            new ImmutableQueryConfiguration(Collections.singletonMap(ConfigurationProperties.EXPRESSION_CACHE_MAX_SIZE, "0"));
+            fail("Expected invalid expression cache size to be rejected");
+        } catch (IllegalArgumentException ex) {
+            assertTrue(ex.getMessage().contains(ConfigurationProperties.EXPRESSION_CACHE_MAX_SIZE));
+        }
+    }
+
+    @Test
+    public void testQueryPlanCacheMaxSizeMayBeZero() {
+        ImmutableQueryConfiguration configuration = new ImmutableQueryConfiguration(Collections.singletonMap(ConfigurationProperties.QUERY_PLAN_CACHE_MAX_SIZE, "0"));
+        assertEquals(0, configuration.getQueryPlanCacheMaxSize());
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.impl.query;
+
+import com.blazebit.persistence.GroupingObjectBuilder;
+import com.blazebit.persistence.SelectBuilder;
+import org.junit.Test;
+
+import javax.persistence.TypedQuery;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+public class ObjectBuilderTypedQueryTest {
+
+    @Test
+    public void testStreamGroupsConsecutiveTuples() {
+        ObjectBuilderTypedQuery<Object> query = query(2, new Object[]{ 1L, "a" }, new Object[]{ 1L, "b" }, new Object[]{ 2L, "c" }, new Object[]{ 3L, "d" });
+        List<Object> result;
+        try (Stream<Object> stream = query.getResultStream()) {
+            result = stream.collect(Collectors.toList());
+        }
+        assertEquals(Arrays.<Object>asList("1=[a, b]", "2=[c]", "3=[d]"), result);
+    }
+
+    @Test
+    public void testStreamRejectsInterleavedTuples() {
+        ObjectBuilderTypedQuery<Object> query = query(3, new Object[]{ 1L, "a" }, new Object[]{ 2L, "b" }, new Object[]{ 1L, "c" });
+        try (Stream<Object> stream = query.getResultStream()) {
+            stream.collect(Collectors.toList());
+            fail("Expected interleaved tuples to be rejected");
+        } catch (IllegalStateException ex) {
+            assertTrue(ex.getMessage().contains("not consecutive"));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ObjectBuilderTypedQuery<Object> query(int groupBatchSize, final Object[]... tuples) {
+        TypedQuery<Object> delegate = (TypedQuery<Object>) Proxy.newProxyInstance(ObjectBuilderTypedQueryTest.class.getClassLoader(), new Class<?>[]{ TypedQuery.class }, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                if ("getResultStream".equals(method.getName())) {
+                    return Stream.of((Object[]) tuples);
+                }
+                throw new UnsupportedOperationException(method.getName());
+            }
+        });
+        return new ObjectBuilderTypedQuery<>(delegate, null, new IdGroupingObjectBuilder(groupBatchSize));
+    }
+
+    /**
+     * Reduces the tuples of an id to a string of the id and the values of the tuples.
+     *
+     * @author Christian Beikov
+     * @since 1.6.15
+     */
+    private static class IdGroupingObjectBuilder implements GroupingObjectBuilder<Object> {
+
+        private final int groupBatchSize;
+
+        public IdGroupingObjectBuilder(int groupBatchSize) {
+            this.groupBatchSize = groupBatchSize;
+        }
+
+        @Override
+        public <X extends SelectBuilder<X>> void applySelects(X selectBuilder) {
+        }
+
+        @Override
+        public Object build(Object[] tuple) {
+            return tuple;
+        }
+
+        @Override
+        public List<Object> buildList(List<Object> list) {
+            List<Object> result = new ArrayList<>();
+            Object id = null;
+            List<Object> values = new ArrayList<>();
+            for (Object tuple : list) {
+                Object[] array = (Object[]) tuple;
+                if (id != null && !id.equals(array[0])) {
+                    result.add(id + "=" + values);
+                    values = new ArrayList<>();
+                }
+                id = array[0];
+                values.add(array[1]);
+            }
+            if (id != null) {
+                result.add(id + "=" + values);
+            }
+            return result;
+        }
+
+        @Override
+        public boolean isGrouping() {
+            return true;
+        }
+
+        @Override
+        public Object getGroupKey(Object tuple) {
+            return ((Object[]) tuple)[0];
+        }
+
+        @Override
+        public int getGroupBatchSize() {
+            return groupBatchSize;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This is a specialized parser for the textual representation of two dimensional text arrays as produced by PostgreSQL
+ * for the array based multiset encoding in Blaze-Persistence.
+ * Every element of the outer array is a row and every element of the inner arrays is a field value.
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+public final class ArrayParser {
+
+    private ArrayParser() {
+    }
+
+    public static List<Object[]> parseStringOnly(CharSequence array, int fieldCount) {
+        List<Object[]> list = new ArrayList<>();
+        if (array == null || array.length() == 0) {
+            return list;
+        }
+        int i = 0;
+        // Skip the dimension decoration which is only rendered for arrays with a lower bound other than 1
+        if (array.charAt(0) == '[') {
+            i = CharSequenceUtils.indexOf(array, '=', 0) + 1;
+        }
+        i = expect(array, i, '{');
+        if (array.charAt(i) == '}') {
+            return list;
+        }
+        while (true) {
+            i = expect(array, i, '{');
+            Object[] object = new Object[fieldCount];
+            int fieldIndex = 0;
+            while (true) {
+                if (fieldIndex == fieldCount) {
+                    throw new IllegalArgumentException("Expected only " + fieldCount + " fields but found more at: " + i);
+                }
+                char c = array.charAt(i);
+                if (c == '"') {
+                    // Only escaped strings are decoded into a string builder, other strings are referenced as sub-sequence of the array
+                    StringBuilder sb = null;
+                    int quoteStart = ++i;
+                    for (; (c = array.charAt(i)) != '"'; i++) {
+                        if (c == '\\') {
+                            if (sb == null) {
+                                sb = new StringBuilder(i - quoteStart + 16);
+                                sb.append(array, quoteStart, i);
+                            }
+                            sb.append(array.charAt(++i));
+                        } else if (sb != null) {
+                            sb.append(c);
+                        }
+                    }
+                    object[fieldIndex] = sb == null ? new SubSequence(array, quoteStart, i) : sb.toString();
+                    i++;
+                } else {
+                    int valueStart = i;
+                    while (c != ',' && c != '}') {
+                        c = array.charAt(++i);
+                    }
+                    // Only the SQL NULL is rendered as unquoted NULL, a string with the same content is quoted
+                    if (!isNull(array, valueStart, i)) {
+                        object[fieldIndex] = new SubSequence(array, valueStart, i);
+                    }
+                }
+                fieldIndex++;
+                c = array.charAt(i++);
+                if (c == '}') {
+                    break;
+                } else if (c != ',') {
+                    throw new IllegalArgumentException("Expected ',' or '}' but found '" + c + "' at: " + (i - 1));
+                }
+            }
+            if (fieldIndex != fieldCount) {
+                throw new IllegalArgumentException("Expected " + fieldCount + " fields but found " + fieldIndex + " before: " + i);
+            }
+            list.add(object);
+            char c = array.charAt(i++);
+            if (c == '}') {
+                break;
+            } else if (c != ',') {
+                throw new IllegalArgumentException("Expected ',' or '}' but found '" + c + "' at: " + (i - 1));
+            }
+        }
+        return list;
+    }
+
+    private static boolean isNull(CharSequence array, int start, int end) {
+        return end - start == 4
+            && array.charAt(start) == 'N'
+            && array.charAt(start + 1) == 'U'
+            && array.charAt(start + 2) == 'L'
+            && array.charAt(start + 3) == 'L';
+    }
+
+    private static int expect(CharSequence array, int i, char expected) {
+        char c = array.charAt(i);
+        if (c != expected) {
+            throw new IllegalArgumentException("Expected '" + expected + "' but found '" + c + "' at: " + i);
+        }
+        return i + 1;
+    }
+}
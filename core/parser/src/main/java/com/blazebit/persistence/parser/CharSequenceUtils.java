@@ -85,4 +85,74 @@ public final class CharSequenceUtils {
         }
     }
 
+    /**
+     * Parses the character sequence as signed decimal integer like {@link Integer#parseInt(String)}
+     * without copying the characters into a string first.
+     *
+     * @param charSequence The character sequence to parse
+     * @return The integer value
+     * @since 1.6.15
+     */
+    public static int parseInt(CharSequence charSequence) {
+        int length = charSequence.length();
+        // Up to 9 digits can't overflow, longer values and invalid input are handled by Integer.parseInt
+        if (length == 0 || length > 10) {
+            return Integer.parseInt(charSequence.toString());
+        }
+        int i = 0;
+        boolean negative = false;
+        char first = charSequence.charAt(0);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            i = 1;
+        }
+        if (length == i || length - i > 9) {
+            return Integer.parseInt(charSequence.toString());
+        }
+        int result = 0;
+        for (; i < length; i++) {
+            int digit = charSequence.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return Integer.parseInt(charSequence.toString());
+            }
+            result = result * 10 + digit;
+        }
+        return negative ? -result : result;
+    }
+
+    /**
+     * Parses the character sequence as signed decimal long like {@link Long#parseLong(String)}
+     * without copying the characters into a string first.
+     *
+     * @param charSequence The character sequence to parse
+     * @return The long value
+     * @since 1.6.15
+     */
+    public static long parseLong(CharSequence charSequence) {
+        int length = charSequence.length();
+        // Up to 18 digits can't overflow, longer values and invalid input are handled by Long.parseLong
+        if (length == 0 || length > 19) {
+            return Long.parseLong(charSequence.toString());
+        }
+        int i = 0;
+        boolean negative = false;
+        char first = charSequence.charAt(0);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            i = 1;
+        }
+        if (length == i || length - i > 18) {
+            return Long.parseLong(charSequence.toString());
+        }
+        long result = 0;
+        for (; i < length; i++) {
+            int digit = charSequence.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return Long.parseLong(charSequence.toString());
+            }
+            result = result * 10 + digit;
+        }
+        return negative ? -result : result;
+    }
+
 }
@@ -6,9 +6,7 @@
 package com.blazebit.persistence.parser;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 /**
  * This is a specialized parser for the JSON structure that will be produced by the JSON functions in Blaze-Persistence.
@@ -24,19 +22,17 @@ public final class JsonParser {
 
     public static List<Object[]> parseStringOnly(CharSequence json, String... fields) {
         List<Object[]> list = new ArrayList<>();
-        StringBuilder sb = new StringBuilder();
         if (json != null && json.length() != 0) {
-            Map<String, Integer> fieldMap = new HashMap<>(fields.length);
-            for (int i = 0; i < fields.length; i++) {
-                fieldMap.put(fields[i], i);
-            }
-
+            // Only escaped strings are decoded into the string builder, other strings are referenced as sub-sequence of the JSON
+            StringBuilder sb = null;
             int start = CharSequenceUtils.indexOf(json, '[') + 1;
             int end = CharSequenceUtils.lastIndexOf(json, ']');
             for (int i = start; i < end; i++) {
                 Object[] object = new Object[fields.length];
                 boolean quoteMode = false;
+                int quoteStart = -1;
                 int fieldIndex = -1;
+                int lastFieldIndex = -1;
                 boolean escapes = false;
                 i = CharSequenceUtils.indexOf(json, '{', i) + 1;
                 for (; i < end; i++) {
@@ -44,6 +40,7 @@ public final class JsonParser {
                     if (!quoteMode) {
                         if (c == '"') {
                             quoteMode = true;
+                            quoteStart = i + 1;
                         } else if (c == '}') {
                             break;
                         } else if (c != ':' && c != ',' && !Character.isWhitespace(c)) {
@@ -53,7 +50,6 @@ public final class JsonParser {
                                     object[fieldIndex] = null;
                                     i += 3;
                                     fieldIndex = -1;
-                                    escapes = false;
                                     break;
                                 case '[':
                                     // Nested object handling
@@ -68,7 +64,13 @@ public final class JsonParser {
                         }
                     } else {
                         if (c == '\\') {
-                            escapes = true;
+                            if (!escapes) {
+                                escapes = true;
+                                if (sb == null) {
+                                    sb = new StringBuilder();
+                                }
+                                sb.append(json, quoteStart, i);
+                            }
                             c = json.charAt(++i);
                             switch (c) {
                                 case 'b':
@@ -87,7 +89,7 @@ public final class JsonParser {
                                     c = '\t';
                                     break;
                                 case 'u':
-                                    c = (char) Integer.parseInt(json.subSequence(i + 1, i + 5).toString(), 16);
+                                    c = parseUnicodeEscape(json, i + 1);
                                     i += 4;
                                     break;
                                 case '"':
@@ -100,19 +102,26 @@ public final class JsonParser {
                             sb.append(c);
                         } else if (c == '"') {
                             if (fieldIndex == -1) {
-                                fieldIndex = fieldMap.get(sb.toString());
+                                if (escapes) {
+                                    fieldIndex = findField(fields, sb, 0, sb.length(), lastFieldIndex + 1);
+                                } else {
+                                    fieldIndex = findField(fields, json, quoteStart, i, lastFieldIndex + 1);
+                                }
+                                lastFieldIndex = fieldIndex;
                             } else {
                                 if (escapes) {
                                     object[fieldIndex] = sb.toString();
                                 } else {
-                                    object[fieldIndex] = new SubSequence(json, i - sb.length(), i);
+                                    object[fieldIndex] = new SubSequence(json, quoteStart, i);
                                 }
                                 fieldIndex = -1;
+                            }
+                            if (escapes) {
+                                sb.setLength(0);
                                 escapes = false;
                             }
-                            sb.setLength(0);
                             quoteMode = false;
-                        } else {
+                        } else if (escapes) {
                             sb.append(c);
                         }
                     }
@@ -123,6 +132,44 @@ public final class JsonParser {
         return list;
     }
 
+    private static int findField(String[] fields, CharSequence json, int start, int end, int expectedIndex) {
+        // The fields are usually rendered in the order of the field names, so try the next field first
+        if (expectedIndex < fields.length && regionMatches(fields[expectedIndex], json, start, end)) {
+            return expectedIndex;
+        }
+        for (int i = 0; i < fields.length; i++) {
+            if (regionMatches(fields[i], json, start, end)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Unknown field '" + json.subSequence(start, end) + "' found at: " + start);
+    }
+
+    private static boolean regionMatches(String field, CharSequence json, int start, int end) {
+        int length = end - start;
+        if (field.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (field.charAt(i) != json.charAt(start + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static char parseUnicodeEscape(CharSequence json, int start) {
+        int value = 0;
+        for (int i = start; i < start + 4; i++) {
+            int digit = Character.digit(json.charAt(i), 16);
+            if (digit == -1) {
+                throw new IllegalStateException("Invalid unicode escape sequence at position: " + start);
+            }
+            value = (value << 4) | digit;
+        }
+        return (char) value;
+    }
+
     private static int findEnd(CharSequence json, int i) {
         int arrayLevel = 1;
         int end = json.length();
@@ -67,12 +67,34 @@ public abstract class AbstractCachingExpressionFactory extends AbstractExpressio
         }
     };
 
+    private static final String PATH_EXPRESSION_CACHE = "com.blazebit.persistence.parser.expression.cache.PathExpression";
+    private static final String SIMPLE_EXPRESSION_CACHE = "com.blazebit.persistence.parser.expression.cache.SimpleExpression";
+    private static final String IN_ITEM_EXPRESSION_CACHE = "com.blazebit.persistence.parser.expression.cache.InPredicateExpression";
+    private static final String IN_ITEM_OR_PATH_EXPRESSION_CACHE = "com.blazebit.persistence.parser.expression.cache.InPredicateSingleExpression";
+    private static final String BOOLEAN_EXPRESSION_CACHE = "com.blazebit.persistence.parser.expression.cache.PredicateExpression";
+
     private final ExpressionFactory delegate;
-    private final ExpressionCache<ExpressionCacheEntry> expressionCache;
+    private final ExpressionCache.Region<ExpressionCacheEntry> pathExpressionCache;
+    private final ExpressionCache.Region<ExpressionCacheEntry> simpleExpressionCache;
+    private final ExpressionCache.Region<ExpressionCacheEntry> inItemExpressionCache;
+    private final ExpressionCache.Region<ExpressionCacheEntry> inItemOrPathExpressionCache;
+    private final ExpressionCache.Region<ExpressionCacheEntry> booleanExpressionCache;
 
     public AbstractCachingExpressionFactory(ExpressionFactory delegate, ExpressionCache expressionCache) {
         this.delegate = delegate;
-        this.expressionCache = expressionCache;
+        // Resolve the cache regions once, so that lookups don't have to go through the cache name
+        this.pathExpressionCache = getRegion(expressionCache, PATH_EXPRESSION_CACHE);
+        this.simpleExpressionCache = getRegion(expressionCache, SIMPLE_EXPRESSION_CACHE);
+        this.inItemExpressionCache = getRegion(expressionCache, IN_ITEM_EXPRESSION_CACHE);
+        this.inItemOrPathExpressionCache = getRegion(expressionCache, IN_ITEM_OR_PATH_EXPRESSION_CACHE);
+        this.booleanExpressionCache = getRegion(expressionCache, BOOLEAN_EXPRESSION_CACHE);
+    }
+
+    private static ExpressionCache.Region<ExpressionCacheEntry> getRegion(ExpressionCache<ExpressionCacheEntry> expressionCache, String cacheName) {
+        if (expressionCache instanceof ExpressionCache.RegionAware<?>) {
+            return ((ExpressionCache.RegionAware<ExpressionCacheEntry>) expressionCache).getRegion(cacheName);
+        }
+        return new CacheNameRegion<>(expressionCache, cacheName);
     }
 
     @Override
@@ -90,12 +112,12 @@ public abstract class AbstractCachingExpressionFactory extends AbstractExpressio
 
     @Override
     public Expression createPathExpression(final String expression, final MacroConfiguration macroConfiguration, Set<String> usedMacros) {
-        return getOrDefault("com.blazebit.persistence.parser.expression.cache.PathExpression", delegate, expression, false, false, false, macroConfiguration, PATH_EXPRESSION_SUPPLIER);
+        return getOrDefault(pathExpressionCache, delegate, expression, false, false, false, macroConfiguration, PATH_EXPRESSION_SUPPLIER);
     }
 
     @Override
     public Expression createSimpleExpression(final String expression, boolean allowOuter, final boolean allowQuantifiedPredicates, boolean allowObjectExpression, final MacroConfiguration macroConfiguration, Set<String> usedMacros) {
-        return getOrDefault("com.blazebit.persistence.parser.expression.cache.SimpleExpression", delegate, expression, allowOuter, allowQuantifiedPredicates, allowObjectExpression, macroConfiguration, SIMPLE_EXPRESSION_SUPPLIER);
+        return getOrDefault(simpleExpressionCache, delegate, expression, allowOuter, allowQuantifiedPredicates, allowObjectExpression, macroConfiguration, SIMPLE_EXPRESSION_SUPPLIER);
     }
 
     @Override
@@ -122,22 +144,23 @@ public abstract class AbstractCachingExpressionFactory extends AbstractExpressio
 
     @Override
     public Expression createInItemExpression(final String parameterOrLiteralExpression, final MacroConfiguration macroConfiguration, Set<String> usedMacros) {
-        return getOrDefault("com.blazebit.persistence.parser.expression.cache.InPredicateExpression", delegate, parameterOrLiteralExpression, false, false, false, macroConfiguration, IN_ITEM_EXPRESSION_SUPPLIER);
+        return getOrDefault(inItemExpressionCache, delegate, parameterOrLiteralExpression, false, false, false, macroConfiguration, IN_ITEM_EXPRESSION_SUPPLIER);
     }
 
     @Override
     public Expression createInItemOrPathExpression(final String parameterOrLiteralExpression, final MacroConfiguration macroConfiguration, Set<String> usedMacros) {
-        return getOrDefault("com.blazebit.persistence.parser.expression.cache.InPredicateSingleExpression", delegate, parameterOrLiteralExpression, false, false, false, macroConfiguration, IN_ITEM_OR_PATH_EXPRESSION_SUPPLIER);
+        return getOrDefault(inItemOrPathExpressionCache, delegate, parameterOrLiteralExpression, false, false, false, macroConfiguration, IN_ITEM_OR_PATH_EXPRESSION_SUPPLIER);
     }
 
     @Override
     public Predicate createBooleanExpression(final String expression, final boolean allowQuantifiedPredicates, final MacroConfiguration macroConfiguration, Set<String> usedMacros) {
-        return getOrDefault("com.blazebit.persistence.parser.expression.cache.PredicateExpression", delegate, expression, false, allowQuantifiedPredicates, false, macroConfiguration, BOOLEAN_EXPRESSION_SUPPLIER);
+        return getOrDefault(booleanExpressionCache, delegate, expression, false, allowQuantifiedPredicates, false, macroConfiguration, BOOLEAN_EXPRESSION_SUPPLIER);
     }
 
-    private <E extends Expression> E getOrDefault(String cacheName, ExpressionFactory expressionFactory, String expression, boolean allowOuter, boolean allowQuantifiedPredicates, boolean allowObjectExpression, MacroConfiguration macroConfiguration, ExpressionSupplier defaultExpressionSupplier) {
+    private <E extends Expression> E getOrDefault(ExpressionCache.Region<ExpressionCacheEntry> cache, ExpressionFactory expressionFactory, String expression, boolean allowOuter, boolean allowQuantifiedPredicates, boolean allowObjectExpression, MacroConfiguration macroConfiguration, ExpressionSupplier defaultExpressionSupplier) {
         // Find the expression cache entry
-        ExpressionCacheEntry exprEntry = expressionCache.get(cacheName, new ExpressionCache.Key(expression, allowOuter, allowQuantifiedPredicates, allowObjectExpression));
+        int flags = ExpressionCache.Key.flags(allowOuter, allowQuantifiedPredicates, allowObjectExpression);
+        ExpressionCacheEntry exprEntry = cache.get(expression, flags);
         MacroConfiguration macroKey = null;
         Expression expr;
 
@@ -157,7 +180,7 @@ public abstract class AbstractCachingExpressionFactory extends AbstractExpressio
                 exprEntry.addMacroConfigurationExpression(macroKey, expr);
             }
 
-            expressionCache.putIfAbsent(cacheName, new ExpressionCache.Key(expression, allowOuter, allowQuantifiedPredicates, allowObjectExpression), exprEntry);
+            cache.putIfAbsent(expression, flags, exprEntry);
             return (E) expr.copy(ExpressionCopyContext.EMPTY);
         }
 
@@ -189,6 +212,32 @@ public abstract class AbstractCachingExpressionFactory extends AbstractExpressio
         return (E) expr.copy(ExpressionCopyContext.EMPTY);
     }
 
+    /**
+     * Adapter for expression caches that don't support regions.
+     *
+     * @author Christian Beikov
+     * @since 1.6.15
+     */
+    private static final class CacheNameRegion<T> implements ExpressionCache.Region<T> {
+        private final ExpressionCache<T> expressionCache;
+        private final String cacheName;
+
+        public CacheNameRegion(ExpressionCache<T> expressionCache, String cacheName) {
+            this.expressionCache = expressionCache;
+            this.cacheName = cacheName;
+        }
+
+        @Override
+        public T get(String expression, int flags) {
+            return expressionCache.get(cacheName, new ExpressionCache.Key(expression, flags));
+        }
+
+        @Override
+        public T putIfAbsent(String expression, int flags, T value) {
+            return expressionCache.putIfAbsent(cacheName, new ExpressionCache.Key(expression, flags), value);
+        }
+    }
+
     /**
      *
      * @author Christian Beikov
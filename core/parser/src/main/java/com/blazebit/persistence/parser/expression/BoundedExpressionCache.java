@@ -0,0 +1,233 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.parser.expression;
+
+import com.blazebit.persistence.parser.util.BoundedCache;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * An expression cache that holds at most a configurable number of entries per cache name.
+ *
+ * Every cache is a {@link BoundedCache} with frequency based admission, so that a burst of one-off expressions
+ * does not flush frequently used ones.
+ *
+ * @param <T> The cached value type
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+public class BoundedExpressionCache<T> implements ExpressionCache.RegionAware<T> {
+
+    /**
+     * The default maximum number of entries per cache name.
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 10000;
+
+    private final int maximumSize;
+    private final ConcurrentMap<String, BoundedRegion<T>> caches;
+
+    public BoundedExpressionCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    public BoundedExpressionCache(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Invalid maximum size for expression cache: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.caches = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public T get(String cacheName, Key key) {
+        // Create the cache already for the lookup so that the first miss is recorded
+        return getCache(cacheName).get(key);
+    }
+
+    @Override
+    public T putIfAbsent(String cacheName, Key key, T value) {
+        return getCache(cacheName).putIfAbsent(key, value);
+    }
+
+    @Override
+    public Region<T> getRegion(String cacheName) {
+        return getCache(cacheName);
+    }
+
+    private BoundedRegion<T> getCache(String cacheName) {
+        BoundedRegion<T> cache = caches.get(cacheName);
+
+        if (cache == null) {
+            cache = new BoundedRegion<>(maximumSize);
+            BoundedRegion<T> oldCache = caches.putIfAbsent(cacheName, cache);
+
+            if (oldCache != null) {
+                cache = oldCache;
+            }
+        }
+
+        return cache;
+    }
+
+    /**
+     * Returns the maximum number of entries per cache name.
+     *
+     * @return the maximum number of entries per cache name
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Returns the names of the caches that have been used so far.
+     *
+     * @return the cache names
+     */
+    public Set<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    /**
+     * Returns a snapshot of the statistics of the cache with the given name, or <code>null</code> if the cache wasn't used yet.
+     *
+     * @param cacheName The cache name
+     * @return the statistics or <code>null</code>
+     */
+    public Statistics getStatistics(String cacheName) {
+        BoundedRegion<T> cache = caches.get(cacheName);
+        return cache == null ? null : cache.getStatistics(maximumSize);
+    }
+
+    /**
+     * Removes all entries and resets the statistics of all caches.
+     */
+    public void clear() {
+        // Clear the caches in place, as caching expression factories hold on to the regions
+        for (BoundedRegion<T> cache : caches.values()) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * A snapshot of the statistics of a single cache.
+     *
+     * @author Christian Beikov
+     * @since 1.6.15
+     */
+    public static final class Statistics {
+
+        private final long hitCount;
+        private final long missCount;
+        private final long evictionCount;
+        private final long rejectionCount;
+        private final int size;
+        private final int maximumSize;
+
+        Statistics(long hitCount, long missCount, long evictionCount, long rejectionCount, int size, int maximumSize) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.evictionCount = evictionCount;
+            this.rejectionCount = rejectionCount;
+            this.size = size;
+            this.maximumSize = maximumSize;
+        }
+
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        public long getMissCount() {
+            return missCount;
+        }
+
+        /**
+         * Returns the number of entries that were removed due to the size bound.
+         *
+         * @return the eviction count
+         */
+        public long getEvictionCount() {
+            return evictionCount;
+        }
+
+        /**
+         * Returns the number of entries that were not admitted, because they were accessed less often than the eviction candidate.
+         *
+         * @return the rejection count
+         */
+        public long getRejectionCount() {
+            return rejectionCount;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        public int getMaximumSize() {
+            return maximumSize;
+        }
+
+        public double getHitRate() {
+            long requestCount = hitCount + missCount;
+            return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+        }
+
+        @Override
+        public String toString() {
+            return "Statistics{" +
+                    "hitCount=" + hitCount +
+                    ", missCount=" + missCount +
+                    ", evictionCount=" + evictionCount +
+                    ", rejectionCount=" + rejectionCount +
+                    ", size=" + size +
+                    ", maximumSize=" + maximumSize +
+                    '}';
+        }
+    }
+
+    /**
+     * @author Christian Beikov
+     * @since 1.6.15
+     */
+    private static final class BoundedRegion<T> implements Region<T> {
+
+        private final BoundedCache<Key, T> cache;
+
+        BoundedRegion(int maximumSize) {
+            this.cache = new BoundedCache<>(maximumSize, true);
+        }
+
+        @Override
+        public T get(String expression, int flags) {
+            return cache.get(new Key(expression, flags));
+        }
+
+        @Override
+        public T putIfAbsent(String expression, int flags, T value) {
+            return putIfAbsent(new Key(expression, flags), value);
+        }
+
+        T get(Key key) {
+            return cache.get(key);
+        }
+
+        T putIfAbsent(Key key, T value) {
+            // The value is returned even if it wasn't admitted, as callers use the result
+            T oldValue = cache.putIfAbsent(key, value);
+            return oldValue == null ? value : oldValue;
+        }
+
+        Statistics getStatistics(int maximumSize) {
+            return new Statistics(cache.getHitCount(), cache.getMissCount(), cache.getEvictionCount(), cache.getRejectionCount(), cache.getSize(), maximumSize);
+        }
+
+        void clear() {
+            cache.clear();
+        }
+    }
+}
@@ -7,15 +7,16 @@ package com.blazebit.persistence.parser.expression;
 
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  *
  * @author Christian Beikov
  * @since 1.2.0
  */
-public class ConcurrentHashMapExpressionCache<T> implements ExpressionCache<T> {
+public class ConcurrentHashMapExpressionCache<T> implements ExpressionCache.RegionAware<T> {
 
-    private final ConcurrentMap<String, ConcurrentMap<Key, T>> cacheManager;
+    private final ConcurrentMap<String, ConcurrentHashMapRegion<T>> cacheManager;
 
     public ConcurrentHashMapExpressionCache() {
         this.cacheManager = new ConcurrentHashMap<>();
@@ -23,29 +24,67 @@ public class ConcurrentHashMapExpressionCache<T> implements ExpressionCache<T> {
 
     @Override
     public T get(String cacheName, Key key) {
-        final ConcurrentMap<Key, T> cache = cacheManager.get(cacheName);
-        return cache == null ? null : cache.get(key);
+        final ConcurrentHashMapRegion<T> cache = cacheManager.get(cacheName);
+        return cache == null ? null : cache.get(key.getExpression(), key.getFlags());
     }
 
     @Override
     public T putIfAbsent(String cacheName, Key key, T value) {
+        return getRegion(cacheName).putIfAbsent(key.getExpression(), key.getFlags(), value);
+    }
+
+    @Override
+    public Region<T> getRegion(String cacheName) {
         // Find the cache manager
-        ConcurrentMap<Key, T> cache = cacheManager.get(cacheName);
+        ConcurrentHashMapRegion<T> cache = cacheManager.get(cacheName);
 
         if (cache == null) {
-            cache = new ConcurrentHashMap<>();
-            ConcurrentMap<Key, T> oldCache = cacheManager.putIfAbsent(cacheName, cache);
+            cache = new ConcurrentHashMapRegion<>();
+            ConcurrentHashMapRegion<T> oldCache = cacheManager.putIfAbsent(cacheName, cache);
 
             if (oldCache != null) {
                 cache = oldCache;
             }
         }
 
-        T oldValue = cache.putIfAbsent(key, value);
-        if (oldValue != null) {
-            return oldValue;
+        return cache;
+    }
+
+    /**
+     * Entries are keyed by the expression string, whose hash code is cached by the string itself,
+     * and the values for the different flag combinations are kept in a small array, so that a lookup doesn't allocate.
+     *
+     * @author Christian Beikov
+     * @since 1.6.15
+     */
+    private static final class ConcurrentHashMapRegion<T> implements Region<T> {
+
+        private final ConcurrentMap<String, AtomicReferenceArray<T>> cache = new ConcurrentHashMap<>();
+
+        @Override
+        public T get(String expression, int flags) {
+            AtomicReferenceArray<T> values = cache.get(expression);
+            return values == null ? null : values.get(flags);
         }
 
-        return value;
+        @Override
+        public T putIfAbsent(String expression, int flags, T value) {
+            AtomicReferenceArray<T> values = cache.get(expression);
+
+            if (values == null) {
+                values = new AtomicReferenceArray<>(Key.FLAG_COMBINATIONS);
+                AtomicReferenceArray<T> oldValues = cache.putIfAbsent(expression, values);
+
+                if (oldValues != null) {
+                    values = oldValues;
+                }
+            }
+
+            if (values.compareAndSet(flags, null, value)) {
+                return value;
+            }
+
+            return values.get(flags);
+        }
     }
 }
@@ -5,8 +5,6 @@
 
 package com.blazebit.persistence.parser.expression;
 
-import java.util.Objects;
-
 /**
  *
  * @author Christian Beikov
@@ -18,22 +16,108 @@ public interface ExpressionCache<T> {
 
     public T putIfAbsent(String cacheName, Key key, T value);
 
+    /**
+     * The entries of a single cache name of an expression cache. Caching expression factories resolve regions once,
+     * so that lookups don't have to resolve the cache name every time.
+     *
+     * @param <T> The cached value type
+     * @author Christian Beikov
+     * @since 1.6.15
+     */
+    interface Region<T> {
+
+        /**
+         * Returns the cached value for the given expression and flags as returned by {@link Key#flags(boolean, boolean, boolean)}.
+         *
+         * @param expression The expression string
+         * @param flags The encoded flags
+         * @return the cached value or <code>null</code>
+         */
+        public T get(String expression, int flags);
+
+        /**
+         * Caches the given value if there is no value for the given expression and flags yet.
+         *
+         * @param expression The expression string
+         * @param flags The encoded flags
+         * @param value The value to cache
+         * @return the value that is cached
+         */
+        public T putIfAbsent(String expression, int flags, T value);
+    }
+
+    /**
+     * An expression cache that can hand out {@link Region} handles.
+     * Expression caches that don't implement this interface are accessed through the cache name for every lookup.
+     *
+     * @param <T> The cached value type
+     * @author Christian Beikov
+     * @since 1.6.15
+     */
+    interface RegionAware<T> extends ExpressionCache<T> {
+
+        /**
+         * Returns the region for the given cache name, creating it if necessary.
+         *
+         * @param cacheName The cache name
+         * @return the region
+         */
+        public Region<T> getRegion(String cacheName);
+    }
+
     /**
      *
      * @author Moritz Becker
      * @since 1.4.0
      */
     class Key {
+        /**
+         * The number of distinct flag combinations.
+         *
+         * @since 1.6.15
+         */
+        public static final int FLAG_COMBINATIONS = 8;
+
         private static final byte ALLOW_OUTER_MASK = 1;
         private static final byte ALLOW_QUANTIFIED_PREDICATES_MASK = (1 << 1);
         private static final byte ALLOW_OBJECT_EXPRESSION_MASK = (1 << 2);
 
         private final String expression;
         private final byte flags;
+        private final int hash;
 
         public Key(String expression, boolean allowOuter, boolean allowQuantifiedPredicates, boolean allowObjectExpression) {
+            this(expression, flags(allowOuter, allowQuantifiedPredicates, allowObjectExpression));
+        }
+
+        /**
+         * Creates a key for flags as returned by {@link #flags(boolean, boolean, boolean)}.
+         *
+         * @param expression The expression string
+         * @param flags The encoded flags
+         * @since 1.6.15
+         */
+        public Key(String expression, int flags) {
+            if ((flags & ~(FLAG_COMBINATIONS - 1)) != 0) {
+                throw new IllegalArgumentException("Invalid flags: " + flags);
+            }
             this.expression = expression;
-            byte flags = 0;
+            this.flags = (byte) flags;
+            // Keys are created for every lookup, so compute the hash once without boxing
+            this.hash = 31 * expression.hashCode() + flags;
+        }
+
+        /**
+         * Encodes the given parse options into a value between 0 and {@link #FLAG_COMBINATIONS} (exclusive).
+         *
+         * @param allowOuter Whether OUTER is allowed
+         * @param allowQuantifiedPredicates Whether quantified predicates are allowed
+         * @param allowObjectExpression Whether object expressions are allowed
+         * @return the encoded flags
+         * @since 1.6.15
+         */
+        public static int flags(boolean allowOuter, boolean allowQuantifiedPredicates, boolean allowObjectExpression) {
+            int flags = 0;
             if (allowOuter) {
                 flags |= ALLOW_OUTER_MASK;
             }
@@ -43,7 +127,15 @@ public interface ExpressionCache<T> {
             if (allowObjectExpression) {
                 flags |= ALLOW_OBJECT_EXPRESSION_MASK;
             }
-            this.flags = flags;
+            return flags;
+        }
+
+        public String getExpression() {
+            return expression;
+        }
+
+        public int getFlags() {
+            return flags;
         }
 
         public boolean isAllowOuter() {
@@ -67,13 +159,14 @@ public interface ExpressionCache<T> {
                 return false;
             }
             Key key = (Key) o;
-            return flags == key.flags &&
+            return hash == key.hash &&
+                    flags == key.flags &&
                     expression.equals(key.expression);
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(expression, flags);
+            return hash;
         }
     }
 
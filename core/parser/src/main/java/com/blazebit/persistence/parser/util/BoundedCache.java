@@ -0,0 +1,364 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.parser.util;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A thread safe cache that holds at most a configurable number of entries and is the common base of the size bounded caches.
+ *
+ * The cache is split into lock striped segments that each maintain an access ordered LRU list, so the least recently used entry of a segment
+ * is evicted when the segment is full. Since entries are evicted through the segment that holds them, an entry that was removed and
+ * inserted again is never evicted on behalf of its previous insertion. Optionally, a frequency sketch of recent accesses decides whether
+ * a new entry is admitted in place of the least recently used one, so that a burst of one-off entries does not flush frequently used ones.
+ *
+ * @param <K> The key type
+ * @param <V> The value type
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+public final class BoundedCache<K, V> {
+
+    private static final int MAXIMUM_STRIPES = 64;
+
+    private final int maximumSize;
+    private final Stripe<K, V>[] stripes;
+    private final int mask;
+
+    /**
+     * Creates a new cache with the given maximum size that evicts the least recently used entries.
+     *
+     * @param maximumSize The maximum number of entries
+     */
+    public BoundedCache(int maximumSize) {
+        this(maximumSize, false);
+    }
+
+    /**
+     * Creates a new cache with the given maximum size.
+     *
+     * @param maximumSize The maximum number of entries
+     * @param frequencyBasedAdmission Whether new entries are only admitted if they were accessed at least as often as the eviction candidate
+     */
+    @SuppressWarnings("unchecked")
+    public BoundedCache(int maximumSize, boolean frequencyBasedAdmission) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Invalid maximum size for bounded cache: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        int stripes = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 4 - 1)) << 1;
+        // Every stripe should be able to hold a reasonable amount of entries
+        int stripeCount = Math.max(1, Math.min(Math.min(stripes, MAXIMUM_STRIPES), Integer.highestOneBit(Math.max(1, maximumSize / 16))));
+        int stripeCapacity = maximumSize / stripeCount;
+        this.stripes = new Stripe[stripeCount];
+        this.mask = stripeCount - 1;
+        for (int i = 0; i < stripeCount; i++) {
+            // Distribute the remainder so that the capacities add up to the maximum size
+            this.stripes[i] = new Stripe<>(i < maximumSize % stripeCount ? stripeCapacity + 1 : stripeCapacity, frequencyBasedAdmission);
+        }
+    }
+
+    /**
+     * Returns the cached value for the given key or <code>null</code>.
+     *
+     * @param key The key
+     * @return the cached value or <code>null</code>
+     */
+    public V get(K key) {
+        int hash = spread(key.hashCode());
+        return stripes[hash & mask].get(key, hash);
+    }
+
+    /**
+     * Caches the given value if there is no value for the given key yet.
+     * If frequency based admission is enabled, the value might not be admitted, in which case the given value itself is returned,
+     * so callers can detect a rejected admission by comparing the result with the given value by identity.
+     *
+     * @param key The key
+     * @param value The value
+     * @return the previously cached value, the given value if it was not admitted, or <code>null</code> if it was cached
+     */
+    public V putIfAbsent(K key, V value) {
+        int hash = spread(key.hashCode());
+        return stripes[hash & mask].putIfAbsent(key, value, hash);
+    }
+
+    /**
+     * Removes the entry for the given key if it is currently mapped to the given value.
+     *
+     * @param key The key
+     * @param value The expected value
+     * @return whether the entry was removed
+     */
+    public boolean remove(K key, V value) {
+        int hash = spread(key.hashCode());
+        return stripes[hash & mask].remove(key, value);
+    }
+
+    /**
+     * Removes all entries and resets the statistics.
+     */
+    public void clear() {
+        for (Stripe<K, V> stripe : stripes) {
+            stripe.lock();
+            try {
+                stripe.clear();
+            } finally {
+                stripe.unlock();
+            }
+        }
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public int getSize() {
+        int size = 0;
+        for (Stripe<K, V> stripe : stripes) {
+            stripe.lock();
+            try {
+                size += stripe.map.size();
+            } finally {
+                stripe.unlock();
+            }
+        }
+        return size;
+    }
+
+    public long getHitCount() {
+        long hitCount = 0;
+        for (Stripe<K, V> stripe : stripes) {
+            stripe.lock();
+            try {
+                hitCount += stripe.hitCount;
+            } finally {
+                stripe.unlock();
+            }
+        }
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        long missCount = 0;
+        for (Stripe<K, V> stripe : stripes) {
+            stripe.lock();
+            try {
+                missCount += stripe.missCount;
+            } finally {
+                stripe.unlock();
+            }
+        }
+        return missCount;
+    }
+
+    /**
+     * Returns the number of entries that were removed due to the size bound.
+     *
+     * @return the eviction count
+     */
+    public long getEvictionCount() {
+        long evictionCount = 0;
+        for (Stripe<K, V> stripe : stripes) {
+            stripe.lock();
+            try {
+                evictionCount += stripe.evictionCount;
+            } finally {
+                stripe.unlock();
+            }
+        }
+        return evictionCount;
+    }
+
+    /**
+     * Returns the number of entries that were not admitted by the frequency based admission.
+     *
+     * @return the rejection count
+     */
+    public long getRejectionCount() {
+        long rejectionCount = 0;
+        for (Stripe<K, V> stripe : stripes) {
+            stripe.lock();
+            try {
+                rejectionCount += stripe.rejectionCount;
+            } finally {
+                stripe.unlock();
+            }
+        }
+        return rejectionCount;
+    }
+
+    private static int spread(int hash) {
+        // Mix the bits since the stripe selection only uses the lower bits
+        hash ^= hash >>> 16;
+        hash *= 0x45d9f3b;
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * A LRU segment with an optional TinyLFU based admission policy.
+     *
+     * @author Christian Beikov
+     * @since 1.6.15
+     */
+    private static final class Stripe<K, V> extends ReentrantLock {
+
+        private final int capacity;
+        private final LinkedHashMap<K, V> map;
+        private final FrequencySketch sketch;
+        private long hitCount;
+        private long missCount;
+        private long evictionCount;
+        private long rejectionCount;
+
+        Stripe(int capacity, boolean frequencyBasedAdmission) {
+            this.capacity = capacity;
+            this.map = new LinkedHashMap<>(16, 0.75f, true);
+            this.sketch = frequencyBasedAdmission ? new FrequencySketch(capacity) : null;
+        }
+
+        V get(K key, int hash) {
+            lock();
+            try {
+                if (sketch != null) {
+                    sketch.increment(hash);
+                }
+                V value = map.get(key);
+                if (value == null) {
+                    missCount++;
+                } else {
+                    hitCount++;
+                }
+                return value;
+            } finally {
+                unlock();
+            }
+        }
+
+        V putIfAbsent(K key, V value, int hash) {
+            lock();
+            try {
+                V oldValue = map.get(key);
+                if (oldValue != null) {
+                    return oldValue;
+                }
+                if (map.size() >= capacity) {
+                    Iterator<Map.Entry<K, V>> iterator = map.entrySet().iterator();
+                    Map.Entry<K, V> victim = iterator.next();
+                    // Only admit the candidate if it was accessed at least as often as the least recently used entry
+                    if (sketch != null && sketch.frequency(hash) < sketch.frequency(spread(victim.getKey().hashCode()))) {
+                        rejectionCount++;
+                        return value;
+                    }
+                    iterator.remove();
+                    evictionCount++;
+                }
+                map.put(key, value);
+                return null;
+            } finally {
+                unlock();
+            }
+        }
+
+        boolean remove(K key, V value) {
+            lock();
+            try {
+                V currentValue = map.get(key);
+                if (currentValue != null && currentValue.equals(value)) {
+                    map.remove(key);
+                    return true;
+                }
+                return false;
+            } finally {
+                unlock();
+            }
+        }
+
+        void clear() {
+            map.clear();
+            if (sketch != null) {
+                sketch.clear();
+            }
+            hitCount = 0;
+            missCount = 0;
+            evictionCount = 0;
+            rejectionCount = 0;
+        }
+    }
+
+    /**
+     * A count-min sketch with 4 rows of saturating counters that are periodically halved to age out old accesses.
+     *
+     * @author Christian Beikov
+     * @since 1.6.15
+     */
+    private static final class FrequencySketch {
+
+        private static final int[] SEEDS = { 0x97cb3127, 0xc2b2ae35, 0x85ebca6b, 0x27d4eb2f };
+        private static final int MAXIMUM_FREQUENCY = 15;
+
+        private final byte[][] table;
+        private final int tableMask;
+        private final int sampleSize;
+        private int additions;
+
+        FrequencySketch(int capacity) {
+            // Use 4 counters per entry to keep the over estimation due to collisions low
+            int width = Integer.highestOneBit(Math.max(64, capacity * 4) - 1) << 1;
+            this.table = new byte[SEEDS.length][width];
+            this.tableMask = width - 1;
+            this.sampleSize = Math.max(10 * capacity, 160);
+        }
+
+        void increment(int hash) {
+            boolean added = false;
+            for (int i = 0; i < SEEDS.length; i++) {
+                int index = indexOf(hash, i);
+                if (table[i][index] < MAXIMUM_FREQUENCY) {
+                    table[i][index]++;
+                    added = true;
+                }
+            }
+            if (added && ++additions == sampleSize) {
+                reset();
+            }
+        }
+
+        int frequency(int hash) {
+            int frequency = MAXIMUM_FREQUENCY;
+            for (int i = 0; i < SEEDS.length; i++) {
+                frequency = Math.min(frequency, table[i][indexOf(hash, i)]);
+            }
+            return frequency;
+        }
+
+        private int indexOf(int hash, int row) {
+            int h = hash * SEEDS[row];
+            h += h >>> 16;
+            return h & tableMask;
+        }
+
+        void clear() {
+            for (byte[] row : table) {
+                Arrays.fill(row, (byte) 0);
+            }
+            additions = 0;
+        }
+
+        private void reset() {
+            for (byte[] row : table) {
+                for (int i = 0; i < row.length; i++) {
+                    row[i] = (byte) (row[i] >>> 1);
+                }
+            }
+            additions = additions >>> 1;
+        }
+    }
+}
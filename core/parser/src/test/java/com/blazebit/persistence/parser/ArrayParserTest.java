@@ -0,0 +1,81 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.parser;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+public class ArrayParserTest {
+
+    @Test
+    public void testStringOnly() {
+        List<Object[]> objects = ArrayParser.parseStringOnly("{{test,1},{abc,2}}", 2);
+        Assert.assertEquals(2, objects.size());
+        assertEquals(new Object[]{ "test", "1" }, objects.get(0));
+        assertEquals(new Object[]{ "abc", "2" }, objects.get(1));
+    }
+
+    @Test
+    public void testStringOnlySingleField() {
+        List<Object[]> objects = ArrayParser.parseStringOnly("{{test},{abc}}", 1);
+        Assert.assertEquals(2, objects.size());
+        assertEquals(new Object[]{ "test" }, objects.get(0));
+        assertEquals(new Object[]{ "abc" }, objects.get(1));
+    }
+
+    @Test
+    public void testStringOnlyQuoting() {
+        Object[] object = ArrayParser.parseStringOnly("{{\"a b\",\"\",\"x,y\",\"{z}\",\"NULL\"}}", 5).get(0);
+        assertEquals(new Object[]{ "a b", "", "x,y", "{z}", "NULL" }, object);
+        Assert.assertTrue(object[0] instanceof SubSequence);
+    }
+
+    @Test
+    public void testStringOnlyEscaping() {
+        Object[] object = ArrayParser.parseStringOnly("{{\"te\\\"st\\\\\",1}}", 2).get(0);
+        assertEquals(new Object[]{ "te\"st\\", "1" }, object);
+    }
+
+    @Test
+    public void testStringOnlyNullAndNested() {
+        Object[] object = ArrayParser.parseStringOnly("{{NULL,\"{{x,\\\"y z\\\"}}\",a}}", 3).get(0);
+        Assert.assertNull(object[0]);
+        Assert.assertEquals("{{x,\"y z\"}}", object[1].toString());
+        Assert.assertEquals("a", object[2].toString());
+        assertEquals(new Object[]{ "x", "y z" }, ArrayParser.parseStringOnly((CharSequence) object[1], 2).get(0));
+    }
+
+    @Test
+    public void testStringOnlyEmpty() {
+        Assert.assertEquals(0, ArrayParser.parseStringOnly("{}", 2).size());
+        Assert.assertEquals(0, ArrayParser.parseStringOnly("", 2).size());
+    }
+
+    @Test
+    public void testStringOnlyDimensionDecoration() {
+        assertEquals(new Object[]{ "test", "1" }, ArrayParser.parseStringOnly("[0:0][1:2]={{test,1}}", 2).get(0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testStringOnlyFieldCountMismatch() {
+        ArrayParser.parseStringOnly("{{test,1,2}}", 2);
+    }
+
+    private static void assertEquals(Object[] array1, Object[] array2) {
+        Assert.assertEquals(array1.length, array2.length);
+        for (int i = 0; i < array1.length; i++) {
+            Assert.assertEquals(String.valueOf(array1[i]), String.valueOf(array2[i]));
+        }
+    }
+
+}
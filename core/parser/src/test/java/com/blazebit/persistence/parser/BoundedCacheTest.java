@@ -0,0 +1,86 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.parser;
+
+import com.blazebit.persistence.parser.util.BoundedCache;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+public class BoundedCacheTest {
+
+    @Test
+    public void testEvictsLeastRecentlyUsed() {
+        BoundedCache<String, String> cache = new BoundedCache<>(2);
+        Assert.assertNull(cache.putIfAbsent("a", "1"));
+        Assert.assertNull(cache.putIfAbsent("b", "2"));
+        Assert.assertEquals("1", cache.get("a"));
+        Assert.assertNull(cache.putIfAbsent("c", "3"));
+
+        Assert.assertEquals("1", cache.get("a"));
+        Assert.assertNull(cache.get("b"));
+        Assert.assertEquals("3", cache.get("c"));
+        Assert.assertEquals(2, cache.getSize());
+        Assert.assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    public void testReinsertedEntryIsNotEvictedForItsPreviousInsertion() {
+        BoundedCache<String, String> cache = new BoundedCache<>(2);
+        cache.putIfAbsent("a", "1");
+        cache.putIfAbsent("b", "2");
+        Assert.assertTrue(cache.remove("a", "1"));
+        cache.putIfAbsent("a", "1");
+        cache.putIfAbsent("c", "3");
+
+        // The oldest entry is now b, so the re-inserted a must survive
+        Assert.assertEquals("1", cache.get("a"));
+        Assert.assertNull(cache.get("b"));
+        Assert.assertEquals("3", cache.get("c"));
+    }
+
+    @Test
+    public void testRemoveOnlyMatchingValue() {
+        BoundedCache<String, String> cache = new BoundedCache<>(2);
+        cache.putIfAbsent("a", "1");
+        Assert.assertEquals("1", cache.putIfAbsent("a", "2"));
+        Assert.assertFalse(cache.remove("a", "2"));
+        Assert.assertEquals("1", cache.get("a"));
+        Assert.assertTrue(cache.remove("a", "1"));
+        Assert.assertNull(cache.get("a"));
+    }
+
+    @Test
+    public void testRejectedAdmissionReturnsCandidate() {
+        BoundedCache<String, String> cache = new BoundedCache<>(1, true);
+        for (int i = 0; i < 3; i++) {
+            cache.get("a");
+        }
+        Assert.assertNull(cache.putIfAbsent("a", "1"));
+        String candidate = "2";
+        // The candidate was never accessed, so it is not admitted in place of the frequently accessed entry
+        Assert.assertSame(candidate, cache.putIfAbsent("b", candidate));
+
+        Assert.assertEquals("1", cache.get("a"));
+        Assert.assertEquals(1, cache.getSize());
+        Assert.assertEquals(0, cache.getEvictionCount());
+        Assert.assertEquals(1, cache.getRejectionCount());
+    }
+
+    @Test
+    public void testSizeIsBoundedWithManyStripes() {
+        BoundedCache<Integer, Integer> cache = new BoundedCache<>(1000);
+        for (int i = 0; i < 10000; i++) {
+            cache.putIfAbsent(i, i);
+        }
+        Assert.assertTrue(cache.getSize() <= 1000);
+        Assert.assertEquals(10000 - cache.getSize(), cache.getEvictionCount());
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.parser;
+
+import com.blazebit.persistence.parser.expression.BoundedExpressionCache;
+import com.blazebit.persistence.parser.expression.Expression;
+import com.blazebit.persistence.parser.expression.ExpressionCache;
+import com.blazebit.persistence.parser.expression.ExpressionFactory;
+import com.blazebit.persistence.parser.expression.ExpressionFactoryImpl;
+import com.blazebit.persistence.parser.expression.SimpleCachingExpressionFactory;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashMap;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+public class BoundedExpressionCacheTest {
+
+    private static final String SIMPLE_EXPRESSION_CACHE = "com.blazebit.persistence.parser.expression.cache.SimpleExpression";
+
+    @Test
+    public void testSizeIsBounded() {
+        BoundedExpressionCache<String> cache = new BoundedExpressionCache<>(64);
+        for (int i = 0; i < 1000; i++) {
+            String expression = "a.b" + i;
+            ExpressionCache.Key key = key(expression);
+            Assert.assertNull(cache.get("test", key));
+            Assert.assertEquals(expression, cache.putIfAbsent("test", key, expression));
+        }
+
+        BoundedExpressionCache.Statistics statistics = cache.getStatistics("test");
+        Assert.assertTrue(statistics.getSize() <= 64);
+        Assert.assertEquals(1000, statistics.getMissCount());
+        Assert.assertEquals(0, statistics.getHitCount());
+        // Entries that were not admitted are not counted as evictions
+        Assert.assertEquals(1000 - statistics.getSize(), statistics.getEvictionCount() + statistics.getRejectionCount());
+    }
+
+    @Test
+    public void testFrequentlyUsedEntriesSurviveScan() {
+        BoundedExpressionCache<String> cache = new BoundedExpressionCache<>(256);
+        ExpressionCache.Key hotKey = key("hot.expression");
+        cache.get("test", hotKey);
+        cache.putIfAbsent("test", hotKey, "hot");
+        for (int i = 0; i < 10; i++) {
+            Assert.assertEquals("hot", cache.get("test", hotKey));
+        }
+
+        // A scan over one-off expressions must not flush the hot entry
+        for (int i = 0; i < 10000; i++) {
+            ExpressionCache.Key key = key("cold.expression" + i);
+            cache.get("test", key);
+            cache.putIfAbsent("test", key, "cold");
+            // Pure LRU would have evicted the hot entry between these accesses
+            if (i % 500 == 0) {
+                Assert.assertEquals("hot", cache.get("test", hotKey));
+            }
+        }
+
+        Assert.assertEquals("hot", cache.get("test", hotKey));
+    }
+
+    @Test
+    public void testStatisticsPerCacheName() {
+        BoundedExpressionCache<String> cache = new BoundedExpressionCache<>();
+        ExpressionCache.Key key = key("a.b");
+        cache.putIfAbsent("first", key, "value");
+        Assert.assertEquals("value", cache.get("first", key));
+        Assert.assertNull(cache.get("second", key));
+
+        Assert.assertEquals(1, cache.getStatistics("first").getHitCount());
+        Assert.assertEquals(1, cache.getStatistics("first").getSize());
+        Assert.assertEquals(1, cache.getStatistics("second").getMissCount());
+        Assert.assertNull(cache.getStatistics("third"));
+        Assert.assertTrue(cache.getCacheNames().contains("first"));
+    }
+
+    @Test
+    public void testUsableWithCachingExpressionFactory() {
+        BoundedExpressionCache<Object> cache = new BoundedExpressionCache<>(16);
+        ExpressionFactory ef = new SimpleCachingExpressionFactory(new ExpressionFactoryImpl(new HashMap<String, FunctionKind>(), true, true), cache);
+
+        Expression expr1 = ef.createSimpleExpression("a.b + 1", false, true, false, null, null);
+        Expression expr2 = ef.createSimpleExpression("a.b + 1", false, true, false, null, null);
+
+        Assert.assertNotSame(expr1, expr2);
+        Assert.assertEquals(expr1, expr2);
+        Assert.assertEquals(1, cache.getStatistics(SIMPLE_EXPRESSION_CACHE).getHitCount());
+    }
+
+    @Test
+    public void testClearKeepsRegionsUsable() {
+        BoundedExpressionCache<Object> cache = new BoundedExpressionCache<>(16);
+        ExpressionFactory ef = new SimpleCachingExpressionFactory(new ExpressionFactoryImpl(new HashMap<String, FunctionKind>(), true, true), cache);
+        ef.createSimpleExpression("a.b + 1", false, true, false, null, null);
+        String cacheName = SIMPLE_EXPRESSION_CACHE;
+
+        cache.clear();
+        Assert.assertEquals(0, cache.getStatistics(cacheName).getSize());
+
+        ef.createSimpleExpression("a.b + 1", false, true, false, null, null);
+        ef.createSimpleExpression("a.b + 1", false, true, false, null, null);
+        Assert.assertEquals(1, cache.getStatistics(cacheName).getSize());
+        Assert.assertEquals(1, cache.getStatistics(cacheName).getHitCount());
+    }
+
+    private static ExpressionCache.Key key(String expression) {
+        return new ExpressionCache.Key(expression, false, false, false);
+    }
+}
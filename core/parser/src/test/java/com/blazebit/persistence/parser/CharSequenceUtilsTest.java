@@ -23,4 +23,33 @@ public class CharSequenceUtilsTest {
         assertEquals(6, CharSequenceUtils.lastIndexOf(new SubSequence(new SubSequence("[{x:[{y:[{z:0}]}]}]", 4, 17), 4, 11), ']'));
     }
 
+    @Test
+    public void testParseInt() {
+        assertEquals(0, CharSequenceUtils.parseInt("0"));
+        assertEquals(-123, CharSequenceUtils.parseInt("-123"));
+        assertEquals(123, CharSequenceUtils.parseInt("+123"));
+        assertEquals(Integer.MAX_VALUE, CharSequenceUtils.parseInt(String.valueOf(Integer.MAX_VALUE)));
+        assertEquals(Integer.MIN_VALUE, CharSequenceUtils.parseInt(String.valueOf(Integer.MIN_VALUE)));
+        assertEquals(42, CharSequenceUtils.parseInt(new SubSequence("[\"42\"]", 2, 4)));
+    }
+
+    @Test
+    public void testParseLong() {
+        assertEquals(0L, CharSequenceUtils.parseLong("0"));
+        assertEquals(-1234567890123L, CharSequenceUtils.parseLong("-1234567890123"));
+        assertEquals(Long.MAX_VALUE, CharSequenceUtils.parseLong(String.valueOf(Long.MAX_VALUE)));
+        assertEquals(Long.MIN_VALUE, CharSequenceUtils.parseLong(String.valueOf(Long.MIN_VALUE)));
+        assertEquals(42L, CharSequenceUtils.parseLong(new SubSequence("[\"42\"]", 2, 4)));
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testParseIntInvalid() {
+        CharSequenceUtils.parseInt("1a");
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testParseLongOverflow() {
+        CharSequenceUtils.parseLong("99999999999999999999");
+    }
+
 }
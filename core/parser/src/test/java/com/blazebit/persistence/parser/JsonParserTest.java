@@ -44,6 +44,31 @@ public class JsonParserTest {
         assertEquals(new Object[]{ "1", "test" }, JsonParser.parseStringOnly("[{\"age\": \"1\", \"name\": \"test\"}, {\"age\": \"1\", \"name\": \"test\"}]", "age", "name").get(1));
     }
 
+    @Test
+    public void testStringOnlyUnicodeEscape() {
+        assertEquals(new Object[]{ "a\u00e4b", "1" }, JsonParser.parseStringOnly("[{\"name\": \"a\\u00E4b\", \"age\": \"1\"}]", "name", "age").get(0));
+    }
+
+    @Test
+    public void testStringOnlyNullAndNested() {
+        Object[] object = JsonParser.parseStringOnly("[{\"f0\": null, \"f1\": [{\"f0\": \"x\"}], \"f2\": \"y\"}]", "f0", "f1", "f2").get(0);
+        Assert.assertNull(object[0]);
+        Assert.assertEquals("[{\"f0\": \"x\"}]", object[1].toString());
+        Assert.assertEquals("y", object[2].toString());
+    }
+
+    @Test
+    public void testStringOnlyUnescapedValuesReferenceJson() {
+        Object[] object = JsonParser.parseStringOnly("[{\"name\": \"test\", \"age\": \"t\\\"1\"}]", "name", "age").get(0);
+        Assert.assertTrue(object[0] instanceof SubSequence);
+        Assert.assertEquals("t\"1", object[1]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testStringOnlyUnknownField() {
+        JsonParser.parseStringOnly("[{\"name\": \"test\", \"unknown\": \"1\"}]", "name", "age");
+    }
+
     private static void assertEquals(Object[] array1, Object[] array2) {
         Assert.assertEquals(array1.length, array2.length);
         for (int i = 0; i < array1.length; i++) {
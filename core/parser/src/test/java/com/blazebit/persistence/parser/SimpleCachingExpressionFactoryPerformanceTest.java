@@ -5,6 +5,7 @@
 
 package com.blazebit.persistence.parser;
 
+import com.blazebit.persistence.parser.expression.BoundedExpressionCache;
 import com.blazebit.persistence.parser.expression.Expression;
 import com.blazebit.persistence.parser.expression.ExpressionFactory;
 import com.blazebit.persistence.parser.expression.ExpressionFactoryImpl;
@@ -39,6 +40,7 @@ public class SimpleCachingExpressionFactoryPerformanceTest {
     @Rule
     public TestRule benchmarkRun = new BenchmarkRule();
     private final ExpressionFactory cachingExpressionFactory = new SimpleCachingExpressionFactory(new ExpressionFactoryImpl(new HashMap<String, FunctionKind>(), true, true));
+    private final ExpressionFactory boundedCachingExpressionFactory = new SimpleCachingExpressionFactory(new ExpressionFactoryImpl(new HashMap<String, FunctionKind>(), true, true), new BoundedExpressionCache());
     private final ExpressionFactory nonCachingExpressionFactory = new ExpressionFactoryImpl(new HashMap<String, FunctionKind>(), true, true);
 
     private final MacroConfiguration tenMacros;
@@ -151,6 +153,33 @@ public class SimpleCachingExpressionFactoryPerformanceTest {
         testCreateSimpleExpressionPerformance(cachingExpressionFactory, tenMacros);
     }
 
+    @BenchmarkOptions(benchmarkRounds = 10000, warmupRounds = 5000, concurrency = 4)
+    @Test
+    public void testCreateSimpleExpressionPerformanceBoundedCaching() {
+        testCreateSimpleExpressionPerformance(boundedCachingExpressionFactory, null);
+    }
+
+    /* Cache lookup */
+
+    @BenchmarkOptions(benchmarkRounds = 10000, warmupRounds = 5000, concurrency = 4)
+    @Test
+    public void testCreatePathExpressionPerformanceCaching() {
+        testCreatePathExpressionPerformance(cachingExpressionFactory);
+    }
+
+    @BenchmarkOptions(benchmarkRounds = 10000, warmupRounds = 5000, concurrency = 4)
+    @Test
+    public void testCreatePathExpressionPerformanceBoundedCaching() {
+        testCreatePathExpressionPerformance(boundedCachingExpressionFactory);
+    }
+
+    private void testCreatePathExpressionPerformance(ExpressionFactory ef) {
+        // Short expressions are dominated by the cache lookup rather than by copying the expression
+        for (int i = 0; i < 100; i++) {
+            Assert.assertNotNull(ef.createPathExpression("a.b"));
+        }
+    }
+
     private void testCreateSimpleExpressionPerformance(ExpressionFactory ef, MacroConfiguration macroConfiguration) {
         String expressionString = "SIZE(Hello.world[:hahaha].criteria[1].api.lsls[a.b.c.d.e]) + SIZE(Hello.world[:hahaha].criteria[1].api.lsls[a.b.c.d.e])";
 
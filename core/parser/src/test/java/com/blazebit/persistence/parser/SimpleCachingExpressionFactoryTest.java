@@ -6,7 +6,9 @@
 package com.blazebit.persistence.parser;
 
 import com.blazebit.persistence.parser.expression.ArrayExpression;
+import com.blazebit.persistence.parser.expression.ConcurrentHashMapExpressionCache;
 import com.blazebit.persistence.parser.expression.Expression;
+import com.blazebit.persistence.parser.expression.ExpressionCache;
 import com.blazebit.persistence.parser.expression.ExpressionFactory;
 import com.blazebit.persistence.parser.expression.ExpressionFactoryImpl;
 import com.blazebit.persistence.parser.expression.MacroConfiguration;
@@ -22,7 +24,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  *
@@ -93,4 +97,46 @@ public class SimpleCachingExpressionFactoryTest {
         Assert.assertFalse(expr1 == expr2);
         Assert.assertEquals(expr1, expr2);
     }
+
+    @Test
+    public void testCacheWithoutRegionSupport() {
+        final ConcurrentHashMapExpressionCache<Object> delegateCache = new ConcurrentHashMapExpressionCache<>();
+        final Set<String> cacheNames = new HashSet<>();
+        // A cache that only implements the basic contract must still be usable
+        ExpressionCache<Object> cache = new ExpressionCache<Object>() {
+            @Override
+            public Object get(String cacheName, Key key) {
+                cacheNames.add(cacheName);
+                return delegateCache.get(cacheName, key);
+            }
+
+            @Override
+            public Object putIfAbsent(String cacheName, Key key, Object value) {
+                return delegateCache.putIfAbsent(cacheName, key, value);
+            }
+        };
+        ExpressionFactory ef = new SimpleCachingExpressionFactory(new ExpressionFactoryImpl(new HashMap<String, FunctionKind>(), true, true), cache);
+
+        Expression expr1 = ef.createPathExpression("a.b.c");
+        Expression expr2 = ef.createPathExpression("a.b.c");
+
+        Assert.assertFalse(expr1 == expr2);
+        Assert.assertEquals(expr1, expr2);
+        Assert.assertEquals(1, cacheNames.size());
+        Assert.assertNotNull(delegateCache.get(cacheNames.iterator().next(), new ExpressionCache.Key("a.b.c", false, false, false)));
+    }
+
+    @Test
+    public void testFlagsAreDistinguished() {
+        ConcurrentHashMapExpressionCache<String> cache = new ConcurrentHashMapExpressionCache<>();
+        ExpressionCache.Region<String> region = cache.getRegion("test");
+        int flags = ExpressionCache.Key.flags(false, true, false);
+
+        Assert.assertEquals("quantified", region.putIfAbsent("a.b", flags, "quantified"));
+        Assert.assertEquals("quantified", region.putIfAbsent("a.b", flags, "other"));
+        Assert.assertNull(region.get("a.b", ExpressionCache.Key.flags(false, false, false)));
+        Assert.assertEquals("quantified", cache.get("test", new ExpressionCache.Key("a.b", false, true, false)));
+        Assert.assertEquals(new ExpressionCache.Key("a.b", false, true, false), new ExpressionCache.Key("a.b", flags));
+        Assert.assertEquals(new ExpressionCache.Key("a.b", false, true, false).hashCode(), new ExpressionCache.Key("a.b", flags).hashCode());
+    }
 }
@@ -246,6 +246,21 @@ public class DelegatingDbmsDialect implements DbmsDialect {
         return delegate.getValuesStrategy();
     }
 
+    @Override
+    public boolean supportsArrayValues() {
+        return delegate.supportsArrayValues();
+    }
+
+    @Override
+    public boolean supportsArrayMultiset() {
+        return delegate.supportsArrayMultiset();
+    }
+
+    @Override
+    public void appendArrayValues(StringBuilder sqlSb, String[] columnTypes) {
+        delegate.appendArrayValues(sqlSb, columnTypes);
+    }
+
     @Override
     public boolean needsUniqueSelectItemNamesAlsoWhenTableColumnAliasing() {
         return delegate.needsUniqueSelectItemNamesAlsoWhenTableColumnAliasing();
@@ -9,16 +9,22 @@ import static org.junit.Assert.assertEquals;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
 
 import com.blazebit.persistence.testsuite.base.jpa.category.NoHibernate42;
 import com.blazebit.persistence.testsuite.base.jpa.category.NoHibernate43;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 
+import com.blazebit.persistence.ConfigurationProperties;
 import com.blazebit.persistence.CriteriaBuilder;
 import com.blazebit.persistence.testsuite.entity.Document;
+import com.blazebit.persistence.testsuite.entity.Person;
+import com.blazebit.persistence.testsuite.tx.TxVoidWork;
 
 /**
  *
@@ -28,6 +34,25 @@ import com.blazebit.persistence.testsuite.entity.Document;
  */
 public class InTest extends AbstractCoreTest {
 
+    @Override
+    public void setUpOnce() {
+        cleanDatabase();
+        transactional(new TxVoidWork() {
+            @Override
+            public void work(EntityManager em) {
+                Person p1 = new Person("p1");
+                Document d1 = new Document("doc1", 1);
+                Document d2 = new Document("doc2", 6);
+                d1.setOwner(p1);
+                d2.setOwner(p1);
+
+                em.persist(p1);
+                em.persist(d1);
+                em.persist(d2);
+            }
+        });
+    }
+
     @Test
     // NOTE: See https://hibernate.atlassian.net/browse/HHH-9630
     @Category({ NoHibernate42.class, NoHibernate43.class })
@@ -74,6 +99,49 @@ public class InTest extends AbstractCoreTest {
         criteria.getResultList();
     }
 
+    @Test
+    public void testInParameterListPadding() {
+        CriteriaBuilder<Document> criteria = cbf.create(em, Document.class, "d");
+        criteria.setProperty(ConfigurationProperties.PARAMETER_LIST_PADDING, "true");
+        List<Long> ages = new ArrayList<Long>(Arrays.asList(new Long[]{ 1L, 2L, 3L, 4L, 5L }));
+        criteria.where("d.age").in(ages);
+
+        assertEquals("SELECT d FROM Document d WHERE d.age IN " + listParameter("param_0"), criteria.getQueryString());
+        TypedQuery<Document> query = criteria.getQuery();
+        assertEquals(Arrays.asList(1L, 2L, 3L, 4L, 5L, 5L, 5L, 5L), new ArrayList<>((Collection<?>) query.getParameterValue("param_0")));
+        query.getResultList();
+    }
+
+    @Test
+    public void testInNamedParameterListPadding() {
+        CriteriaBuilder<Document> criteria = cbf.create(em, Document.class, "d");
+        criteria.setProperty(ConfigurationProperties.PARAMETER_LIST_PADDING, "true");
+        criteria.whereExpression("d.age IN :ages");
+        criteria.setParameter("ages", Arrays.asList(1L, 2L, 3L));
+
+        TypedQuery<Document> query = criteria.getQuery();
+        assertEquals(Arrays.asList(1L, 2L, 3L, 3L), new ArrayList<>((Collection<?>) query.getParameterValue("ages")));
+        query.getResultList();
+    }
+
+    @Test
+    public void testNotInParameterListPadding() {
+        List<Long> ages = new ArrayList<Long>(Arrays.asList(new Long[]{ 2L, 3L, 4L, 5L, 6L }));
+        CriteriaBuilder<Document> unpadded = cbf.create(em, Document.class, "d");
+        unpadded.where("d.age").notIn(ages);
+        CriteriaBuilder<Document> criteria = cbf.create(em, Document.class, "d");
+        criteria.setProperty(ConfigurationProperties.PARAMETER_LIST_PADDING, "true");
+        criteria.where("d.age").notIn(ages);
+
+        // Padding with NULL would make the NOT IN predicate unknown for every row, so the last element is repeated
+        TypedQuery<Document> query = criteria.getQuery();
+        assertEquals(Arrays.asList(2L, 3L, 4L, 5L, 6L, 6L, 6L, 6L), new ArrayList<>((Collection<?>) query.getParameterValue("param_0")));
+        List<Document> resultList = query.getResultList();
+        assertEquals(1, resultList.size());
+        assertEquals("doc1", resultList.get(0).getName());
+        assertEquals(unpadded.getResultList(), resultList);
+    }
+
     @Test
     public void testInNull() {
         CriteriaBuilder<Document> criteria = cbf.create(em, Document.class, "d");
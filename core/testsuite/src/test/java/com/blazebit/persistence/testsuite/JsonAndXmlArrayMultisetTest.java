@@ -0,0 +1,25 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.testsuite;
+
+import com.blazebit.persistence.ConfigurationProperties;
+import com.blazebit.persistence.spi.CriteriaBuilderConfiguration;
+
+/**
+ * Runs the JSON and XML tests with the array encoding of the <code>TO_MULTISET</code> function enabled,
+ * which is used instead of the JSON encoding on DBMS that support it.
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+public class JsonAndXmlArrayMultisetTest extends JsonAndXmlTest {
+
+    @Override
+    protected void configure(CriteriaBuilderConfiguration config) {
+        super.configure(config);
+        config.setProperty(ConfigurationProperties.MULTISET_ARRAY_ENCODING, "true");
+    }
+}
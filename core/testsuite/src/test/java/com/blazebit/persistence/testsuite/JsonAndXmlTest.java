@@ -205,6 +205,38 @@ public class JsonAndXmlTest extends AbstractCoreTest {
         assertEquals(0, objects.size());
     }
 
+    // NOTE: DB2 crashes when executing this test with the GROUP_CONCAT based implementation
+    // NOTE: EclipseLink can't handle multiple subquery select items... Only one expression can be declared in a SELECT clause of a subquery
+    // NOTE: DataNucleus can't handle multiple subquery select items... Number of result expressions in subquery should be 1
+    @Test
+    @Category({ NoDatanucleus.class, NoEclipselink.class, NoDB2.class })
+    public void testToMultisetSpecialCharactersOrdered() {
+        CriteriaBuilder<Tuple> criteria = cbf.create(em, Tuple.class)
+                .from(Person.class, "p")
+                .selectSubquery("subquery", "TO_MULTISET(subquery)")
+                    .from(Document.class, "doc")
+                    .select("CONCAT(doc.name, ', {\"NULL\"}')")
+                    .select("NULLIF(doc.age, 0)")
+                    .orderByAsc("doc.name")
+                    .orderByAsc("doc.id")
+                .end()
+                ;
+
+        Tuple actual = criteria.getResultList().get(0);
+        List<Object[]> objects = actual.get(0, List.class);
+        assertEquals(3, objects.size());
+        assertRow(new Object[]{ "Doc1, {\"NULL\"}", null}, objects.get(0));
+        assertRow(new Object[]{ "Doc1, {\"NULL\"}", null}, objects.get(1));
+        assertRow(new Object[]{ "Doc2, {\"NULL\"}", null}, objects.get(2));
+    }
+
+    private static void assertRow(Object[] expected, Object[] actual) {
+        assertEquals(expected.length, actual.length);
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(toString(expected[i]), toString(actual[i]));
+        }
+    }
+
     private static void assertRemove(List<Object[]> list, Object[] array2) {
         Iterator<Object[]> iterator = list.iterator();
         OUTER: while (iterator.hasNext()) {
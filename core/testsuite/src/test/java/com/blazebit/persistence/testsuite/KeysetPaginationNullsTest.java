@@ -6,6 +6,7 @@
 package com.blazebit.persistence.testsuite;
 
 import com.blazebit.persistence.CriteriaBuilder;
+import com.blazebit.persistence.KeysetRange;
 import com.blazebit.persistence.PagedList;
 import com.blazebit.persistence.PaginatedCriteriaBuilder;
 import com.blazebit.persistence.ConfigurationProperties;
@@ -21,6 +22,7 @@ import javax.persistence.Tuple;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -354,6 +356,59 @@ public class KeysetPaginationNullsTest extends AbstractCoreTest {
         assertEquals(expectedObjectQueryStart + keysetCondition + expectedObjectQueryEnd, actualObjectQueryString);
     }
     
+    @Test
+    public void keysetChunkIteration() {
+        CriteriaBuilder<Tuple> crit = cbf.create(em, Tuple.class).from(KeysetEntity.class, "k")
+            .select("id");
+        crit.orderBy("a", this.aAsc, this.aNullsFirst)
+            .orderBy("b", this.bAsc, this.bNullsFirst)
+            .orderBy("id", this.idAsc, this.idNullsFirst);
+
+        List<Object> expectedIds = new ArrayList<>();
+        for (Tuple tuple : getTableCriteriaBuilder().getResultList()) {
+            expectedIds.add(tuple.get(2));
+        }
+
+        List<Object> actualIds = new ArrayList<>();
+        Iterator<List<Tuple>> iterator = crit.getKeysetChunkIterator(4, false);
+        while (iterator.hasNext()) {
+            for (Tuple tuple : iterator.next()) {
+                actualIds.add(tuple.get(0));
+            }
+        }
+
+        assertEquals(expectedIds, actualIds);
+    }
+
+    @Test
+    public void keysetRangeIteration() {
+        List<Object> expectedIds = new ArrayList<>();
+        for (Tuple tuple : getTableCriteriaBuilder().getResultList()) {
+            expectedIds.add(tuple.get(2));
+        }
+
+        List<Object> actualIds = new ArrayList<>();
+        for (KeysetRange range : createKeysetChunkCriteriaBuilder().getKeysetRanges(3)) {
+            Iterator<List<Tuple>> iterator = createKeysetChunkCriteriaBuilder().getKeysetChunkIterator(range, 2, false);
+            while (iterator.hasNext()) {
+                for (Tuple tuple : iterator.next()) {
+                    actualIds.add(tuple.get(0));
+                }
+            }
+        }
+
+        assertEquals(expectedIds, actualIds);
+    }
+
+    private CriteriaBuilder<Tuple> createKeysetChunkCriteriaBuilder() {
+        CriteriaBuilder<Tuple> crit = cbf.create(em, Tuple.class).from(KeysetEntity.class, "k")
+            .select("id");
+        crit.orderBy("a", this.aAsc, this.aNullsFirst)
+            .orderBy("b", this.bAsc, this.bNullsFirst)
+            .orderBy("id", this.idAsc, this.idNullsFirst);
+        return crit;
+    }
+
     private String orderByClause(String expression, boolean asc, boolean nullsFirst) {
         if (asc) {
             if (nullsFirst) {
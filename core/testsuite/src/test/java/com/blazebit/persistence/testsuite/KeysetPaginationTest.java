@@ -7,6 +7,7 @@ package com.blazebit.persistence.testsuite;
 
 import com.blazebit.persistence.CriteriaBuilder;
 import com.blazebit.persistence.KeysetPage;
+import com.blazebit.persistence.KeysetRange;
 import com.blazebit.persistence.ObjectBuilder;
 import com.blazebit.persistence.PagedList;
 import com.blazebit.persistence.PaginatedCriteriaBuilder;
@@ -22,9 +23,15 @@ import org.junit.experimental.categories.Category;
 
 import javax.persistence.EntityManager;
 import javax.persistence.Tuple;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 
 /**
  * @author Christian Beikov
@@ -407,4 +414,82 @@ public class KeysetPaginationTest extends AbstractCoreTest {
         assertEquals(1, result.size());
         assertEquals("doc2 - Karl2", result.get(0));
     }
+
+    @Test
+    public void testKeysetChunkIterator() {
+        CriteriaBuilder<Tuple> crit = cbf.create(em, Tuple.class).from(Document.class, "d")
+                .select("d.name").select("d.owner.name");
+        crit.orderByDesc("d.owner.name")
+                .orderByAsc("d.name")
+                .orderByAsc("d.id");
+
+        Iterator<List<Tuple>> iterator = crit.getKeysetChunkIterator(2, false);
+        List<Tuple> chunk = iterator.next();
+        assertEquals(2, chunk.size());
+        assertEquals("doc4", chunk.get(0).get(0));
+        assertEquals("doc5", chunk.get(1).get(0));
+        chunk = iterator.next();
+        assertEquals(2, chunk.size());
+        assertEquals("doc6", chunk.get(0).get(0));
+        assertEquals("doc3", chunk.get(1).get(0));
+        // The third chunk is fetched by rebinding the keyset parameters of the query of the second chunk
+        chunk = iterator.next();
+        assertEquals(2, chunk.size());
+        assertEquals("doc2", chunk.get(0).get(0));
+        assertEquals("doc1", chunk.get(1).get(0));
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void testKeysetChunkedResultStream() {
+        CriteriaBuilder<Document> crit = cbf.create(em, Document.class, "d")
+                .orderByDesc("d.owner.name")
+                .orderByAsc("d.name")
+                .orderByAsc("d.id");
+
+        List<String> names = new ArrayList<>();
+        try (Stream<Document> stream = crit.getKeysetChunkedResultStream(4, true)) {
+            Iterator<Document> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                names.add(iterator.next().getName());
+            }
+        }
+        assertEquals(Arrays.asList("doc4", "doc5", "doc6", "doc3", "doc2", "doc1"), names);
+    }
+
+    @Test
+    public void testKeysetRanges() {
+        CriteriaBuilder<Document> crit = cbf.create(em, Document.class, "d")
+                .orderByDesc("d.owner.name")
+                .orderByAsc("d.name")
+                .orderByAsc("d.id");
+
+        List<KeysetRange> ranges = crit.getKeysetRanges(4);
+        // The 6 elements are split into ranges of the sizes 2, 2, 1 and 1
+        assertEquals(4, ranges.size());
+        assertNull(ranges.get(0).getLowerBound());
+        assertEquals(ranges.get(0).getUpperBound(), ranges.get(1).getLowerBound());
+        assertEquals(ranges.get(1).getUpperBound(), ranges.get(2).getLowerBound());
+        assertEquals(ranges.get(2).getUpperBound(), ranges.get(3).getLowerBound());
+        assertNull(ranges.get(3).getUpperBound());
+
+        List<String> names = new ArrayList<>();
+        List<Integer> rangeSizes = new ArrayList<>();
+        for (KeysetRange range : ranges) {
+            int namesBefore = names.size();
+            CriteriaBuilder<Document> rangeCrit = cbf.create(em, Document.class, "d")
+                    .orderByDesc("d.owner.name")
+                    .orderByAsc("d.name")
+                    .orderByAsc("d.id");
+            try (Stream<Document> stream = rangeCrit.getKeysetChunkedResultStream(range, 1, false)) {
+                Iterator<Document> iterator = stream.iterator();
+                while (iterator.hasNext()) {
+                    names.add(iterator.next().getName());
+                }
+            }
+            rangeSizes.add(names.size() - namesBefore);
+        }
+        assertEquals(Arrays.asList(2, 2, 1, 1), rangeSizes);
+        assertEquals(Arrays.asList("doc4", "doc5", "doc6", "doc3", "doc2", "doc1"), names);
+    }
 }
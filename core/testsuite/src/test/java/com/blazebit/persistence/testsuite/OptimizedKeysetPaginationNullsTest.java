@@ -23,6 +23,7 @@ import javax.persistence.Tuple;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -430,6 +431,31 @@ public class OptimizedKeysetPaginationNullsTest extends AbstractCoreTest {
         assertEquals(id2, result.get(0).get(0));
     }
     
+    @Test
+    public void keysetChunkIteration() {
+        CriteriaBuilder<Tuple> crit = cbf.create(em, Tuple.class).from(KeysetEntity2.class, "k")
+            .select("id");
+        crit.orderBy("a", this.aAsc, this.aNullsFirst)
+            .orderBy("b", this.bAsc, this.bNullsFirst)
+            .orderBy("c", this.cAsc, this.cNullsFirst)
+            .orderBy("id", this.idAsc, this.idNullsFirst);
+
+        List<Object> expectedIds = new ArrayList<>();
+        for (Tuple tuple : getTableCriteriaBuilder().getResultList()) {
+            expectedIds.add(tuple.get(3));
+        }
+
+        List<Object> actualIds = new ArrayList<>();
+        Iterator<List<Tuple>> iterator = crit.getKeysetChunkIterator(4, false);
+        while (iterator.hasNext()) {
+            for (Tuple tuple : iterator.next()) {
+                actualIds.add(tuple.get(0));
+            }
+        }
+
+        assertEquals(expectedIds, actualIds);
+    }
+
     private String orderByClause(String expression, boolean asc, boolean nullsFirst) {
         if (asc) {
             if (nullsFirst) {
@@ -31,8 +31,12 @@ import javax.persistence.EntityManager;
 import javax.persistence.Tuple;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.Assert.*;
 
@@ -310,6 +314,46 @@ public class PaginationTest extends AbstractCoreTest {
         assertEquals(1, result.size());
     }
 
+    @Test
+    public void testResultStream() {
+        PaginatedCriteriaBuilder<Document> cb = cbf.create(em, Document.class, "d")
+                .orderByAsc("id")
+                .page(1, 2);
+        List<String> names = new ArrayList<>();
+        try (Stream<Document> stream = cb.getResultStream()) {
+            stream.forEach(document -> names.add(document.getName()));
+        }
+        assertEquals(Arrays.asList("Doc2", "doC3"), names);
+    }
+
+    @Test
+    public void testResultStreamWithIdQuery() {
+        PaginatedCriteriaBuilder<Document> cb = cbf.create(em, Document.class, "d")
+                .select("d")
+                .where("contacts.name").eq("Karl1")
+                .orderByAsc("id")
+                .page(0, 1)
+                .withInlineIdQuery(false)
+                .withInlineCountQuery(false);
+        try (Stream<Document> stream = cb.getResultStream()) {
+            assertEquals(Collections.singletonList("doc1"), stream.map(Document::getName).collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void testResultStreamEmpty() {
+        PaginatedCriteriaBuilder<Document> cb = cbf.create(em, Document.class, "d")
+                .select("d")
+                .where("contacts.name").eq("Karl1")
+                .orderByAsc("id")
+                .page(1, 1)
+                .withInlineIdQuery(false)
+                .withInlineCountQuery(false);
+        try (Stream<Document> stream = cb.getResultStream()) {
+            assertEquals(0, stream.count());
+        }
+    }
+
     @Test
     public void testSelectEmptyResultList() {
         PaginatedCriteriaBuilder<Document> cb = cbf.create(em, Document.class, "d")
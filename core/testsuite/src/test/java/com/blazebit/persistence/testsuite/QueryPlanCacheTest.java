@@ -0,0 +1,158 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.testsuite;
+
+import com.blazebit.persistence.ConfigurationProperties;
+import com.blazebit.persistence.CriteriaBuilder;
+import com.blazebit.persistence.impl.plan.QueryPlanCache;
+import com.blazebit.persistence.impl.query.CustomSQLTypedQuery;
+import com.blazebit.persistence.impl.query.TypedQueryWrapper;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoDatanucleus;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoEclipselink;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoOpenJPA;
+import com.blazebit.persistence.testsuite.entity.Document;
+import com.blazebit.persistence.testsuite.entity.Person;
+import com.blazebit.persistence.testsuite.tx.TxVoidWork;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Tuple;
+import javax.persistence.TypedQuery;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+
+/**
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+public class QueryPlanCacheTest extends AbstractCoreTest {
+
+    @Override
+    public void setUpOnce() {
+        cleanDatabase();
+        transactional(new TxVoidWork() {
+            @Override
+            public void work(EntityManager em) {
+                Person p1 = new Person("p1");
+                Document d1 = new Document("doc1", 1);
+                Document d2 = new Document("doc2", 2);
+                d1.setOwner(p1);
+                d2.setOwner(p1);
+
+                em.persist(p1);
+                em.persist(d1);
+                em.persist(d2);
+            }
+        });
+    }
+
+    @Test
+    @Category({ NoDatanucleus.class, NoEclipselink.class, NoOpenJPA.class })
+    public void sameQueryShapeReusesPlanWithDifferentValues() {
+        QueryPlanCache queryPlanCache = cbf.getService(QueryPlanCache.class);
+        assertNotNull(queryPlanCache);
+        queryPlanCache.clear();
+
+        long hits = queryPlanCache.getHitCount();
+        long misses = queryPlanCache.getMissCount();
+        List<Tuple> first = valuesQuery(1L).getResultList();
+        assertEquals(misses + 1, queryPlanCache.getMissCount());
+        assertEquals(hits, queryPlanCache.getHitCount());
+
+        List<Tuple> second = valuesQuery(2L).getResultList();
+        assertEquals(misses + 1, queryPlanCache.getMissCount());
+        assertEquals(hits + 1, queryPlanCache.getHitCount());
+
+        assertEquals(1, first.size());
+        assertEquals("doc1", first.get(0).get(0));
+        assertEquals(1, second.size());
+        assertEquals("doc2", second.get(0).get(0));
+    }
+
+    @Test
+    @Category({ NoDatanucleus.class, NoEclipselink.class, NoOpenJPA.class })
+    public void differentParameterListSizesRenderDifferentSql() {
+        QueryPlanCache queryPlanCache = cbf.getService(QueryPlanCache.class);
+        queryPlanCache.clear();
+
+        TypedQuery<Tuple> singleQuery = valuesQueryWithNameList(Collections.singletonList("doc1")).getQuery();
+        assertEquals(1, singleQuery.getResultList().size());
+        TypedQuery<Tuple> doubleQuery = valuesQueryWithNameList(Arrays.asList("doc1", "doc2")).getQuery();
+        assertEquals(1, doubleQuery.getResultList().size());
+        TypedQuery<Tuple> singleQuery2 = valuesQueryWithNameList(Collections.singletonList("doc1")).getQuery();
+        assertEquals(1, singleQuery2.getResultList().size());
+
+        // All three queries share one plan, but the SQL is rendered per collection parameter size
+        assertEquals(1, queryPlanCache.getSize());
+        assertEquals(1, queryPlanCache.getMissCount());
+        assertEquals(2, queryPlanCache.getHitCount());
+        String singleSql = getSql(singleQuery);
+        String doubleSql = getSql(doubleQuery);
+        assertEquals(countParameterMarkers(singleSql) + 1, countParameterMarkers(doubleSql));
+        assertEquals(singleSql, getSql(singleQuery2));
+    }
+
+    @Test
+    @Category({ NoDatanucleus.class, NoEclipselink.class, NoOpenJPA.class })
+    public void changedConfigurationDoesNotReusePlan() {
+        QueryPlanCache queryPlanCache = cbf.getService(QueryPlanCache.class);
+        queryPlanCache.clear();
+
+        TypedQuery<Tuple> defaultQuery = valuesQuery(1L).getQuery();
+        assertEquals(1, defaultQuery.getResultList().size());
+        // The VALUES clause is rendered differently when nulls are not filtered, although the JPQL is the same
+        TypedQuery<Tuple> unfilteredQuery = valuesQuery(1L)
+                .setProperty(ConfigurationProperties.VALUES_CLAUSE_FILTER_NULLS, "false")
+                .getQuery();
+        assertEquals(1, unfilteredQuery.getResultList().size());
+        TypedQuery<Tuple> unfilteredQuery2 = valuesQuery(2L)
+                .setProperty(ConfigurationProperties.VALUES_CLAUSE_FILTER_NULLS, "false")
+                .getQuery();
+        assertEquals(1, unfilteredQuery2.getResultList().size());
+
+        assertEquals(2, queryPlanCache.getSize());
+        assertEquals(2, queryPlanCache.getMissCount());
+        assertEquals(1, queryPlanCache.getHitCount());
+        assertNotEquals(getSql(defaultQuery), getSql(unfilteredQuery));
+        assertEquals(getSql(unfilteredQuery), getSql(unfilteredQuery2));
+    }
+
+    private static String getSql(TypedQuery<?> query) {
+        while (query instanceof TypedQueryWrapper<?>) {
+            query = ((TypedQueryWrapper<?>) query).getDelegate();
+        }
+        return ((CustomSQLTypedQuery<?>) query).getSql();
+    }
+
+    private static int countParameterMarkers(String sql) {
+        int count = 0;
+        for (int i = 0; i < sql.length(); i++) {
+            if (sql.charAt(i) == '?') {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private CriteriaBuilder<Tuple> valuesQuery(long age) {
+        return cbf.create(em, Tuple.class)
+                .fromValues(Long.class, "allowedAge", Collections.singleton(age))
+                .from(Document.class, "doc")
+                .where("doc.age").eqExpression("allowedAge")
+                .select("doc.name");
+    }
+
+    private CriteriaBuilder<Tuple> valuesQueryWithNameList(List<String> names) {
+        return valuesQuery(1L)
+                .where("doc.name").in(names);
+    }
+}
@@ -7,14 +7,25 @@ package com.blazebit.persistence.testsuite;
 
 import com.blazebit.persistence.ConfigurationProperties;
 import com.blazebit.persistence.CriteriaBuilder;
+import com.blazebit.persistence.impl.query.CustomSQLTypedQuery;
+import com.blazebit.persistence.impl.query.TypedQueryWrapper;
+import com.blazebit.persistence.spi.ArrayParameterSupport;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoDB2;
 import com.blazebit.persistence.testsuite.base.jpa.category.NoDatanucleus;
 import com.blazebit.persistence.testsuite.base.jpa.category.NoEclipselink;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoFirebird;
 import com.blazebit.persistence.testsuite.base.jpa.category.NoHibernate42;
 import com.blazebit.persistence.testsuite.base.jpa.category.NoHibernate43;
 import com.blazebit.persistence.testsuite.base.jpa.category.NoHibernate50;
 import com.blazebit.persistence.testsuite.base.jpa.category.NoHibernate51;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoHibernate52;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoHibernate53;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoMSSQL;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoMySQL;
 import com.blazebit.persistence.testsuite.base.jpa.category.NoMySQLOld;
 import com.blazebit.persistence.testsuite.base.jpa.category.NoOpenJPA;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoOracle;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoSQLite;
 import com.blazebit.persistence.testsuite.entity.Document;
 import com.blazebit.persistence.testsuite.entity.DocumentNodeCTE;
 import com.blazebit.persistence.testsuite.entity.DocumentType;
@@ -26,6 +37,7 @@ import com.blazebit.persistence.testsuite.entity.PersonCTE;
 import com.blazebit.persistence.testsuite.tx.TxVoidWork;
 import org.junit.AfterClass;
 import org.junit.Assert;
+import org.junit.Assume;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
@@ -47,6 +59,7 @@ import java.util.function.Consumer;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 /**
  *
@@ -140,6 +153,128 @@ public class ValuesClauseTest extends AbstractCoreTest {
         assertEquals(1L, resultList.get(0).get(1));
     }
 
+    @Test
+    @Category({ NoDatanucleus.class, NoEclipselink.class, NoOpenJPA.class })
+    public void testValuesEntityFunctionParameterListPadding() {
+        CriteriaBuilder<Tuple> cb = cbf.create(em, Tuple.class);
+        cb.setProperty(ConfigurationProperties.PARAMETER_LIST_PADDING, "true");
+        // The matching value is the last one, so repeating it for padding would duplicate the result
+        cb.fromValues(Long.class, "allowedAge", Arrays.asList(3L, 2L, 1L));
+        cb.from(Document.class, "doc");
+        cb.where("doc.age").eqExpression("allowedAge");
+        cb.select("doc.name");
+        cb.select("allowedAge");
+
+        String expected = ""
+                + "SELECT doc.name, allowedAge FROM Long(4 VALUES) allowedAge, Document doc WHERE doc.age = allowedAge";
+
+        assertEquals(expected, cb.getQueryString());
+        List<Tuple> resultList = cb.getResultList();
+        assertEquals(1, resultList.size());
+        assertEquals("doc1", resultList.get(0).get(0));
+        assertEquals(1L, resultList.get(0).get(1));
+    }
+
+    @Test
+    @Category({ NoDatanucleus.class, NoEclipselink.class, NoOpenJPA.class })
+    public void testValuesEntityFunctionParameterListPaddingWithoutFilterNulls() {
+        CriteriaBuilder<Tuple> cb = cbf.create(em, Tuple.class);
+        cb.setProperty(ConfigurationProperties.PARAMETER_LIST_PADDING, "true");
+        cb.setProperty(ConfigurationProperties.VALUES_CLAUSE_FILTER_NULLS, "false");
+        cb.fromValues(Long.class, "allowedAge", Arrays.asList(3L, 2L, 1L));
+        cb.from(Document.class, "doc");
+        cb.where("doc.age").eqExpression("allowedAge");
+        cb.select("doc.name");
+        cb.select("allowedAge");
+
+        // NULL rows would not be filtered, so the VALUES clause is not padded
+        String expected = ""
+                + "SELECT doc.name, allowedAge FROM Long(3 VALUES) allowedAge, Document doc WHERE doc.age = allowedAge";
+
+        assertEquals(expected, cb.getQueryString());
+        List<Tuple> resultList = cb.getResultList();
+        assertEquals(1, resultList.size());
+        assertEquals("doc1", resultList.get(0).get(0));
+        assertEquals(1L, resultList.get(0).get(1));
+    }
+
+    @Test
+    @Category({ NoDatanucleus.class, NoEclipselink.class, NoOpenJPA.class })
+    public void testValuesEntityFunctionArrayBindingFallback() {
+        Assume.assumeTrue("The DBMS and JPA provider support array binding", cbf.getService(ArrayParameterSupport.class) == null || !dbmsDialect.supportsArrayValues());
+        CriteriaBuilder<Tuple> cb = cbf.create(em, Tuple.class);
+        cb.setProperty(ConfigurationProperties.VALUES_CLAUSE_ARRAY_BINDING, "true");
+        cb.fromValues(Long.class, "allowedAge", Arrays.asList(3L, 1L, 2L));
+        cb.from(Document.class, "doc");
+        cb.where("doc.age").eqExpression("allowedAge");
+        cb.select("doc.name");
+        cb.select("allowedAge");
+
+        String expected = ""
+                + "SELECT doc.name, allowedAge FROM Long(3 VALUES) allowedAge, Document doc WHERE doc.age = allowedAge";
+
+        assertEquals(expected, cb.getQueryString());
+        String sql = getSql(cb.getQuery());
+        assertTrue(sql, !sql.contains("unnest("));
+        List<Tuple> resultList = cb.getResultList();
+        assertEquals(1, resultList.size());
+        assertEquals("doc1", resultList.get(0).get(0));
+        assertEquals(1L, resultList.get(0).get(1));
+    }
+
+    @Test
+    // Array binding is only available for PostgreSQL and H2 with Hibernate 6+
+    @Category({ NoHibernate42.class, NoHibernate43.class, NoHibernate50.class, NoHibernate51.class, NoHibernate52.class, NoHibernate53.class, NoDatanucleus.class, NoEclipselink.class, NoOpenJPA.class,
+            NoMySQL.class, NoMySQLOld.class, NoMSSQL.class, NoOracle.class, NoDB2.class, NoFirebird.class, NoSQLite.class })
+    public void testValuesEntityFunctionArrayBinding() {
+        Assume.assumeTrue("The JPA provider does not support binding array parameters", cbf.getService(ArrayParameterSupport.class) != null);
+        CriteriaBuilder<Tuple> cb = cbf.create(em, Tuple.class);
+        cb.setProperty(ConfigurationProperties.VALUES_CLAUSE_ARRAY_BINDING, "true");
+        cb.fromValues(Long.class, "allowedAge", 3);
+        cb.from(Document.class, "doc");
+        cb.where("doc.age").eqExpression("allowedAge");
+        cb.select("doc.name");
+        cb.select("allowedAge");
+
+        String expected = ""
+                + "SELECT doc.name, allowedAge FROM Long(3 VALUES) allowedAge, Document doc WHERE doc.age = allowedAge";
+
+        assertEquals(expected, cb.getQueryString());
+        cb.setParameter("allowedAge", Arrays.asList(3L, 1L, 2L));
+        String sql = getSql(cb.getQuery());
+        assertTrue(sql, sql.contains("unnest("));
+        List<Tuple> resultList = cb.getResultList();
+        assertEquals(1, resultList.size());
+        assertEquals("doc1", resultList.get(0).get(0));
+        assertEquals(1L, resultList.get(0).get(1));
+
+        cb.setParameter("allowedAge", Collections.singletonList(2L));
+        assertEquals(0, cb.getResultList().size());
+    }
+
+    @Test
+    // Array binding is only available for PostgreSQL and H2 with Hibernate 6+
+    @Category({ NoHibernate42.class, NoHibernate43.class, NoHibernate50.class, NoHibernate51.class, NoHibernate52.class, NoHibernate53.class, NoDatanucleus.class, NoEclipselink.class, NoOpenJPA.class,
+            NoMySQL.class, NoMySQLOld.class, NoMSSQL.class, NoOracle.class, NoDB2.class, NoFirebird.class, NoSQLite.class })
+    public void testValuesEntityFunctionWithEmbeddableArrayBinding() {
+        Assume.assumeTrue("The JPA provider does not support binding array parameters", cbf.getService(ArrayParameterSupport.class) != null);
+        CriteriaBuilder<Tuple> cb = cbf.create(em, Tuple.class);
+        cb.setProperty(ConfigurationProperties.VALUES_CLAUSE_ARRAY_BINDING, "true");
+        cb.fromValues(NameObject.class, "embeddable", Arrays.asList(new NameObject("abc", "123"), new NameObject("def", "456")));
+        cb.from(Document.class, "doc");
+        cb.where("doc.nameObject.primaryName").eqExpression("embeddable.secondaryName");
+        cb.where("doc.nameObject.secondaryName").eqExpression("embeddable.primaryName");
+        cb.select("doc.name");
+        cb.select("embeddable");
+
+        String sql = getSql(cb.getQuery());
+        assertTrue(sql, sql.contains("unnest("));
+        List<Tuple> resultList = cb.getResultList();
+        assertEquals(1, resultList.size());
+        assertEquals("doc1", resultList.get(0).get(0));
+        assertEquals(new NameObject("abc", "123"), resultList.get(0).get(1));
+    }
+
     @Test
     @Category({ NoDatanucleus.class, NoEclipselink.class, NoOpenJPA.class })
     public void testValuesEntityFunctionWithEmbeddable() {
@@ -704,4 +839,11 @@ public class ValuesClauseTest extends AbstractCoreTest {
         assertEquals(p1.getId(), resultList.get(0).get(0));
         assertEquals(p1.getId(), resultList.get(0).get(1));
     }
+
+    private static String getSql(TypedQuery<?> query) {
+        while (query instanceof TypedQueryWrapper<?>) {
+            query = ((TypedQueryWrapper<?>) query).getDelegate();
+        }
+        return ((CustomSQLTypedQuery<?>) query).getSql();
+    }
 }
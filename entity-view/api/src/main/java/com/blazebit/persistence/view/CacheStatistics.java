@@ -0,0 +1,89 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.view;
+
+/**
+ * A snapshot of the statistics of a cache of an {@link EntityViewManager}.
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+public final class CacheStatistics {
+
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final int size;
+    private final int maximumSize;
+
+    /**
+     * Creates a new statistics snapshot.
+     *
+     * @param hitCount The number of lookups that found an entry
+     * @param missCount The number of lookups that found no entry
+     * @param evictionCount The number of entries that were removed due to the size bound
+     * @param size The current number of entries
+     * @param maximumSize The maximum number of entries or <code>0</code> if the cache is unbounded
+     */
+    public CacheStatistics(long hitCount, long missCount, long evictionCount, int size, int maximumSize) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.size = size;
+        this.maximumSize = maximumSize;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns the number of entries that were removed due to the size bound.
+     *
+     * @return the eviction count
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the maximum number of entries or <code>0</code> if the cache is unbounded.
+     *
+     * @return the maximum size
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Returns the ratio of lookups that found an entry or <code>1.0</code> if there were no lookups yet.
+     *
+     * @return the hit rate
+     */
+    public double getHitRate() {
+        long requestCount = hitCount + missCount;
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStatistics{" +
+                "hitCount=" + hitCount +
+                ", missCount=" + missCount +
+                ", evictionCount=" + evictionCount +
+                ", size=" + size +
+                ", maximumSize=" + maximumSize +
+                '}';
+    }
+}
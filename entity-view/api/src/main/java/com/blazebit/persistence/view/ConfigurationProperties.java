@@ -92,6 +92,35 @@ public final class ConfigurationProperties {
      * @since 1.3.0
      */
     public static final String EXPECT_BATCH_MODE = "com.blazebit.persistence.view.batch_mode";
+    /**
+     * An integer value that enables an adaptive batch size for attributes that use batch fetching i.e. have a batch size greater than 1.
+     * The value defines the maximum batch size. Instead of the static batch size, the batch size is then chosen for every execution
+     * from the number of distinct correlation values. To keep the number of distinct query strings small, the batch size is rounded up
+     * to the next power of two that is at least 2 and at most the maximum batch size.
+     * By default no adaptive batch size is used. It can be enabled by setting this property via {@linkplain com.blazebit.persistence.view.EntityViewSetting#setProperty}.
+     *
+     * To specify the maximum adaptive batch size of a specific attribute, append the attribute name after the "adaptive_batch_size" like
+     * e.g. <code>com.blazebit.persistence.view.adaptive_batch_size.subProperty</code>
+     *
+     * @since 1.6.15
+     */
+    public static final String ADAPTIVE_BATCH_SIZE = "com.blazebit.persistence.view.adaptive_batch_size";
+    /**
+     * A boolean specifying if the results of singular correlated attributes that use the {@link FetchStrategy#SELECT} fetch strategy
+     * should be cached per correlation value across queries in the correlation result cache of the entity view manager.
+     * This is meant for correlations of slowly changing reference data and is only applied if the correlated type is an immutable basic type
+     * or a non-updatable, non-creatable entity view without collections that only refers to such types, and the correlation provider is not parameterized.
+     * Since results are cached per optional parameter values, they may depend on optional parameters.
+     * The correlation must not depend on query parameters, <code>VIEW_ROOT</code> or <code>EMBEDDING_VIEW</code>, because cached results are shared between queries.
+     * Cached results are also shared between entity view objects, so they must not be modified.
+     * By default the value is false and can be overridden by setting this property via {@linkplain com.blazebit.persistence.view.EntityViewSetting#setProperty}.
+     *
+     * To enable the caching for a specific attribute, append the attribute name after the "correlation_result_caching" like
+     * e.g. <code>com.blazebit.persistence.view.correlation_result_caching.subProperty</code>
+     *
+     * @since 1.6.15
+     */
+    public static final String CORRELATION_RESULT_CACHING = "com.blazebit.persistence.view.correlation_result_caching";
     /**
      * A boolean flag to make it possible to prepare the entity view updater cache on startup.
      * By default the eager loading of entity view updates is disabled to have a better startup performance.
@@ -156,6 +185,18 @@ public final class ConfigurationProperties {
      */
     public static final String UPDATER_ERROR_ON_INVALID_PLURAL_SETTER = "com.blazebit.persistence.view.updater.error_on_invalid_plural_setter";
 
+    /**
+     * The maximum number of update query strings that are cached for partial updates of updatable entity views.
+     * With the {@link FlushStrategy#QUERY} flush strategy and the {@link FlushMode#PARTIAL} or {@link FlushMode#LAZY} flush modes,
+     * the update query depends on the set of dirty attributes. The query string is cached per updater and dirty attribute set,
+     * so that repeated updates of the same shape skip the query generation.
+     * Valid values for this property are non-negative integers. A value of <code>0</code> disables the cache.
+     * Default is <code>1024</code>.
+     *
+     * @since 1.6.15
+     */
+    public static final String UPDATER_QUERY_CACHE_MAX_SIZE = "com.blazebit.persistence.view.updater.query_cache_max_size";
+
     /**
      * A boolean flag that allows to disable a count query for a paginated criteria builder.
      *
@@ -246,6 +287,69 @@ public final class ConfigurationProperties {
      */
     public static final String CREATE_EMPTY_FLAT_VIEWS = "com.blazebit.persistence.view.create_empty_flat_views";
 
+    /**
+     * The {@link com.blazebit.persistence.view.spi.EntityViewCacheFactory} that creates the caches of the entity view manager
+     * for object builder templates, context aware updaters, view mappers and update queries.
+     * Valid values for this property are an instance or the fully qualified class name of a class with a no-arg constructor.
+     * By default a cache factory that evicts the least recently used entries when the maximum size is reached is used.
+     *
+     * @since 1.6.15
+     */
+    public static final String CACHE_FACTORY = "com.blazebit.persistence.view.cache_factory";
+
+    /**
+     * The maximum number of entries of every cache of the entity view manager for object builder templates,
+     * context aware updaters and view mappers. The size of the update query cache is configured via {@link #UPDATER_QUERY_CACHE_MAX_SIZE}.
+     * Since object builder templates are cached per entity view root, applications that use dynamic entity view roots should bound the caches.
+     * Templates and updaters that are created eagerly via {@link #TEMPLATE_EAGER_LOADING} or {@link #UPDATER_EAGER_LOADING} are never evicted.
+     * Valid values for this property are non-negative integers. A value of <code>0</code> means unbounded.
+     * Default is <code>0</code>.
+     *
+     * @since 1.6.15
+     */
+    public static final String CACHE_MAX_SIZE = "com.blazebit.persistence.view.cache_max_size";
+
+    /**
+     * The path to a file from which a snapshot of the validated entity view metamodel is read.
+     * The snapshot contains a fingerprint of the entity view and JPA managed type classes as well as the entity view and criteria builder configuration.
+     * When the fingerprint of the snapshot matches, the expression and managed type validation is skipped.
+     * When it doesn't match or the file doesn't exist, the metamodel is fully validated.
+     * The snapshot is only written if {@link #METAMODEL_SNAPSHOT_WRITE} is enabled.
+     * By default no snapshot is used.
+     *
+     * @since 1.6.15
+     */
+    public static final String METAMODEL_SNAPSHOT_FILE = "com.blazebit.persistence.view.metamodel_snapshot_file";
+
+    /**
+     * A boolean flag to make it possible to write the snapshot file configured via {@link #METAMODEL_SNAPSHOT_FILE}
+     * after the metamodel was fully validated. This is usually only enabled during a build step,
+     * so that a production boot never writes to the file system.
+     * Valid values for this property are <code>true</code> or <code>false</code>.
+     * Default is <code>false</code>.
+     *
+     * @since 1.6.15
+     */
+    public static final String METAMODEL_SNAPSHOT_WRITE = "com.blazebit.persistence.view.metamodel_snapshot_write";
+
+    /**
+     * The maximum number of correlation results that are cached for attributes that enable caching via {@link #CORRELATION_RESULT_CACHING}.
+     * Valid values for this property are non-negative integers. A value of <code>0</code> disables the cache.
+     * Default is <code>1024</code>.
+     *
+     * @since 1.6.15
+     */
+    public static final String CORRELATION_RESULT_CACHE_MAX_SIZE = "com.blazebit.persistence.view.correlation_result_cache_max_size";
+
+    /**
+     * The number of milliseconds for which a cached correlation result is used at most before it is loaded again.
+     * Valid values for this property are positive integers.
+     * Default is <code>60000</code>.
+     *
+     * @since 1.6.15
+     */
+    public static final String CORRELATION_RESULT_CACHE_TTL = "com.blazebit.persistence.view.correlation_result_cache_ttl";
+
     private ConfigurationProperties() {
     }
 }
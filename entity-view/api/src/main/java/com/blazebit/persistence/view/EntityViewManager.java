@@ -13,6 +13,7 @@ import com.blazebit.persistence.view.change.SingularChangeModel;
 import com.blazebit.persistence.view.metamodel.ViewMetamodel;
 
 import javax.persistence.EntityManager;
+import java.util.Collection;
 import java.util.Map;
 
 /**
@@ -46,6 +47,15 @@ public interface EntityViewManager extends ServiceProvider {
      */
     public Map<String, Object> getOptionalParameters();
 
+    /**
+     * Returns a snapshot of the statistics of the caches of this entity view manager by cache name.
+     * See {@link com.blazebit.persistence.view.spi.EntityViewCacheFactory} for the cache names.
+     *
+     * @return the cache statistics
+     * @since 1.6.15
+     */
+    public Map<String, CacheStatistics> getCacheStatistics();
+
     /**
      * Loads and returns an entity view of the given type having the given entity id.
      *
@@ -430,6 +440,29 @@ public interface EntityViewManager extends ServiceProvider {
      */
     public FlushOperationBuilder saveFullWithTo(EntityManager entityManager, Object view, Object entity);
 
+    /**
+     * Saves the entities which the given entity views map to within a single flush operation.
+     * Issues partial updates if enabled for the respective views.
+     * The views are flushed in iteration order, but update statements are reused for views of the same type with the same dirty attributes.
+     *
+     * @param entityManager The entity manager to use for the save
+     * @param views The views to use for saving
+     * @since 1.6.15
+     */
+    public void saveAll(EntityManager entityManager, Collection<?> views);
+
+    /**
+     * Saves the entities which the given entity views map to within a single flush operation.
+     * Issues partial updates if enabled for the respective views.
+     * The views are flushed in iteration order, but update statements are reused for views of the same type with the same dirty attributes.
+     *
+     * @param entityManager The entity manager to use for the save
+     * @param views The views to use for saving
+     * @return A flush operation builder for further configuring the flush operation
+     * @since 1.6.15
+     */
+    public FlushOperationBuilder saveAllWith(EntityManager entityManager, Collection<?> views);
+
     /**
      * Removes the entity represented by the given view.
      * Also cascades deletes to attributes that have {@link CascadeType#DELETE} enabled.
@@ -474,6 +507,54 @@ public interface EntityViewManager extends ServiceProvider {
      */
     public FlushOperationBuilder removeWith(EntityManager entityManager, Class<?> entityViewClass, Object viewId);
 
+    /**
+     * Removes the entities represented by the given views within a single flush operation.
+     * Also cascades deletes to attributes that have {@link CascadeType#DELETE} enabled.
+     * The views are removed in iteration order, but delete statements are reused for views of the same type.
+     *
+     * @param entityManager The entity manager to use for the removing
+     * @param views The views for which the entities should be removed
+     * @since 1.6.15
+     */
+    public void removeAll(EntityManager entityManager, Collection<?> views);
+
+    /**
+     * Removes the entities represented by the given views within a single flush operation.
+     * Also cascades deletes to attributes that have {@link CascadeType#DELETE} enabled.
+     * The views are removed in iteration order, but delete statements are reused for views of the same type.
+     *
+     * @param entityManager The entity manager to use for the removing
+     * @param views The views for which the entities should be removed
+     * @return A flush operation builder for further configuring the flush operation
+     * @since 1.6.15
+     */
+    public FlushOperationBuilder removeAllWith(EntityManager entityManager, Collection<?> views);
+
+    /**
+     * Removes the entities represented by the entity type defined for the given view and the given entity ids.
+     * Also cascades deletes to attributes that have {@link CascadeType#DELETE} enabled.
+     * If possible, the entities are removed with set based delete statements for chunks of ids rather than one statement per id.
+     *
+     * @param entityManager The entity manager to use for the removing
+     * @param entityViewClass The entity view class to use
+     * @param viewIds The ids of the entity views
+     * @since 1.6.15
+     */
+    public void removeAll(EntityManager entityManager, Class<?> entityViewClass, Collection<?> viewIds);
+
+    /**
+     * Removes the entities represented by the entity type defined for the given view and the given entity ids.
+     * Also cascades deletes to attributes that have {@link CascadeType#DELETE} enabled.
+     * If possible, the entities are removed with set based delete statements for chunks of ids rather than one statement per id.
+     *
+     * @param entityManager The entity manager to use for the removing
+     * @param entityViewClass The entity view class to use
+     * @param viewIds The ids of the entity views
+     * @return A flush operation builder for further configuring the flush operation
+     * @since 1.6.15
+     */
+    public FlushOperationBuilder removeAllWith(EntityManager entityManager, Class<?> entityViewClass, Collection<?> viewIds);
+
     /**
      * Applies the entity view setting to the given criteria builder.
      *
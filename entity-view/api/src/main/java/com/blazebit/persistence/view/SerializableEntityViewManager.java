@@ -13,6 +13,7 @@ import com.blazebit.persistence.view.metamodel.ViewMetamodel;
 import javax.persistence.EntityManager;
 import java.io.Serializable;
 import java.lang.reflect.Field;
+import java.util.Collection;
 import java.util.Map;
 
 /**
@@ -64,6 +65,11 @@ public class SerializableEntityViewManager implements EntityViewManager, Seriali
         return getEvm().getOptionalParameters();
     }
 
+    @Override
+    public Map<String, CacheStatistics> getCacheStatistics() {
+        return getEvm().getCacheStatistics();
+    }
+
     @Override
     public <T> T find(EntityManager entityManager, Class<T> entityViewClass, Object entityId) {
         return getEvm().find(entityManager, entityViewClass, entityId);
@@ -231,6 +237,16 @@ public class SerializableEntityViewManager implements EntityViewManager, Seriali
         return getEvm().saveFullWithTo(entityManager, view, entity);
     }
 
+    @Override
+    public void saveAll(EntityManager entityManager, Collection<?> views) {
+        getEvm().saveAll(entityManager, views);
+    }
+
+    @Override
+    public FlushOperationBuilder saveAllWith(EntityManager entityManager, Collection<?> views) {
+        return getEvm().saveAllWith(entityManager, views);
+    }
+
     @Override
     public void remove(EntityManager entityManager, Object view) {
         getEvm().remove(entityManager, view);
@@ -251,6 +267,26 @@ public class SerializableEntityViewManager implements EntityViewManager, Seriali
         return getEvm().removeWith(entityManager, entityViewClass, viewId);
     }
 
+    @Override
+    public void removeAll(EntityManager entityManager, Collection<?> views) {
+        getEvm().removeAll(entityManager, views);
+    }
+
+    @Override
+    public FlushOperationBuilder removeAllWith(EntityManager entityManager, Collection<?> views) {
+        return getEvm().removeAllWith(entityManager, views);
+    }
+
+    @Override
+    public void removeAll(EntityManager entityManager, Class<?> entityViewClass, Collection<?> viewIds) {
+        getEvm().removeAll(entityManager, entityViewClass, viewIds);
+    }
+
+    @Override
+    public FlushOperationBuilder removeAllWith(EntityManager entityManager, Class<?> entityViewClass, Collection<?> viewIds) {
+        return getEvm().removeAllWith(entityManager, entityViewClass, viewIds);
+    }
+
     @Override
     public <T, Q extends FullQueryBuilder<T, Q>> Q applySetting(EntityViewSetting<T, Q> setting, CriteriaBuilder<?> criteriaBuilder) {
         return getEvm().applySetting(setting, criteriaBuilder);
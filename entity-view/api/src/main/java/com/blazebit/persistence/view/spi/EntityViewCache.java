@@ -0,0 +1,58 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.view.spi;
+
+import com.blazebit.persistence.view.CacheStatistics;
+
+/**
+ * A cache used by an entity view manager for artifacts that are derived from the metamodel like object builder templates or updaters.
+ * Implementations must be thread safe. Since every value can be recreated, implementations may evict entries at any time.
+ *
+ * @param <K> The key type
+ * @param <V> The value type
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+public interface EntityViewCache<K, V> {
+
+    /**
+     * Returns the cached value for the given key or <code>null</code>.
+     *
+     * @param key The key
+     * @return the cached value or <code>null</code>
+     */
+    public V get(K key);
+
+    /**
+     * Caches the given value if there is no value for the given key yet.
+     *
+     * @param key The key
+     * @param value The value to cache
+     * @return the previously cached value or <code>null</code> if the given value was cached
+     */
+    public V putIfAbsent(K key, V value);
+
+    /**
+     * Removes the entry for the given key if it is currently mapped to the given value.
+     *
+     * @param key The key
+     * @param value The expected value
+     * @return whether the entry was removed
+     */
+    public boolean remove(K key, V value);
+
+    /**
+     * Removes all entries.
+     */
+    public void clear();
+
+    /**
+     * Returns a snapshot of the statistics of this cache.
+     *
+     * @return the statistics
+     */
+    public CacheStatistics getStatistics();
+}
@@ -0,0 +1,47 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.view.spi;
+
+/**
+ * A factory for the caches of an entity view manager that can be configured via {@link com.blazebit.persistence.view.ConfigurationProperties#CACHE_FACTORY}.
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+public interface EntityViewCacheFactory {
+
+    /**
+     * The name of the cache for object builder templates.
+     */
+    public static final String OBJECT_BUILDER_TEMPLATE_CACHE = "objectBuilderTemplate";
+    /**
+     * The name of the cache for updaters that depend on the owner or declared type.
+     */
+    public static final String CONTEXT_AWARE_UPDATER_CACHE = "contextAwareUpdater";
+    /**
+     * The name of the cache for view mappers with sub-mapper configurations.
+     */
+    public static final String CONFIGURED_VIEW_MAPPER_CACHE = "configuredViewMapper";
+    /**
+     * The name of the cache for update query strings of partial updates.
+     */
+    public static final String UPDATE_QUERY_CACHE = "updateQuery";
+    /**
+     * The name of the cache for correlation results.
+     */
+    public static final String CORRELATION_RESULT_CACHE = "correlationResult";
+
+    /**
+     * Creates a new cache.
+     *
+     * @param cacheName The name of the cache
+     * @param maximumSize The maximum number of entries or <code>0</code> if the cache should be unbounded
+     * @param <K> The key type
+     * @param <V> The value type
+     * @return the new cache
+     */
+    public <K, V> EntityViewCache<K, V> createCache(String cacheName, int maximumSize);
+}
@@ -54,7 +54,7 @@ public interface DirtyTracker extends BasicDirtyTracker {
     public long[] $$_getDirty();
 
     /**
-     * Returns the dirty bit mask as long.
+     * Returns the dirty bit mask of the first 64 attributes as long.
      *
      * @return the dirty bit mask as long
      */
@@ -0,0 +1,49 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.view.impl;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts how often a batch size was chosen by correlated batch fetches that use an adaptive batch size.
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+public final class AdaptiveBatchSizeStatistics {
+
+    private final ConcurrentMap<Integer, AtomicLong> batchSizeCounts = new ConcurrentHashMap<>();
+
+    public void recordBatchSize(int batchSize) {
+        AtomicLong count = batchSizeCounts.get(batchSize);
+        if (count == null) {
+            count = new AtomicLong();
+            AtomicLong oldCount = batchSizeCounts.putIfAbsent(batchSize, count);
+            if (oldCount != null) {
+                count = oldCount;
+            }
+        }
+        count.incrementAndGet();
+    }
+
+    /**
+     * Returns a snapshot of the number of times a batch size was chosen, ordered by batch size.
+     *
+     * @return The counts per batch size
+     */
+    public Map<Integer, Long> getBatchSizeCounts() {
+        Map<Integer, Long> counts = new TreeMap<>();
+        for (Map.Entry<Integer, AtomicLong> entry : batchSizeCounts.entrySet()) {
+            counts.put(entry.getKey(), entry.getValue().get());
+        }
+        return Collections.unmodifiableMap(counts);
+    }
+}
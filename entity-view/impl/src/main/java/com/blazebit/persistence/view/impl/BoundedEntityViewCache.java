@@ -0,0 +1,99 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.view.impl;
+
+import com.blazebit.persistence.parser.util.BoundedCache;
+import com.blazebit.persistence.view.CacheStatistics;
+import com.blazebit.persistence.view.spi.EntityViewCache;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An entity view cache that evicts the least recently used entries when the maximum size is reached.
+ * A maximum size of <code>0</code> means the cache is unbounded.
+ *
+ * @param <K> The key type
+ * @param <V> The value type
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+public class BoundedEntityViewCache<K, V> implements EntityViewCache<K, V> {
+
+    private final int maximumSize;
+    private final BoundedCache<K, V> boundedCache;
+    private final ConcurrentMap<K, V> unboundedCache;
+    private final AtomicLong hitCount;
+    private final AtomicLong missCount;
+
+    public BoundedEntityViewCache(int maximumSize) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("Invalid maximum size for entity view cache: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        if (maximumSize == 0) {
+            this.boundedCache = null;
+            this.unboundedCache = new ConcurrentHashMap<>();
+            this.hitCount = new AtomicLong();
+            this.missCount = new AtomicLong();
+        } else {
+            this.boundedCache = new BoundedCache<>(maximumSize);
+            this.unboundedCache = null;
+            this.hitCount = null;
+            this.missCount = null;
+        }
+    }
+
+    @Override
+    public V get(K key) {
+        if (boundedCache != null) {
+            return boundedCache.get(key);
+        }
+        V value = unboundedCache.get(key);
+        if (value == null) {
+            missCount.incrementAndGet();
+        } else {
+            hitCount.incrementAndGet();
+        }
+        return value;
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        if (boundedCache != null) {
+            return boundedCache.putIfAbsent(key, value);
+        }
+        return unboundedCache.putIfAbsent(key, value);
+    }
+
+    @Override
+    public boolean remove(K key, V value) {
+        if (boundedCache != null) {
+            return boundedCache.remove(key, value);
+        }
+        return unboundedCache.remove(key, value);
+    }
+
+    @Override
+    public void clear() {
+        if (boundedCache != null) {
+            boundedCache.clear();
+        } else {
+            unboundedCache.clear();
+            hitCount.set(0L);
+            missCount.set(0L);
+        }
+    }
+
+    @Override
+    public CacheStatistics getStatistics() {
+        if (boundedCache != null) {
+            return new CacheStatistics(boundedCache.getHitCount(), boundedCache.getMissCount(), boundedCache.getEvictionCount(), boundedCache.getSize(), maximumSize);
+        }
+        return new CacheStatistics(hitCount.get(), missCount.get(), 0L, unboundedCache.size(), maximumSize);
+    }
+}
@@ -0,0 +1,23 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.view.impl;
+
+import com.blazebit.persistence.view.spi.EntityViewCache;
+import com.blazebit.persistence.view.spi.EntityViewCacheFactory;
+
+/**
+ * The default cache factory which creates {@link BoundedEntityViewCache} instances.
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+public class BoundedEntityViewCacheFactory implements EntityViewCacheFactory {
+
+    @Override
+    public <K, V> EntityViewCache<K, V> createCache(String cacheName, int maximumSize) {
+        return new BoundedEntityViewCache<>(maximumSize);
+    }
+}
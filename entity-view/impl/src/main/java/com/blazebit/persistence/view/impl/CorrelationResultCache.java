@@ -0,0 +1,166 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.view.impl;
+
+import com.blazebit.persistence.view.spi.EntityViewCache;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Caches the results of correlated attributes per correlation value across queries.
+ * Every entry records the time at which it expires. An expired entry is removed from the underlying cache when it is accessed,
+ * so an entry is visible for at most the time to live after it was loaded.
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+public final class CorrelationResultCache {
+
+    /**
+     * The marker that is returned by {@link #get(Key)} if no result is cached.
+     */
+    public static final Object NOT_CACHED = new Object();
+
+    private final EntityViewCache<Key, Entry> cache;
+    private final long timeToLiveMillis;
+
+    public CorrelationResultCache(EntityViewCache<Key, Entry> cache, long timeToLiveMillis) {
+        if (timeToLiveMillis < 1) {
+            throw new IllegalArgumentException("Invalid time to live for the correlation result cache: " + timeToLiveMillis);
+        }
+        this.cache = cache;
+        this.timeToLiveMillis = timeToLiveMillis;
+    }
+
+    /**
+     * Returns a copy of the given optional parameters that can be used as part of a key, since results might depend on parameter values.
+     *
+     * @param optionalParameters The optional parameters of the query
+     * @return The optional parameters to use for keys
+     */
+    public static Map<String, Object> copyOptionalParameters(Map<String, Object> optionalParameters) {
+        return new HashMap<>(optionalParameters);
+    }
+
+    /**
+     * Creates the key for the correlation result of the given attribute and correlation value.
+     *
+     * @param viewRootClass The entity view class that was queried
+     * @param embeddingViewClass The entity view class that declares the correlated attribute
+     * @param attributePath The path of the correlated attribute relative to the queried entity view
+     * @param fetches The fetches of the query relative to the queried entity view
+     * @param optionalParameters The optional parameters of the query as returned by {@link #copyOptionalParameters(Map)}
+     * @param correlationValue The correlation value
+     * @return The key
+     */
+    public Key createKey(Class<?> viewRootClass, Class<?> embeddingViewClass, String attributePath, Set<String> fetches, Map<String, Object> optionalParameters, Object correlationValue) {
+        return new Key(viewRootClass, embeddingViewClass, attributePath, fetches, optionalParameters, correlationValue);
+    }
+
+    /**
+     * Returns the cached result for the given key, or {@link #NOT_CACHED} if no result is cached.
+     *
+     * @param key The key
+     * @return The cached result or {@link #NOT_CACHED}
+     */
+    public Object get(Key key) {
+        Entry entry = cache.get(key);
+        if (entry == null) {
+            return NOT_CACHED;
+        }
+        if (entry.expirationTime - System.currentTimeMillis() <= 0) {
+            // Only remove the expired entry, a concurrently loaded entry must stay
+            cache.remove(key, entry);
+            return NOT_CACHED;
+        }
+        return entry.result;
+    }
+
+    public void put(Key key, Object result) {
+        Entry entry = new Entry(result, System.currentTimeMillis() + timeToLiveMillis);
+        Entry oldEntry = cache.putIfAbsent(key, entry);
+        if (oldEntry != null && oldEntry != entry && oldEntry.expirationTime - System.currentTimeMillis() <= 0) {
+            // Replace an expired entry that wasn't accessed since it expired
+            if (cache.remove(key, oldEntry)) {
+                cache.putIfAbsent(key, entry);
+            }
+        }
+    }
+
+    /**
+     * A cached correlation result along with the time at which it expires.
+     *
+     * @author Christian Beikov
+     * @since 1.6.15
+     */
+    public static final class Entry {
+
+        private final Object result;
+        private final long expirationTime;
+
+        private Entry(Object result, long expirationTime) {
+            this.result = result;
+            this.expirationTime = expirationTime;
+        }
+    }
+
+    /**
+     * @author Christian Beikov
+     * @since 1.6.15
+     */
+    public static final class Key {
+
+        private final Class<?> viewRootClass;
+        private final Class<?> embeddingViewClass;
+        private final String attributePath;
+        private final Set<String> fetches;
+        private final Map<String, Object> optionalParameters;
+        private final Object correlationValue;
+        private final int hash;
+
+        private Key(Class<?> viewRootClass, Class<?> embeddingViewClass, String attributePath, Set<String> fetches, Map<String, Object> optionalParameters, Object correlationValue) {
+            this.viewRootClass = viewRootClass;
+            this.embeddingViewClass = embeddingViewClass;
+            this.attributePath = attributePath;
+            this.fetches = fetches;
+            this.optionalParameters = optionalParameters;
+            this.correlationValue = correlationValue;
+            int hash = viewRootClass.hashCode();
+            hash = 31 * hash + embeddingViewClass.hashCode();
+            hash = 31 * hash + attributePath.hashCode();
+            hash = 31 * hash + fetches.hashCode();
+            hash = 31 * hash + optionalParameters.hashCode();
+            hash = 31 * hash + correlationValue.hashCode();
+            this.hash = hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+
+            Key key = (Key) o;
+            return hash == key.hash
+                    && viewRootClass == key.viewRootClass
+                    && embeddingViewClass == key.embeddingViewClass
+                    && attributePath.equals(key.attributePath)
+                    && correlationValue.equals(key.correlationValue)
+                    && fetches.equals(key.fetches)
+                    && optionalParameters.equals(key.optionalParameters);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -42,18 +42,24 @@ public final class EntityViewConfiguration {
     private final NavigableSet<String> fetches;
     private final Map<String, Integer> batchSizeConfiguration;
     private final Map<String, BatchCorrelationMode> expectBatchCorrelationValuesConfiguration;
+    private final Map<String, Integer> adaptiveBatchSizeConfiguration;
+    private final AdaptiveBatchSizeStatistics adaptiveBatchSizeStatistics;
+    private final Map<String, Boolean> correlationResultCachingConfiguration;
+    private final CorrelationResultCache correlationResultCache;
 
-    public EntityViewConfiguration(FullQueryBuilder<?, ?> criteriaBuilder, ExpressionFactory expressionFactory, ViewJpqlMacro viewJpqlMacro, EmbeddingViewJpqlMacro embeddingViewJpqlMacro, Map<String, Object> optionalParameters, Map<String, Object> properties, Collection<String> fetches, String attributePath) {
-        this(criteriaBuilder, expressionFactory, viewJpqlMacro, embeddingViewJpqlMacro, optionalParameters, properties, getFetches(fetches, attributePath));
+    public EntityViewConfiguration(FullQueryBuilder<?, ?> criteriaBuilder, ExpressionFactory expressionFactory, ViewJpqlMacro viewJpqlMacro, EmbeddingViewJpqlMacro embeddingViewJpqlMacro, Map<String, Object> optionalParameters, Map<String, Object> properties, Collection<String> fetches, String attributePath, AdaptiveBatchSizeStatistics adaptiveBatchSizeStatistics, CorrelationResultCache correlationResultCache) {
+        this(criteriaBuilder, expressionFactory, viewJpqlMacro, embeddingViewJpqlMacro, optionalParameters, properties, getFetches(fetches, attributePath), adaptiveBatchSizeStatistics, correlationResultCache);
     }
 
-    public EntityViewConfiguration(FullQueryBuilder<?, ?> criteriaBuilder, ExpressionFactory expressionFactory, ViewJpqlMacro viewJpqlMacro, EmbeddingViewJpqlMacro embeddingViewJpqlMacro, Map<String, Object> optionalParameters, Map<String, Object> properties, Collection<String> fetches, ManagedViewTypeImplementor<?> managedViewType) {
-        this(criteriaBuilder, expressionFactory, viewJpqlMacro, embeddingViewJpqlMacro, optionalParameters, properties, getFetches(fetches, managedViewType));
+    public EntityViewConfiguration(FullQueryBuilder<?, ?> criteriaBuilder, ExpressionFactory expressionFactory, ViewJpqlMacro viewJpqlMacro, EmbeddingViewJpqlMacro embeddingViewJpqlMacro, Map<String, Object> optionalParameters, Map<String, Object> properties, Collection<String> fetches, ManagedViewTypeImplementor<?> managedViewType, AdaptiveBatchSizeStatistics adaptiveBatchSizeStatistics, CorrelationResultCache correlationResultCache) {
+        this(criteriaBuilder, expressionFactory, viewJpqlMacro, embeddingViewJpqlMacro, optionalParameters, properties, getFetches(fetches, managedViewType), adaptiveBatchSizeStatistics, correlationResultCache);
     }
 
-    private EntityViewConfiguration(FullQueryBuilder<?, ?> criteriaBuilder, ExpressionFactory expressionFactory, ViewJpqlMacro viewJpqlMacro, EmbeddingViewJpqlMacro embeddingViewJpqlMacro, Map<String, Object> optionalParameters, Map<String, Object> properties, NavigableSet<String> fetches) {
+    private EntityViewConfiguration(FullQueryBuilder<?, ?> criteriaBuilder, ExpressionFactory expressionFactory, ViewJpqlMacro viewJpqlMacro, EmbeddingViewJpqlMacro embeddingViewJpqlMacro, Map<String, Object> optionalParameters, Map<String, Object> properties, NavigableSet<String> fetches, AdaptiveBatchSizeStatistics adaptiveBatchSizeStatistics, CorrelationResultCache correlationResultCache) {
         Map<String, Integer> batchSizeConfiguration = new HashMap<String, Integer>(properties.size());
         Map<String, BatchCorrelationMode> expectBatchCorrelationValuesConfiguration = new HashMap<>(properties.size());
+        Map<String, Integer> adaptiveBatchSizeConfiguration = new HashMap<>(properties.size());
+        Map<String, Boolean> correlationResultCachingConfiguration = new HashMap<>(properties.size());
 
         for (Map.Entry<String, Object> entry : properties.entrySet()) {
             String key = entry.getKey();
@@ -87,6 +93,26 @@ public final class EntityViewConfiguration {
                     key = key.substring(ConfigurationProperties.EXPECT_BATCH_MODE.length() + 1);
                     expectBatchCorrelationValuesConfiguration.put(key, value);
                 }
+            } else if (key.startsWith(ConfigurationProperties.ADAPTIVE_BATCH_SIZE)) {
+                Integer value = getBatchSize(key, entry.getValue());
+                if (key.length() == ConfigurationProperties.ADAPTIVE_BATCH_SIZE.length()) {
+                    adaptiveBatchSizeConfiguration.put("", value);
+                } else if (key.length() < ConfigurationProperties.ADAPTIVE_BATCH_SIZE.length() + 2) {
+                    throw new IllegalArgumentException("Invalid adaptive batch size configuration!");
+                } else {
+                    key = key.substring(ConfigurationProperties.ADAPTIVE_BATCH_SIZE.length() + 1);
+                    adaptiveBatchSizeConfiguration.put(key, value);
+                }
+            } else if (key.startsWith(ConfigurationProperties.CORRELATION_RESULT_CACHING)) {
+                Boolean value = getCorrelationResultCaching(key, entry.getValue());
+                if (key.length() == ConfigurationProperties.CORRELATION_RESULT_CACHING.length()) {
+                    correlationResultCachingConfiguration.put("", value);
+                } else if (key.length() < ConfigurationProperties.CORRELATION_RESULT_CACHING.length() + 2) {
+                    throw new IllegalArgumentException("Invalid correlation result caching configuration!");
+                } else {
+                    key = key.substring(ConfigurationProperties.CORRELATION_RESULT_CACHING.length() + 1);
+                    correlationResultCachingConfiguration.put(key, value);
+                }
             }
         }
 
@@ -98,6 +124,10 @@ public final class EntityViewConfiguration {
         this.fetches = fetches;
         this.batchSizeConfiguration = Collections.unmodifiableMap(batchSizeConfiguration);
         this.expectBatchCorrelationValuesConfiguration = Collections.unmodifiableMap(expectBatchCorrelationValuesConfiguration);
+        this.adaptiveBatchSizeConfiguration = Collections.unmodifiableMap(adaptiveBatchSizeConfiguration);
+        this.adaptiveBatchSizeStatistics = adaptiveBatchSizeStatistics;
+        this.correlationResultCachingConfiguration = Collections.unmodifiableMap(correlationResultCachingConfiguration);
+        this.correlationResultCache = correlationResultCache;
         this.criteriaBuilder.registerMacro("view", viewJpqlMacro);
         this.criteriaBuilder.registerMacro("embedding_view", embeddingViewJpqlMacro);
     }
@@ -111,6 +141,10 @@ public final class EntityViewConfiguration {
         this.fetches = fetches;
         this.batchSizeConfiguration = original.batchSizeConfiguration;
         this.expectBatchCorrelationValuesConfiguration = original.expectBatchCorrelationValuesConfiguration;
+        this.adaptiveBatchSizeConfiguration = original.adaptiveBatchSizeConfiguration;
+        this.adaptiveBatchSizeStatistics = original.adaptiveBatchSizeStatistics;
+        this.correlationResultCachingConfiguration = original.correlationResultCachingConfiguration;
+        this.correlationResultCache = original.correlationResultCache;
     }
 
     private static NavigableSet<String> getFetches(Collection<String> fetches, String attributePath) {
@@ -267,6 +301,67 @@ public final class EntityViewConfiguration {
         return value;
     }
 
+    /**
+     * Returns the maximum batch size up to which the batch size of the given attribute is adapted to the number of correlation values,
+     * or <code>0</code> if the batch size of the attribute is not adaptive.
+     *
+     * @param attributePath The attribute path
+     * @return The maximum adaptive batch size or <code>0</code>
+     */
+    public int getMaxAdaptiveBatchSize(String attributePath) {
+        Integer value = adaptiveBatchSizeConfiguration.get(attributePath);
+        if (value == null) {
+            value = adaptiveBatchSizeConfiguration.get("");
+        }
+        if (value == null) {
+            return 0;
+        }
+
+        return value;
+    }
+
+    public AdaptiveBatchSizeStatistics getAdaptiveBatchSizeStatistics() {
+        return adaptiveBatchSizeStatistics;
+    }
+
+    /**
+     * Returns whether the results of the given correlated attribute should be cached across queries.
+     * This is only the case if caching is enabled for the attribute and the correlation result cache is not disabled.
+     *
+     * @param attributePath The attribute path
+     * @return Whether the correlation results should be cached
+     */
+    public boolean isCorrelationResultCaching(String attributePath) {
+        if (correlationResultCache == null) {
+            return false;
+        }
+        Boolean value = correlationResultCachingConfiguration.get(attributePath);
+        if (value == null) {
+            value = correlationResultCachingConfiguration.get("");
+        }
+
+        return value != null && value;
+    }
+
+    public CorrelationResultCache getCorrelationResultCache() {
+        return correlationResultCache;
+    }
+
+    private Boolean getCorrelationResultCaching(String key, Object value) {
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        } else if (value instanceof String) {
+            String s = (String) value;
+            if ("true".equalsIgnoreCase(s)) {
+                return Boolean.TRUE;
+            } else if ("false".equalsIgnoreCase(s)) {
+                return Boolean.FALSE;
+            }
+        }
+
+        throw new IllegalArgumentException("Invalid correlation result caching configuration " + value + " for key: " + key);
+    }
+
     private Integer getBatchSize(String key, Object value) {
         Integer val = null;
         if (value instanceof Integer) {
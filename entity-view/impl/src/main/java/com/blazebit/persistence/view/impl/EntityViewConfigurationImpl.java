@@ -67,10 +67,15 @@ public class EntityViewConfigurationImpl implements EntityViewConfiguration {
         properties.put(ConfigurationProperties.UPDATER_DISALLOW_OWNED_UPDATABLE_SUBVIEW, "true");
         properties.put(ConfigurationProperties.UPDATER_STRICT_CASCADING_CHECK, "true");
         properties.put(ConfigurationProperties.UPDATER_ERROR_ON_INVALID_PLURAL_SETTER, "false");
+        properties.put(ConfigurationProperties.UPDATER_QUERY_CACHE_MAX_SIZE, "1024");
         properties.put(ConfigurationProperties.STATIC_BUILDER_SCANNING_DISABLED, "false");
         properties.put(ConfigurationProperties.STATIC_IMPLEMENTATION_SCANNING_DISABLED, "false");
         properties.put(ConfigurationProperties.STATIC_METAMODEL_SCANNING_DISABLED, "false");
         properties.put(ConfigurationProperties.CREATE_EMPTY_FLAT_VIEWS, "true");
+        properties.put(ConfigurationProperties.CACHE_MAX_SIZE, "0");
+        properties.put(ConfigurationProperties.METAMODEL_SNAPSHOT_WRITE, "false");
+        properties.put(ConfigurationProperties.CORRELATION_RESULT_CACHE_MAX_SIZE, "1024");
+        properties.put(ConfigurationProperties.CORRELATION_RESULT_CACHE_TTL, "60000");
 
         typeTestValues.put(boolean.class, true);
         typeTestValues.put(byte.class, Byte.MAX_VALUE);
@@ -24,6 +24,7 @@ import com.blazebit.persistence.spi.JpqlFunction;
 import com.blazebit.persistence.spi.JpqlMacro;
 import com.blazebit.persistence.spi.PackageOpener;
 import com.blazebit.persistence.view.AttributeFilterProvider;
+import com.blazebit.persistence.view.CacheStatistics;
 import com.blazebit.persistence.view.ConfigurationProperties;
 import com.blazebit.persistence.view.ConvertOperationBuilder;
 import com.blazebit.persistence.view.ConvertOption;
@@ -85,6 +86,7 @@ import com.blazebit.persistence.view.impl.metamodel.ConstrainedAttribute;
 import com.blazebit.persistence.view.impl.metamodel.ManagedViewTypeImpl;
 import com.blazebit.persistence.view.impl.metamodel.ManagedViewTypeImplementor;
 import com.blazebit.persistence.view.impl.metamodel.MappingConstructorImpl;
+import com.blazebit.persistence.view.impl.metamodel.MetamodelSnapshot;
 import com.blazebit.persistence.view.impl.metamodel.MetamodelBuildingContext;
 import com.blazebit.persistence.view.impl.metamodel.MetamodelBuildingContextImpl;
 import com.blazebit.persistence.view.impl.metamodel.ViewMetamodelImpl;
@@ -99,6 +101,7 @@ import com.blazebit.persistence.view.impl.update.EntityViewUpdaterImpl;
 import com.blazebit.persistence.view.impl.update.Listeners;
 import com.blazebit.persistence.view.impl.update.SimpleUpdateContext;
 import com.blazebit.persistence.view.impl.update.UpdateContext;
+import com.blazebit.persistence.view.impl.update.UpdateQueryKey;
 import com.blazebit.persistence.view.impl.update.flush.CompositeAttributeFlusher;
 import com.blazebit.persistence.view.impl.update.listener.ViewInstancePostCommitListener;
 import com.blazebit.persistence.view.impl.update.listener.ViewInstancePostPersistEntityListener;
@@ -124,14 +127,18 @@ import com.blazebit.persistence.view.metamodel.PluralAttribute;
 import com.blazebit.persistence.view.metamodel.SingularAttribute;
 import com.blazebit.persistence.view.metamodel.ViewType;
 import com.blazebit.persistence.view.spi.EmbeddingViewJpqlMacro;
+import com.blazebit.persistence.view.spi.EntityViewCache;
+import com.blazebit.persistence.view.spi.EntityViewCacheFactory;
 import com.blazebit.persistence.view.spi.TransactionSupport;
 import com.blazebit.persistence.view.spi.ViewJpqlMacro;
+import com.blazebit.persistence.view.spi.type.BasicUserType;
 import com.blazebit.persistence.view.spi.type.DirtyStateTrackable;
 import com.blazebit.persistence.view.spi.type.EntityViewProxy;
 import com.blazebit.persistence.view.spi.type.MutableStateTrackable;
 import com.blazebit.reflection.ReflectionUtils;
 
 import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
 import javax.persistence.metamodel.EntityType;
 import javax.persistence.metamodel.ManagedType;
 import javax.persistence.metamodel.Metamodel;
@@ -141,11 +148,15 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.TypeVariable;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -185,11 +196,11 @@ public class EntityViewManagerImpl implements EntityViewManager {
     private final TransactionSupport transactionSupport;
     private final Map<String, Object> optionalParameters;
     private final boolean supportsTransientReference;
-    private final ConcurrentMap<ViewTypeObjectBuilderTemplate.Key, ViewTypeObjectBuilderTemplate<?>> objectBuilderCache;
+    private final EntityViewCache<ViewTypeObjectBuilderTemplate.Key, ViewTypeObjectBuilderTemplate<?>> objectBuilderCache;
     private final ConcurrentMap<ManagedViewType<?>, EntityViewUpdaterImpl> entityViewUpdaterCache;
-    private final ConcurrentMap<ContextAwareUpdaterKey, EntityViewUpdaterImpl> contextAwareEntityViewUpdaterCache;
+    private final EntityViewCache<ContextAwareUpdaterKey, EntityViewUpdaterImpl> contextAwareEntityViewUpdaterCache;
     private final ConcurrentMap<ViewMapper.Key<?, ?>, ViewMapper<?, ?>> entityViewMappers;
-    private final ConcurrentMap<ViewMapperConfigKey, ViewMapper<?, ?>> configuredEntityViewMappers;
+    private final EntityViewCache<ViewMapperConfigKey, ViewMapper<?, ?>> configuredEntityViewMappers;
     private final ConcurrentMap<Class<?>, Constructor<?>> createConstructorCache;
     private final ConcurrentMap<Class<?>, Constructor<?>> referenceConstructorCache;
     private final ConcurrentMap<Class<?>, ListenerTypeInfo> listenerClassTypeInfo;
@@ -201,6 +212,14 @@ public class EntityViewManagerImpl implements EntityViewManager {
     private final Map<ViewBuilderKey, Constructor<? extends EntityViewBuilder<?>>> viewBuilderClasses;
     private final boolean unsafeDisabled;
     private final boolean strictCascadingCheck;
+    private final EntityViewCache<UpdateQueryKey, String> updateQueryCache;
+    private final Map<String, EntityViewCache<?, ?>> caches;
+    // Templates and updaters that are eagerly loaded at boot are never evicted
+    private final ConcurrentMap<ViewTypeObjectBuilderTemplate.Key, ViewTypeObjectBuilderTemplate<?>> pinnedObjectBuilderTemplates;
+    private final ConcurrentMap<ContextAwareUpdaterKey, EntityViewUpdaterImpl> pinnedContextAwareEntityViewUpdaters;
+    private volatile boolean eagerLoading;
+    private final AdaptiveBatchSizeStatistics adaptiveBatchSizeStatistics = new AdaptiveBatchSizeStatistics();
+    private final CorrelationResultCache correlationResultCache;
 
     public EntityViewManagerImpl(EntityViewConfigurationImpl config, CriteriaBuilderFactory cbf) {
         this.cbf = cbf;
@@ -212,6 +231,28 @@ public class EntityViewManagerImpl implements EntityViewManager {
         this.entityIdAccessor = new EntityIdAttributeAccessor(jpaProvider);
         this.unsafeDisabled = !Boolean.valueOf(String.valueOf(config.getProperty(ConfigurationProperties.PROXY_UNSAFE_ALLOWED)));
         this.strictCascadingCheck = Boolean.valueOf(String.valueOf(config.getProperty(ConfigurationProperties.UPDATER_STRICT_CASCADING_CHECK)));
+        EntityViewCacheFactory cacheFactory = createCacheFactory(config.getProperties().get(ConfigurationProperties.CACHE_FACTORY));
+        int cacheMaxSize = getNonNegativeIntProperty(config, ConfigurationProperties.CACHE_MAX_SIZE);
+        int updateQueryCacheMaxSize = getNonNegativeIntProperty(config, ConfigurationProperties.UPDATER_QUERY_CACHE_MAX_SIZE);
+        int correlationResultCacheMaxSize = getNonNegativeIntProperty(config, ConfigurationProperties.CORRELATION_RESULT_CACHE_MAX_SIZE);
+        Map<String, EntityViewCache<?, ?>> caches = new LinkedHashMap<>();
+        this.objectBuilderCache = createCache(caches, cacheFactory, EntityViewCacheFactory.OBJECT_BUILDER_TEMPLATE_CACHE, cacheMaxSize);
+        this.contextAwareEntityViewUpdaterCache = createCache(caches, cacheFactory, EntityViewCacheFactory.CONTEXT_AWARE_UPDATER_CACHE, cacheMaxSize);
+        this.configuredEntityViewMappers = createCache(caches, cacheFactory, EntityViewCacheFactory.CONFIGURED_VIEW_MAPPER_CACHE, cacheMaxSize);
+        if (updateQueryCacheMaxSize == 0) {
+            this.updateQueryCache = null;
+        } else {
+            this.updateQueryCache = createCache(caches, cacheFactory, EntityViewCacheFactory.UPDATE_QUERY_CACHE, updateQueryCacheMaxSize);
+        }
+        if (correlationResultCacheMaxSize == 0) {
+            this.correlationResultCache = null;
+        } else {
+            EntityViewCache<CorrelationResultCache.Key, CorrelationResultCache.Entry> cache = createCache(caches, cacheFactory, EntityViewCacheFactory.CORRELATION_RESULT_CACHE, correlationResultCacheMaxSize);
+            this.correlationResultCache = new CorrelationResultCache(cache, getNonNegativeIntProperty(config, ConfigurationProperties.CORRELATION_RESULT_CACHE_TTL));
+        }
+        this.caches = Collections.unmodifiableMap(caches);
+        this.pinnedObjectBuilderTemplates = new ConcurrentHashMap<>();
+        this.pinnedContextAwareEntityViewUpdaters = new ConcurrentHashMap<>();
         this.proxyFactory = new ProxyFactory(unsafeDisabled, strictCascadingCheck, packageOpener);
         this.transactionSupport = config.getTransactionSupport();
         this.optionalParameters = Collections.unmodifiableMap(new HashMap<>(config.getOptionalParameters()));
@@ -239,6 +280,22 @@ public class EntityViewManagerImpl implements EntityViewManager {
             registeredFunctions.put(entry.getKey().toLowerCase(), entry.getValue());
         }
 
+        String snapshotFile = config.getProperty(ConfigurationProperties.METAMODEL_SNAPSHOT_FILE);
+        java.nio.file.Path snapshotPath = null;
+        String snapshotFingerprint = null;
+        if (snapshotFile != null && !snapshotFile.isEmpty() && (validateManagedTypes || validateExpressions)) {
+            snapshotFingerprint = computeMetamodelFingerprint(config, cbf, entityMetamodel, registeredFunctions.keySet());
+            if (snapshotFingerprint != null) {
+                if (snapshotFingerprint.equals(MetamodelSnapshot.readFingerprint(Paths.get(snapshotFile)))) {
+                    // The same classes and settings were already validated successfully, so we can skip the validation
+                    validateManagedTypes = false;
+                    validateExpressions = false;
+                } else if (Boolean.valueOf(String.valueOf(config.getProperty(ConfigurationProperties.METAMODEL_SNAPSHOT_WRITE)))) {
+                    snapshotPath = Paths.get(snapshotFile);
+                }
+            }
+        }
+
         MetamodelBuildingContext context = new MetamodelBuildingContextImpl(
                 config.getProperties(),
                 new DefaultBasicUserTypeRegistry(config.getUserTypeRegistry(), cbf),
@@ -278,11 +335,8 @@ public class EntityViewManagerImpl implements EntityViewManager {
 
         this.metamodel = viewMetamodel;
         this.supportsTransientReference = jpaProvider.supportsTransientEntityAsParameter();
-        this.objectBuilderCache = new ConcurrentHashMap<>();
         this.entityViewUpdaterCache = new ConcurrentHashMap<>();
-        this.contextAwareEntityViewUpdaterCache = new ConcurrentHashMap<>();
         this.entityViewMappers = new ConcurrentHashMap<>();
-        this.configuredEntityViewMappers = new ConcurrentHashMap<>();
         this.createConstructorCache = new ConcurrentHashMap<>();
         this.referenceConstructorCache = new ConcurrentHashMap<>();
         this.listenerClassTypeInfo = new ConcurrentHashMap<>();
@@ -376,6 +430,10 @@ public class EntityViewManagerImpl implements EntityViewManager {
             throw new IllegalArgumentException(sb.toString(), exception);
         }
 
+        if (snapshotPath != null) {
+            MetamodelSnapshot.write(snapshotPath, snapshotFingerprint);
+        }
+
         this.convertibleManagedViewTypes = convertibleManagedViewTypes;
         this.viewBuilderClasses = viewBuilderConstructors;
 
@@ -422,17 +480,19 @@ public class EntityViewManagerImpl implements EntityViewManager {
 
         this.listeners = listeners;
 
+        this.eagerLoading = true;
         if (Boolean.valueOf(String.valueOf(config.getProperty(ConfigurationProperties.TEMPLATE_EAGER_LOADING)))) {
             for (ViewTypeImpl<?> view : metamodel.views()) {
                 // TODO: Might be a good idea to let the view root be overridden or specified via the annotation
+                // The probable view root is the default alias of a query for the entity type, so queries using that alias will hit the prepared templates
                 String probableViewRoot = StringUtils.firstToLower(view.getEntityClass().getSimpleName());
                 MacroConfigurationExpressionFactory macroAwareExpressionFactory = context.createMacroAwareExpressionFactory(probableViewRoot);
                 ViewJpqlMacro viewJpqlMacro = (ViewJpqlMacro) macroAwareExpressionFactory.getDefaultMacroConfiguration().get("VIEW").getState()[0];
                 EmbeddingViewJpqlMacro embeddingViewJpqlMacro = (EmbeddingViewJpqlMacro) macroAwareExpressionFactory.getDefaultMacroConfiguration().get("EMBEDDING_VIEW").getState()[0];
-                getTemplate(macroAwareExpressionFactory, view, null, null, viewJpqlMacro, null, embeddingViewJpqlMacro);
+                getTemplate(macroAwareExpressionFactory, view, null, probableViewRoot, viewJpqlMacro, null, embeddingViewJpqlMacro);
 
                 for (MappingConstructor<?> constructor : view.getConstructors()) {
-                    getTemplate(macroAwareExpressionFactory, view, (MappingConstructorImpl) constructor, null, viewJpqlMacro, null, embeddingViewJpqlMacro);
+                    getTemplate(macroAwareExpressionFactory, view, (MappingConstructorImpl) constructor, probableViewRoot, viewJpqlMacro, null, embeddingViewJpqlMacro);
                 }
             }
         } else if (Boolean.valueOf(String.valueOf(config.getProperty(ConfigurationProperties.PROXY_EAGER_LOADING)))) {
@@ -447,6 +507,83 @@ public class EntityViewManagerImpl implements EntityViewManager {
                 getUpdater(null, (ManagedViewTypeImplementor<?>) view, null, null, null);
             }
         }
+        this.eagerLoading = false;
+    }
+
+    private static String computeMetamodelFingerprint(EntityViewConfigurationImpl config, CriteriaBuilderFactory cbf, EntityMetamodel entityMetamodel, Set<String> functionNames) {
+        Set<Class<?>> classes = new HashSet<>(config.getBootContext().getViewClasses());
+        for (ManagedType<?> managedType : entityMetamodel.getManagedTypes()) {
+            if (managedType.getJavaType() != null) {
+                classes.add(managedType.getJavaType());
+            }
+        }
+        List<String> settings = new ArrayList<>();
+        MetamodelSnapshot.describeManagedTypes(entityMetamodel.getManagedTypes(), settings);
+        settings.add("entityViewImplementation:" + MetamodelSnapshot.describeImplementation(EntityViewManagerImpl.class));
+        settings.add("jpaProvider:" + MetamodelSnapshot.describeImplementation(cbf.getService(JpaProvider.class).getClass()));
+        EntityManagerFactory entityManagerFactory = cbf.getService(EntityManagerFactory.class);
+        settings.add("persistenceProvider:" + MetamodelSnapshot.describeImplementation(entityManagerFactory == null ? null : entityManagerFactory.getClass()));
+        settings.add("dbmsDialect:" + MetamodelSnapshot.describeImplementation(cbf.getService(DbmsDialect.class).getClass()));
+        for (Map.Entry<Object, Object> entry : config.getProperties().entrySet()) {
+            if (!ConfigurationProperties.METAMODEL_SNAPSHOT_FILE.equals(entry.getKey()) && !ConfigurationProperties.METAMODEL_SNAPSHOT_WRITE.equals(entry.getKey())) {
+                settings.add("property:" + MetamodelSnapshot.describeValue(entry.getKey()) + "=" + MetamodelSnapshot.describeValue(entry.getValue()));
+            }
+        }
+        // Properties of the criteria builder factory like the compatible mode influence how expressions are parsed and validated
+        for (Map.Entry<String, String> entry : cbf.getProperties().entrySet()) {
+            settings.add("criteriaBuilderProperty:" + MetamodelSnapshot.describeValue(entry.getKey()) + "=" + MetamodelSnapshot.describeValue(entry.getValue()));
+        }
+        for (String functionName : functionNames) {
+            settings.add("function:" + functionName);
+        }
+        for (Map.Entry<Class<?>, Object> entry : config.getTypeTestValues().entrySet()) {
+            settings.add("typeTestValue:" + entry.getKey().getName() + "=" + MetamodelSnapshot.describeValue(entry.getValue()));
+        }
+        for (Map.Entry<Class<?>, BasicUserType<?>> entry : config.getUserTypeRegistry().getBasicUserTypes().entrySet()) {
+            settings.add("userType:" + entry.getKey().getName() + "=" + MetamodelSnapshot.describeValue(entry.getValue()));
+        }
+        return MetamodelSnapshot.computeFingerprint(classes, settings);
+    }
+
+    private static EntityViewCacheFactory createCacheFactory(Object value) {
+        if (value == null) {
+            return new BoundedEntityViewCacheFactory();
+        } else if (value instanceof EntityViewCacheFactory) {
+            return (EntityViewCacheFactory) value;
+        }
+        String className = value instanceof Class<?> ? ((Class<?>) value).getName() : value.toString();
+        try {
+            return (EntityViewCacheFactory) Class.forName(className).newInstance();
+        } catch (Exception ex) {
+            throw new IllegalArgumentException("Could not instantiate entity view cache factory: " + className, ex);
+        }
+    }
+
+    private static <K, V> EntityViewCache<K, V> createCache(Map<String, EntityViewCache<?, ?>> caches, EntityViewCacheFactory cacheFactory, String cacheName, int maximumSize) {
+        EntityViewCache<K, V> cache = cacheFactory.createCache(cacheName, maximumSize);
+        if (cache == null) {
+            throw new IllegalArgumentException("The entity view cache factory " + cacheFactory.getClass().getName() + " returned no cache for the name: " + cacheName);
+        }
+        caches.put(cacheName, cache);
+        return cache;
+    }
+
+    private static int getNonNegativeIntProperty(EntityViewConfigurationImpl config, String propertyName) {
+        Object value = config.getProperties().get(propertyName);
+        int intValue;
+        if (value instanceof Integer) {
+            intValue = (Integer) value;
+        } else {
+            try {
+                intValue = Integer.parseInt(String.valueOf(value));
+            } catch (NumberFormatException ex) {
+                throw new IllegalArgumentException("Invalid value '" + value + "' for the integer property: " + propertyName, ex);
+            }
+        }
+        if (intValue < 0) {
+            throw new IllegalArgumentException("Invalid negative value " + intValue + " for the integer property: " + propertyName);
+        }
+        return intValue;
     }
 
     private static String getMetamodelClassName(Class<?> javaType) {
@@ -763,6 +900,23 @@ public class EntityViewManagerImpl implements EntityViewManager {
         return optionalParameters;
     }
 
+    @Override
+    public Map<String, CacheStatistics> getCacheStatistics() {
+        Map<String, CacheStatistics> statistics = new LinkedHashMap<>(caches.size());
+        for (Map.Entry<String, EntityViewCache<?, ?>> entry : caches.entrySet()) {
+            statistics.put(entry.getKey(), entry.getValue().getStatistics());
+        }
+        return statistics;
+    }
+
+    public AdaptiveBatchSizeStatistics getAdaptiveBatchSizeStatistics() {
+        return adaptiveBatchSizeStatistics;
+    }
+
+    public CorrelationResultCache getCorrelationResultCache() {
+        return correlationResultCache;
+    }
+
     public JpaProvider getJpaProvider() {
         return jpaProvider;
     }
@@ -779,6 +933,10 @@ public class EntityViewManagerImpl implements EntityViewManager {
         return proxyFactory;
     }
 
+    public EntityViewCache<UpdateQueryKey, String> getUpdateQueryCache() {
+        return updateQueryCache;
+    }
+
     @Override
     public <T> T find(EntityManager entityManager, Class<T> entityViewClass, Object entityId) {
         return find(entityManager, EntityViewSetting.create(entityViewClass), entityId);
@@ -1138,6 +1296,49 @@ public class EntityViewManagerImpl implements EntityViewManager {
         return new DefaultUpdateContext(this, entityManager, false, false, true, entityViewClass, viewId, null);
     }
 
+    @Override
+    public void removeAll(EntityManager entityManager, Collection<?> views) {
+        removeAll(new DefaultUpdateContext(this, entityManager, false, false, true, true, null, views, null), views);
+    }
+
+    @Override
+    public FlushOperationBuilder removeAllWith(EntityManager entityManager, Collection<?> views) {
+        return new DefaultUpdateContext(this, entityManager, false, false, true, true, null, views, null);
+    }
+
+    public void removeAll(UpdateContext context, Collection<?> views) {
+        for (Object view : views) {
+            remove(context, view);
+        }
+    }
+
+    @Override
+    public void removeAll(EntityManager entityManager, Class<?> entityViewClass, Collection<?> viewIds) {
+        removeAll(new DefaultUpdateContext(this, entityManager, false, false, true, true, entityViewClass, viewIds, null), entityViewClass, viewIds);
+    }
+
+    @Override
+    public FlushOperationBuilder removeAllWith(EntityManager entityManager, Class<?> entityViewClass, Collection<?> viewIds) {
+        return new DefaultUpdateContext(this, entityManager, false, false, true, true, entityViewClass, viewIds, null);
+    }
+
+    public void removeAll(UpdateContext context, Class<?> entityViewClass, Collection<?> viewIds) {
+        ManagedViewTypeImplementor<?> viewType = metamodel.managedView(entityViewClass);
+        if (viewType == null) {
+            throw new IllegalArgumentException("Can't remove non entity view object: " + entityViewClass.getName());
+        }
+        if (viewIds.isEmpty()) {
+            return;
+        }
+        EntityViewUpdater updater = getUpdater(null, viewType, null, null, null);
+        try {
+            updater.removeAll(context, viewIds);
+        } catch (Throwable t) {
+            context.getTransactionAccess().markRollbackOnly();
+            ExceptionUtils.doThrow(t);
+        }
+    }
+
     public void update(EntityManager em, Object view, boolean forceFull) {
         update(new DefaultUpdateContext(this, em, forceFull, false, false, null, view, null), view);
     }
@@ -1165,6 +1366,23 @@ public class EntityViewManagerImpl implements EntityViewManager {
     public FlushOperationBuilder saveFullWithTo(EntityManager em, Object view, Object entity) {
         return new DefaultUpdateContext(this, em, true, true, false, null, view, entity);
     }
+
+    @Override
+    public void saveAll(EntityManager em, Collection<?> views) {
+        updateAll(new DefaultUpdateContext(this, em, false, false, false, true, null, views, null), views);
+    }
+
+    @Override
+    public FlushOperationBuilder saveAllWith(EntityManager em, Collection<?> views) {
+        return new DefaultUpdateContext(this, em, false, false, false, true, null, views, null);
+    }
+
+    public void updateAll(UpdateContext context, Collection<?> views) {
+        // Flushing all views within one context allows to reuse the update queries of views with the same dirty state
+        for (Object view : views) {
+            update(context, view);
+        }
+    }
     
     public void update(UpdateContext context, Object view) {
         if (!(view instanceof MutableStateTrackable)) {
@@ -1363,14 +1581,24 @@ public class EntityViewManagerImpl implements EntityViewManager {
     }
 
     public ViewTypeObjectBuilderTemplate<?> getTemplate(MacroConfigurationExpressionFactory ef, ManagedViewTypeImplementor<?> viewType, MappingConstructorImpl<?> mappingConstructor, String entityViewRoot, ViewJpqlMacro viewJpqlMacro, String embeddingViewPath, EmbeddingViewJpqlMacro embeddingViewJpqlMacro, int offset) {
-        ViewTypeObjectBuilderTemplate.Key key = new ViewTypeObjectBuilderTemplate.Key(ef, viewType, mappingConstructor, entityViewRoot, embeddingViewPath, offset);
+        ViewTypeObjectBuilderTemplate.Key key = new ViewTypeObjectBuilderTemplate.Key(ef, viewType, mappingConstructor, entityViewRoot, viewJpqlMacro, embeddingViewPath, embeddingViewJpqlMacro, offset);
         if (!key.isCacheable()) {
             return key.createValue(this, proxyFactory, viewJpqlMacro, embeddingViewJpqlMacro, ef);
         }
-        ViewTypeObjectBuilderTemplate<?> value = objectBuilderCache.get(key);
+        ViewTypeObjectBuilderTemplate<?> value = pinnedObjectBuilderTemplates.get(key);
+        if (value != null) {
+            return value;
+        }
+        if (eagerLoading) {
+            value = key.createSharedValue(this, proxyFactory, viewJpqlMacro, embeddingViewJpqlMacro, ef);
+            ViewTypeObjectBuilderTemplate<?> oldValue = pinnedObjectBuilderTemplates.putIfAbsent(key, value);
+            return oldValue == null ? value : oldValue;
+        }
+
+        value = objectBuilderCache.get(key);
 
         if (value == null) {
-            value = key.createValue(this, proxyFactory, viewJpqlMacro, embeddingViewJpqlMacro, ef);
+            value = key.createSharedValue(this, proxyFactory, viewJpqlMacro, embeddingViewJpqlMacro, ef);
             ViewTypeObjectBuilderTemplate<?> oldValue = objectBuilderCache.putIfAbsent(key, value);
 
             if (oldValue != null) {
@@ -1396,7 +1624,10 @@ public class EntityViewManagerImpl implements EntityViewManager {
             EntityViewUpdaterImpl value;
 
             if (localCache == null || (value = localCache.get(key)) == null) {
-                value = contextAwareEntityViewUpdaterCache.get(key);
+                value = pinnedContextAwareEntityViewUpdaters.get(key);
+                if (value == null) {
+                    value = contextAwareEntityViewUpdaterCache.get(key);
+                }
                 if (value == null) {
                     boolean store = localCache == null;
                     if (store) {
@@ -1404,7 +1635,7 @@ public class EntityViewManagerImpl implements EntityViewManager {
                     }
                     value = new EntityViewUpdaterImpl(this, localCache, viewType, declaredViewType, owner, ownerMapping);
                     if (store) {
-                        contextAwareEntityViewUpdaterCache.putAll((Map<? extends ContextAwareUpdaterKey, ? extends EntityViewUpdaterImpl>) (Map<?, ?>) localCache);
+                        storeContextAwareUpdaters(localCache);
                     }
                 }
             }
@@ -1423,6 +1654,7 @@ public class EntityViewManagerImpl implements EntityViewManager {
                     value = new EntityViewUpdaterImpl(this, localCache, viewType, null, null, null);
                     if (store) {
                         entityViewUpdaterCache.putAll((Map<? extends ManagedViewType<?>, ? extends EntityViewUpdaterImpl>) (Map<?, ?>) localCache);
+                        storeContextAwareUpdaters(localCache);
                     }
                 }
             }
@@ -1431,6 +1663,18 @@ public class EntityViewManagerImpl implements EntityViewManager {
         }
     }
 
+    private void storeContextAwareUpdaters(Map<Object, EntityViewUpdaterImpl> localCache) {
+        for (Map.Entry<Object, EntityViewUpdaterImpl> entry : localCache.entrySet()) {
+            if (entry.getKey() instanceof ContextAwareUpdaterKey) {
+                if (eagerLoading) {
+                    pinnedContextAwareEntityViewUpdaters.putIfAbsent((ContextAwareUpdaterKey) entry.getKey(), entry.getValue());
+                } else {
+                    contextAwareEntityViewUpdaterCache.putIfAbsent((ContextAwareUpdaterKey) entry.getKey(), entry.getValue());
+                }
+            }
+        }
+    }
+
     private void registerFilterMappings() {
         filterMappings.put(ContainsFilter.class.getName(), ContainsFilterImpl.class);
         filterMappings.put(ContainsIgnoreCaseFilter.class.getName(), ContainsIgnoreCaseFilterImpl.class);
@@ -1454,6 +1698,11 @@ public class EntityViewManagerImpl implements EntityViewManager {
     @Override
     public void close() {
         proxyFactory.clear();
+        for (EntityViewCache<?, ?> cache : caches.values()) {
+            cache.clear();
+        }
+        pinnedObjectBuilderTemplates.clear();
+        pinnedContextAwareEntityViewUpdaters.clear();
     }
 
     /**
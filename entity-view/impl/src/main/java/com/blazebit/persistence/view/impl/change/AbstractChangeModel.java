@@ -470,25 +470,31 @@ public abstract class AbstractChangeModel<C, E> implements ChangeModel<C> {
             return Collections.emptyList();
         }
 
-        long dirty = object.$$_getSimpleDirty();
         Object[] initialState = object.$$_getInitialState();
         Object[] dirtyState = object.$$_getMutableState();
         @SuppressWarnings("unchecked")
         DirtyChecker<Object>[] nestedCheckers = ((DirtyChecker<DirtyStateTrackable>) dirtyChecker).getNestedCheckers(object);
         List<ChangeModel<?>> list = new ArrayList<>();
 
-        for (int i = 0; i < dirtyState.length; i++) {
-            long mask = 1L << i;
-            if ((dirty & mask) != 0) {
-                if (nestedCheckers[i].getDirtyKind(initialState[i], dirtyState[i]) != DirtyChecker.DirtyKind.NONE) {
-                    list.add(getChangeModel(initialState[i], dirtyState[i], elementType.getMutableAttribute(i), nestedCheckers[i]));
-                }
-            }
+        // Visit every dirty word, as the simple dirty mask only covers the first 64 attributes
+        long[] dirty = object.$$_getDirty();
+        for (int i = 0; i < dirty.length; i++) {
+            addDirtyChanges(list, elementType, initialState, dirtyState, nestedCheckers, i << 6, dirty[i]);
         }
 
         return list;
     }
 
+    private void addDirtyChanges(List<ChangeModel<?>> list, ManagedViewTypeImplementor<?> elementType, Object[] initialState, Object[] dirtyState, DirtyChecker<Object>[] nestedCheckers, int offset, long dirty) {
+        while (dirty != 0) {
+            int i = offset + Long.numberOfTrailingZeros(dirty);
+            dirty &= dirty - 1;
+            if (nestedCheckers[i].getDirtyKind(initialState[i], dirtyState[i]) != DirtyChecker.DirtyKind.NONE) {
+                list.add(getChangeModel(initialState[i], dirtyState[i], elementType.getMutableAttribute(i), nestedCheckers[i]));
+            }
+        }
+    }
+
     @SuppressWarnings("unchecked")
     protected final <X> ChangeModel<X> getChangeModel(DirtyStateTrackable object, AbstractMethodAttribute<?, ?> methodAttribute, DirtyChecker<? extends DirtyStateTrackable> dirtyChecker) {
         DirtyChecker<Object> attributeDirtyChecker = ((DirtyChecker<DirtyStateTrackable>) dirtyChecker).getNestedCheckers(object)[methodAttribute.getDirtyStateIndex()];
@@ -8,6 +8,7 @@ package com.blazebit.persistence.view.impl.entity;
 import com.blazebit.persistence.view.impl.update.UpdateContext;
 import com.blazebit.persistence.view.impl.update.flush.UnmappedAttributeCascadeDeleter;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -35,6 +36,11 @@ public abstract class AbstractEntityToEntityMapper implements EntityToEntityMapp
         deleter.removeById(context, elementId);
     }
 
+    @Override
+    public void removeByIds(UpdateContext context, Collection<Object> elementIds) {
+        deleter.removeByIds(context, elementIds);
+    }
+
     @Override
     public EntityLoaderFetchGraphNode<?> getFullGraphNode() {
         return entityLoaderFetchGraphNode;
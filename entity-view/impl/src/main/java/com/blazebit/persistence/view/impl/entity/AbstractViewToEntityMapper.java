@@ -20,6 +20,7 @@ import com.blazebit.persistence.view.spi.type.EntityViewProxy;
 import javax.persistence.Query;
 import javax.persistence.metamodel.EntityType;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -143,6 +144,15 @@ public abstract class AbstractViewToEntityMapper implements ViewToEntityMapper {
         defaultUpdater.remove(context, id);
     }
 
+    @Override
+    public void removeByIds(UpdateContext context, Collection<Object> ids) {
+        if (ids.size() == 1) {
+            defaultUpdater.remove(context, ids.iterator().next());
+        } else {
+            defaultUpdater.removeAll(context, ids);
+        }
+    }
+
     @Override
     public Object applyToEntity(UpdateContext context, Object entity, Object element) {
         return null;
@@ -7,6 +7,7 @@ package com.blazebit.persistence.view.impl.entity;
 
 import com.blazebit.persistence.view.impl.update.UpdateContext;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -20,6 +21,8 @@ public interface ElementToEntityMapper {
 
     public void removeById(UpdateContext context, Object elementId);
 
+    public void removeByIds(UpdateContext context, Collection<Object> elementIds);
+
     public Object applyToEntity(UpdateContext context, Object entity, Object element);
 
     public void applyAll(UpdateContext context, List<Object> elements);
@@ -90,7 +90,7 @@ public class InverseEntityToEntityMapper<E> implements InverseElementToEntityMap
 
         Query query = null;
         if (queryString != null) {
-            query = context.getEntityManager().createQuery(queryString);
+            query = context.createQuery(queryString);
             query.setParameter(ID_PARAM_NAME, entityIdAccessor.getValue(element));
         }
 
@@ -167,7 +167,7 @@ public class InverseViewToEntityMapper<E> implements InverseElementToEntityMappe
 
         Query query = null;
         if (queryString != null) {
-            query = context.getEntityManager().createQuery(queryString);
+            query = context.createQuery(queryString);
             if (idAttributeFlusher == null) {
                 query.setParameter(ID_PARAM_NAME, viewIdAccessor.getValue(view));
             } else {
@@ -14,6 +14,7 @@ import com.blazebit.persistence.view.impl.update.flush.FetchGraphNode;
 
 import javax.persistence.Query;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -57,6 +58,11 @@ public class LoadOnlyViewToEntityMapper implements ViewToEntityMapper {
 
     }
 
+    @Override
+    public void removeByIds(UpdateContext context, Collection<Object> ids) {
+
+    }
+
     @Override
     public boolean cascades(Object value) {
         return false;
@@ -0,0 +1,255 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.view.impl.metamodel;
+
+import javax.persistence.metamodel.Attribute;
+import javax.persistence.metamodel.EntityType;
+import javax.persistence.metamodel.ManagedType;
+import javax.persistence.metamodel.PluralAttribute;
+import javax.persistence.metamodel.SingularAttribute;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.logging.Level;
+import java.lang.reflect.Proxy;
+import java.util.logging.Logger;
+
+/**
+ * A snapshot of a successfully validated entity view metamodel. The snapshot records a fingerprint over the bytecode of the entity view
+ * and JPA managed type classes, the structure of the JPA metamodel, the persistence provider, the DBMS dialect as well as the settings
+ * that influence the metamodel. When the fingerprint of a later boot matches, the validation of the metamodel can be skipped because
+ * it would lead to the same result.
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+public final class MetamodelSnapshot {
+
+    private static final Logger LOG = Logger.getLogger(MetamodelSnapshot.class.getName());
+    private static final int MAGIC = 0x42505653;
+    private static final int VERSION = 1;
+    private static final char[] HEX_CHARS = "0123456789abcdef".toCharArray();
+
+    private MetamodelSnapshot() {
+    }
+
+    /**
+     * Computes the fingerprint for the given classes and settings.
+     *
+     * @param classes The entity view and JPA managed type classes
+     * @param settings The settings that influence the metamodel
+     * @return The fingerprint or <code>null</code> if the bytecode of a class could not be read
+     */
+    public static String computeFingerprint(Collection<Class<?>> classes, Collection<String> settings) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            LOG.log(Level.FINE, "Could not compute metamodel fingerprint", ex);
+            return null;
+        }
+
+        List<Class<?>> sortedClasses = new ArrayList<>(classes);
+        Collections.sort(sortedClasses, new Comparator<Class<?>>() {
+            @Override
+            public int compare(Class<?> o1, Class<?> o2) {
+                return o1.getName().compareTo(o2.getName());
+            }
+        });
+        byte[] buffer = new byte[8192];
+        for (Class<?> clazz : sortedClasses) {
+            digest.update(clazz.getName().getBytes(StandardCharsets.UTF_8));
+            ClassLoader classLoader = clazz.getClassLoader();
+            if (classLoader == null) {
+                classLoader = ClassLoader.getSystemClassLoader();
+            }
+            try (InputStream is = classLoader.getResourceAsStream(clazz.getName().replace('.', '/') + ".class")) {
+                if (is == null) {
+                    LOG.fine("Could not read the bytecode of the class '" + clazz.getName() + "' for the metamodel fingerprint");
+                    return null;
+                }
+                int read;
+                while ((read = is.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                }
+            } catch (IOException ex) {
+                LOG.log(Level.FINE, "Could not read the bytecode of the class '" + clazz.getName() + "' for the metamodel fingerprint", ex);
+                return null;
+            }
+        }
+
+        List<String> sortedSettings = new ArrayList<>(settings);
+        Collections.sort(sortedSettings);
+        for (String setting : sortedSettings) {
+            digest.update((byte) 0);
+            digest.update(setting.getBytes(StandardCharsets.UTF_8));
+        }
+
+        byte[] hash = digest.digest();
+        char[] chars = new char[hash.length * 2];
+        for (int i = 0; i < hash.length; i++) {
+            chars[i * 2] = HEX_CHARS[(hash[i] >> 4) & 0xF];
+            chars[i * 2 + 1] = HEX_CHARS[hash[i] & 0xF];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Adds a description of the given JPA managed types, their attributes, attribute types and associations to the given settings.
+     *
+     * @param managedTypes The JPA managed types
+     * @param settings The settings to add the descriptions to
+     */
+    public static void describeManagedTypes(Collection<? extends ManagedType<?>> managedTypes, Collection<String> settings) {
+        for (ManagedType<?> managedType : managedTypes) {
+            String typeName = getTypeName(managedType);
+            settings.add("managedType:" + typeName + ":" + managedType.getPersistenceType() + ":" + getClassName(managedType.getJavaType()));
+            for (Attribute<?, ?> attribute : managedType.getAttributes()) {
+                StringBuilder sb = new StringBuilder();
+                sb.append("attribute:").append(typeName).append('.').append(attribute.getName())
+                        .append(':').append(attribute.getPersistentAttributeType())
+                        .append(':').append(getClassName(attribute.getJavaType()))
+                        .append(":association=").append(attribute.isAssociation());
+                if (attribute instanceof PluralAttribute<?, ?, ?>) {
+                    PluralAttribute<?, ?, ?> pluralAttribute = (PluralAttribute<?, ?, ?>) attribute;
+                    sb.append(":collection=").append(pluralAttribute.getCollectionType())
+                            .append(":element=").append(getClassName(pluralAttribute.getElementType().getJavaType()));
+                } else if (attribute instanceof SingularAttribute<?, ?>) {
+                    SingularAttribute<?, ?> singularAttribute = (SingularAttribute<?, ?>) attribute;
+                    sb.append(":id=").append(singularAttribute.isId())
+                            .append(":version=").append(singularAttribute.isVersion())
+                            .append(":optional=").append(singularAttribute.isOptional());
+                }
+                settings.add(sb.toString());
+            }
+        }
+    }
+
+    /**
+     * Returns a description of the given implementation class that consists of the class name and the implementation version of its package.
+     * For JDK proxies, only the implemented interfaces are described, as the name of a proxy class is not stable across boots.
+     *
+     * @param clazz The implementation class
+     * @return The description
+     */
+    public static String describeImplementation(Class<?> clazz) {
+        if (clazz == null) {
+            return "null";
+        }
+        if (Proxy.isProxyClass(clazz)) {
+            StringBuilder sb = new StringBuilder("proxy");
+            for (Class<?> interfaceClass : clazz.getInterfaces()) {
+                sb.append(':').append(describeImplementation(interfaceClass));
+            }
+            return sb.toString();
+        }
+        Package pkg = clazz.getPackage();
+        String version = pkg == null ? null : pkg.getImplementationVersion();
+        return clazz.getName() + "@" + version;
+    }
+
+    /**
+     * Returns a description of the given configuration value that is stable across boots.
+     * Values that are instances of other types than strings, primitive wrappers, enums or classes are described by their class,
+     * as their string representation is usually based on the identity hash code.
+     *
+     * @param value The configuration value
+     * @return The description
+     */
+    public static String describeValue(Object value) {
+        if (value == null) {
+            return "null";
+        } else if (value instanceof CharSequence || value instanceof Number || value instanceof Boolean || value instanceof Character || value instanceof Enum<?>) {
+            return value.getClass().getName() + ":" + value;
+        } else if (value instanceof Class<?>) {
+            return "class:" + ((Class<?>) value).getName();
+        } else {
+            return "instance:" + describeImplementation(value.getClass());
+        }
+    }
+
+    private static String getTypeName(ManagedType<?> managedType) {
+        if (managedType instanceof EntityType<?>) {
+            return ((EntityType<?>) managedType).getName();
+        }
+        return getClassName(managedType.getJavaType());
+    }
+
+    private static String getClassName(Class<?> clazz) {
+        return clazz == null ? "null" : clazz.getName();
+    }
+
+    /**
+     * Reads the fingerprint of the snapshot file.
+     *
+     * @param file The snapshot file
+     * @return The fingerprint or <code>null</code> if the file does not exist or is not a valid snapshot
+     */
+    public static String readFingerprint(Path file) {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (DataInputStream is = new DataInputStream(Files.newInputStream(file))) {
+            if (is.readInt() != MAGIC || is.readInt() != VERSION) {
+                return null;
+            }
+            return is.readUTF();
+        } catch (IOException ex) {
+            LOG.log(Level.FINE, "Could not read the entity view metamodel snapshot " + file, ex);
+            return null;
+        }
+    }
+
+    /**
+     * Writes a snapshot with the given fingerprint. Failures are logged and otherwise ignored as the snapshot is only an optimization.
+     *
+     * @param file The snapshot file
+     * @param fingerprint The fingerprint of the validated metamodel
+     */
+    public static void write(Path file, String fingerprint) {
+        Path directory = file.toAbsolutePath().getParent();
+        Path tempFile = null;
+        try {
+            Files.createDirectories(directory);
+            tempFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try (OutputStream os = Files.newOutputStream(tempFile); DataOutputStream dos = new DataOutputStream(os)) {
+                dos.writeInt(MAGIC);
+                dos.writeInt(VERSION);
+                dos.writeUTF(fingerprint);
+            }
+            try {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            tempFile = null;
+        } catch (IOException ex) {
+            LOG.log(Level.WARNING, "Could not write the entity view metamodel snapshot " + file, ex);
+        } finally {
+            if (tempFile != null) {
+                try {
+                    Files.deleteIfExists(tempFile);
+                } catch (IOException ex) {
+                    // Ignore
+                }
+            }
+        }
+    }
+}
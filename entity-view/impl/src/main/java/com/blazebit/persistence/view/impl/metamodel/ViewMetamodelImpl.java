@@ -51,10 +51,12 @@ public class ViewMetamodelImpl implements ViewMetamodel {
     private final Map<Class<?>, ViewTypeImpl<?>> views;
     private final Map<Class<?>, FlatViewTypeImpl<?>> flatViews;
     private final Map<Class<?>, ManagedViewTypeImplementor<?>> managedViews;
+    private final boolean validated;
 
     public ViewMetamodelImpl(EntityMetamodel entityMetamodel, MetamodelBuildingContext context, Map<Class<?>, Object> typeTestValues, boolean validateManagedTypes, boolean validateExpressions) {
         this.metamodel = entityMetamodel;
         this.basicUserTypeRegistry = context.getBasicUserTypeRegistry();
+        this.validated = validateManagedTypes || validateExpressions;
 
         Collection<ViewMapping> viewMappings = context.getViewMappings();
         Map<Class<?>, ViewTypeImpl<?>> views = new HashMap<>(viewMappings.size());
@@ -247,6 +249,15 @@ public class ViewMetamodelImpl implements ViewMetamodel {
         return metamodel;
     }
 
+    /**
+     * Returns whether the expressions or JPA managed types of the entity views were validated when building this metamodel.
+     *
+     * @return whether the metamodel was validated
+     */
+    public boolean isValidated() {
+        return validated;
+    }
+
     public <X> BasicUserType<X> getBasicUserType(Class<X> clazz) {
         return basicUserTypeRegistry.getBasicUserType(clazz);
     }
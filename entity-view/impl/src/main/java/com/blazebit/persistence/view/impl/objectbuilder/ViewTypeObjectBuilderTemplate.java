@@ -24,9 +24,12 @@ import com.blazebit.persistence.view.impl.CorrelationProviderHelper;
 import com.blazebit.persistence.view.impl.EntityViewConfiguration;
 import com.blazebit.persistence.view.impl.EntityViewManagerImpl;
 import com.blazebit.persistence.view.impl.ExpressionUtils;
+import com.blazebit.persistence.view.impl.JpqlMacroAdapter;
 import com.blazebit.persistence.view.impl.MacroConfigurationExpressionFactory;
 import com.blazebit.persistence.view.impl.PrefixingQueryGenerator;
 import com.blazebit.persistence.view.impl.ScalarTargetResolvingExpressionVisitor;
+import com.blazebit.persistence.view.impl.macro.MutableEmbeddingViewJpqlMacro;
+import com.blazebit.persistence.view.impl.macro.MutableViewJpqlMacro;
 import com.blazebit.persistence.view.impl.metamodel.AbstractAttribute;
 import com.blazebit.persistence.view.impl.metamodel.AbstractMethodAttribute;
 import com.blazebit.persistence.view.impl.metamodel.AbstractParameterAttribute;
@@ -103,6 +106,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -783,7 +787,7 @@ public class ViewTypeObjectBuilderTemplate<T> {
                 mapperBuilder.addTupleListTransformerFactory(new CorrelatedSingularBatchTupleListTransformerFactory(
                         new BasicCorrelator(),
                         viewRoot, viewType, correlationResult, factory, attributePath, attribute.getFetches(), correlatesThis, viewRootIndex, embeddingViewIndex, startIndex, batchSize, correlationBasisType, correlationBasisEntity,
-                        createLimiter(mapperBuilder, correlationAlias, attribute)));
+                        createLimiter(mapperBuilder, correlationAlias, attribute), isCacheableCorrelationResult(factory, attribute.getElementType())));
             }
         } else if (attribute.getFetchStrategy() == FetchStrategy.SUBSELECT) {
             String subviewAliasPrefix = mapperBuilder.getAlias(attribute, false);
@@ -1159,7 +1163,7 @@ public class ViewTypeObjectBuilderTemplate<T> {
                 mapperBuilder.addTupleListTransformerFactory(new CorrelatedSingularBatchTupleListTransformerFactory(
                         new SubviewCorrelator(managedViewType, null, evm, subviewAliasPrefix, attributePath),
                         viewRoot, viewType, correlationResult, factory, attributePath, attribute.getFetches(), correlatesThis, viewRootIndex, embeddingViewIndex, startIndex, batchSize, correlationBasisType, correlationBasisEntity,
-                        createLimiter(mapperBuilder, correlationAlias, attribute)));
+                        createLimiter(mapperBuilder, correlationAlias, attribute), isCacheableCorrelationResult(factory, managedViewType)));
             }
         } else if (attribute.getFetchStrategy() == FetchStrategy.SUBSELECT) {
             String subviewAliasPrefix = mapperBuilder.getAlias(attribute, false);
@@ -1240,6 +1244,57 @@ public class ViewTypeObjectBuilderTemplate<T> {
         return "multiset_" + attributePath.replace('.', '_');
     }
 
+    private static boolean isCacheableCorrelationResult(CorrelationProviderFactory factory, Type<?> resultType) {
+        // A correlation provider that is created from optional parameters might produce a different query for every request
+        if (factory.isParameterized()) {
+            return false;
+        }
+        return isImmutable(resultType, new HashSet<ManagedViewType<?>>());
+    }
+
+    private static boolean isImmutable(Type<?> type, Set<ManagedViewType<?>> visitedTypes) {
+        // Correlation results are shared across threads when cached, so only deeply immutable results may be cached
+        if (type instanceof BasicType<?>) {
+            return !((BasicType<?>) type).getUserType().isMutable();
+        }
+        if (!(type instanceof ManagedViewType<?>)) {
+            return false;
+        }
+        ManagedViewType<?> managedViewType = (ManagedViewType<?>) type;
+        if (!visitedTypes.add(managedViewType)) {
+            return true;
+        }
+        if (managedViewType.isUpdatable() || managedViewType.isCreatable()) {
+            return false;
+        }
+        for (MethodAttribute<?, ?> attribute : managedViewType.getAttributes()) {
+            if (!isImmutable(attribute, visitedTypes)) {
+                return false;
+            }
+        }
+        for (MappingConstructor<?> constructor : managedViewType.getConstructors()) {
+            for (ParameterAttribute<?, ?> parameterAttribute : constructor.getParameterAttributes()) {
+                if (!isImmutable(parameterAttribute, visitedTypes)) {
+                    return false;
+                }
+            }
+        }
+        for (ManagedViewType<?> subtype : managedViewType.getInheritanceSubtypes()) {
+            if (!isImmutable(subtype, visitedTypes)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isImmutable(Attribute<?, ?> attribute, Set<ManagedViewType<?>> visitedTypes) {
+        // Collection instances are mutable, so a view with a collection can't be shared
+        if (attribute.isCollection()) {
+            return false;
+        }
+        return isImmutable(((SingularAttribute<?, ?>) attribute).getType(), visitedTypes);
+    }
+
     private Limiter createLimiter(TupleElementMapperBuilder mapperBuilder, String prefix, Attribute<?, ?> attribute) {
         return createLimiter(mapperBuilder, prefix, attribute.getLimitExpression(), attribute.getOffsetExpression(), attribute.getOrderByItems());
     }
@@ -1459,7 +1514,7 @@ public class ViewTypeObjectBuilderTemplate<T> {
 
         if (tupleTransformatorFactory.hasTransformers() && !isSubview) {
             if (tupleTransformatorFactory.hasListTransformers()) {
-                result = new ChainingCollectionObjectBuilder<T>(tupleTransformatorFactory, result, parameterHolder, optionalParameters, entityViewConfiguration);
+                result = new ChainingCollectionObjectBuilder<T>(tupleTransformatorFactory, result, hasId ? idPositions : null, parameterHolder, optionalParameters, entityViewConfiguration);
             } else {
                 result = new ChainingObjectBuilder<T>(tupleTransformatorFactory, result, parameterHolder, optionalParameters, entityViewConfiguration);
             }
@@ -1532,12 +1587,22 @@ public class ViewTypeObjectBuilderTemplate<T> {
         private final MappingConstructorImpl<Object> constructor;
         private final String entityViewRoot;
         private final String embeddingViewPath;
+        private final String viewMacroPath;
+        private final String embeddingViewMacroPath;
+        private final boolean ownViewMacro;
+        private final boolean ownEmbeddingViewMacro;
         private final int offset;
         private final boolean cacheable;
 
         public Key(MacroConfigurationExpressionFactory ef, ManagedViewTypeImplementor<?> viewType, MappingConstructorImpl<?> constructor, String entityViewRoot, String embeddingViewPath, int offset) {
+            this(ef, viewType, constructor, entityViewRoot, null, embeddingViewPath, null, offset);
+        }
+
+        public Key(MacroConfigurationExpressionFactory ef, ManagedViewTypeImplementor<?> viewType, MappingConstructorImpl<?> constructor, String entityViewRoot, ViewJpqlMacro viewJpqlMacro, String embeddingViewPath, EmbeddingViewJpqlMacro embeddingViewJpqlMacro, int offset) {
             this.ef = ef.getExpressionFactory();
             Map<String, MacroFunction> macros;
+            boolean ownViewMacro = false;
+            boolean ownEmbeddingViewMacro = false;
             if (ef.getDefaultMacroConfiguration() == null) {
                 macros = Collections.emptyMap();
                 this.cacheable = true;
@@ -1546,19 +1611,26 @@ public class ViewTypeObjectBuilderTemplate<T> {
                 Map<String, MacroFunction> map = ef.getDefaultMacroConfiguration().getMacros();
                 macros = new HashMap<>(Math.max(0, map.size() - 2));
                 // We don't care about the view root and embedding view macro as the relevant state that is interesting for caching is already present in entityViewRoot and embeddingViewPath
+                // The mutable view and embedding view macros of the caller are replaced by template owned copies in createSharedValue, so only their paths are relevant
                 for (Map.Entry<String, MacroFunction> entry : map.entrySet()) {
-                    switch (entry.getKey()) {
-                        case "VIEW_ROOT":
-                            break;
-                        case "EMBEDDING_VIEW":
-                            break;
-                        default:
-                            if (!entry.getValue().supportsCaching()) {
-                                cacheable = false;
-                            }
-                            macros.put(entry.getKey(), entry.getValue());
-                            break;
+                    String macroName = entry.getKey();
+                    Object[] state = entry.getValue().getState();
+                    Object macro = state.length == 0 ? null : state[0];
+                    if ("VIEW_ROOT".equals(macroName)) {
+                        continue;
+                    }
+                    if ("VIEW".equals(macroName) && macro == viewJpqlMacro && macro instanceof MutableViewJpqlMacro) {
+                        ownViewMacro = true;
+                        continue;
+                    }
+                    if ("EMBEDDING_VIEW".equals(macroName) && macro == embeddingViewJpqlMacro && macro instanceof MutableEmbeddingViewJpqlMacro) {
+                        ownEmbeddingViewMacro = true;
+                        continue;
                     }
+                    if (!entry.getValue().supportsCaching()) {
+                        cacheable = false;
+                    }
+                    macros.put(macroName, entry.getValue());
                 }
 
                 this.cacheable = cacheable;
@@ -1568,6 +1640,10 @@ public class ViewTypeObjectBuilderTemplate<T> {
             this.constructor = (MappingConstructorImpl<Object>) constructor;
             this.entityViewRoot = entityViewRoot;
             this.embeddingViewPath = embeddingViewPath;
+            this.viewMacroPath = viewJpqlMacro == null ? null : viewJpqlMacro.getViewPath();
+            this.embeddingViewMacroPath = embeddingViewJpqlMacro == null ? null : embeddingViewJpqlMacro.getEmbeddingViewPath();
+            this.ownViewMacro = ownViewMacro;
+            this.ownEmbeddingViewMacro = ownEmbeddingViewMacro;
             this.offset = offset;
         }
 
@@ -1575,6 +1651,37 @@ public class ViewTypeObjectBuilderTemplate<T> {
             return new ViewTypeObjectBuilderTemplate<Object>(viewType, entityViewRoot, "", viewType.getJavaType().getSimpleName(), entityViewRoot, entityViewRoot, new TupleIdDescriptor(), new TupleIdDescriptor(), offset, 0, viewJpqlMacro, embeddingViewJpqlMacro, null, evm, ef, viewType, constructor, proxyFactory);
         }
 
+        /**
+         * Creates a template that can be shared between queries. The mutable view macros of the caller are only needed while building the template,
+         * so they are replaced with copies that are owned by the template, which leaves the macros of the caller untouched and keeps no reference to them.
+         * When a query applies the template, the mappers and transformers receive the macros and optional parameters of that query,
+         * which is why neither are part of the key.
+         *
+         * @param evm The entity view manager
+         * @param proxyFactory The proxy factory
+         * @param viewJpqlMacro The view macro of the caller
+         * @param embeddingViewJpqlMacro The embedding view macro of the caller
+         * @param ef The expression factory of the caller
+         * @return The template
+         */
+        public ViewTypeObjectBuilderTemplate<?> createSharedValue(EntityViewManagerImpl evm, ProxyFactory proxyFactory, ViewJpqlMacro viewJpqlMacro, EmbeddingViewJpqlMacro embeddingViewJpqlMacro, MacroConfigurationExpressionFactory ef) {
+            if (!ownViewMacro && !ownEmbeddingViewMacro) {
+                return createValue(evm, proxyFactory, viewJpqlMacro, embeddingViewJpqlMacro, ef);
+            }
+            ExpressionFactory cachingExpressionFactory = ef.getExpressionFactory();
+            Map<String, MacroFunction> macros = new HashMap<>(2);
+            if (ownViewMacro) {
+                viewJpqlMacro = new MutableViewJpqlMacro(viewMacroPath);
+                macros.put("view", new JpqlMacroAdapter(viewJpqlMacro, cachingExpressionFactory));
+            }
+            if (ownEmbeddingViewMacro) {
+                embeddingViewJpqlMacro = new MutableEmbeddingViewJpqlMacro(embeddingViewMacroPath);
+                macros.put("embedding_view", new JpqlMacroAdapter(embeddingViewJpqlMacro, cachingExpressionFactory));
+            }
+            MacroConfigurationExpressionFactory templateExpressionFactory = new MacroConfigurationExpressionFactory(cachingExpressionFactory, ef.getDefaultMacroConfiguration().with(macros));
+            return createValue(evm, proxyFactory, viewJpqlMacro, embeddingViewJpqlMacro, templateExpressionFactory);
+        }
+
         public boolean isCacheable() {
             return cacheable;
         }
@@ -1588,6 +1695,8 @@ public class ViewTypeObjectBuilderTemplate<T> {
             hash = 83 * hash + (this.constructor != null ? this.constructor.hashCode() : 0);
             hash = 83 * hash + (this.entityViewRoot != null ? this.entityViewRoot.hashCode() : 0);
             hash = 83 * hash + (this.embeddingViewPath != null ? this.embeddingViewPath.hashCode() : 0);
+            hash = 83 * hash + (this.viewMacroPath != null ? this.viewMacroPath.hashCode() : 0);
+            hash = 83 * hash + (this.embeddingViewMacroPath != null ? this.embeddingViewMacroPath.hashCode() : 0);
             hash = 83 * hash + offset;
             return hash;
         }
@@ -1619,6 +1728,12 @@ public class ViewTypeObjectBuilderTemplate<T> {
             if (this.embeddingViewPath != other.embeddingViewPath && (this.embeddingViewPath == null || !this.embeddingViewPath.equals(other.embeddingViewPath))) {
                 return false;
             }
+            if (this.viewMacroPath != other.viewMacroPath && (this.viewMacroPath == null || !this.viewMacroPath.equals(other.viewMacroPath))) {
+                return false;
+            }
+            if (this.embeddingViewMacroPath != other.embeddingViewMacroPath && (this.embeddingViewMacroPath == null || !this.embeddingViewMacroPath.equals(other.embeddingViewMacroPath))) {
+                return false;
+            }
             if (this.offset != other.offset) {
                 return false;
             }
@@ -185,6 +185,11 @@ public class TupleTransformatorFactory {
             return delegate.getConsumableIndex();
         }
 
+        @Override
+        public int getBatchSize() {
+            return delegate.getBatchSize();
+        }
+
         @Override
         public List<Object[]> transform(List<Object[]> tuples) {
             ConstrainedTupleList tupleList = new ConstrainedTupleList(classMappingIndex, subtypeIndexes, tuples);
@@ -23,4 +23,13 @@ public abstract class TupleListTransformer {
     public abstract int getConsumableIndex();
 
     public abstract List<Object[]> transform(List<Object[]> tuples);
+
+    /**
+     * Returns the number of objects for which this transformer can load data at once.
+     *
+     * @return the batch size, at least 1
+     */
+    public int getBatchSize() {
+        return 1;
+    }
 }
@@ -12,8 +12,10 @@ import com.blazebit.persistence.ObjectBuilder;
 import com.blazebit.persistence.parser.expression.Expression;
 import com.blazebit.persistence.parser.expression.ExpressionFactory;
 import com.blazebit.persistence.view.CorrelationProvider;
+import com.blazebit.persistence.view.impl.AdaptiveBatchSizeStatistics;
 import com.blazebit.persistence.view.impl.BatchCorrelationMode;
 import com.blazebit.persistence.view.CorrelationProviderFactory;
+import com.blazebit.persistence.view.impl.CorrelationResultCache;
 import com.blazebit.persistence.view.impl.EntityViewConfiguration;
 import com.blazebit.persistence.view.impl.macro.CorrelatedSubqueryEmbeddingViewJpqlMacro;
 import com.blazebit.persistence.view.impl.macro.CorrelatedSubqueryViewRootJpqlMacro;
@@ -31,9 +33,11 @@ import javax.persistence.Parameter;
 import javax.persistence.Query;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  *
@@ -45,11 +49,15 @@ public abstract class AbstractCorrelatedBatchTupleListTransformer extends Abstra
     public static final String CORRELATION_KEY_ALIAS = "correlationKey";
     private static final String CORRELATION_PARAM_PREFIX = "correlationParam_";
 
-    protected final int batchSize;
+    protected final int configuredBatchSize;
+    protected final int maxAdaptiveBatchSize;
+    protected int batchSize;
     protected final boolean correlatesThis;
     protected final BatchCorrelationMode expectBatchCorrelationMode;
     protected final int valueIndex;
     protected final int keyIndex;
+    protected final CorrelationResultCache correlationResultCache;
+    protected final Map<String, Object> correlationResultCacheParameters;
 
     protected String correlationParamName;
     protected String correlationSelectExpression;
@@ -60,12 +68,27 @@ public abstract class AbstractCorrelatedBatchTupleListTransformer extends Abstra
 
     public AbstractCorrelatedBatchTupleListTransformer(ExpressionFactory ef, Correlator correlator, ContainerAccumulator<?> containerAccumulator, ManagedViewTypeImplementor<?> viewRootType, ManagedViewTypeImplementor<?> embeddingViewType, Expression correlationResult, CorrelationProviderFactory correlationProviderFactory, String attributePath, String[] fetches, String[] indexFetches,
                                                        Expression indexExpression, Correlator indexCorrelator, boolean correlatesThis, int viewRootIndex, int embeddingViewIndex, int tupleIndex, int defaultBatchSize, Class<?> correlationBasisType, Class<?> correlationBasisEntity, Limiter limiter, EntityViewConfiguration entityViewConfiguration) {
+        this(ef, correlator, containerAccumulator, viewRootType, embeddingViewType, correlationResult, correlationProviderFactory, attributePath, fetches, indexFetches, indexExpression, indexCorrelator, correlatesThis, viewRootIndex, embeddingViewIndex, tupleIndex, defaultBatchSize, correlationBasisType, correlationBasisEntity, limiter, entityViewConfiguration, false);
+    }
+
+    public AbstractCorrelatedBatchTupleListTransformer(ExpressionFactory ef, Correlator correlator, ContainerAccumulator<?> containerAccumulator, ManagedViewTypeImplementor<?> viewRootType, ManagedViewTypeImplementor<?> embeddingViewType, Expression correlationResult, CorrelationProviderFactory correlationProviderFactory, String attributePath, String[] fetches, String[] indexFetches,
+                                                       Expression indexExpression, Correlator indexCorrelator, boolean correlatesThis, int viewRootIndex, int embeddingViewIndex, int tupleIndex, int defaultBatchSize, Class<?> correlationBasisType, Class<?> correlationBasisEntity, Limiter limiter, EntityViewConfiguration entityViewConfiguration,
+                                                       boolean cacheableResult) {
         super(ef, correlator, containerAccumulator, viewRootType, embeddingViewType, correlationResult, correlationProviderFactory, attributePath, fetches, indexFetches, indexExpression, indexCorrelator, viewRootIndex, embeddingViewIndex, tupleIndex, correlationBasisType, correlationBasisEntity, limiter, entityViewConfiguration);
-        this.batchSize = entityViewConfiguration.getBatchSize(attributePath, defaultBatchSize);
+        this.configuredBatchSize = entityViewConfiguration.getBatchSize(attributePath, defaultBatchSize);
+        this.maxAdaptiveBatchSize = entityViewConfiguration.getMaxAdaptiveBatchSize(attributePath);
+        this.batchSize = configuredBatchSize;
         this.correlatesThis = correlatesThis;
         this.expectBatchCorrelationMode = entityViewConfiguration.getExpectBatchCorrelationValues(attributePath);
         this.valueIndex = correlator.getElementOffset();
         this.keyIndex = valueIndex + 1;
+        if (cacheableResult && entityViewConfiguration.isCorrelationResultCaching(attributePath)) {
+            this.correlationResultCache = entityViewConfiguration.getCorrelationResultCache();
+            this.correlationResultCacheParameters = CorrelationResultCache.copyOptionalParameters(entityViewConfiguration.getOptionalParameters());
+        } else {
+            this.correlationResultCache = null;
+            this.correlationResultCacheParameters = null;
+        }
     }
 
     private String generateCorrelationParamName() {
@@ -178,8 +201,42 @@ public abstract class AbstractCorrelatedBatchTupleListTransformer extends Abstra
         return correlationBuilder.getCorrelationRoot();
     }
 
+    @Override
+    public int getBatchSize() {
+        if (maxAdaptiveBatchSize > 0 && configuredBatchSize > 1) {
+            return Math.max(2, maxAdaptiveBatchSize);
+        }
+        return configuredBatchSize;
+    }
+
+    private int computeAdaptiveBatchSize(List<Object[]> tuples) {
+        Set<Object> distinctCorrelationValues = new HashSet<>(tuples.size());
+        for (int i = 0; i < tuples.size(); i++) {
+            Object correlationValue = tuples.get(i)[startIndex];
+            if (correlationValue != null) {
+                distinctCorrelationValues.add(correlationValue);
+            }
+        }
+
+        // Round up to a power of two so that only a few distinct query strings are generated
+        int maxBatchSize = Math.max(2, maxAdaptiveBatchSize);
+        int adaptiveBatchSize = 2;
+        while (adaptiveBatchSize < distinctCorrelationValues.size() && adaptiveBatchSize < maxBatchSize) {
+            adaptiveBatchSize <<= 1;
+        }
+        return Math.min(adaptiveBatchSize, maxBatchSize);
+    }
+
     @Override
     public List<Object[]> transform(List<Object[]> tuples) {
+        // The query structure differs between batched and non-batched fetching, so only adapt the size when batching is configured
+        if (maxAdaptiveBatchSize > 0 && configuredBatchSize > 1) {
+            batchSize = computeAdaptiveBatchSize(tuples);
+            AdaptiveBatchSizeStatistics statistics = entityViewConfiguration.getAdaptiveBatchSizeStatistics();
+            if (statistics != null) {
+                statistics.recordBatchSize(batchSize);
+            }
+        }
         FixedArrayList correlationParams = new FixedArrayList(batchSize);
         // We have the correlation key on the first position if we do batching
         final int tupleOffset = (batchSize > 1 ? 1 : 0) + (indexCorrelator == null && indexExpression == null ? 0 : 1);
@@ -229,6 +286,8 @@ public abstract class AbstractCorrelatedBatchTupleListTransformer extends Abstra
             query = criteriaBuilder.getQuery();
 
             Map<Object, TuplePromise> correlationValues = new HashMap<>(tuples.size());
+            // The results of correlation values that are not cached yet, which are put into the cache after loading
+            Map<CorrelationResultCache.Key, TuplePromise> uncachedCorrelationValues = correlationResultCache == null ? null : new HashMap<CorrelationResultCache.Key, TuplePromise>();
             while (tupleListIter.hasNext()) {
                 Object[] tuple = tupleListIter.next();
                 Object correlationValue = tuple[startIndex];
@@ -240,6 +299,16 @@ public abstract class AbstractCorrelatedBatchTupleListTransformer extends Abstra
                     tupleIndexValue.add(tuple);
                     correlationValues.put(correlationValue, tupleIndexValue);
 
+                    if (correlationValue != null && correlationResultCache != null) {
+                        CorrelationResultCache.Key cacheKey = correlationResultCache.createKey(viewRootType.getJavaType(), embeddingViewType.getJavaType(), attributePath, entityViewConfiguration.getFetches(), correlationResultCacheParameters, correlationValue);
+                        Object cachedResult = correlationResultCache.get(cacheKey);
+                        if (cachedResult != CorrelationResultCache.NOT_CACHED) {
+                            tupleIndexValue.onResult(cachedResult, this);
+                            continue;
+                        }
+                        uncachedCorrelationValues.put(cacheKey, tupleIndexValue);
+                    }
+
                     // Can't correlate null
                     if (correlationValue != null) {
                         if (correlationBasisEntity != null) {
@@ -268,6 +337,12 @@ public abstract class AbstractCorrelatedBatchTupleListTransformer extends Abstra
             }
 
             fillDefaultValues(Collections.singletonMap(null, correlationValues));
+
+            if (uncachedCorrelationValues != null) {
+                for (Map.Entry<CorrelationResultCache.Key, TuplePromise> entry : uncachedCorrelationValues.entrySet()) {
+                    correlationResultCache.put(entry.getKey(), entry.getValue().getResult());
+                }
+            }
         }
 
         consumeTupleMacroViewValues(tuples);
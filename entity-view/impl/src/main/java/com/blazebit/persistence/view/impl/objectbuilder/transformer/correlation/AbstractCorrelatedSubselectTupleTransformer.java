@@ -257,7 +257,7 @@ public class AbstractCorrelatedSubselectTupleTransformer implements TupleTransfo
 
         ExpressionFactory ef = criteriaBuilder.getService(ExpressionFactory.class);
         if (usesEmbeddingView) {
-            EntityViewConfiguration configuration = new EntityViewConfiguration(criteriaBuilder, ef, new MutableViewJpqlMacro(), new MutableEmbeddingViewJpqlMacro(), Collections.<String, Object>emptyMap(), Collections.<String, Object>emptyMap(), entityViewConfiguration.getFetches(), attributePath);
+            EntityViewConfiguration configuration = new EntityViewConfiguration(criteriaBuilder, ef, new MutableViewJpqlMacro(), new MutableEmbeddingViewJpqlMacro(), Collections.<String, Object>emptyMap(), Collections.<String, Object>emptyMap(), entityViewConfiguration.getFetches(), attributePath, entityViewConfiguration.getAdaptiveBatchSizeStatistics(), entityViewConfiguration.getCorrelationResultCache());
             ObjectBuilder<Object[]> embeddingViewObjectBuilder = createViewAwareObjectBuilder(criteriaBuilder, embeddingViewType, configuration, embeddingViewIdExpression);
             if (embeddingViewObjectBuilder == null) {
                 criteriaBuilder.select(embeddingViewIdExpression);
@@ -265,7 +265,7 @@ public class AbstractCorrelatedSubselectTupleTransformer implements TupleTransfo
                 criteriaBuilder.selectNew(objectBuilder = new LateAdditionalObjectBuilder(objectBuilder, embeddingViewObjectBuilder, true));
             }
         } else if (usesViewRoot) {
-            EntityViewConfiguration configuration = new EntityViewConfiguration(criteriaBuilder, ef, new MutableViewJpqlMacro(), new MutableEmbeddingViewJpqlMacro(), Collections.<String, Object>emptyMap(), Collections.<String, Object>emptyMap(), entityViewConfiguration.getFetches(), attributePath);
+            EntityViewConfiguration configuration = new EntityViewConfiguration(criteriaBuilder, ef, new MutableViewJpqlMacro(), new MutableEmbeddingViewJpqlMacro(), Collections.<String, Object>emptyMap(), Collections.<String, Object>emptyMap(), entityViewConfiguration.getFetches(), attributePath, entityViewConfiguration.getAdaptiveBatchSizeStatistics(), entityViewConfiguration.getCorrelationResultCache());
             ObjectBuilder<Object[]> viewRootObjectBuilder = createViewAwareObjectBuilder(criteriaBuilder, viewRootType, configuration, viewRootIdExpression);
             if (viewRootObjectBuilder == null) {
                 criteriaBuilder.select(viewRootIdExpression);
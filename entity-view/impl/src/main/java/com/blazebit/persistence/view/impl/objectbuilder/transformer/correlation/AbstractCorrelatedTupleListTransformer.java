@@ -207,6 +207,10 @@ public abstract class AbstractCorrelatedTupleListTransformer extends TupleListTr
         public boolean hasResult() {
             return hasResult;
         }
+
+        public Object getResult() {
+            return result;
+        }
     }
 
     /**
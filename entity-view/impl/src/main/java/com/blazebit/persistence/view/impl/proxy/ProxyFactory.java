@@ -386,14 +386,14 @@ public class ProxyFactory {
             }
 
             boolean dirtyChecking = false;
-            CtField dirtyField = null;
+            CtField[] dirtyFields = null;
             CtField readOnlyParentsField = null;
             CtField parentField = null;
             CtField parentIndexField = null;
             CtField initialStateField = null;
             CtField mutableStateField = null;
             CtMethod markDirtyStub = null;
-            long alwaysDirtyMask = 0L;
+            long[] alwaysDirtyMasks = new long[1];
             cc.addInterface(pool.get(EntityViewProxy.class.getName()));
             addGetJpaManagedClass(cc, managedViewType.getEntityClass());
             addGetJpaManagedBaseClass(cc, getJpaManagedBaseClass(managedViewType));
@@ -530,38 +530,40 @@ public class ProxyFactory {
             if (dirtyChecking) {
                 addReplaceAttribute(cc, methodAttributes);
                 cc.removeMethod(markDirtyStub);
-                if (mutableAttributeCount > 64) {
-                    throw new IllegalArgumentException("Support for more than 64 mutable attributes per view is not yet implemented! " + viewType.getJavaType().getName() + " has " + mutableAttributeCount);
-                } else {
-                    dirtyField = new CtField(CtClass.longType, "$$_dirty", cc);
-                    dirtyField.setModifiers(getModifiers(true));
-                    cc.addField(dirtyField);
-
-                    boolean allSupportDirtyTracking = true;
-                    boolean[] supportsDirtyTracking = new boolean[mutableAttributeCount];
-                    int mutableAttributeIndex = 0;
-                    for (int j = 0; j < methodAttributes.length; j++) {
-                        if (methodAttributes[j] != null && methodAttributes[j].hasDirtyStateIndex()) {
-                            if (supportsDirtyTracking(methodAttributes[j])) {
-                                supportsDirtyTracking[mutableAttributeIndex++] = true;
-                            } else {
-                                allSupportDirtyTracking = false;
-                                alwaysDirtyMask |= 1 << mutableAttributeIndex;
-                                supportsDirtyTracking[mutableAttributeIndex++] = false;
-                            }
+                // Every 64 mutable attributes get their own dirty bit mask field $$_dirty, $$_dirty1, ..., $$_dirtyN
+                int dirtyWordCount = Math.max(1, (mutableAttributeCount + 63) >>> 6);
+                dirtyFields = new CtField[dirtyWordCount];
+                alwaysDirtyMasks = new long[dirtyWordCount];
+                for (int j = 0; j < dirtyWordCount; j++) {
+                    dirtyFields[j] = new CtField(CtClass.longType, getDirtyFieldName(j), cc);
+                    dirtyFields[j].setModifiers(getModifiers(true));
+                    cc.addField(dirtyFields[j]);
+                }
+
+                boolean allSupportDirtyTracking = true;
+                boolean[] supportsDirtyTracking = new boolean[mutableAttributeCount];
+                int mutableAttributeIndex = 0;
+                for (int j = 0; j < methodAttributes.length; j++) {
+                    if (methodAttributes[j] != null && methodAttributes[j].hasDirtyStateIndex()) {
+                        if (supportsDirtyTracking(methodAttributes[j])) {
+                            supportsDirtyTracking[mutableAttributeIndex++] = true;
+                        } else {
+                            allSupportDirtyTracking = false;
+                            alwaysDirtyMasks[mutableAttributeIndex >>> 6] |= 1L << mutableAttributeIndex;
+                            supportsDirtyTracking[mutableAttributeIndex++] = false;
                         }
                     }
-
-                    addIsDirty(cc, dirtyField, allSupportDirtyTracking);
-                    addIsDirtyAttribute(cc, dirtyField, supportsDirtyTracking, allSupportDirtyTracking);
-                    addMarkDirty(cc, dirtyField);
-                    addUnmarkDirty(cc, dirtyField, alwaysDirtyMask);
-                    addSetDirty(cc, dirtyField, alwaysDirtyMask);
-                    addResetDirty(cc, dirtyField, alwaysDirtyMask);
-                    addGetDirty(cc, dirtyField);
-                    addGetSimpleDirty(cc, dirtyField);
-                    addCopyDirty(cc, dirtyField, supportsDirtyTracking, allSupportDirtyTracking);
                 }
+
+                addIsDirty(cc, dirtyFields, allSupportDirtyTracking);
+                addIsDirtyAttribute(cc, dirtyFields, supportsDirtyTracking, allSupportDirtyTracking);
+                addMarkDirty(cc, dirtyFields);
+                addUnmarkDirty(cc, dirtyFields, alwaysDirtyMasks);
+                addSetDirty(cc, dirtyFields, alwaysDirtyMasks);
+                addResetDirty(cc, dirtyFields, alwaysDirtyMasks);
+                addGetDirty(cc, dirtyFields);
+                addGetSimpleDirty(cc, dirtyFields[0]);
+                addCopyDirty(cc, dirtyFields, supportsDirtyTracking, allSupportDirtyTracking);
             }
 
             createEqualsHashCodeMethods(viewType, managedViewType, cc, superCc, attributeFields, idField);
@@ -574,23 +576,23 @@ public class ProxyFactory {
 
             if (hasEmptyConstructor) {
                 // Create constructor for create models
-                cc.addConstructor(createCreateConstructor(entityViewManager, managedViewType, cc, attributeFields, attributeTypes, idField, initialStateField, mutableStateField, methodAttributes, mutableAttributeCount, alwaysDirtyMask, unsafe));
+                cc.addConstructor(createCreateConstructor(entityViewManager, managedViewType, cc, attributeFields, attributeTypes, idField, initialStateField, mutableStateField, methodAttributes, mutableAttributeCount, alwaysDirtyMasks, unsafe));
             }
 
             boolean addedReferenceConstructor = false;
             if (idField != null && hasEmptyConstructor) {
                 // Id only constructor for reference models
-                cc.addConstructor(createReferenceConstructor(entityViewManager, managedViewType, cc, attributeFields, idField, initialStateField, mutableStateField, methodAttributes, mutableAttributeCount, alwaysDirtyMask, unsafe));
+                cc.addConstructor(createReferenceConstructor(entityViewManager, managedViewType, cc, attributeFields, idField, initialStateField, mutableStateField, methodAttributes, mutableAttributeCount, alwaysDirtyMasks, unsafe));
                 addedReferenceConstructor = true;
             }
 
             if (shouldAddDefaultConstructor(hasEmptyConstructor, addedReferenceConstructor, attributeFields)) {
-                cc.addConstructor(createNormalConstructor(entityViewManager, managedViewType, null, cc, attributeFields, attributeTypes, initialStateField, mutableStateField, methodAttributes, mutableAttributeCount, alwaysDirtyMask, unsafe));
-                cc.addConstructor(createTupleConstructor(managedViewType, null, cc, attributeFields.length, attributeFields.length, attributeFields, attributeTypes, initialStateField, mutableStateField, methodAttributes, mutableAttributeCount, false, alwaysDirtyMask, unsafe));
-                cc.addConstructor(createTupleConstructor(managedViewType, null, cc, attributeFields.length, attributeFields.length, attributeFields, attributeTypes, initialStateField, mutableStateField, methodAttributes, mutableAttributeCount, true, alwaysDirtyMask, unsafe));
+                cc.addConstructor(createNormalConstructor(entityViewManager, managedViewType, null, cc, attributeFields, attributeTypes, initialStateField, mutableStateField, methodAttributes, mutableAttributeCount, alwaysDirtyMasks, unsafe));
+                cc.addConstructor(createTupleConstructor(managedViewType, null, cc, attributeFields.length, attributeFields.length, attributeFields, attributeTypes, initialStateField, mutableStateField, methodAttributes, mutableAttributeCount, false, alwaysDirtyMasks, unsafe));
+                cc.addConstructor(createTupleConstructor(managedViewType, null, cc, attributeFields.length, attributeFields.length, attributeFields, attributeTypes, initialStateField, mutableStateField, methodAttributes, mutableAttributeCount, true, alwaysDirtyMasks, unsafe));
             } else if (hasEmptyConstructor) {
-                cc.addConstructor(createTupleConstructor(managedViewType, null, cc, attributeFields.length, attributeFields.length, attributeFields, attributeTypes, initialStateField, mutableStateField, methodAttributes, mutableAttributeCount, false, alwaysDirtyMask, unsafe));
-                cc.addConstructor(createTupleConstructor(managedViewType, null, cc, attributeFields.length, attributeFields.length, attributeFields, attributeTypes, initialStateField, mutableStateField, methodAttributes, mutableAttributeCount, true, alwaysDirtyMask, unsafe));
+                cc.addConstructor(createTupleConstructor(managedViewType, null, cc, attributeFields.length, attributeFields.length, attributeFields, attributeTypes, initialStateField, mutableStateField, methodAttributes, mutableAttributeCount, false, alwaysDirtyMasks, unsafe));
+                cc.addConstructor(createTupleConstructor(managedViewType, null, cc, attributeFields.length, attributeFields.length, attributeFields, attributeTypes, initialStateField, mutableStateField, methodAttributes, mutableAttributeCount, true, alwaysDirtyMasks, unsafe));
             }
 
             for (MappingConstructorImpl<?> constructor : constructors) {
@@ -606,9 +608,9 @@ public class ProxyFactory {
                 CtConstructor superConstructor = findConstructor(superCc, constructor);
                 System.arraycopy(superConstructor.getParameterTypes(), 0, constructorAttributeTypes, attributeFields.length, superConstructor.getParameterTypes().length);
 
-                cc.addConstructor(createNormalConstructor(entityViewManager, managedViewType, constructor, cc, attributeFields, constructorAttributeTypes, initialStateField, mutableStateField, methodAttributes, mutableAttributeCount, alwaysDirtyMask, unsafe));
-                cc.addConstructor(createTupleConstructor(managedViewType, constructor, cc, attributeFields.length, constructorAttributeTypes.length, attributeFields, constructorAttributeTypes, initialStateField, mutableStateField, methodAttributes, mutableAttributeCount, false, alwaysDirtyMask, unsafe));
-                cc.addConstructor(createTupleConstructor(managedViewType, constructor, cc, attributeFields.length, constructorAttributeTypes.length, attributeFields, constructorAttributeTypes, initialStateField, mutableStateField, methodAttributes, mutableAttributeCount, true, alwaysDirtyMask, unsafe));
+                cc.addConstructor(createNormalConstructor(entityViewManager, managedViewType, constructor, cc, attributeFields, constructorAttributeTypes, initialStateField, mutableStateField, methodAttributes, mutableAttributeCount, alwaysDirtyMasks, unsafe));
+                cc.addConstructor(createTupleConstructor(managedViewType, constructor, cc, attributeFields.length, constructorAttributeTypes.length, attributeFields, constructorAttributeTypes, initialStateField, mutableStateField, methodAttributes, mutableAttributeCount, false, alwaysDirtyMasks, unsafe));
+                cc.addConstructor(createTupleConstructor(managedViewType, constructor, cc, attributeFields.length, constructorAttributeTypes.length, attributeFields, constructorAttributeTypes, initialStateField, mutableStateField, methodAttributes, mutableAttributeCount, true, alwaysDirtyMasks, unsafe));
             }
 
             return defineOrGetClass(entityViewManager, unsafe, clazz, clazz, cc);
@@ -1307,7 +1309,43 @@ public class ProxyFactory {
         return method;
     }
 
-    private CtMethod addIsDirty(CtClass cc, CtField dirtyField, boolean allSupportDirtyTracking) throws CannotCompileException {
+    private static String getDirtyFieldName(int wordIndex) {
+        if (wordIndex == 0) {
+            return "$$_dirty";
+        }
+        return "$$_dirty" + wordIndex;
+    }
+
+    private static String toLongLiteral(long value) {
+        if (value == Long.MIN_VALUE) {
+            // Avoid relying on the javassist compiler to parse the literal of the minimum value
+            return "(1L << 63)";
+        }
+        return value + "L";
+    }
+
+    private void renderDirtyInitialization(long[] alwaysDirtyMasks, boolean unsafe, StringBuilder sb) {
+        for (int i = 0; i < alwaysDirtyMasks.length; i++) {
+            if (unsafe) {
+                sb.append("\t$0.").append(getDirtyFieldName(i)).append(" = ").append(toLongLiteral(alwaysDirtyMasks[i])).append(";\n");
+            } else {
+                sb.append("\t$0.").append(getDirtyFieldName(i)).append(" |= ").append(toLongLiteral(alwaysDirtyMasks[i])).append(";\n");
+            }
+        }
+    }
+
+    private static void renderAnyDirty(CtField[] dirtyFields, StringBuilder sb) {
+        sb.append('(');
+        for (int i = 0; i < dirtyFields.length; i++) {
+            if (i != 0) {
+                sb.append(" | ");
+            }
+            sb.append("$0.").append(dirtyFields[i].getName());
+        }
+        sb.append(") != 0");
+    }
+
+    private CtMethod addIsDirty(CtClass cc, CtField[] dirtyFields, boolean allSupportDirtyTracking) throws CannotCompileException {
         String desc = "()" + Descriptor.of("boolean");
         ConstPool cp = cc.getClassFile().getConstPool();
         MethodInfo minfo = new MethodInfo(cp, "$$_isDirty", desc);
@@ -1315,7 +1353,11 @@ public class ProxyFactory {
         minfo.setAccessFlags(AccessFlag.PUBLIC);
 
         if (allSupportDirtyTracking) {
-            method.setBody("{ return $0." + dirtyField.getName() + " != 0; }");
+            StringBuilder sb = new StringBuilder();
+            sb.append("{ return ");
+            renderAnyDirty(dirtyFields, sb);
+            sb.append("; }");
+            method.setBody(sb.toString());
         } else {
             method.setBody("{ return true; }");
         }
@@ -1324,7 +1366,7 @@ public class ProxyFactory {
         return method;
     }
 
-    private CtMethod addIsDirtyAttribute(CtClass cc, CtField dirtyField, boolean[] supportsDirtyTracking, boolean allSupportDirtyTracking) throws CannotCompileException {
+    private CtMethod addIsDirtyAttribute(CtClass cc, CtField[] dirtyFields, boolean[] supportsDirtyTracking, boolean allSupportDirtyTracking) throws CannotCompileException {
         String desc = "(" + Descriptor.of("int") + ")" + Descriptor.of("boolean");
         ConstPool cp = cc.getClassFile().getConstPool();
         MethodInfo minfo = new MethodInfo(cp, "$$_isDirty", desc);
@@ -1343,7 +1385,18 @@ public class ProxyFactory {
             sb.append("\t}\n");
         }
 
-        sb.append("\treturn ($0.").append(dirtyField.getName()).append(" & (1L << $1)) != 0;\n");
+        if (dirtyFields.length == 1) {
+            sb.append("\treturn ($0.").append(dirtyFields[0].getName()).append(" & (1L << $1)) != 0;\n");
+        } else {
+            sb.append("\tlong dirty = 0L;\n");
+            sb.append("\tswitch ($1 >>> 6) {\n");
+            for (int i = 0; i < dirtyFields.length; i++) {
+                sb.append("\t\tcase ").append(i).append(": dirty = $0.").append(dirtyFields[i].getName()).append("; break;\n");
+            }
+            sb.append("\t\tdefault : break;\n");
+            sb.append("\t}\n");
+            sb.append("\treturn (dirty & (1L << $1)) != 0;\n");
+        }
         sb.append("}");
         method.setBody(sb.toString());
         cc.addMethod(method);
@@ -1366,18 +1419,25 @@ public class ProxyFactory {
         return method;
     }
 
-    private CtMethod addMarkDirty(CtClass cc, CtField dirtyField) throws CannotCompileException {
-        FieldInfo dirtyFieldInfo = dirtyField.getFieldInfo2();
+    private CtMethod addMarkDirty(CtClass cc, CtField[] dirtyFields) throws CannotCompileException {
         String desc = "(" + Descriptor.of("int") + ")V";
-        ConstPool cp = dirtyFieldInfo.getConstPool();
+        ConstPool cp = cc.getClassFile().getConstPool();
         MethodInfo minfo = new MethodInfo(cp, "$$_markDirty", desc);
         minfo.setAccessFlags(AccessFlag.PUBLIC);
-        String dirtyFieldName = dirtyFieldInfo.getName();
 
         StringBuilder sb = new StringBuilder();
 
         sb.append("{\n");
-        sb.append("\t$0.").append(dirtyFieldName).append(" |= (1 << $1);\n");
+        if (dirtyFields.length == 1) {
+            sb.append("\t$0.").append(dirtyFields[0].getName()).append(" |= (1L << $1);\n");
+        } else {
+            sb.append("\tswitch ($1 >>> 6) {\n");
+            for (int i = 0; i < dirtyFields.length; i++) {
+                sb.append("\t\tcase ").append(i).append(": $0.").append(dirtyFields[i].getName()).append(" |= (1L << $1); break;\n");
+            }
+            sb.append("\t\tdefault : break;\n");
+            sb.append("\t}\n");
+        }
 
         sb.append("\tif ($0.$$_parent != null) {\n");
         sb.append("\t$0.$$_parent.$$_markDirty($0.$$_parentIndex);\n");
@@ -1390,24 +1450,32 @@ public class ProxyFactory {
         return method;
     }
 
-    private CtMethod addSetDirty(CtClass cc, CtField dirtyField, long alwaysDirtyMask) throws CannotCompileException {
-        FieldInfo dirtyFieldInfo = dirtyField.getFieldInfo2();
+    private CtMethod addSetDirty(CtClass cc, CtField[] dirtyFields, long[] alwaysDirtyMasks) throws CannotCompileException {
         String desc = "([" + Descriptor.of("long") + ")V";
-        ConstPool cp = dirtyFieldInfo.getConstPool();
+        ConstPool cp = cc.getClassFile().getConstPool();
         MethodInfo minfo = new MethodInfo(cp, "$$_setDirty", desc);
         minfo.setAccessFlags(AccessFlag.PUBLIC);
-        String dirtyFieldName = dirtyFieldInfo.getName();
 
         StringBuilder sb = new StringBuilder();
 
         sb.append("{\n");
-        if (alwaysDirtyMask == 0L) {
-            sb.append("\t$0.").append(dirtyFieldName).append(" = $1[0];\n");
-        } else {
-            sb.append("\t$0.").append(dirtyFieldName).append(" = $1[0] | ").append(alwaysDirtyMask).append("L;\n");
+        for (int i = 0; i < dirtyFields.length; i++) {
+            sb.append("\t$0.").append(dirtyFields[i].getName()).append(" = ");
+            if (i == 0) {
+                sb.append("$1[0]");
+            } else {
+                // Masks of views with fewer words, like the ones from pre update listeners, only contain the first words
+                sb.append("($1.length > ").append(i).append(" ? $1[").append(i).append("] : 0L)");
+            }
+            if (alwaysDirtyMasks[i] != 0L) {
+                sb.append(" | ").append(toLongLiteral(alwaysDirtyMasks[i]));
+            }
+            sb.append(";\n");
         }
 
-        sb.append("\tif ($0.").append(dirtyFieldName).append(" != 0 && $0.$$_parent != null) {\n");
+        sb.append("\tif (");
+        renderAnyDirty(dirtyFields, sb);
+        sb.append(" && $0.$$_parent != null) {\n");
         sb.append("\t\t$0.$$_parent.$$_markDirty($0.$$_parentIndex);\n");
         sb.append("\t}\n");
         sb.append('}');
@@ -1418,18 +1486,18 @@ public class ProxyFactory {
         return method;
     }
 
-    private CtMethod addUnmarkDirty(CtClass cc, CtField dirtyField, long alwaysDirtyMask) throws CannotCompileException {
-        FieldInfo dirtyFieldInfo = dirtyField.getFieldInfo2();
+    private CtMethod addUnmarkDirty(CtClass cc, CtField[] dirtyFields, long[] alwaysDirtyMasks) throws CannotCompileException {
         String desc = "()" + Descriptor.of("void");
-        ConstPool cp = dirtyFieldInfo.getConstPool();
+        ConstPool cp = cc.getClassFile().getConstPool();
         MethodInfo minfo = new MethodInfo(cp, "$$_unmarkDirty", desc);
         minfo.setAccessFlags(AccessFlag.PUBLIC);
-        String dirtyFieldName = dirtyFieldInfo.getName();
 
         StringBuilder sb = new StringBuilder();
 
         sb.append("{\n");
-        sb.append("\t$0.").append(dirtyFieldName).append(" = ").append(alwaysDirtyMask).append("L;\n");
+        for (int i = 0; i < dirtyFields.length; i++) {
+            sb.append("\t$0.").append(dirtyFields[i].getName()).append(" = ").append(toLongLiteral(alwaysDirtyMasks[i])).append(";\n");
+        }
         sb.append('}');
 
         CtMethod method = CtMethod.make(minfo, cc);
@@ -1438,20 +1506,20 @@ public class ProxyFactory {
         return method;
     }
 
-    private CtMethod addResetDirty(CtClass cc, CtField dirtyField, long alwaysDirtyMask) throws CannotCompileException {
-        FieldInfo dirtyFieldInfo = dirtyField.getFieldInfo2();
+    private CtMethod addResetDirty(CtClass cc, CtField[] dirtyFields, long[] alwaysDirtyMasks) throws CannotCompileException {
         String desc = "()[" + Descriptor.of("long");
-        ConstPool cp = dirtyFieldInfo.getConstPool();
+        ConstPool cp = cc.getClassFile().getConstPool();
         MethodInfo minfo = new MethodInfo(cp, "$$_resetDirty", desc);
         minfo.setAccessFlags(AccessFlag.PUBLIC);
-        String dirtyFieldName = dirtyFieldInfo.getName();
 
         StringBuilder sb = new StringBuilder();
 
         sb.append("{\n");
-        sb.append("\tlong[] dirty = new long[1];\n");
-        sb.append("\tdirty[0] = $0.").append(dirtyFieldName).append(";\n");
-        sb.append("\t$0.").append(dirtyFieldName).append(" = ").append(alwaysDirtyMask).append("L;\n");
+        sb.append("\tlong[] dirty = new long[").append(dirtyFields.length).append("];\n");
+        for (int i = 0; i < dirtyFields.length; i++) {
+            sb.append("\tdirty[").append(i).append("] = $0.").append(dirtyFields[i].getName()).append(";\n");
+            sb.append("\t$0.").append(dirtyFields[i].getName()).append(" = ").append(toLongLiteral(alwaysDirtyMasks[i])).append(";\n");
+        }
         sb.append("\treturn dirty;\n");
         sb.append('}');
 
@@ -1461,19 +1529,19 @@ public class ProxyFactory {
         return method;
     }
 
-    private CtMethod addGetDirty(CtClass cc, CtField dirtyField) throws CannotCompileException {
-        FieldInfo dirtyFieldInfo = dirtyField.getFieldInfo2();
+    private CtMethod addGetDirty(CtClass cc, CtField[] dirtyFields) throws CannotCompileException {
         String desc = "()[" + Descriptor.of("long");
-        ConstPool cp = dirtyFieldInfo.getConstPool();
+        ConstPool cp = cc.getClassFile().getConstPool();
         MethodInfo minfo = new MethodInfo(cp, "$$_getDirty", desc);
         minfo.setAccessFlags(AccessFlag.PUBLIC);
-        String dirtyFieldName = dirtyFieldInfo.getName();
 
         StringBuilder sb = new StringBuilder();
 
         sb.append("{\n");
-        sb.append("\tlong[] dirty = new long[1];\n");
-        sb.append("\tdirty[0] = $0.").append(dirtyFieldName).append(";\n");
+        sb.append("\tlong[] dirty = new long[").append(dirtyFields.length).append("];\n");
+        for (int i = 0; i < dirtyFields.length; i++) {
+            sb.append("\tdirty[").append(i).append("] = $0.").append(dirtyFields[i].getName()).append(";\n");
+        }
         sb.append("\treturn dirty;\n");
         sb.append('}');
 
@@ -1503,32 +1571,37 @@ public class ProxyFactory {
         return method;
     }
 
-    private CtMethod addCopyDirty(CtClass cc, CtField dirtyField, boolean[] supportsDirtyTracking, boolean allSupportDirtyTracking) throws CannotCompileException {
-        FieldInfo dirtyFieldInfo = dirtyField.getFieldInfo2();
+    private CtMethod addCopyDirty(CtClass cc, CtField[] dirtyFields, boolean[] supportsDirtyTracking, boolean allSupportDirtyTracking) throws CannotCompileException {
         String desc = "([" + Descriptor.of("java.lang.Object") + "[" + Descriptor.of("java.lang.Object") + ")" + Descriptor.of("boolean");
-        ConstPool cp = dirtyFieldInfo.getConstPool();
+        ConstPool cp = cc.getClassFile().getConstPool();
         MethodInfo minfo = new MethodInfo(cp, "$$_copyDirty", desc);
         minfo.addAttribute(new SignatureAttribute(minfo.getConstPool(), "<T:" + Descriptor.of("java.lang.Object") + ">([TT;[TT;)" + Descriptor.of("boolean")));
         minfo.setAccessFlags(AccessFlag.PUBLIC);
-        String dirtyFieldName = dirtyFieldInfo.getName();
 
         StringBuilder sb = new StringBuilder();
 
         sb.append("{\n");
 
-        sb.append("\tlong dirty = $0.").append(dirtyFieldName).append(";\n");
+        for (int i = 0; i < dirtyFields.length; i++) {
+            sb.append("\tlong dirty").append(i).append(" = $0.").append(dirtyFields[i].getName()).append(";\n");
+        }
 
         if (allSupportDirtyTracking) {
-            sb.append("\tif (dirty == 0) {\n");
+            sb.append("\tif ((");
+            for (int i = 0; i < dirtyFields.length; i++) {
+                if (i != 0) {
+                    sb.append(" | ");
+                }
+                sb.append("dirty").append(i);
+            }
+            sb.append(") == 0) {\n");
             sb.append("\t\treturn false;\n");
             sb.append("\t} else {\n");
         }
 
         for (int i = 0; i < supportsDirtyTracking.length; i++) {
-            long mask = 1 << i;
-
             if (supportsDirtyTracking[i]) {
-                sb.append("\t\t$2[").append(i).append("] = (dirty & ").append(mask).append(") == 0 ? null : $1[").append(i).append("];\n");
+                sb.append("\t\t$2[").append(i).append("] = (dirty").append(i >>> 6).append(" & (1L << ").append(i & 63).append(")) == 0 ? null : $1[").append(i).append("];\n");
             } else {
                 sb.append("\t\t$2[").append(i).append("] = $1[").append(i).append("];\n");
             }
@@ -2373,21 +2446,21 @@ public class ProxyFactory {
     }
 
     private CtConstructor createNormalConstructor(EntityViewManager evm, ManagedViewType<?> managedViewType, MappingConstructor<?> constructor, CtClass cc, CtField[] attributeFields, CtClass[] attributeTypes, CtField initialStateField, CtField mutableStateField,
-                                                  AbstractMethodAttribute<?, ?>[] attributes, int mutableAttributeCount, long alwaysDirtyMask, boolean unsafe) throws CannotCompileException, NotFoundException, BadBytecode {
+                                                  AbstractMethodAttribute<?, ?>[] attributes, int mutableAttributeCount, long[] alwaysDirtyMasks, boolean unsafe) throws CannotCompileException, NotFoundException, BadBytecode {
         int superConstructorStart = attributeFields.length;
         int superConstructorEnd = attributeTypes.length;
-        return createConstructor(evm, managedViewType, constructor, cc, superConstructorStart, superConstructorEnd, attributeFields, attributeTypes, initialStateField, mutableStateField, attributes, mutableAttributeCount, ConstructorKind.NORMAL, null, alwaysDirtyMask, unsafe);
+        return createConstructor(evm, managedViewType, constructor, cc, superConstructorStart, superConstructorEnd, attributeFields, attributeTypes, initialStateField, mutableStateField, attributes, mutableAttributeCount, ConstructorKind.NORMAL, null, alwaysDirtyMasks, unsafe);
     }
 
     private CtConstructor createCreateConstructor(EntityViewManager evm, ManagedViewType<?> managedViewType, CtClass cc, CtField[] attributeFields, CtClass[] attributeTypes, CtField idField, CtField initialStateField, CtField mutableStateField,
-                                                  AbstractMethodAttribute<?, ?>[] attributes, int mutableAttributeCount, long alwaysDirtyMask, boolean unsafe) throws CannotCompileException, NotFoundException, BadBytecode {
-        return createConstructor(evm, managedViewType, null, cc, 0, 0, attributeFields, attributeTypes, initialStateField, mutableStateField, attributes, mutableAttributeCount, ConstructorKind.CREATE, idField, alwaysDirtyMask, unsafe);
+                                                  AbstractMethodAttribute<?, ?>[] attributes, int mutableAttributeCount, long[] alwaysDirtyMasks, boolean unsafe) throws CannotCompileException, NotFoundException, BadBytecode {
+        return createConstructor(evm, managedViewType, null, cc, 0, 0, attributeFields, attributeTypes, initialStateField, mutableStateField, attributes, mutableAttributeCount, ConstructorKind.CREATE, idField, alwaysDirtyMasks, unsafe);
     }
 
     private CtConstructor createReferenceConstructor(EntityViewManager evm, ManagedViewType<?> managedViewType, CtClass cc, CtField[] attributeFields, CtField idField, CtField initialStateField, CtField mutableStateField,
-                                                     AbstractMethodAttribute<?, ?>[] attributes, int mutableAttributeCount, long alwaysDirtyMask, boolean unsafe) throws CannotCompileException, NotFoundException, BadBytecode {
+                                                     AbstractMethodAttribute<?, ?>[] attributes, int mutableAttributeCount, long[] alwaysDirtyMasks, boolean unsafe) throws CannotCompileException, NotFoundException, BadBytecode {
         CtClass[] attributeTypes = new CtClass[]{ idField.getType() };
-        return createConstructor(evm, managedViewType, null, cc, 0, 0, attributeFields, attributeTypes, initialStateField, mutableStateField, attributes, mutableAttributeCount, ConstructorKind.REFERENCE, idField, alwaysDirtyMask, unsafe);
+        return createConstructor(evm, managedViewType, null, cc, 0, 0, attributeFields, attributeTypes, initialStateField, mutableStateField, attributes, mutableAttributeCount, ConstructorKind.REFERENCE, idField, alwaysDirtyMasks, unsafe);
     }
 
     /**
@@ -2401,7 +2474,7 @@ public class ProxyFactory {
     }
 
     private CtConstructor createConstructor(EntityViewManager evm, ManagedViewType<?> managedViewType, MappingConstructor<?> constructor, CtClass cc, int superConstructorStart, int superConstructorEnd, CtField[] attributeFields, CtClass[] attributeTypes, CtField initialStateField, CtField mutableStateField,
-                                            AbstractMethodAttribute<?, ?>[] attributes, int mutableAttributeCount, ConstructorKind kind, CtField idField, long alwaysDirtyMask, boolean unsafe) throws CannotCompileException, NotFoundException, BadBytecode {
+                                            AbstractMethodAttribute<?, ?>[] attributes, int mutableAttributeCount, ConstructorKind kind, CtField idField, long[] alwaysDirtyMasks, boolean unsafe) throws CannotCompileException, NotFoundException, BadBytecode {
         CtClass[] parameterTypes;
         if (kind == ConstructorKind.CREATE) {
             parameterTypes = new CtClass[]{ cc, pool.get(Map.class.getName()) };
@@ -2414,11 +2487,11 @@ public class ProxyFactory {
         StringBuilder sb = new StringBuilder();
         sb.append("{\n");
         if (unsafe) {
-            renderFieldInitialization(evm, managedViewType, constructor, attributeFields, initialStateField, mutableStateField, attributes, mutableAttributeCount, kind, alwaysDirtyMask, sb, unsafe, idField);
+            renderFieldInitialization(evm, managedViewType, constructor, attributeFields, initialStateField, mutableStateField, attributes, mutableAttributeCount, kind, alwaysDirtyMasks, sb, unsafe, idField);
             renderSuperCall(constructor, cc, superConstructorStart, superConstructorEnd, sb);
         } else {
             renderSuperCall(constructor, cc, superConstructorStart, superConstructorEnd, sb);
-            renderFieldInitialization(evm, managedViewType, constructor, attributeFields, initialStateField, mutableStateField, attributes, mutableAttributeCount, kind, alwaysDirtyMask, sb, unsafe, idField);
+            renderFieldInitialization(evm, managedViewType, constructor, attributeFields, initialStateField, mutableStateField, attributes, mutableAttributeCount, kind, alwaysDirtyMasks, sb, unsafe, idField);
         }
 
         // Always register dirty tracker after super call
@@ -2429,7 +2502,7 @@ public class ProxyFactory {
     }
 
     private CtConstructor createTupleConstructor(ManagedViewType<?> managedViewType, MappingConstructor<?> constructor, CtClass cc, int superConstructorStart, int superConstructorEnd, CtField[] attributeFields, CtClass[] attributeTypes, CtField initialStateField, CtField mutableStateField,
-                                                 AbstractMethodAttribute<?, ?>[] attributes, int mutableAttributeCount, boolean assignment, long alwaysDirtyMask, boolean unsafe) throws CannotCompileException, NotFoundException, BadBytecode {
+                                                 AbstractMethodAttribute<?, ?>[] attributes, int mutableAttributeCount, boolean assignment, long[] alwaysDirtyMasks, boolean unsafe) throws CannotCompileException, NotFoundException, BadBytecode {
         CtClass[] parameterTypes;
         if (assignment) {
             parameterTypes = new CtClass[(superConstructorEnd - superConstructorStart) + 4];
@@ -2451,11 +2524,11 @@ public class ProxyFactory {
         StringBuilder sb = new StringBuilder();
         sb.append("{\n");
         if (unsafe) {
-            renderFieldInitialization(constructor, attributeFields, initialStateField, mutableStateField, attributes, mutableAttributeCount, assignment, alwaysDirtyMask, unsafe, sb);
+            renderFieldInitialization(constructor, attributeFields, initialStateField, mutableStateField, attributes, mutableAttributeCount, assignment, alwaysDirtyMasks, unsafe, sb);
             renderTupleSuperCall(constructor, cc, superConstructorStart, superConstructorEnd, assignment, attributeTypes, sb);
         } else {
             renderTupleSuperCall(constructor, cc, superConstructorStart, superConstructorEnd, assignment, attributeTypes, sb);
-            renderFieldInitialization(constructor, attributeFields, initialStateField, mutableStateField, attributes, mutableAttributeCount, assignment, alwaysDirtyMask, unsafe, sb);
+            renderFieldInitialization(constructor, attributeFields, initialStateField, mutableStateField, attributes, mutableAttributeCount, assignment, alwaysDirtyMasks, unsafe, sb);
         }
 
         // Always register dirty tracker after super call
@@ -2601,18 +2674,14 @@ public class ProxyFactory {
     }
 
     private void renderFieldInitialization(EntityViewManager entityViewManager, ManagedViewType<?> managedViewType, MappingConstructor<?> constructor, CtField[] attributeFields, CtField initialStateField, CtField mutableStateField,
-                                           AbstractMethodAttribute<?, ?>[] methodAttributes, int mutableAttributeCount, ConstructorKind kind, long alwaysDirtyMask, StringBuilder sb, boolean unsafe, CtField idField) throws NotFoundException, CannotCompileException {
+                                           AbstractMethodAttribute<?, ?>[] methodAttributes, int mutableAttributeCount, ConstructorKind kind, long[] alwaysDirtyMasks, StringBuilder sb, boolean unsafe, CtField idField) throws NotFoundException, CannotCompileException {
         if (initialStateField != null) {
             sb.append("\tObject[] initialStateArr = new Object[").append(mutableAttributeCount).append("];\n");
         }
 
         if (mutableStateField != null) {
             sb.append("\tObject[] mutableStateArr = new Object[").append(mutableAttributeCount).append("];\n");
-            if (unsafe) {
-                sb.append("\t$0.$$_dirty = ").append(alwaysDirtyMask).append("L;\n");
-            } else {
-                sb.append("\t$0.$$_dirty |= ").append(alwaysDirtyMask).append("L;\n");
-            }
+            renderDirtyInitialization(alwaysDirtyMasks, unsafe, sb);
         }
 
         if (kind == ConstructorKind.CREATE && managedViewType.isCreatable()) {
@@ -2891,18 +2960,14 @@ public class ProxyFactory {
         }
     }
 
-    private void renderFieldInitialization(MappingConstructor<?> constructor, CtField[] attributeFields, CtField initialStateField, CtField mutableStateField, AbstractMethodAttribute<?, ?>[] methodAttributes, int mutableAttributeCount, boolean assignment, long alwaysDirtyMask, boolean unsafe, StringBuilder sb) throws NotFoundException {
+    private void renderFieldInitialization(MappingConstructor<?> constructor, CtField[] attributeFields, CtField initialStateField, CtField mutableStateField, AbstractMethodAttribute<?, ?>[] methodAttributes, int mutableAttributeCount, boolean assignment, long[] alwaysDirtyMasks, boolean unsafe, StringBuilder sb) throws NotFoundException {
         if (initialStateField != null) {
             sb.append("\tObject[] initialStateArr = new Object[").append(mutableAttributeCount).append("];\n");
         }
 
         if (mutableStateField != null) {
             sb.append("\tObject[] mutableStateArr = new Object[").append(mutableAttributeCount).append("];\n");
-            if (unsafe) {
-                sb.append("\t$0.$$_dirty = ").append(alwaysDirtyMask).append("L;\n");
-            } else {
-                sb.append("\t$0.$$_dirty |= ").append(alwaysDirtyMask).append("L;\n");
-            }
+            renderDirtyInitialization(alwaysDirtyMasks, unsafe, sb);
         }
 
         for (int i = 0; i < attributeFields.length; i++) {
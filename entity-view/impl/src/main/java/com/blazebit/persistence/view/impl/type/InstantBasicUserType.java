@@ -23,11 +23,10 @@ public class InstantBasicUserType extends TimestampishImmutableBasicUserType<Ins
 
     @Override
     public Instant fromString(CharSequence sequence) {
-        String input = sequence.toString();
         try {
-            return LocalDateTime.parse( input).toInstant( ZoneOffset.UTC );
+            return LocalDateTime.parse(sequence).toInstant( ZoneOffset.UTC );
         } catch (DateTimeParseException e) {
-            throw new IllegalArgumentException("Invalid date-time format: " + input, e);
+            throw new IllegalArgumentException("Invalid date-time format: " + sequence, e);
         }
     }
 
@@ -21,11 +21,10 @@ public class LocalDateBasicUserType extends ImmutableBasicUserType<LocalDate> {
 
     @Override
     public LocalDate fromString(CharSequence sequence) {
-        String input = sequence.toString();
         try {
-            return LocalDate.parse(input);
+            return LocalDate.parse(sequence);
         } catch (DateTimeParseException e) {
-            throw new IllegalArgumentException("Invalid date format: " + input, e);
+            throw new IllegalArgumentException("Invalid date format: " + sequence, e);
         }
     }
 
@@ -21,11 +21,10 @@ public class LocalDateTimeBasicUserType extends TimestampishImmutableBasicUserTy
 
     @Override
     public LocalDateTime fromString(CharSequence sequence) {
-        String input = sequence.toString();
         try {
-            return LocalDateTime.parse(input);
+            return LocalDateTime.parse(sequence);
         } catch (DateTimeParseException e) {
-            throw new IllegalArgumentException("Invalid date-time format: " + input, e);
+            throw new IllegalArgumentException("Invalid date-time format: " + sequence, e);
         }
     }
 
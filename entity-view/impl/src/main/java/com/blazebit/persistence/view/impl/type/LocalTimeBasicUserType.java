@@ -22,11 +22,10 @@ public class LocalTimeBasicUserType extends ImmutableBasicUserType<LocalTime> {
 
     @Override
     public LocalTime fromString(CharSequence sequence) {
-        String input = sequence.toString();
         try {
-            return LocalTime.parse(input);
+            return LocalTime.parse(sequence);
         } catch (DateTimeParseException e) {
-            throw new IllegalArgumentException("Invalid time format: " + input, e);
+            throw new IllegalArgumentException("Invalid time format: " + sequence, e);
         }
     }
 
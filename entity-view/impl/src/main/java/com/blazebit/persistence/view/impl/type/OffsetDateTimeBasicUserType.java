@@ -23,11 +23,10 @@ public class OffsetDateTimeBasicUserType extends TimestampishImmutableBasicUserT
 
     @Override
     public OffsetDateTime fromString(CharSequence sequence) {
-        String input = sequence.toString();
         try {
-            return LocalDateTime.parse( input).atOffset( ZoneOffset.UTC );
+            return LocalDateTime.parse(sequence).atOffset( ZoneOffset.UTC );
         } catch (DateTimeParseException e) {
-            throw new IllegalArgumentException("Invalid date-time format: " + input, e);
+            throw new IllegalArgumentException("Invalid date-time format: " + sequence, e);
         }
     }
 
@@ -24,11 +24,10 @@ public class OffsetTimeBasicUserType extends ImmutableBasicUserType<OffsetTime>
 
     @Override
     public OffsetTime fromString(CharSequence sequence) {
-        String input = sequence.toString();
         try {
-            return LocalTime.parse(input).atOffset(ZoneOffset.UTC);
+            return LocalTime.parse(sequence).atOffset(ZoneOffset.UTC);
         } catch (DateTimeParseException e) {
-            throw new IllegalArgumentException("Invalid time format: " + input, e);
+            throw new IllegalArgumentException("Invalid time format: " + sequence, e);
         }
     }
 
@@ -23,11 +23,10 @@ public class ZoneDateTimeBasicUserType extends TimestampishImmutableBasicUserTyp
 
     @Override
     public ZonedDateTime fromString(CharSequence sequence) {
-        String input = sequence.toString();
         try {
-            return LocalDateTime.parse(input).atZone( ZoneOffset.UTC );
+            return LocalDateTime.parse(sequence).atZone( ZoneOffset.UTC );
         } catch (DateTimeParseException e) {
-            throw new IllegalArgumentException("Invalid date-time format: " + input, e);
+            throw new IllegalArgumentException("Invalid date-time format: " + sequence, e);
         }
     }
 
@@ -43,8 +43,10 @@ import com.blazebit.persistence.view.spi.TransactionAccess;
 import com.blazebit.persistence.view.spi.type.EntityViewProxy;
 
 import javax.persistence.EntityManager;
+import javax.persistence.Query;
 import javax.transaction.Synchronization;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -67,6 +69,7 @@ public class DefaultUpdateContext implements UpdateContext, FlushOperationBuilde
     private final boolean forceFull;
     private final boolean forceEntity;
     private final boolean remove;
+    private final boolean multiple;
     private final Class<?> entityViewClass;
     private final Object object;
     private final Object entity;
@@ -77,14 +80,21 @@ public class DefaultUpdateContext implements UpdateContext, FlushOperationBuilde
     private Map<EntityKey, List<ViewCacheEntry>> viewCache;
     private Set<EntityKey> versionChecked;
     private List<PostFlushDeleter> orphanRemovalDeleters = new ArrayList<>();
+    private Map<String, List<Query>> releasedQueries;
+    private Map<Query, String> acquiredQueries;
 
     public DefaultUpdateContext(EntityViewManagerImpl evm, EntityManager em, boolean forceFull, boolean forceEntity, boolean remove, Class<?> entityViewClass, Object object, Object entity) {
+        this(evm, em, forceFull, forceEntity, remove, false, entityViewClass, object, entity);
+    }
+
+    public DefaultUpdateContext(EntityViewManagerImpl evm, EntityManager em, boolean forceFull, boolean forceEntity, boolean remove, boolean multiple, Class<?> entityViewClass, Object object, Object entity) {
         this.evm = evm;
         this.em = em;
         this.forceFull = forceFull;
         this.transactionAccess = TransactionHelper.getTransactionAccess(em);
         this.forceEntity = forceEntity;
         this.remove = remove;
+        this.multiple = multiple;
         this.entityViewClass = entityViewClass;
         this.object = object;
         this.entity = entity;
@@ -240,6 +250,43 @@ public class DefaultUpdateContext implements UpdateContext, FlushOperationBuilde
         }
     }
 
+    @Override
+    public Query createQuery(String queryString) {
+        if (!multiple) {
+            return em.createQuery(queryString);
+        }
+        if (releasedQueries == null) {
+            releasedQueries = new HashMap<>();
+            acquiredQueries = new IdentityHashMap<>();
+        }
+        Query query;
+        List<Query> queries = releasedQueries.get(queryString);
+        if (queries == null || queries.isEmpty()) {
+            query = em.createQuery(queryString);
+        } else {
+            query = queries.remove(queries.size() - 1);
+        }
+        // A query is only handed out once until it is released, as nested flushes might need a query with the same query string
+        acquiredQueries.put(query, queryString);
+        return query;
+    }
+
+    @Override
+    public void releaseQuery(Query query) {
+        if (acquiredQueries == null) {
+            return;
+        }
+        String queryString = acquiredQueries.remove(query);
+        if (queryString != null) {
+            List<Query> queries = releasedQueries.get(queryString);
+            if (queries == null) {
+                queries = new ArrayList<>(1);
+                releasedQueries.put(queryString, queries);
+            }
+            queries.add(query);
+        }
+    }
+
     @Override
     public void invokePrePersist(MutableStateTrackable updatableProxy, Object entity) {
         listenerManager.invokePrePersist(this, updatableProxy, entity);
@@ -669,7 +716,17 @@ public class DefaultUpdateContext implements UpdateContext, FlushOperationBuilde
 
     @Override
     public void flush() {
-        if (remove) {
+        if (multiple) {
+            if (remove) {
+                if (entityViewClass == null) {
+                    evm.removeAll(this, (Collection<?>) object);
+                } else {
+                    evm.removeAll(this, entityViewClass, (Collection<?>) object);
+                }
+            } else {
+                evm.updateAll(this, (Collection<?>) object);
+            }
+        } else if (remove) {
             if (entityViewClass == null) {
                 evm.remove(this, object);
             } else {
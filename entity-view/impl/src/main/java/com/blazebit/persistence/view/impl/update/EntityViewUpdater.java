@@ -12,6 +12,8 @@ import com.blazebit.persistence.view.impl.update.flush.DirtyAttributeFlusher;
 import com.blazebit.persistence.view.impl.update.flush.FetchGraphNode;
 import com.blazebit.persistence.view.spi.type.EntityViewProxy;
 
+import java.util.Collection;
+
 /**
  *
  * @author Christian Beikov
@@ -37,5 +39,7 @@ public interface EntityViewUpdater extends UpdateQueryFactory {
 
     public void remove(UpdateContext context, Object id);
 
+    public void removeAll(UpdateContext context, Collection<?> ids);
+
     public DirtyChecker<DirtyStateTrackable> getDirtyChecker();
 }
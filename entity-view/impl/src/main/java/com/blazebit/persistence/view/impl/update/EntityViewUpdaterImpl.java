@@ -76,6 +76,7 @@ import com.blazebit.persistence.view.metamodel.MethodAttribute;
 import com.blazebit.persistence.view.metamodel.PluralAttribute;
 import com.blazebit.persistence.view.metamodel.Type;
 import com.blazebit.persistence.view.metamodel.ViewType;
+import com.blazebit.persistence.view.spi.EntityViewCache;
 import com.blazebit.persistence.view.spi.type.DirtyStateTrackable;
 import com.blazebit.persistence.view.spi.type.EntityViewProxy;
 import com.blazebit.persistence.view.spi.type.MutableStateTrackable;
@@ -88,6 +89,7 @@ import javax.persistence.metamodel.EntityType;
 import javax.persistence.metamodel.ManagedType;
 import javax.persistence.metamodel.SingularAttribute;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -118,6 +120,7 @@ public class EntityViewUpdaterImpl implements EntityViewUpdater {
     private final String updatePostfixString;
     private final String versionedUpdatePostfixString;
     private final String fullUpdateQueryString;
+    private final EntityViewCache<UpdateQueryKey, String> updateQueryCache;
 
     @SuppressWarnings({ "unchecked", "rawtypes" })
     public EntityViewUpdaterImpl(EntityViewManagerImpl evm, Map<Object, EntityViewUpdaterImpl> localCache, ManagedViewTypeImplementor<?> viewType, ManagedViewTypeImplementor<?> declaredViewType, EntityViewUpdaterImpl owner, String ownerMapping) {
@@ -125,6 +128,7 @@ public class EntityViewUpdaterImpl implements EntityViewUpdater {
         Class<?> entityClass = viewType.getEntityClass();
         this.managedViewType = viewType;
         this.flushStrategy = viewType.getFlushStrategy();
+        this.updateQueryCache = evm.getUpdateQueryCache();
         EntityMetamodel entityMetamodel = evm.getMetamodel().getEntityMetamodel();
         ExtendedManagedType<?> extendedManagedType = entityMetamodel.getManagedType(ExtendedManagedType.class, entityClass);
         EntityType<?> entityType = extendedManagedType.getType() instanceof EntityType<?> ? (EntityType<?>) extendedManagedType.getType() : null;
@@ -643,32 +647,35 @@ public class EntityViewUpdaterImpl implements EntityViewUpdater {
             queryString = fullUpdateQueryString;
             needsOptimisticLocking = fullFlusher.hasVersionFlusher();
         } else {
-            StringBuilder sb = new StringBuilder(updatePrefixString.length() + updatePostfixString.length() + 250);
-            sb.append(updatePrefixString);
-            int initialLength = sb.length();
-            flusher.appendUpdateQueryFragment(context, sb, "e.", "", ", ");
-            if (sb.length() == initialLength) {
-                // If we still need optimistic locking, we just append a flush for the version increment
-                if (needsOptimisticLocking = fullFlusher.hasVersionFlusher() && flusher.isOptimisticLockProtected()) {
-                    versionFlusher.appendUpdateQueryFragment(context, sb, "e.", "", ", ");
-                    sb.append(versionedUpdatePostfixString);
-                    queryString = sb.toString();
-                } else {
-                    queryString = null;
+            needsOptimisticLocking = fullFlusher.hasVersionFlusher() && flusher.isOptimisticLockProtected();
+            UpdateQueryKey cacheKey = null;
+            if (updateQueryCache != null && flusher instanceof CompositeAttributeFlusher) {
+                long[] shape = ((CompositeAttributeFlusher) flusher).getUpdateQueryShape(fullFlusher);
+                if (shape != null) {
+                    cacheKey = new UpdateQueryKey(this, shape, needsOptimisticLocking);
                 }
+            }
+            if (cacheKey == null) {
+                queryString = buildUpdateQueryString(context, flusher, needsOptimisticLocking);
             } else {
-                if (needsOptimisticLocking = fullFlusher.hasVersionFlusher() && flusher.isOptimisticLockProtected()) {
-                    sb.append(versionedUpdatePostfixString);
-                } else {
-                    sb.append(updatePostfixString);
+                queryString = updateQueryCache.get(cacheKey);
+                if (queryString == null) {
+                    queryString = buildUpdateQueryString(context, flusher, needsOptimisticLocking);
+                    // The absence of an update query is cached as empty string
+                    String oldQueryString = updateQueryCache.putIfAbsent(cacheKey, queryString == null ? "" : queryString);
+                    if (oldQueryString != null) {
+                        queryString = oldQueryString;
+                    }
+                }
+                if (queryString != null && queryString.isEmpty()) {
+                    queryString = null;
                 }
-                queryString = sb.toString();
             }
         }
 
         Query query = null;
         if (queryString != null) {
-            query = context.getEntityManager().createQuery(queryString);
+            query = context.createQuery(queryString);
             if (idFlusher != null) {
                 idFlusher.flushQuery(context, WHERE_CLAUSE_PREFIX, null, query, updatableProxy, updatableProxy, updatableProxy.$$_getId(), null, null);
             }
@@ -680,6 +687,30 @@ public class EntityViewUpdaterImpl implements EntityViewUpdater {
         return query;
     }
 
+    private String buildUpdateQueryString(UpdateContext context, DirtyAttributeFlusher<?, ?, ?> flusher, boolean needsOptimisticLocking) {
+        StringBuilder sb = new StringBuilder(updatePrefixString.length() + updatePostfixString.length() + 250);
+        sb.append(updatePrefixString);
+        int initialLength = sb.length();
+        flusher.appendUpdateQueryFragment(context, sb, "e.", "", ", ");
+        if (sb.length() == initialLength) {
+            // If we still need optimistic locking, we just append a flush for the version increment
+            if (needsOptimisticLocking) {
+                versionFlusher.appendUpdateQueryFragment(context, sb, "e.", "", ", ");
+                sb.append(versionedUpdatePostfixString);
+                return sb.toString();
+            } else {
+                return null;
+            }
+        } else {
+            if (needsOptimisticLocking) {
+                sb.append(versionedUpdatePostfixString);
+            } else {
+                sb.append(updatePostfixString);
+            }
+            return sb.toString();
+        }
+    }
+
     private boolean update(UpdateContext context, Object entity, MutableStateTrackable updatableProxy) {
         if (!rootUpdateAllowed && entity == null) {
             throw new IllegalArgumentException("Updating instances of the view type [" + updatableProxy.getClass().getName() + "] is not allowed because no entity id is known!");
@@ -704,6 +735,7 @@ public class EntityViewUpdaterImpl implements EntityViewUpdater {
                 if (updated != 1) {
                     throw new OptimisticLockException("The update operation did not return the expected update count!", entity, updatableProxy);
                 }
+                context.releaseQuery(query);
             }
             context.removeOrphans(orphanRemovalStartIndex);
             return true;
@@ -735,6 +767,11 @@ public class EntityViewUpdaterImpl implements EntityViewUpdater {
         fullFlusher.remove(context, viewId);
     }
 
+    @Override
+    public void removeAll(UpdateContext context, Collection<?> viewIds) {
+        fullFlusher.removeAll(context, viewIds);
+    }
+
     @SuppressWarnings({"unchecked", "checkstyle:methodlength"})
     private DirtyAttributeFlusher<?, ?, ?> createAttributeFlusher(EntityViewManagerImpl evm, Map<Object, EntityViewUpdaterImpl> localCache, ManagedViewTypeImplementor<?> viewType, String idAttributeName, FlushStrategy flushStrategy, AbstractMethodAttribute<?, ?> attribute, DirtyAttributeFlusher<?, ?, ?> ownerIdFlusher, EntityViewUpdaterImpl owner, String ownerMapping) {
         if (attribute.isCollection()) {
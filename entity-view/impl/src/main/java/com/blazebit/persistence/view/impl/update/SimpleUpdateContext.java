@@ -12,6 +12,7 @@ import com.blazebit.persistence.view.spi.type.EntityViewProxy;
 import com.blazebit.persistence.view.spi.type.MutableStateTrackable;
 
 import javax.persistence.EntityManager;
+import javax.persistence.Query;
 import java.util.List;
 
 /**
@@ -91,6 +92,15 @@ public class SimpleUpdateContext implements UpdateContext {
     public void removeOrphans(int orphanRemovalStartIndex) {
     }
 
+    @Override
+    public Query createQuery(String queryString) {
+        return em.createQuery(queryString);
+    }
+
+    @Override
+    public void releaseQuery(Query query) {
+    }
+
     @Override
     public void invokePrePersist(MutableStateTrackable updatableProxy, Object entity) {
     }
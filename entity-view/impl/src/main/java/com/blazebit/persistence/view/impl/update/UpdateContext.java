@@ -12,6 +12,7 @@ import com.blazebit.persistence.view.spi.type.EntityViewProxy;
 import com.blazebit.persistence.view.spi.type.MutableStateTrackable;
 
 import javax.persistence.EntityManager;
+import javax.persistence.Query;
 import java.util.List;
 
 /**
@@ -47,6 +48,21 @@ public interface UpdateContext {
 
     public void removeOrphans(int orphanRemovalStartIndex);
 
+    /**
+     * Returns a query for the given query string. When flushing multiple views, a query that was released is reused.
+     *
+     * @param queryString The query string
+     * @return The query
+     */
+    public Query createQuery(String queryString);
+
+    /**
+     * Releases the given query after it was executed so that it can be reused for the next view of a multi-view flush.
+     *
+     * @param query The executed query
+     */
+    public void releaseQuery(Query query);
+
     public void invokePrePersist(MutableStateTrackable updatableProxy, Object entity);
 
     public void invokePostPersist(MutableStateTrackable updatableProxy, Object entity);
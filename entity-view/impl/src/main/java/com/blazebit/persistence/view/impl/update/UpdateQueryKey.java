@@ -0,0 +1,54 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.view.impl.update;
+
+import java.util.Arrays;
+
+/**
+ * The key of a cached update query string of a partial update i.e. the updater and the set of attributes that contribute to the SET clause.
+ * The updater is compared by identity, as every updater renders its own attribute fragments.
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+public final class UpdateQueryKey {
+
+    private final Object updater;
+    private final long[] shape;
+    private final boolean versioned;
+    private final int hash;
+
+    public UpdateQueryKey(Object updater, long[] shape, boolean versioned) {
+        this.updater = updater;
+        this.shape = shape;
+        this.versioned = versioned;
+        int result = System.identityHashCode(updater);
+        result = 31 * result + Arrays.hashCode(shape);
+        result = 31 * result + (versioned ? 1 : 0);
+        this.hash = result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof UpdateQueryKey)) {
+            return false;
+        }
+
+        UpdateQueryKey key = (UpdateQueryKey) o;
+        return hash == key.hash
+                && updater == key.updater
+                && versioned == key.versioned
+                && Arrays.equals(shape, key.shape);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
@@ -9,6 +9,9 @@ import com.blazebit.persistence.parser.EntityMetamodel;
 import com.blazebit.persistence.spi.ExtendedAttribute;
 import com.blazebit.persistence.spi.ExtendedManagedType;
 import com.blazebit.persistence.view.impl.EntityViewManagerImpl;
+import com.blazebit.persistence.view.impl.update.UpdateContext;
+
+import java.util.Collection;
 
 
 /**
@@ -49,6 +52,20 @@ public abstract class AbstractUnmappedAttributeCascadeDeleter implements Unmappe
         this.cascadeDeleteElement = original.cascadeDeleteElement;
     }
 
+    @Override
+    public void removeByIds(UpdateContext context, Collection<Object> ids) {
+        for (Object id : ids) {
+            removeById(context, id);
+        }
+    }
+
+    @Override
+    public void removeByOwnerIds(UpdateContext context, Collection<Object> ownerIds) {
+        for (Object ownerId : ownerIds) {
+            removeByOwnerId(context, ownerId);
+        }
+    }
+
     @Override
     public String getAttributeValuePath() {
         return attributeValuePath;
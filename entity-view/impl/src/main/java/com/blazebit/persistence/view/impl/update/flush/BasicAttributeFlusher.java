@@ -17,6 +17,7 @@ import com.blazebit.persistence.view.spi.type.BasicUserType;
 import com.blazebit.persistence.view.spi.type.TypeConverter;
 
 import javax.persistence.Query;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -148,30 +149,38 @@ public class BasicAttributeFlusher<E, V> extends BasicDirtyChecker<V> implements
         return mapping;
     }
 
+    /**
+     * Returns whether {@link #appendUpdateQueryFragment(UpdateContext, StringBuilder, String, String, String)} appends a fragment.
+     *
+     * @return whether an update query fragment is rendered
+     * @since 1.6.15
+     */
+    public boolean hasUpdateQueryFragment() {
+        // It must be updatable and the value must have changed
+        return (updatable || isPassThrough()) && (flushOperation == null || update) && inverseFlusher == null && updateFragment != null;
+    }
+
     @Override
     public boolean appendUpdateQueryFragment(UpdateContext context, StringBuilder sb, String mappingPrefix, String parameterPrefix, String separator) {
-        // It must be updatable and the value must have changed
-        if ((updatable || isPassThrough()) && (flushOperation == null || update) && inverseFlusher == null) {
-            if (updateFragment != null) {
-                if (componentFlushers == null) {
-                    if (mappingPrefix == null) {
-                        sb.append(updateFragment);
-                        sb.append(" = :");
-                        sb.append(parameterName);
-                    } else {
-                        sb.append(mappingPrefix).append(updateFragment);
-                        sb.append(" = :");
-                        sb.append(parameterPrefix).append(parameterName);
-                    }
+        if (hasUpdateQueryFragment()) {
+            if (componentFlushers == null) {
+                if (mappingPrefix == null) {
+                    sb.append(updateFragment);
+                    sb.append(" = :");
+                    sb.append(parameterName);
                 } else {
-                    componentFlushers[0].getValue().appendUpdateQueryFragment(context, sb, mappingPrefix, parameterPrefix, separator);
-                    for (int i = 1; i < componentFlushers.length; i++) {
-                        sb.append(separator);
-                        componentFlushers[i].getValue().appendUpdateQueryFragment(context, sb, mappingPrefix, parameterPrefix, separator);
-                    }
+                    sb.append(mappingPrefix).append(updateFragment);
+                    sb.append(" = :");
+                    sb.append(parameterPrefix).append(parameterName);
+                }
+            } else {
+                componentFlushers[0].getValue().appendUpdateQueryFragment(context, sb, mappingPrefix, parameterPrefix, separator);
+                for (int i = 1; i < componentFlushers.length; i++) {
+                    sb.append(separator);
+                    componentFlushers[i].getValue().appendUpdateQueryFragment(context, sb, mappingPrefix, parameterPrefix, separator);
                 }
-                return true;
             }
+            return true;
         }
 
         return false;
@@ -447,6 +456,14 @@ public class BasicAttributeFlusher<E, V> extends BasicDirtyChecker<V> implements
         return Collections.emptyList();
     }
 
+    @Override
+    public List<PostFlushDeleter> removeByOwnerIds(UpdateContext context, Collection<Object> ownerIds) {
+        if (deleter != null) {
+            deleter.removeByOwnerIds(context, ownerIds);
+        }
+        return Collections.emptyList();
+    }
+
     @Override
     public void remove(UpdateContext context, Object id) {
         if (deleter != null) {
@@ -454,6 +471,13 @@ public class BasicAttributeFlusher<E, V> extends BasicDirtyChecker<V> implements
         }
     }
 
+    @Override
+    public void removeByIds(UpdateContext context, Collection<Object> ids) {
+        if (deleter != null) {
+            deleter.removeByIds(context, ids);
+        }
+    }
+
     @Override
     public boolean requiresDeleteCascadeAfterRemove() {
         // First the owner of the attribute must be deleted, otherwise we might get an FK violation
@@ -811,7 +811,7 @@ public class CollectionAttributeFlusher<E, V extends Collection<?>> extends Abst
         if (collection != null && !collection.isEmpty()) {
             // Entity flushing will do the delete anyway, so we can skip this
             if (flushStrategy == FlushStrategy.QUERY && !context.isForceEntity() && !jpaProviderDeletesCollection) {
-                removeByOwnerId(context, ((EntityViewProxy) view).$$_getId(), false);
+                removeByOwnerIds(context, Collections.singletonList(((EntityViewProxy) view).$$_getId()), false);
             }
             if (cascadeDeleteListener != null) {
                 List<Object> elements;
@@ -851,10 +851,15 @@ public class CollectionAttributeFlusher<E, V extends Collection<?>> extends Abst
 
     @Override
     public List<PostFlushDeleter> removeByOwnerId(UpdateContext context, Object id) {
-        return removeByOwnerId(context, id, true);
+        return removeByOwnerIds(context, Collections.singletonList(id), true);
     }
 
-    private List<PostFlushDeleter> removeByOwnerId(UpdateContext context, Object ownerId, boolean cascade) {
+    @Override
+    public List<PostFlushDeleter> removeByOwnerIds(UpdateContext context, Collection<Object> ids) {
+        return removeByOwnerIds(context, ids, true);
+    }
+
+    private List<PostFlushDeleter> removeByOwnerIds(UpdateContext context, Collection<Object> ownerIds, boolean cascade) {
         EntityViewManagerImpl evm = context.getEntityViewManager();
         String mapping = getMapping();
         if (cascade) {
@@ -862,8 +867,8 @@ public class CollectionAttributeFlusher<E, V extends Collection<?>> extends Abst
             if (inverseFlusher == null) {
                 // If there is no inverseFlusher/mapped by attribute, the collection has a join table
                 if (evm.getDbmsDialect().supportsReturningColumns()) {
-                    List<Tuple> tuples = evm.getCriteriaBuilderFactory().deleteCollection(context.getEntityManager(), ownerEntityClass, "e", mapping)
-                            .where(ownerIdAttributeName).eq(ownerId)
+                    List<Tuple> tuples = UnmappedAttributeCascadeDeleterUtil.eqOrIn(evm.getCriteriaBuilderFactory().deleteCollection(context.getEntityManager(), ownerEntityClass, "e", mapping)
+                            .where(ownerIdAttributeName), ownerIds)
                             .executeWithReturning(mapping + "." + elementDescriptor.getAttributeIdAttributeName())
                             .getResultList();
 
@@ -872,27 +877,27 @@ public class CollectionAttributeFlusher<E, V extends Collection<?>> extends Abst
                         elementIds.add(tuple.get(0));
                     }
                 } else {
-                    elementIds = (List<Object>) evm.getCriteriaBuilderFactory().create(context.getEntityManager(), ownerEntityClass, "e")
-                            .where(ownerIdAttributeName).eq(ownerId)
+                    elementIds = (List<Object>) UnmappedAttributeCascadeDeleterUtil.eqOrIn(evm.getCriteriaBuilderFactory().create(context.getEntityManager(), ownerEntityClass, "e")
+                            .where(ownerIdAttributeName), ownerIds)
                             .where("e." + mapping + "." + elementDescriptor.getAttributeIdAttributeName()).isNotNull()
                             .select("e." + mapping + "." + elementDescriptor.getAttributeIdAttributeName())
                             .getResultList();
                     if (!elementIds.isEmpty() && !jpaProviderDeletesCollection) {
                         // We must always delete this, otherwise we might get a constraint violation because of the cascading delete
                         DeleteCriteriaBuilder<?> cb = evm.getCriteriaBuilderFactory().deleteCollection(context.getEntityManager(), ownerEntityClass, "e", mapping);
-                        cb.where(ownerIdAttributeName).eq(ownerId);
+                        UnmappedAttributeCascadeDeleterUtil.eqOrIn(cb.where(ownerIdAttributeName), ownerIds);
                         cb.executeUpdate();
                     }
                 }
 
                 return Collections.<PostFlushDeleter>singletonList(new PostFlushCollectionElementByIdDeleter(elementDescriptor.getElementToEntityMapper(), elementIds));
             } else {
-                return inverseFlusher.removeByOwnerId(context, ownerId);
+                return inverseFlusher.removeByOwnerIds(context, ownerIds);
             }
         } else if (!jpaProviderDeletesCollection) {
             // delete from Entity(collectionRole) e where e.id = :id
             DeleteCriteriaBuilder<?> cb = evm.getCriteriaBuilderFactory().deleteCollection(context.getEntityManager(), ownerEntityClass, "e", mapping);
-            cb.where(ownerIdAttributeName).eq(ownerId);
+            UnmappedAttributeCascadeDeleterUtil.eqOrIn(cb.where(ownerIdAttributeName), ownerIds);
             cb.executeUpdate();
         }
 
@@ -904,6 +909,11 @@ public class CollectionAttributeFlusher<E, V extends Collection<?>> extends Abst
         throw new UnsupportedOperationException("Unsupported!");
     }
 
+    @Override
+    public void removeByIds(UpdateContext context, Collection<Object> ids) {
+        throw new UnsupportedOperationException("Unsupported!");
+    }
+
     @Override
     public void removeFromEntity(UpdateContext context, E entity) {
         V value = (V) entityAttributeAccessor.getValue(entity);
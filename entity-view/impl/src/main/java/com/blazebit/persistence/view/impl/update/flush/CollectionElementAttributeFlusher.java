@@ -11,6 +11,7 @@ import com.blazebit.persistence.view.impl.update.UpdateContext;
 import com.blazebit.persistence.view.impl.update.UpdateQueryFactory;
 
 import javax.persistence.Query;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
@@ -84,12 +85,23 @@ public abstract class CollectionElementAttributeFlusher<E, V> extends Collection
         // No-op
     }
 
+    @Override
+    public void removeByIds(UpdateContext context, Collection<Object> ids) {
+        // No-op
+    }
+
     @Override
     public List<PostFlushDeleter> removeByOwnerId(UpdateContext context, Object id) {
         // No-op
         return Collections.emptyList();
     }
 
+    @Override
+    public List<PostFlushDeleter> removeByOwnerIds(UpdateContext context, Collection<Object> ids) {
+        // No-op
+        return Collections.emptyList();
+    }
+
     @Override
     public void removeFromEntity(UpdateContext context, E entity) {
     }
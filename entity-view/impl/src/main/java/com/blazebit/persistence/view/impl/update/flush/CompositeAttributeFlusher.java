@@ -39,6 +39,8 @@ import javax.persistence.metamodel.EntityType;
 import javax.persistence.metamodel.ManagedType;
 import javax.persistence.metamodel.SingularAttribute;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -62,6 +64,8 @@ public class CompositeAttributeFlusher extends CompositeAttributeFetchGraphNode<
     private static final int FEATURE_IS_ANY_OPTIMISTIC_LOCK_PROTECTED = 4;
     private static final int FEATURE_LOAD_FOR_ENTITY_FLUSH = 8;
     private static final UnmappedAttributeCascadeDeleter[] EMPTY = new UnmappedAttributeCascadeDeleter[0];
+    // Keeps the IN list of set based removals within the bind parameter limits of common databases
+    private static final int REMOVE_ALL_CHUNK_SIZE = 512;
 
     private final Class<?> entityClass;
     private final boolean persistable;
@@ -273,6 +277,67 @@ public class CompositeAttributeFlusher extends CompositeAttributeFetchGraphNode<
         return versionFlusher != null;
     }
 
+    /**
+     * Returns a bit mask that describes the update query fragment of this flusher or <code>null</code>
+     * if the fragment can't be described by such a mask, because this flusher is not derived from the given one
+     * or contains flushers that render state dependent fragments.
+     * Every flusher is described by two bits, whether it renders a fragment and whether it requires a version increment.
+     *
+     * @param original The flusher from which this flusher is expected to be derived
+     * @return The update query shape mask or <code>null</code>
+     * @since 1.6.15
+     */
+    public long[] getUpdateQueryShape(CompositeAttributeFlusher original) {
+        if (fullFlushers != original.fullFlushers) {
+            return null;
+        }
+        long[] shape = new long[(flushers.length * 2 + 63) >>> 6];
+        for (int i = 0; i < flushers.length; i++) {
+            DirtyAttributeFlusher<?, Object, Object> flusher = flushers[i];
+            if (flusher != null) {
+                int state = getUpdateQueryFragmentState(flusher);
+                if (state == -1) {
+                    return null;
+                }
+                int bitIndex = i * 2;
+                shape[bitIndex >>> 6] |= ((long) state) << bitIndex;
+            }
+        }
+        return shape;
+    }
+
+    private static int getUpdateQueryFragmentState(DirtyAttributeFlusher<?, Object, Object> flusher) {
+        boolean fragment;
+        boolean dirty;
+        if (flusher instanceof BasicAttributeFlusher<?, ?>) {
+            fragment = ((BasicAttributeFlusher<?, ?>) flusher).hasUpdateQueryFragment();
+            dirty = fragment;
+        } else if (flusher instanceof AbstractPluralAttributeFlusher<?, ?, ?, ?, ?>) {
+            // Plural attributes are flushed with separate statements, but still cause a version increment
+            fragment = false;
+            dirty = true;
+        } else if (flusher instanceof SubviewAttributeFlusher<?, ?>) {
+            SubviewAttributeFlusher<?, ?> subviewFlusher = (SubviewAttributeFlusher<?, ?>) flusher;
+            if (subviewFlusher.hasUpdateQueryFragment() && subviewFlusher.isElementIdUpdateQueryFragment()) {
+                return -1;
+            }
+            fragment = subviewFlusher.hasUpdateQueryFragment();
+            dirty = fragment;
+        } else if (flusher instanceof EmbeddableAttributeFlusher<?, ?>) {
+            if (!((EmbeddableAttributeFlusher<?, ?>) flusher).isUpdateQueryFragmentStatic()) {
+                return -1;
+            }
+            fragment = true;
+            dirty = true;
+        } else if (flusher instanceof MergeCollectionElementAttributeFlusher<?, ?> || flusher instanceof PersistCollectionElementAttributeFlusher<?, ?>) {
+            fragment = false;
+            dirty = false;
+        } else {
+            return -1;
+        }
+        return (fragment ? 1 : 0) | (dirty && flusher.isOptimisticLockProtected() ? 2 : 0);
+    }
+
     @Override
     public Object cloneDeep(Object view, Object oldValue, Object newValue) {
         return newValue;
@@ -815,9 +880,14 @@ public class CompositeAttributeFlusher extends CompositeAttributeFetchGraphNode<
         // After Pre-Update the dirtyness could change
         long[] dirtyMask = context.getInitialStateResetter().addUpdatedView(element);
         boolean ranPreUpdate = context.invokePreUpdate(element);
-        if (ranPreUpdate && this.fullFlushers != this.flushers && element.$$_getSimpleDirty() != 0) {
-            dirtyMask[0] |= element.$$_getSimpleDirty();
+        if (ranPreUpdate && this.fullFlushers != this.flushers && element.$$_isDirty()) {
+            long[] currentDirtyMask = element.$$_getDirty();
+            for (int i = 0; i < currentDirtyMask.length; i++) {
+                dirtyMask[i] |= currentDirtyMask[i];
+            }
             element.$$_setDirty(dirtyMask);
+            // The flushers are only set for dirty attributes, so we have to clear the non-dirty ones first
+            Arrays.fill(this.flushers, 0, element.$$_getMutableState().length, null);
             updateFlushers(context, element, this.flushers);
             element.$$_resetDirty();
             return true;
@@ -926,6 +996,133 @@ public class CompositeAttributeFlusher extends CompositeAttributeFetchGraphNode<
         }
     }
 
+    @Override
+    public void removeByIds(UpdateContext context, Collection<Object> ids) {
+        removeAll(context, ids);
+    }
+
+    public void removeAll(UpdateContext context, Collection<?> viewIds) {
+        // Set based removal is only possible when no per-object logic like listeners or entity flushing has to run
+        if (flushStrategy == FlushStrategy.ENTITY || idFlusher instanceof EmbeddableAttributeFlusher<?, ?> || context.hasRemoveListeners(entityClass)) {
+            for (Object viewId : viewIds) {
+                remove(context, viewId);
+            }
+            return;
+        }
+
+        List<Object> chunk = new ArrayList<>(Math.min(viewIds.size(), REMOVE_ALL_CHUNK_SIZE));
+        for (Object viewId : viewIds) {
+            chunk.add(viewId);
+            if (chunk.size() == REMOVE_ALL_CHUNK_SIZE) {
+                removeAllChunk(context, chunk);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            removeAllChunk(context, chunk);
+        }
+    }
+
+    private void removeAllChunk(UpdateContext context, List<Object> entityIds) {
+        for (int i = 0; i < unmappedPreRemoveCascadeDeleters.length; i++) {
+            unmappedPreRemoveCascadeDeleters[i].removeByOwnerIds(context, entityIds);
+        }
+
+        List<PostFlushDeleter> postFlushDeleters = new ArrayList<>();
+        for (int i = 0; i < flushers.length; i++) {
+            final DirtyAttributeFlusher<?, Object, Object> flusher = flushers[i];
+            if (flusher != null && !flusher.requiresDeleteCascadeAfterRemove()) {
+                postFlushDeleters.addAll(flusher.removeByOwnerIds(context, entityIds));
+            }
+        }
+
+        List<String> returningAttributes = new ArrayList<>();
+        for (int i = 0; i < unmappedPostRemoveCascadeDeleters.length; i++) {
+            returningAttributes.add(unmappedPostRemoveCascadeDeleters[i].getAttributeValuePath());
+        }
+        for (int i = 0; i < flushers.length; i++) {
+            final DirtyAttributeFlusher<?, Object, Object> flusher = flushers[i];
+            if (flusher != null && flusher.requiresDeleteCascadeAfterRemove()) {
+                String elementIdAttributeName = flushers[i].getElementIdAttributeName();
+                if (elementIdAttributeName != null) {
+                    returningAttributes.add(elementIdAttributeName);
+                }
+            }
+        }
+
+        List<Object[]> returnedValues = Collections.emptyList();
+        EntityViewManagerImpl evm = context.getEntityViewManager();
+        if (!returningAttributes.isEmpty() && evm.getDbmsDialect().supportsReturningColumns()) {
+            // delete from Entity e where e.id in :ids returning ...
+            DeleteCriteriaBuilder<?> cb = evm.getCriteriaBuilderFactory().delete(context.getEntityManager(), entityClass);
+            UnmappedAttributeCascadeDeleterUtil.eqOrIn(cb.where(idFlusher.getMapping()), entityIds);
+            List<Tuple> tuples = cb.executeWithReturning(returningAttributes.toArray(new String[returningAttributes.size()])).getResultList();
+            returnedValues = new ArrayList<>(tuples.size());
+            for (Tuple tuple : tuples) {
+                returnedValues.add(tuple.toArray());
+            }
+        } else {
+            if (!returningAttributes.isEmpty()) {
+                // Query the values for the post deleters since they aren't available after executing the delete query
+                CriteriaBuilder<Object[]> cb = evm.getCriteriaBuilderFactory().create(context.getEntityManager(), Object[].class);
+                cb.from(entityClass);
+                UnmappedAttributeCascadeDeleterUtil.eqOrIn(cb.where(idFlusher.getMapping()), entityIds);
+                for (String attribute : returningAttributes) {
+                    cb.select(attribute);
+                }
+                List<?> results = cb.getResultList();
+                returnedValues = new ArrayList<>(results.size());
+                for (Object result : results) {
+                    // Hibernate might return the object itself although we specified that we want an Object[] return...
+                    if (result instanceof Object[]) {
+                        returnedValues.add((Object[]) result);
+                    } else {
+                        returnedValues.add(new Object[]{ result });
+                    }
+                }
+            }
+            // delete from Entity e where e.id in :ids
+            DeleteCriteriaBuilder<?> cb = evm.getCriteriaBuilderFactory().delete(context.getEntityManager(), entityClass);
+            UnmappedAttributeCascadeDeleterUtil.eqOrIn(cb.where(idFlusher.getMapping()), entityIds);
+            cb.executeUpdate();
+        }
+
+        for (PostFlushDeleter postFlushDeleter : postFlushDeleters) {
+            postFlushDeleter.execute(context);
+        }
+
+        // Cascade to the referenced elements of all removed entities at once
+        for (int i = 0; i < unmappedPostRemoveCascadeDeleters.length; i++) {
+            List<Object> elementIds = collectNonNull(returnedValues, i);
+            if (!elementIds.isEmpty()) {
+                unmappedPostRemoveCascadeDeleters[i].removeByIds(context, elementIds);
+            }
+        }
+
+        int valueIndex = unmappedPostRemoveCascadeDeleters.length;
+        for (int i = 0; i < flushers.length; i++) {
+            final DirtyAttributeFlusher<?, Object, Object> flusher = flushers[i];
+            if (flusher != null && flusher.requiresDeleteCascadeAfterRemove() && flusher.getElementIdAttributeName() != null) {
+                List<Object> elementIds = collectNonNull(returnedValues, valueIndex);
+                if (!elementIds.isEmpty()) {
+                    flusher.removeByIds(context, elementIds);
+                }
+                valueIndex++;
+            }
+        }
+    }
+
+    private static List<Object> collectNonNull(List<Object[]> rows, int index) {
+        List<Object> values = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            Object value = rows.get(i)[index];
+            if (value != null) {
+                values.add(value);
+            }
+        }
+        return values;
+    }
+
     @Override
     public void removeFromEntity(UpdateContext context, Object entity) {
         // A composite flusher needs to be wrapped in a subview or collection flusher
@@ -1060,17 +1257,19 @@ public class CompositeAttributeFlusher extends CompositeAttributeFetchGraphNode<
 
             if (doDelete) {
                 if (version != null && isOptimisticLockProtected() && versionFlusher != null) {
-                    Query query = context.getEntityManager().createQuery(versionedDeleteQuery);
+                    Query query = context.createQuery(versionedDeleteQuery);
                     idFlusher.flushQuery(context, EntityViewUpdaterImpl.WHERE_CLAUSE_PREFIX, null, query, ownerView, view, viewId, null, null);
                     versionFlusher.flushQueryInitialVersion(context, EntityViewUpdaterImpl.WHERE_CLAUSE_PREFIX, query, view, version);
                     int updated = query.executeUpdate();
                     if (updated != 1) {
                         throw new OptimisticLockException("The remove operation did not return the expected update count!", entity, view);
                     }
+                    context.releaseQuery(query);
                 } else {
-                    Query query = context.getEntityManager().createQuery(deleteQuery);
+                    Query query = context.createQuery(deleteQuery);
                     idFlusher.flushQuery(context, EntityViewUpdaterImpl.WHERE_CLAUSE_PREFIX, null, query, ownerView, view, viewId, null, null);
                     query.executeUpdate();
+                    context.releaseQuery(query);
                 }
             }
 
@@ -1113,6 +1312,12 @@ public class CompositeAttributeFlusher extends CompositeAttributeFetchGraphNode<
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public List<PostFlushDeleter> removeByOwnerIds(UpdateContext context, Collection<Object> ids) {
+        // A composite flusher needs to be wrapped in a subview or collection flusher
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public boolean requiresDeleteCascadeAfterRemove() {
         // A composite flusher needs to be wrapped in a subview or collection flusher
@@ -1198,21 +1403,31 @@ public class CompositeAttributeFlusher extends CompositeAttributeFetchGraphNode<
         if (!currentObject.$$_isDirty()) {
             return DirtyKind.NONE;
         }
-        long dirty = currentObject.$$_getSimpleDirty();
         Object[] initialState = initialObject.$$_getInitialState();
         Object[] dirtyState = currentObject.$$_getMutableState();
 
-        for (int i = 0; i < initialState.length; i++) {
-            long mask = 1L << i;
-            if ((dirty & mask) != 0) {
-                if (flushers[i].getDirtyKind(initialState[i], dirtyState[i]) != DirtyKind.NONE) {
-                    return DirtyKind.MUTATED;
-                }
+        // Visit every dirty word, as the simple dirty mask only covers the first 64 attributes
+        long[] dirty = currentObject.$$_getDirty();
+        for (int i = 0; i < dirty.length; i++) {
+            if (isMutated(initialState, dirtyState, i << 6, dirty[i])) {
+                return DirtyKind.MUTATED;
             }
         }
         return DirtyKind.NONE;
     }
 
+    private boolean isMutated(Object[] initialState, Object[] dirtyState, int offset, long dirty) {
+        // Only visit the set bits, so that the cost depends on the amount of dirty attributes
+        while (dirty != 0) {
+            int i = offset + Long.numberOfTrailingZeros(dirty);
+            dirty &= dirty - 1;
+            if (flushers[i].getDirtyKind(initialState[i], dirtyState[i]) != DirtyKind.NONE) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @SuppressWarnings("unchecked")
     public <T extends DirtyAttributeFlusher<T, E, V>, E, V> DirtyAttributeFlusher<T, E, V> getNestedDirtyFlusher(UpdateContext context, MutableStateTrackable updatableProxy) {
         // Only entities with an id can be persisted. We never consider this a persist operation for embeddables
@@ -1233,27 +1448,14 @@ public class CompositeAttributeFlusher extends CompositeAttributeFetchGraphNode<
     private DirtyAttributeFlusher[] updateFlushers(UpdateContext context, MutableStateTrackable updatableProxy, DirtyAttributeFlusher[] flushers) {
         Object[] initialState = ((DirtyStateTrackable) updatableProxy).$$_getInitialState();
         Object[] originalDirtyState = updatableProxy.$$_getMutableState();
-        // Copy flushers to the target candidate flushers
-        if (!updatableProxy.$$_copyDirty(this.fullFlushers, flushers)) {
-            // If the dirty detection says nothing is dirty, we don't need to do anything
-            return null;
-        }
 
         boolean first = true;
-        for (int i = 0; i < originalDirtyState.length; i++) {
-            if (flushers[i] != null) {
-                Object newState = originalDirtyState[i];
-                DirtyAttributeFlusher flusher = flushers[i].getDirtyFlusher(context, updatableProxy, initialState[i], newState);
-
-                if (flusher == null) {
-                    flushers[i] = null;
-                } else {
-                    flushers[i] = flusher;
-
-                    if (first) {
-                        first = false;
-                    }
-                }
+        // The dirty bits also contain the attributes that don't support dirty tracking, so we only have to visit the set bits
+        // Visit every dirty word, as the simple dirty mask only covers the first 64 attributes
+        long[] dirty = updatableProxy.$$_getDirty();
+        for (int i = 0; i < dirty.length; i++) {
+            if (updateFlushers(context, updatableProxy, flushers, initialState, originalDirtyState, i << 6, dirty[i])) {
+                first = false;
             }
         }
 
@@ -1275,4 +1477,20 @@ public class CompositeAttributeFlusher extends CompositeAttributeFetchGraphNode<
         return flushers;
     }
 
+    private boolean updateFlushers(UpdateContext context, MutableStateTrackable updatableProxy, DirtyAttributeFlusher[] flushers, Object[] initialState, Object[] originalDirtyState, int offset, long dirty) {
+        boolean anyDirty = false;
+        while (dirty != 0) {
+            int i = offset + Long.numberOfTrailingZeros(dirty);
+            dirty &= dirty - 1;
+            if (fullFlushers[i] != null) {
+                DirtyAttributeFlusher flusher = fullFlushers[i].getDirtyFlusher(context, updatableProxy, initialState[i], originalDirtyState[i]);
+                flushers[i] = flusher;
+                if (flusher != null) {
+                    anyDirty = true;
+                }
+            }
+        }
+        return anyDirty;
+    }
+
 }
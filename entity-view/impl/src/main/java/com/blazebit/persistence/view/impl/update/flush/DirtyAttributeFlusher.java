@@ -11,6 +11,7 @@ import com.blazebit.persistence.view.impl.update.UpdateContext;
 import com.blazebit.persistence.view.impl.update.UpdateQueryFactory;
 
 import javax.persistence.Query;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -42,8 +43,12 @@ public interface DirtyAttributeFlusher<T extends DirtyAttributeFlusher<T, E, V>,
 
     public void remove(UpdateContext context, Object id);
 
+    public void removeByIds(UpdateContext context, Collection<Object> ids);
+
     public List<PostFlushDeleter> removeByOwnerId(UpdateContext context, Object id);
 
+    public List<PostFlushDeleter> removeByOwnerIds(UpdateContext context, Collection<Object> ids);
+
     public V cloneDeep(Object view, V oldValue, V newValue);
 
     public boolean isPassThrough();
@@ -15,6 +15,7 @@ import com.blazebit.persistence.view.impl.update.UpdateContext;
 import com.blazebit.persistence.view.impl.update.UpdateQueryFactory;
 
 import javax.persistence.Query;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
@@ -87,6 +88,16 @@ public class EmbeddableAttributeFlusher<E, V> extends EmbeddableAttributeFetchGr
         return true;
     }
 
+    /**
+     * Returns whether the embeddable is rendered as a whole into the update query, so that the fragment doesn't depend on the nested flushers.
+     *
+     * @return whether the update query fragment is independent of the nested flushers
+     * @since 1.6.15
+     */
+    public boolean isUpdateQueryFragmentStatic() {
+        return supportsQueryFlush;
+    }
+
     @Override
     public boolean appendUpdateQueryFragment(UpdateContext context, StringBuilder sb, String mappingPrefix, String parameterPrefix, String separator) {
         String mapping;
@@ -182,6 +193,11 @@ public class EmbeddableAttributeFlusher<E, V> extends EmbeddableAttributeFetchGr
         // No-op
     }
 
+    @Override
+    public void removeByIds(UpdateContext context, Collection<Object> ids) {
+        // No-op
+    }
+
     @Override
     public void removeFromEntity(UpdateContext context, E entity) {
         // No-op
@@ -193,6 +209,12 @@ public class EmbeddableAttributeFlusher<E, V> extends EmbeddableAttributeFetchGr
         return Collections.emptyList();
     }
 
+    @Override
+    public List<PostFlushDeleter> removeByOwnerIds(UpdateContext context, Collection<Object> ids) {
+        // No-op
+        return Collections.emptyList();
+    }
+
     @Override
     public boolean requiresDeleteCascadeAfterRemove() {
         return false;
@@ -299,7 +299,7 @@ public final class InverseFlusher<E> {
                                     childIdViewClass = idAttribute.getJavaType();
                                 }
                             }
-                            deleter = new ViewTypeCascadeDeleter(childTypeDescriptor.getViewToEntityMapper());
+                            deleter = new ViewTypeCascadeDeleter(childTypeDescriptor.getViewToEntityMapper(), elementEntityClass, mapping + "." + parentIdAttributeName, childIdAttributeName, childIdViewClass);
                         } else if (childTypeDescriptor.isJpaEntity()) {
                             deleter = new UnmappedBasicAttributeCascadeDeleter(evm, mapping, extendedAttribute, mapping + "." + parentIdAttributeName, false);
                         }
@@ -377,16 +377,24 @@ public final class InverseFlusher<E> {
     }
 
     public void removeByOwnerIdOnly(UpdateContext context, Object ownerId) {
+        removeByOwnerIdsOnly(context, Collections.singletonList(ownerId));
+    }
+
+    private void removeByOwnerIdsOnly(UpdateContext context, Collection<Object> ownerIds) {
         EntityViewManagerImpl evm = context.getEntityViewManager();
         DeleteCriteriaBuilder<?> cb = evm.getCriteriaBuilderFactory().deleteCollection(context.getEntityManager(), parentEntityClass, "e", attributeName);
-        cb.where(parentIdAttributeName).eq(ownerId);
+        UnmappedAttributeCascadeDeleterUtil.eqOrIn(cb.where(parentIdAttributeName), ownerIds);
         cb.executeUpdate();
     }
 
     public List<PostFlushDeleter> removeByOwnerId(UpdateContext context, Object ownerId) {
+        return removeByOwnerIds(context, Collections.singletonList(ownerId));
+    }
+
+    public List<PostFlushDeleter> removeByOwnerIds(UpdateContext context, Collection<Object> ownerIds) {
         EntityViewManagerImpl evm = context.getEntityViewManager();
-        CriteriaBuilder<Object> cb = (CriteriaBuilder<Object>) evm.getCriteriaBuilderFactory().create(context.getEntityManager(), parentEntityClass, "e")
-            .where(parentIdAttributeName).eq(ownerId)
+        CriteriaBuilder<Object> cb = (CriteriaBuilder<Object>) UnmappedAttributeCascadeDeleterUtil.eqOrIn(evm.getCriteriaBuilderFactory().create(context.getEntityManager(), parentEntityClass, "e")
+            .where(parentIdAttributeName), ownerIds)
             .where("e." + attributeName + "." + childIdAttributeName).isNotNull();
         if (childIdViewClass == null) {
             cb.select("e." + attributeName + "." + childIdAttributeName);
@@ -396,7 +404,7 @@ public final class InverseFlusher<E> {
         List<Object> elementIds = cb.getResultList();
         if (!elementIds.isEmpty()) {
             // We must always delete this, otherwise we might get a constraint violation because of the cascading delete
-            removeByOwnerIdOnly(context, ownerId);
+            removeByOwnerIdsOnly(context, ownerIds);
         }
 
         return Collections.<PostFlushDeleter>singletonList(new PostFlushInverseCollectionElementByIdDeleter(deleter, elementIds));
@@ -475,6 +483,7 @@ public final class InverseFlusher<E> {
                 if (updated != 1) {
                     throw new OptimisticLockException("The update operation did not return the expected update count!", null, element);
                 }
+                context.releaseQuery(q);
             }
             context.removeOrphans(orphanRemovalStartIndex);
         }
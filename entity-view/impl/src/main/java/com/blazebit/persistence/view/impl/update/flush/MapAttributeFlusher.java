@@ -921,7 +921,7 @@ public class MapAttributeFlusher<E, V extends Map<?, ?>> extends AbstractPluralA
         if (map != null && !map.isEmpty()) {
             // Entity flushing will do the delete anyway, so we can skip this
             if (flushStrategy == FlushStrategy.QUERY && !context.isForceEntity() && !jpaProviderDeletesCollection) {
-                removeByOwnerId(context, ((EntityViewProxy) view).$$_getId(), false);
+                removeByOwnerIds(context, Collections.singletonList(((EntityViewProxy) view).$$_getId()), false);
             }
 
             if (cascadeDeleteListener != null || keyCascadeDeleteListener != null) {
@@ -983,17 +983,22 @@ public class MapAttributeFlusher<E, V extends Map<?, ?>> extends AbstractPluralA
 
     @Override
     public List<PostFlushDeleter> removeByOwnerId(UpdateContext context, Object id) {
-        return removeByOwnerId(context, id, true);
+        return removeByOwnerIds(context, Collections.singletonList(id), true);
     }
 
-    private List<PostFlushDeleter> removeByOwnerId(UpdateContext context, Object ownerId, boolean cascade) {
+    @Override
+    public List<PostFlushDeleter> removeByOwnerIds(UpdateContext context, Collection<Object> ids) {
+        return removeByOwnerIds(context, ids, true);
+    }
+
+    private List<PostFlushDeleter> removeByOwnerIds(UpdateContext context, Collection<Object> ownerIds, boolean cascade) {
         EntityViewManagerImpl evm = context.getEntityViewManager();
         if (cascade) {
             List<Object> elementIds;
             // If there is no inverseFlusher/mapped by attribute, the collection has a join table
             if (evm.getDbmsDialect().supportsReturningColumns()) {
-                List<Tuple> tuples = evm.getCriteriaBuilderFactory().deleteCollection(context.getEntityManager(), ownerEntityClass, "e", mapping)
-                        .where(ownerIdAttributeName).eq(ownerId)
+                List<Tuple> tuples = UnmappedAttributeCascadeDeleterUtil.eqOrIn(evm.getCriteriaBuilderFactory().deleteCollection(context.getEntityManager(), ownerEntityClass, "e", mapping)
+                        .where(ownerIdAttributeName), ownerIds)
                         .executeWithReturning(mapping + "." + elementDescriptor.getAttributeIdAttributeName())
                         .getResultList();
 
@@ -1002,14 +1007,14 @@ public class MapAttributeFlusher<E, V extends Map<?, ?>> extends AbstractPluralA
                     elementIds.add(tuple.get(0));
                 }
             } else {
-                elementIds = (List<Object>) evm.getCriteriaBuilderFactory().create(context.getEntityManager(), ownerEntityClass, "e")
-                        .where(ownerIdAttributeName).eq(ownerId)
+                elementIds = (List<Object>) UnmappedAttributeCascadeDeleterUtil.eqOrIn(evm.getCriteriaBuilderFactory().create(context.getEntityManager(), ownerEntityClass, "e")
+                        .where(ownerIdAttributeName), ownerIds)
                         .select("e." + mapping + "." + elementDescriptor.getAttributeIdAttributeName())
                         .getResultList();
                 if (!elementIds.isEmpty() && !jpaProviderDeletesCollection) {
                     // We must always delete this, otherwise we might get a constraint violation because of the cascading delete
                     DeleteCriteriaBuilder<?> cb = evm.getCriteriaBuilderFactory().deleteCollection(context.getEntityManager(), ownerEntityClass, "e", mapping);
-                    cb.where(ownerIdAttributeName).eq(ownerId);
+                    UnmappedAttributeCascadeDeleterUtil.eqOrIn(cb.where(ownerIdAttributeName), ownerIds);
                     cb.executeUpdate();
                 }
             }
@@ -1018,7 +1023,7 @@ public class MapAttributeFlusher<E, V extends Map<?, ?>> extends AbstractPluralA
         } else if (!jpaProviderDeletesCollection) {
             // delete from Entity(collectionRole) e where e.id = :id
             DeleteCriteriaBuilder<?> cb = evm.getCriteriaBuilderFactory().deleteCollection(context.getEntityManager(), ownerEntityClass, "e", mapping);
-            cb.where("e." + ownerIdAttributeName).eq(ownerId);
+            UnmappedAttributeCascadeDeleterUtil.eqOrIn(cb.where("e." + ownerIdAttributeName), ownerIds);
             cb.executeUpdate();
         }
 
@@ -1030,6 +1035,11 @@ public class MapAttributeFlusher<E, V extends Map<?, ?>> extends AbstractPluralA
         throw new UnsupportedOperationException("Unsupported!");
     }
 
+    @Override
+    public void removeByIds(UpdateContext context, Collection<Object> ids) {
+        throw new UnsupportedOperationException("Unsupported!");
+    }
+
     @Override
     public void removeFromEntity(UpdateContext context, E entity) {
         V value = (V) entityAttributeAccessor.getValue(entity);
@@ -52,6 +52,11 @@ public class ParentReferenceAttributeFlusher<E, V> extends BasicAttributeFlusher
         }
     }
 
+    @Override
+    public boolean hasUpdateQueryFragment() {
+        return writableMappings != null || super.hasUpdateQueryFragment();
+    }
+
     @Override
     public boolean appendUpdateQueryFragment(UpdateContext context, StringBuilder sb, String mappingPrefix, String parameterPrefix, String separator) {
         if (writableMappings != null) {
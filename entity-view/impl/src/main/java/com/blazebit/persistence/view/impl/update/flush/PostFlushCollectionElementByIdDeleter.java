@@ -27,8 +27,8 @@ public class PostFlushCollectionElementByIdDeleter implements PostFlushDeleter {
 
     @Override
     public void execute(UpdateContext context) {
-        for (Object elementId : elementIds) {
-            elementToEntityMapper.removeById(context, elementId);
+        if (!elementIds.isEmpty()) {
+            elementToEntityMapper.removeByIds(context, elementIds);
         }
     }
 }
@@ -26,8 +26,8 @@ public class PostFlushInverseCollectionElementByIdDeleter implements PostFlushDe
 
     @Override
     public void execute(UpdateContext context) {
-        for (Object elementId : elementIds) {
-            deleter.removeById(context, elementId);
+        if (!elementIds.isEmpty()) {
+            deleter.removeByIds(context, elementIds);
         }
     }
 }
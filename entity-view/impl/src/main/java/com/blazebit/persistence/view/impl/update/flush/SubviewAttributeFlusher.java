@@ -20,6 +20,7 @@ import com.blazebit.persistence.view.spi.type.EntityViewProxy;
 import com.blazebit.persistence.view.spi.type.TypeConverter;
 
 import javax.persistence.Query;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -137,9 +138,29 @@ public class SubviewAttributeFlusher<E, V> extends AttributeFetchGraphNode<Subvi
         return currentValue;
     }
 
+    /**
+     * Returns whether this flusher renders an update query fragment.
+     *
+     * @return whether an update query fragment is rendered
+     * @since 1.6.15
+     */
+    public boolean hasUpdateQueryFragment() {
+        return update && (updatable || isPassThrough()) && inverseFlusher == null;
+    }
+
+    /**
+     * Returns whether the update query fragment is rendered by the id flusher of the element type.
+     *
+     * @return whether the update query fragment is rendered by the element id flusher
+     * @since 1.6.15
+     */
+    public boolean isElementIdUpdateQueryFragment() {
+        return supportElementIdQueryFlush;
+    }
+
     @Override
     public boolean appendUpdateQueryFragment(UpdateContext context, StringBuilder sb, String mappingPrefix, String parameterPrefix, String separator) {
-        if (update && (updatable || isPassThrough()) && inverseFlusher == null) {
+        if (hasUpdateQueryFragment()) {
             if (supportElementIdQueryFlush) {
                 if (mappingPrefix == null) {
                     return getElementIdFlusher().appendUpdateQueryFragment(context, sb, mapping + ".", parameterName + "_", separator);
@@ -215,6 +236,7 @@ public class SubviewAttributeFlusher<E, V> extends AttributeFetchGraphNode<Subvi
                         if (updated != 1) {
                             throw new OptimisticLockException("The update operation did not return the expected update count!", null, finalValue);
                         }
+                        context.releaseQuery(q);
                     }
                     context.removeOrphans(orphanRemovalStartIndex);
                 }
@@ -264,6 +286,7 @@ public class SubviewAttributeFlusher<E, V> extends AttributeFetchGraphNode<Subvi
                         if (updated != 1) {
                             throw new OptimisticLockException("The update operation did not return the expected update count!", null, value);
                         }
+                        context.releaseQuery(q);
                     }
                     context.removeOrphans(orphanRemovalStartIndex);
                 }
@@ -310,6 +333,7 @@ public class SubviewAttributeFlusher<E, V> extends AttributeFetchGraphNode<Subvi
                     if (updated != 1) {
                         throw new OptimisticLockException("The update operation did not return the expected update count!", null, realValue);
                     }
+                    context.releaseQuery(q);
                 }
                 context.removeOrphans(orphanRemovalStartIndex);
             } else {
@@ -480,10 +504,23 @@ public class SubviewAttributeFlusher<E, V> extends AttributeFetchGraphNode<Subvi
         viewToEntityMapper.removeById(context, id);
     }
 
+    @Override
+    public void removeByIds(UpdateContext context, Collection<Object> ids) {
+        viewToEntityMapper.removeByIds(context, ids);
+    }
+
     @Override
     public List<PostFlushDeleter> removeByOwnerId(UpdateContext context, Object id) {
-//        inverseFlusher.removeByOwnerId(context, id);
-        throw new UnsupportedOperationException("Not yet implemented");
+        return removeByOwnerIds(context, Collections.singletonList(id));
+    }
+
+    @Override
+    public List<PostFlushDeleter> removeByOwnerIds(UpdateContext context, Collection<Object> ids) {
+        if (cascadeDelete && inverseFlusher != null) {
+            return inverseFlusher.removeByOwnerIds(context, ids);
+        }
+        // A non-inverse subview is removed by the owner after the owner row is gone, based on the element id returned by getElementIdAttributeName
+        return Collections.emptyList();
     }
 
     @Override
@@ -7,6 +7,8 @@ package com.blazebit.persistence.view.impl.update.flush;
 
 import com.blazebit.persistence.view.impl.update.UpdateContext;
 
+import java.util.Collection;
+
 /**
  *
  * @author Christian Beikov
@@ -16,8 +18,12 @@ public interface UnmappedAttributeCascadeDeleter {
 
     public void removeById(UpdateContext context, Object id);
 
+    public void removeByIds(UpdateContext context, Collection<Object> ids);
+
     public void removeByOwnerId(UpdateContext context, Object ownerId);
 
+    public void removeByOwnerIds(UpdateContext context, Collection<Object> ownerIds);
+
     public String getAttributeValuePath();
 
     public boolean requiresDeleteCascadeAfterRemove();
@@ -5,6 +5,7 @@
 
 package com.blazebit.persistence.view.impl.update.flush;
 
+import com.blazebit.persistence.RestrictionBuilder;
 import com.blazebit.persistence.parser.EntityMetamodel;
 import com.blazebit.persistence.parser.util.JpaMetamodelUtils;
 import com.blazebit.persistence.spi.ExtendedAttribute;
@@ -12,6 +13,7 @@ import com.blazebit.persistence.spi.ExtendedManagedType;
 import com.blazebit.persistence.view.impl.EntityViewManagerImpl;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -67,4 +69,19 @@ public class UnmappedAttributeCascadeDeleterUtil {
         return deleters;
     }
 
+
+    /**
+     * Restricts to the given ids, using an equality predicate for a single id so that single id removals render the same query as before.
+     *
+     * @param restrictionBuilder The restriction builder
+     * @param ids The ids
+     * @param <T> The builder type
+     * @return The builder
+     */
+    public static <T> T eqOrIn(RestrictionBuilder<T> restrictionBuilder, Collection<?> ids) {
+        if (ids.size() == 1) {
+            return restrictionBuilder.eq(ids.iterator().next());
+        }
+        return restrictionBuilder.in(ids);
+    }
 }
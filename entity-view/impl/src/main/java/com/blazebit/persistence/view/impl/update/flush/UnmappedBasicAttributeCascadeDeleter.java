@@ -19,6 +19,7 @@ import javax.persistence.Query;
 import javax.persistence.Tuple;
 import javax.persistence.metamodel.EntityType;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
@@ -97,6 +98,77 @@ public class UnmappedBasicAttributeCascadeDeleter extends AbstractUnmappedAttrib
         }
     }
 
+    @Override
+    public void removeByIds(UpdateContext context, Collection<Object> ids) {
+        // Listeners have to be invoked per element and entity deletion can't be done set based
+        if (requiresDeleteAsEntity || context.hasRemoveListeners(elementEntityClass)) {
+            super.removeByIds(context, ids);
+            return;
+        }
+        for (int i = 0; i < unmappedPreRemoveCascadeDeleters.length; i++) {
+            unmappedPreRemoveCascadeDeleters[i].removeByOwnerIds(context, ids);
+        }
+
+        EntityViewManagerImpl evm = context.getEntityViewManager();
+        List<Object[]> returnedValuesList = Collections.emptyList();
+        if (unmappedPostRemoveCascadeDeleters.length != 0) {
+            List<String> returningAttributes = new ArrayList<>();
+            for (int i = 0; i < unmappedPostRemoveCascadeDeleters.length; i++) {
+                returningAttributes.add(unmappedPostRemoveCascadeDeleters[i].getAttributeValuePath());
+            }
+
+            if (evm.getDbmsDialect().supportsReturningColumns()) {
+                DeleteCriteriaBuilder<?> cb = evm.getCriteriaBuilderFactory().delete(context.getEntityManager(), elementEntityClass);
+                UnmappedAttributeCascadeDeleterUtil.eqOrIn(cb.where(elementIdAttributeName), ids);
+                List<Tuple> tuples = cb.executeWithReturning(returningAttributes.toArray(new String[returningAttributes.size()])).getResultList();
+                returnedValuesList = new ArrayList<>(tuples.size());
+                for (Tuple tuple : tuples) {
+                    returnedValuesList.add(tuple.toArray());
+                }
+            } else {
+                // Query the values for the post deleters since they aren't available after executing the delete query
+                CriteriaBuilder<Object[]> cb = evm.getCriteriaBuilderFactory().create(context.getEntityManager(), Object[].class);
+                cb.from(elementEntityClass);
+                UnmappedAttributeCascadeDeleterUtil.eqOrIn(cb.where(elementIdAttributeName), ids);
+                for (String attribute : returningAttributes) {
+                    cb.select(attribute);
+                }
+                List<?> results = cb.getResultList();
+                returnedValuesList = new ArrayList<>(results.size());
+                for (Object result : results) {
+                    // Hibernate returns the scalar value directly when using only a single select item
+                    if (result instanceof Object[]) {
+                        returnedValuesList.add((Object[]) result);
+                    } else {
+                        returnedValuesList.add(new Object[]{ result });
+                    }
+                }
+                deleteElements(context, ids);
+            }
+        } else {
+            deleteElements(context, ids);
+        }
+
+        for (int j = 0; j < unmappedPostRemoveCascadeDeleters.length; j++) {
+            List<Object> values = new ArrayList<>(returnedValuesList.size());
+            for (int i = 0; i < returnedValuesList.size(); i++) {
+                Object value = returnedValuesList.get(i)[j];
+                if (value != null) {
+                    values.add(value);
+                }
+            }
+            if (!values.isEmpty()) {
+                unmappedPostRemoveCascadeDeleters[j].removeByIds(context, values);
+            }
+        }
+    }
+
+    private void deleteElements(UpdateContext context, Collection<Object> ids) {
+        DeleteCriteriaBuilder<?> cb = context.getEntityViewManager().getCriteriaBuilderFactory().delete(context.getEntityManager(), elementEntityClass);
+        UnmappedAttributeCascadeDeleterUtil.eqOrIn(cb.where(elementIdAttributeName), ids);
+        cb.executeUpdate();
+    }
+
     public void remove(UpdateContext context, Object o) {
         if (context.hasRemoveListeners(elementEntityClass)) {
             PersistenceUnitUtil persistenceUnitUtil = context.getEntityManager().getEntityManagerFactory().getPersistenceUnitUtil();
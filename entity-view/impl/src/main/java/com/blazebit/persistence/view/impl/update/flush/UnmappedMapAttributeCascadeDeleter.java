@@ -12,6 +12,8 @@ import com.blazebit.persistence.view.impl.update.UpdateContext;
 
 import javax.persistence.Tuple;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -72,12 +74,17 @@ public class UnmappedMapAttributeCascadeDeleter extends AbstractUnmappedAttribut
 
     @Override
     public void removeByOwnerId(UpdateContext context, Object ownerId) {
+        removeByOwnerIds(context, Collections.singletonList(ownerId));
+    }
+
+    @Override
+    public void removeByOwnerIds(UpdateContext context, Collection<Object> ownerIds) {
         EntityViewManagerImpl evm = context.getEntityViewManager();
         if (cascadeDeleteElement) {
             List<Object> elementIds;
             if (evm.getDbmsDialect().supportsReturningColumns()) {
-                List<Tuple> tuples = evm.getCriteriaBuilderFactory().deleteCollection(context.getEntityManager(), ownerEntityClass, "e", attributeName)
-                        .where(ownerIdAttributeName).eq(ownerId)
+                List<Tuple> tuples = UnmappedAttributeCascadeDeleterUtil.eqOrIn(evm.getCriteriaBuilderFactory().deleteCollection(context.getEntityManager(), ownerEntityClass, "e", attributeName)
+                        .where(ownerIdAttributeName), ownerIds)
                         .executeWithReturning(attributeName + "." + elementIdAttributeName)
                         .getResultList();
 
@@ -86,23 +93,23 @@ public class UnmappedMapAttributeCascadeDeleter extends AbstractUnmappedAttribut
                     elementIds.add(tuple.get(0));
                 }
             } else {
-                elementIds = (List<Object>) evm.getCriteriaBuilderFactory().create(context.getEntityManager(), ownerEntityClass, "e")
-                        .where(ownerIdAttributeName).eq(ownerId)
+                elementIds = (List<Object>) UnmappedAttributeCascadeDeleterUtil.eqOrIn(evm.getCriteriaBuilderFactory().create(context.getEntityManager(), ownerEntityClass, "e")
+                        .where(ownerIdAttributeName), ownerIds)
                         .select("e." + attributeName + "." + elementIdAttributeName)
                         .getResultList();
                 if (!elementIds.isEmpty()) {
                     // We must always delete this, otherwise we might get a constraint violation because of the cascading delete
                     DeleteCriteriaBuilder<?> cb = evm.getCriteriaBuilderFactory().deleteCollection(context.getEntityManager(), ownerEntityClass, "e", attributeName);
-                    cb.where(ownerIdAttributeName).eq(ownerId);
+                    UnmappedAttributeCascadeDeleterUtil.eqOrIn(cb.where(ownerIdAttributeName), ownerIds);
                     cb.executeUpdate();
                 }
             }
-            for (Object elementId : elementIds) {
-                elementDeleter.removeById(context, elementId);
+            if (!elementIds.isEmpty()) {
+                elementDeleter.removeByIds(context, elementIds);
             }
         } else if (!jpaProviderDeletesCollection) {
             DeleteCriteriaBuilder<?> cb = evm.getCriteriaBuilderFactory().deleteCollection(context.getEntityManager(), ownerEntityClass, "e", attributeName);
-            cb.where(ownerIdAttributeName).eq(ownerId);
+            UnmappedAttributeCascadeDeleterUtil.eqOrIn(cb.where(ownerIdAttributeName), ownerIds);
             cb.executeUpdate();
         }
     }
@@ -17,8 +17,11 @@ import com.blazebit.persistence.view.impl.update.UpdateContext;
 import javax.persistence.metamodel.EntityType;
 import javax.persistence.metamodel.ManagedType;
 import javax.persistence.metamodel.SingularAttribute;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.logging.Logger;
 
@@ -81,26 +84,40 @@ public class UnmappedWritableBasicAttributeSetNullCascadeDeleter implements Unma
 
     @Override
     public void removeById(UpdateContext context, Object id) {
+        removeByIds(context, Collections.singletonList(id));
+    }
+
+    @Override
+    public void removeByIds(UpdateContext context, Collection<Object> ids) {
         UpdateCriteriaBuilder<?> updateCb = context.getEntityViewManager().getCriteriaBuilderFactory().update(context.getEntityManager(), ownerEntityClass, "e");
         for (Map.Entry<String, String> entry : removeByIdMappings.entrySet()) {
             updateCb.setExpression(entry.getKey(), "NULL");
-            updateCb.where(entry.getValue()).eq(id);
+            UnmappedAttributeCascadeDeleterUtil.eqOrIn(updateCb.where(entry.getValue()), ids);
         }
         updateCb.executeUpdate();
     }
 
     @Override
     public void removeByOwnerId(UpdateContext context, Object ownerId) {
+        removeByOwnerIds(context, Collections.singletonList(ownerId));
+    }
+
+    @Override
+    public void removeByOwnerIds(UpdateContext context, Collection<Object> ownerIds) {
         UpdateCriteriaBuilder<?> updateCb = context.getEntityViewManager().getCriteriaBuilderFactory().update(context.getEntityManager(), ownerEntityClass, "e");
         for (Map.Entry<String, ByOwnerIdEntry> entry : removeByOwnerIdMappings.entrySet()) {
             updateCb.setExpression(entry.getKey(), "NULL");
             ByOwnerIdEntry value = entry.getValue();
+            List<Object> ownerIdValues = new ArrayList<>(ownerIds.size());
+            for (Object ownerId : ownerIds) {
+                ownerIdValues.add(value.ownerIdAccessor.getValue(ownerId));
+            }
             if (value.subqueryEntityClass == null) {
-                updateCb.where(value.ownerIdMapping).eq(value.ownerIdAccessor.getValue(ownerId));
+                UnmappedAttributeCascadeDeleterUtil.eqOrIn(updateCb.where(value.ownerIdMapping), ownerIdValues);
             } else {
-                updateCb.whereExists()
+                UnmappedAttributeCascadeDeleterUtil.eqOrIn(updateCb.whereExists()
                     .from(value.subqueryEntityClass, "sub")
-                    .where(value.ownerIdMapping).eq(value.ownerIdAccessor.getValue(ownerId))
+                    .where(value.ownerIdMapping), ownerIdValues)
                     .end();
             }
         }
@@ -45,6 +45,7 @@ public class UpdateCollectionElementAttributeFlusher<E, V> extends CollectionEle
             if (updated != 1) {
                 throw new OptimisticLockException("The update operation did not return the expected update count!", null, element);
             }
+            context.releaseQuery(q);
         }
         context.removeOrphans(orphanRemovalStartIndex);
         return query;
@@ -5,9 +5,16 @@
 
 package com.blazebit.persistence.view.impl.update.flush;
 
+import com.blazebit.persistence.CriteriaBuilder;
+import com.blazebit.persistence.view.EntityViewSetting;
+import com.blazebit.persistence.view.impl.EntityViewManagerImpl;
 import com.blazebit.persistence.view.impl.entity.ViewToEntityMapper;
 import com.blazebit.persistence.view.impl.update.UpdateContext;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
 
 /**
  *
@@ -17,9 +24,17 @@ import com.blazebit.persistence.view.impl.update.UpdateContext;
 public class ViewTypeCascadeDeleter implements UnmappedAttributeCascadeDeleter {
 
     private final ViewToEntityMapper viewToEntityMapper;
+    private final Class<?> elementEntityClass;
+    private final String ownerIdPath;
+    private final String elementIdAttributeName;
+    private final Class<?> elementIdViewClass;
 
-    public ViewTypeCascadeDeleter(ViewToEntityMapper viewToEntityMapper) {
+    public ViewTypeCascadeDeleter(ViewToEntityMapper viewToEntityMapper, Class<?> elementEntityClass, String ownerIdPath, String elementIdAttributeName, Class<?> elementIdViewClass) {
         this.viewToEntityMapper = viewToEntityMapper;
+        this.elementEntityClass = elementEntityClass;
+        this.ownerIdPath = ownerIdPath;
+        this.elementIdAttributeName = elementIdAttributeName;
+        this.elementIdViewClass = elementIdViewClass;
     }
 
     @Override
@@ -27,9 +42,33 @@ public class ViewTypeCascadeDeleter implements UnmappedAttributeCascadeDeleter {
         viewToEntityMapper.removeById(context, id);
     }
 
+    @Override
+    public void removeByIds(UpdateContext context, Collection<Object> ids) {
+        viewToEntityMapper.removeByIds(context, ids);
+    }
+
     @Override
     public void removeByOwnerId(UpdateContext context, Object ownerId) {
-        throw new UnsupportedOperationException();
+        removeByOwnerIds(context, Collections.singletonList(ownerId));
+    }
+
+    @Override
+    public void removeByOwnerIds(UpdateContext context, Collection<Object> ownerIds) {
+        EntityViewManagerImpl evm = context.getEntityViewManager();
+        CriteriaBuilder<Object> cb = (CriteriaBuilder<Object>) UnmappedAttributeCascadeDeleterUtil.eqOrIn(
+            evm.getCriteriaBuilderFactory().create(context.getEntityManager(), elementEntityClass, "e").where("e." + ownerIdPath),
+            ownerIds
+        );
+        if (elementIdViewClass == null) {
+            cb.select("e." + elementIdAttributeName);
+        } else {
+            // The view to entity mapper expects the id as view in this case
+            evm.applySetting(EntityViewSetting.create(elementIdViewClass), cb, "e." + elementIdAttributeName);
+        }
+        List<Object> elementIds = cb.getResultList();
+        if (!elementIds.isEmpty()) {
+            viewToEntityMapper.removeByIds(context, elementIds);
+        }
     }
 
     @Override
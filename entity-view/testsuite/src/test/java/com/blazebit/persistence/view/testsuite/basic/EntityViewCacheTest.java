@@ -0,0 +1,201 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.view.testsuite.basic;
+
+import com.blazebit.persistence.CriteriaBuilder;
+import com.blazebit.persistence.testsuite.entity.Document;
+import com.blazebit.persistence.testsuite.entity.Person;
+import com.blazebit.persistence.view.CacheStatistics;
+import com.blazebit.persistence.view.ConfigurationProperties;
+import com.blazebit.persistence.view.EntityViewManager;
+import com.blazebit.persistence.view.EntityViewSetting;
+import com.blazebit.persistence.view.EntityViews;
+import com.blazebit.persistence.view.impl.BoundedEntityViewCache;
+import com.blazebit.persistence.view.impl.BoundedEntityViewCacheFactory;
+import com.blazebit.persistence.view.spi.EntityViewCache;
+import com.blazebit.persistence.view.spi.EntityViewCacheFactory;
+import com.blazebit.persistence.view.spi.EntityViewConfiguration;
+import com.blazebit.persistence.view.testsuite.AbstractEntityViewTest;
+import com.blazebit.persistence.view.testsuite.basic.model.PersonView;
+import com.blazebit.persistence.view.testsuite.subview.model.DocumentMasterView;
+import com.blazebit.persistence.view.testsuite.subview.model.PersonSubView;
+import com.blazebit.persistence.view.testsuite.subview.model.PersonSubViewFiltered;
+import com.blazebit.persistence.view.testsuite.subview.model.SimpleDocumentView;
+import com.blazebit.persistence.view.testsuite.update.subview.simple.mutable.model.UpdatableDocumentView;
+import com.blazebit.persistence.view.testsuite.update.subview.simple.mutable.model.UpdatableNameObjectView;
+import com.blazebit.persistence.view.testsuite.update.subview.simple.mutable.model.UpdatablePersonView;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+public class EntityViewCacheTest extends AbstractEntityViewTest {
+
+    @Test
+    public void testBoundedCacheEvictsLeastRecentlyUsedEntries() {
+        EntityViewCache<String, String> cache = new BoundedEntityViewCache<>(2);
+        assertNull(cache.putIfAbsent("a", "1"));
+        assertNull(cache.putIfAbsent("b", "2"));
+        assertEquals("1", cache.get("a"));
+        assertNull(cache.putIfAbsent("c", "3"));
+
+        assertEquals("1", cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals("3", cache.get("c"));
+        CacheStatistics statistics = cache.getStatistics();
+        assertEquals(3, statistics.getHitCount());
+        assertEquals(1, statistics.getMissCount());
+        assertEquals(1, statistics.getEvictionCount());
+        assertEquals(2, statistics.getSize());
+        assertEquals(2, statistics.getMaximumSize());
+    }
+
+    @Test
+    public void testBoundedCacheDoesNotEvictReinsertedEntry() {
+        EntityViewCache<String, String> cache = new BoundedEntityViewCache<>(2);
+        cache.putIfAbsent("a", "1");
+        cache.putIfAbsent("b", "2");
+        assertTrue(cache.remove("a", "1"));
+        assertNull(cache.putIfAbsent("a", "1"));
+        assertNull(cache.putIfAbsent("c", "3"));
+
+        // The stale insertion of a must not cause the re-inserted entry to be evicted
+        assertEquals("1", cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals("3", cache.get("c"));
+        assertEquals(2, cache.getStatistics().getSize());
+    }
+
+    @Test
+    public void testUnboundedCache() {
+        EntityViewCache<Integer, Integer> cache = new BoundedEntityViewCache<>(0);
+        for (int i = 0; i < 1000; i++) {
+            assertNull(cache.putIfAbsent(i, i));
+        }
+        assertFalse(cache.remove(1, 2));
+        assertTrue(cache.remove(1, 1));
+        CacheStatistics statistics = cache.getStatistics();
+        assertEquals(999, statistics.getSize());
+        assertEquals(0, statistics.getEvictionCount());
+        assertEquals(0, statistics.getMaximumSize());
+    }
+
+    @Test
+    public void testCacheMaxSizeConfiguration() {
+        EntityViewConfiguration cfg = EntityViews.createDefaultConfiguration();
+        cfg.setProperty(ConfigurationProperties.CACHE_MAX_SIZE, "10");
+        cfg.setProperty(ConfigurationProperties.UPDATER_QUERY_CACHE_MAX_SIZE, "0");
+        EntityViewManager evm = build(cfg, PersonView.class);
+
+        Map<String, CacheStatistics> cacheStatistics = evm.getCacheStatistics();
+        assertEquals(10, cacheStatistics.get(EntityViewCacheFactory.OBJECT_BUILDER_TEMPLATE_CACHE).getMaximumSize());
+        assertEquals(10, cacheStatistics.get(EntityViewCacheFactory.CONTEXT_AWARE_UPDATER_CACHE).getMaximumSize());
+        assertEquals(10, cacheStatistics.get(EntityViewCacheFactory.CONFIGURED_VIEW_MAPPER_CACHE).getMaximumSize());
+        assertFalse(cacheStatistics.containsKey(EntityViewCacheFactory.UPDATE_QUERY_CACHE));
+    }
+
+    @Test
+    public void testCustomCacheFactory() {
+        final List<String> cacheNames = new ArrayList<>();
+        EntityViewConfiguration cfg = EntityViews.createDefaultConfiguration();
+        cfg.getProperties().put(ConfigurationProperties.CACHE_FACTORY, new BoundedEntityViewCacheFactory() {
+            @Override
+            public <K, V> EntityViewCache<K, V> createCache(String cacheName, int maximumSize) {
+                cacheNames.add(cacheName);
+                return super.createCache(cacheName, maximumSize);
+            }
+        });
+        EntityViewManager evm = build(cfg, PersonView.class);
+
+        assertTrue(cacheNames.contains(EntityViewCacheFactory.OBJECT_BUILDER_TEMPLATE_CACHE));
+        assertTrue(cacheNames.contains(EntityViewCacheFactory.CONTEXT_AWARE_UPDATER_CACHE));
+        assertTrue(cacheNames.contains(EntityViewCacheFactory.CONFIGURED_VIEW_MAPPER_CACHE));
+        assertTrue(cacheNames.contains(EntityViewCacheFactory.UPDATE_QUERY_CACHE));
+        assertEquals(cacheNames.size(), evm.getCacheStatistics().size());
+        assertEquals(0, evm.getCacheStatistics().get(EntityViewCacheFactory.OBJECT_BUILDER_TEMPLATE_CACHE).getMaximumSize());
+    }
+
+    @Test
+    public void testTemplatesAreSharedAcrossQueries() {
+        EntityViewManager evm = build(DocumentMasterView.class, SimpleDocumentView.class, PersonSubView.class, PersonSubViewFiltered.class);
+        CriteriaBuilder<Document> criteria = cbf.create(em, Document.class, "d");
+        String expectedQuery = evm.applySetting(EntityViewSetting.create(DocumentMasterView.class), criteria).getQueryString();
+        CacheStatistics before = evm.getCacheStatistics().get(EntityViewCacheFactory.OBJECT_BUILDER_TEMPLATE_CACHE);
+
+        for (int i = 0; i < 2; i++) {
+            criteria = cbf.create(em, Document.class, "d");
+            assertEquals(expectedQuery, evm.applySetting(EntityViewSetting.create(DocumentMasterView.class), criteria).getQueryString());
+        }
+
+        // Every query registers its own VIEW and EMBEDDING_VIEW macros, but the template built by the first query is reused
+        CacheStatistics after = evm.getCacheStatistics().get(EntityViewCacheFactory.OBJECT_BUILDER_TEMPLATE_CACHE);
+        assertEquals(before.getMissCount(), after.getMissCount());
+        assertTrue(after.getHitCount() >= before.getHitCount() + 2);
+        assertEquals(before.getSize(), after.getSize());
+    }
+
+    @Test
+    public void testEagerLoadedTemplatesAreReused() {
+        EntityViewConfiguration cfg = EntityViews.createDefaultConfiguration();
+        cfg.setProperty(ConfigurationProperties.TEMPLATE_EAGER_LOADING, "true");
+        EntityViewManager evm = build(cfg, PersonView.class);
+        CacheStatistics before = evm.getCacheStatistics().get(EntityViewCacheFactory.OBJECT_BUILDER_TEMPLATE_CACHE);
+
+        for (int i = 0; i < 2; i++) {
+            CriteriaBuilder<Person> criteria = cbf.create(em, Person.class);
+            evm.applySetting(EntityViewSetting.create(PersonView.class), criteria).getQueryString();
+        }
+
+        // The eagerly loaded template is used without consulting the evictable cache
+        CacheStatistics after = evm.getCacheStatistics().get(EntityViewCacheFactory.OBJECT_BUILDER_TEMPLATE_CACHE);
+        assertEquals(before.getMissCount(), after.getMissCount());
+        assertEquals(before.getSize(), after.getSize());
+    }
+
+    @Test
+    public void testEagerLoadedTemplatesAreNotEvicted() {
+        EntityViewConfiguration cfg = EntityViews.createDefaultConfiguration();
+        cfg.setProperty(ConfigurationProperties.TEMPLATE_EAGER_LOADING, "true");
+        cfg.setProperty(ConfigurationProperties.CACHE_MAX_SIZE, "1");
+        EntityViewManager evm = build(cfg, PersonView.class);
+
+        // Fill the bounded cache with templates for other view roots
+        for (int i = 0; i < 3; i++) {
+            CriteriaBuilder<Person> criteria = cbf.create(em, Person.class, "root" + i);
+            evm.applySetting(EntityViewSetting.create(PersonView.class), criteria, "root" + i).getQueryString();
+        }
+        CacheStatistics before = evm.getCacheStatistics().get(EntityViewCacheFactory.OBJECT_BUILDER_TEMPLATE_CACHE);
+        assertTrue(before.getEvictionCount() > 0);
+
+        CriteriaBuilder<Person> criteria = cbf.create(em, Person.class);
+        evm.applySetting(EntityViewSetting.create(PersonView.class), criteria).getQueryString();
+
+        CacheStatistics after = evm.getCacheStatistics().get(EntityViewCacheFactory.OBJECT_BUILDER_TEMPLATE_CACHE);
+        assertEquals(before.getMissCount(), after.getMissCount());
+        assertEquals(before.getEvictionCount(), after.getEvictionCount());
+    }
+
+    @Test
+    public void testEagerLoadedUpdatersAreNotEvicted() {
+        EntityViewConfiguration cfg = EntityViews.createDefaultConfiguration();
+        cfg.setProperty(ConfigurationProperties.UPDATER_EAGER_LOADING, "true");
+        cfg.setProperty(ConfigurationProperties.CACHE_MAX_SIZE, "1");
+        EntityViewManager evm = build(cfg, UpdatableDocumentView.class, UpdatablePersonView.class, UpdatableNameObjectView.class);
+
+        // The context aware updaters of the subview attributes are pinned instead of going through the bounded cache
+        CacheStatistics statistics = evm.getCacheStatistics().get(EntityViewCacheFactory.CONTEXT_AWARE_UPDATER_CACHE);
+        assertEquals(0, statistics.getSize());
+        assertEquals(0, statistics.getEvictionCount());
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.view.testsuite.basic;
+
+import com.blazebit.persistence.Criteria;
+import com.blazebit.persistence.CriteriaBuilderFactory;
+import com.blazebit.persistence.spi.CriteriaBuilderConfiguration;
+import com.blazebit.persistence.view.ConfigurationProperties;
+import com.blazebit.persistence.view.EntityViewManager;
+import com.blazebit.persistence.view.EntityViews;
+import com.blazebit.persistence.view.impl.EntityViewManagerImpl;
+import com.blazebit.persistence.view.impl.metamodel.MetamodelSnapshot;
+import com.blazebit.persistence.view.spi.EntityViewConfiguration;
+import com.blazebit.persistence.view.testsuite.AbstractEntityViewTest;
+import com.blazebit.persistence.view.testsuite.basic.model.DocumentViewInterface;
+import com.blazebit.persistence.view.testsuite.basic.model.PersonView;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+public class MetamodelSnapshotTest extends AbstractEntityViewTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testSnapshotIsWrittenAndReused() throws Exception {
+        Path snapshotFile = temporaryFolder.getRoot().toPath().resolve("metamodel.snapshot");
+
+        assertTrue(isValidated(create(cbf, createConfiguration(snapshotFile, true), PersonView.class)));
+        String fingerprint = MetamodelSnapshot.readFingerprint(snapshotFile);
+        assertNotNull(fingerprint);
+
+        // The same views and settings were validated before, so the validation is skipped
+        assertFalse(isValidated(create(cbf, createConfiguration(snapshotFile, true), PersonView.class)));
+        assertEquals(fingerprint, MetamodelSnapshot.readFingerprint(snapshotFile));
+
+        assertTrue(isValidated(create(cbf, createConfiguration(snapshotFile, true), PersonView.class, DocumentViewInterface.class)));
+        String newFingerprint = MetamodelSnapshot.readFingerprint(snapshotFile);
+        assertNotNull(newFingerprint);
+        assertNotEquals(fingerprint, newFingerprint);
+    }
+
+    @Test
+    public void testSnapshotIsOnlyWrittenWhenEnabled() throws Exception {
+        Path snapshotFile = temporaryFolder.getRoot().toPath().resolve("metamodel.snapshot");
+
+        assertTrue(isValidated(create(cbf, createConfiguration(snapshotFile, false), PersonView.class)));
+        assertFalse(Files.exists(snapshotFile));
+
+        assertTrue(isValidated(create(cbf, createConfiguration(snapshotFile, true), PersonView.class)));
+        String fingerprint = MetamodelSnapshot.readFingerprint(snapshotFile);
+        assertNotNull(fingerprint);
+
+        // A snapshot is still read when writing is disabled
+        assertFalse(isValidated(create(cbf, createConfiguration(snapshotFile, false), PersonView.class)));
+
+        // A mismatching snapshot is not replaced when writing is disabled
+        assertTrue(isValidated(create(cbf, createConfiguration(snapshotFile, false), PersonView.class, DocumentViewInterface.class)));
+        assertEquals(fingerprint, MetamodelSnapshot.readFingerprint(snapshotFile));
+    }
+
+    @Test
+    public void testChangedSettingReenablesValidation() throws Exception {
+        Path snapshotFile = temporaryFolder.getRoot().toPath().resolve("metamodel.snapshot");
+
+        assertTrue(isValidated(create(cbf, createConfiguration(snapshotFile, true), PersonView.class)));
+        String fingerprint = MetamodelSnapshot.readFingerprint(snapshotFile);
+
+        EntityViewConfiguration cfg = createConfiguration(snapshotFile, true);
+        cfg.setProperty(ConfigurationProperties.PROXY_EAGER_LOADING, "true");
+        assertTrue(isValidated(create(cbf, cfg, PersonView.class)));
+        assertNotEquals(fingerprint, MetamodelSnapshot.readFingerprint(snapshotFile));
+
+        cfg = createConfiguration(snapshotFile, true);
+        cfg.setProperty(ConfigurationProperties.PROXY_EAGER_LOADING, "true");
+        assertFalse(isValidated(create(cbf, cfg, PersonView.class)));
+    }
+
+    @Test
+    public void testChangedCriteriaBuilderSettingReenablesValidation() throws Exception {
+        Path snapshotFile = temporaryFolder.getRoot().toPath().resolve("metamodel.snapshot");
+
+        assertTrue(isValidated(create(cbf, createConfiguration(snapshotFile, true), PersonView.class)));
+        String fingerprint = MetamodelSnapshot.readFingerprint(snapshotFile);
+
+        // The compatible mode changes how expressions are parsed, so the views have to be validated again
+        CriteriaBuilderConfiguration criteriaBuilderConfiguration = Criteria.getDefault();
+        configure(criteriaBuilderConfiguration);
+        criteriaBuilderConfiguration.setProperty(com.blazebit.persistence.ConfigurationProperties.COMPATIBLE_MODE, "true");
+        CriteriaBuilderFactory compatibleCbf = criteriaBuilderConfiguration.createCriteriaBuilderFactory(emf);
+        assertTrue(isValidated(create(compatibleCbf, createConfiguration(snapshotFile, true), PersonView.class)));
+        assertNotEquals(fingerprint, MetamodelSnapshot.readFingerprint(snapshotFile));
+    }
+
+    @Test
+    public void testInvalidSnapshotIsReplaced() throws Exception {
+        Path snapshotFile = temporaryFolder.getRoot().toPath().resolve("metamodel.snapshot");
+        Files.write(snapshotFile, new byte[]{ 1, 2, 3 });
+        assertNull(MetamodelSnapshot.readFingerprint(snapshotFile));
+
+        assertTrue(isValidated(create(cbf, createConfiguration(snapshotFile, true), PersonView.class)));
+        assertNotNull(MetamodelSnapshot.readFingerprint(snapshotFile));
+    }
+
+    private static boolean isValidated(EntityViewManager evm) {
+        return ((EntityViewManagerImpl) evm).getMetamodel().isValidated();
+    }
+
+    private static EntityViewManager create(CriteriaBuilderFactory cbf, EntityViewConfiguration cfg, Class<?>... classes) {
+        // Don't use the entity view manager cache of the test base class, as we need a freshly built metamodel every time
+        for (Class<?> c : classes) {
+            cfg.addEntityView(c);
+        }
+        return cfg.createEntityViewManager(cbf);
+    }
+
+    private EntityViewConfiguration createConfiguration(Path snapshotFile, boolean write) {
+        EntityViewConfiguration cfg = EntityViews.createDefaultConfiguration();
+        cfg.setProperty(ConfigurationProperties.METAMODEL_SNAPSHOT_FILE, snapshotFile.toString());
+        cfg.setProperty(ConfigurationProperties.METAMODEL_SNAPSHOT_WRITE, Boolean.toString(write));
+        return cfg;
+    }
+}
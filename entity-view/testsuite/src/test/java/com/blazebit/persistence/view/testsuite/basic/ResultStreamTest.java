@@ -0,0 +1,187 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.view.testsuite.basic;
+
+import com.blazebit.persistence.CriteriaBuilder;
+import com.blazebit.persistence.PaginatedCriteriaBuilder;
+import com.blazebit.persistence.testsuite.entity.Document;
+import com.blazebit.persistence.testsuite.entity.Person;
+import com.blazebit.persistence.testsuite.tx.TxVoidWork;
+import com.blazebit.persistence.view.BatchFetch;
+import com.blazebit.persistence.view.EntityView;
+import com.blazebit.persistence.view.EntityViewManager;
+import com.blazebit.persistence.view.EntityViewSetting;
+import com.blazebit.persistence.view.FetchStrategy;
+import com.blazebit.persistence.view.MappingCorrelatedSimple;
+import com.blazebit.persistence.view.Sorters;
+import com.blazebit.persistence.view.testsuite.AbstractEntityViewTest;
+import com.blazebit.persistence.view.testsuite.basic.model.IdHolderView;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+public class ResultStreamTest extends AbstractEntityViewTest {
+
+    protected EntityViewManager evm;
+
+    @Before
+    public void initEvm() {
+        evm = build(DocumentPartnersView.class, DocumentCorrelatedPartnersView.class, PersonIdView.class);
+        enableQueryCollecting();
+    }
+
+    @After
+    public void disableQueries() {
+        disableQueryCollecting();
+    }
+
+    @Override
+    public void setUpOnce() {
+        cleanDatabase();
+        transactional(new TxVoidWork() {
+            @Override
+            public void work(EntityManager em) {
+                Person o1 = new Person("pers1");
+                Person o2 = new Person("pers2");
+                Person o3 = new Person("pers3");
+                Document doc1 = new Document("doc1", o1);
+                Document doc2 = new Document("doc2", o1);
+                Document doc3 = new Document("doc3", o1);
+
+                em.persist(o1);
+                em.persist(o2);
+                em.persist(o3);
+                em.persist(doc1);
+                em.persist(doc2);
+                em.persist(doc3);
+
+                o1.setPartnerDocument(doc1);
+                o2.setPartnerDocument(doc1);
+                o3.setPartnerDocument(doc2);
+            }
+        });
+    }
+
+    @Test
+    public void testStreamCollectionFetch() {
+        CriteriaBuilder<DocumentPartnersView> cb = evm.applySetting(EntityViewSetting.create(DocumentPartnersView.class), cbf.create(em, Document.class).orderByAsc("id"));
+        List<DocumentPartnersView> result;
+        try (Stream<DocumentPartnersView> stream = cb.getResultStream()) {
+            result = stream.collect(Collectors.toList());
+        }
+        assertQueryCount(1);
+        assertEquals(3, result.size());
+        assertEquals("doc1", result.get(0).getName());
+        assertEquals(2, result.get(0).getPartners().size());
+        assertEquals("doc2", result.get(1).getName());
+        assertEquals(1, result.get(1).getPartners().size());
+        assertEquals("doc3", result.get(2).getName());
+        assertEquals(0, result.get(2).getPartners().size());
+    }
+
+    @Test
+    public void testStreamBatchCorrelation() {
+        CriteriaBuilder<DocumentCorrelatedPartnersView> cb = evm.applySetting(EntityViewSetting.create(DocumentCorrelatedPartnersView.class), cbf.create(em, Document.class).orderByAsc("id"));
+        List<DocumentCorrelatedPartnersView> result;
+        try (Stream<DocumentCorrelatedPartnersView> stream = cb.getResultStream()) {
+            result = stream.collect(Collectors.toList());
+        }
+        // The groups of all 3 documents are buffered, so the partners are correlated with a single query instead of one per document
+        assertQueryCount(2);
+        assertEquals(3, result.size());
+        assertEquals("doc1", result.get(0).getName());
+        assertEquals(2, result.get(0).getPartners().size());
+        assertEquals("doc2", result.get(1).getName());
+        assertEquals(1, result.get(1).getPartners().size());
+        assertEquals("doc3", result.get(2).getName());
+        assertEquals(0, result.get(2).getPartners().size());
+    }
+
+    @Test
+    public void testStreamPaginatedCollectionFetch() {
+        EntityViewSetting<DocumentPartnersView, PaginatedCriteriaBuilder<DocumentPartnersView>> setting = EntityViewSetting.create(DocumentPartnersView.class, 0, 2)
+                .withAttributeSorter("id", Sorters.ascending());
+        PaginatedCriteriaBuilder<DocumentPartnersView> cb = evm.applySetting(setting, cbf.create(em, Document.class));
+        List<DocumentPartnersView> result;
+        try (Stream<DocumentPartnersView> stream = cb.getResultStream()) {
+            result = stream.collect(Collectors.toList());
+        }
+        // Only the id query and the object query are executed, but no count query
+        assertQueryCount(2);
+        for (String query : QueryInspectorListener.EXECUTED_QUERIES) {
+            assertFalse(query, query.toLowerCase().contains("count("));
+        }
+        assertEquals(2, result.size());
+        assertEquals("doc1", result.get(0).getName());
+        assertEquals(2, result.get(0).getPartners().size());
+        assertEquals("doc2", result.get(1).getName());
+        assertEquals(1, result.get(1).getPartners().size());
+    }
+
+    @Test
+    public void testStreamCollectionFetchRequiresUniqueOrder() {
+        CriteriaBuilder<DocumentPartnersView> cb = evm.applySetting(EntityViewSetting.create(DocumentPartnersView.class), cbf.create(em, Document.class).orderByAsc("owner.name"));
+        try (Stream<DocumentPartnersView> stream = cb.getResultStream()) {
+            stream.collect(Collectors.toList());
+            fail("Expected non-unique order by items to be rejected");
+        } catch (IllegalStateException ex) {
+            assertTrue(ex.getMessage().contains("unique"));
+        }
+    }
+
+    @Test
+    public void testStreamCollectionFetchRejectsInterleavedOrder() {
+        // Ordering by a collection element first interleaves the tuples of different documents
+        CriteriaBuilder<DocumentPartnersView> cb = evm.applySetting(EntityViewSetting.create(DocumentPartnersView.class), cbf.create(em, Document.class).orderByAsc("partners.name").orderByAsc("id"));
+        try (Stream<DocumentPartnersView> stream = cb.getResultStream()) {
+            stream.collect(Collectors.toList());
+            fail("Expected order by items that interleave documents to be rejected");
+        } catch (IllegalStateException ex) {
+            assertTrue(ex.getMessage().contains("partners"));
+        }
+    }
+
+    @EntityView(Document.class)
+    public interface DocumentPartnersView extends IdHolderView<Long> {
+
+        public String getName();
+
+        public Set<PersonIdView> getPartners();
+
+    }
+
+    @EntityView(Document.class)
+    public interface DocumentCorrelatedPartnersView extends IdHolderView<Long> {
+
+        public String getName();
+
+        @BatchFetch(size = 3)
+        @MappingCorrelatedSimple(correlated = Person.class, correlationBasis = "id", correlationExpression = "partnerDocument.id IN correlationKey", fetch = FetchStrategy.SELECT)
+        public Set<PersonIdView> getPartners();
+
+    }
+
+    @EntityView(Person.class)
+    public interface PersonIdView extends IdHolderView<Long> {
+
+    }
+}
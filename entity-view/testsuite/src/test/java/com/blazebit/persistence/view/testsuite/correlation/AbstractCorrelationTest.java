@@ -79,6 +79,10 @@ public abstract class AbstractCorrelationTest extends AbstractEntityViewTest {
     }
 
     protected <T extends DocumentCorrelationView> void testCorrelation(Class<T> entityView, Integer batchSize) {
+        testCorrelation(entityView, batchSize, null);
+    }
+
+    protected <T extends DocumentCorrelationView> EntityViewManager testCorrelation(Class<T> entityView, Integer batchSize, Integer maxAdaptiveBatchSize) {
         EntityViewManager evm = build(
                 entityView,
                 SimpleDocumentCorrelatedView.class,
@@ -91,6 +95,9 @@ public abstract class AbstractCorrelationTest extends AbstractEntityViewTest {
         if (batchSize != null) {
             setting.setProperty(ConfigurationProperties.DEFAULT_BATCH_SIZE + ".ownerRelatedDocumentIds", batchSize);
         }
+        if (maxAdaptiveBatchSize != null) {
+            setting.setProperty(ConfigurationProperties.ADAPTIVE_BATCH_SIZE + ".ownerRelatedDocumentIds", maxAdaptiveBatchSize);
+        }
         CriteriaBuilder<T> cb = evm.applySetting(setting, criteria);
         List<T> results = cb.getResultList();
 
@@ -179,6 +186,7 @@ public abstract class AbstractCorrelationTest extends AbstractEntityViewTest {
         assertEquals(0, results.get(3).getThisCorrelatedEmptyIdList().size());
         assertEquals(0, results.get(3).getThisCorrelatedEmptyEntityList().size());
         assertEquals(0, results.get(3).getThisCorrelatedEmptyViewList().size());
+        return evm;
     }
 
     private void assertExistsByName(String expectedName, Collection<SimpleDocumentCorrelatedView> views) {
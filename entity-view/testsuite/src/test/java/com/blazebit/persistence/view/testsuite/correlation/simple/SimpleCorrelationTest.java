@@ -5,6 +5,7 @@
 
 package com.blazebit.persistence.view.testsuite.correlation.simple;
 
+import com.blazebit.persistence.CriteriaBuilder;
 import com.blazebit.persistence.testsuite.base.jpa.category.NoDatanucleus;
 import com.blazebit.persistence.testsuite.base.jpa.category.NoDatanucleus4;
 import com.blazebit.persistence.testsuite.base.jpa.category.NoEclipselink;
@@ -12,7 +13,23 @@ import com.blazebit.persistence.testsuite.base.jpa.category.NoHibernate42;
 import com.blazebit.persistence.testsuite.base.jpa.category.NoHibernate43;
 import com.blazebit.persistence.testsuite.base.jpa.category.NoHibernate50;
 import com.blazebit.persistence.testsuite.base.jpa.category.NoOpenJPA;
+import com.blazebit.persistence.testsuite.entity.Document;
+import com.blazebit.persistence.testsuite.entity.Person;
+import com.blazebit.persistence.view.CacheStatistics;
+import com.blazebit.persistence.view.ConfigurationProperties;
+import com.blazebit.persistence.view.EntityView;
+import com.blazebit.persistence.view.EntityViewManager;
+import com.blazebit.persistence.view.EntityViewSetting;
+import com.blazebit.persistence.view.FetchStrategy;
+import com.blazebit.persistence.view.IdMapping;
+import com.blazebit.persistence.view.MappingCorrelatedSimple;
+import com.blazebit.persistence.view.MappingParameter;
+import com.blazebit.persistence.view.impl.EntityViewManagerImpl;
+import com.blazebit.persistence.view.spi.EntityViewCacheFactory;
 import com.blazebit.persistence.view.testsuite.correlation.AbstractCorrelationTest;
+import com.blazebit.persistence.view.testsuite.correlation.model.SimpleDocumentCorrelatedView;
+import com.blazebit.persistence.view.testsuite.correlation.model.SimplePersonCorrelatedSubView;
+import com.blazebit.persistence.view.testsuite.correlation.model.SimpleVersionCorrelatedView;
 import com.blazebit.persistence.view.testsuite.correlation.simple.model.DocumentSimpleCorrelationViewJoinId;
 import com.blazebit.persistence.view.testsuite.correlation.simple.model.DocumentSimpleCorrelationViewJoinNormal;
 import com.blazebit.persistence.view.testsuite.correlation.simple.model.DocumentSimpleCorrelationViewSubqueryId;
@@ -22,6 +39,13 @@ import com.blazebit.persistence.view.testsuite.correlation.simple.model.Document
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
 /**
  *
  * @author Christian Beikov
@@ -85,6 +109,127 @@ public class SimpleCorrelationTest extends AbstractCorrelationTest {
         testCorrelation(DocumentSimpleCorrelationViewSubqueryId.class, 20);
     }
 
+    @Test
+    // NOTE: Requires values clause which currently is only available for Hibernate
+    @Category({ NoDatanucleus4.class, NoDatanucleus.class, NoOpenJPA.class, NoEclipselink.class})
+    public void testSubqueryAdaptiveBatchedCorrelationNormal() {
+        EntityViewManager evm = testCorrelation(DocumentSimpleCorrelationViewSubqueryNormal.class, 2, 16);
+        assertAdaptiveBatchSizes(evm, 16);
+    }
+
+    @Test
+    // NOTE: Requires values clause which currently is only available for Hibernate
+    @Category({ NoDatanucleus4.class, NoDatanucleus.class, NoOpenJPA.class, NoEclipselink.class})
+    public void testSubqueryAdaptiveBatchedCorrelationId() {
+        EntityViewManager evm = testCorrelation(DocumentSimpleCorrelationViewSubqueryId.class, 20, 2);
+        assertAdaptiveBatchSizes(evm, 2);
+    }
+
+    private void assertAdaptiveBatchSizes(EntityViewManager evm, int maxAdaptiveBatchSize) {
+        Map<Integer, Long> batchSizeCounts = ((EntityViewManagerImpl) evm).getAdaptiveBatchSizeStatistics().getBatchSizeCounts();
+        assertFalse(batchSizeCounts.isEmpty());
+        for (Integer batchSize : batchSizeCounts.keySet()) {
+            assertTrue(batchSize >= 2 && batchSize <= maxAdaptiveBatchSize);
+            assertEquals(0, batchSize & (batchSize - 1));
+        }
+    }
+
+    @Test
+    // NOTE: Datenucleus issue: https://github.com/datanucleus/datanucleus-api-jpa/issues/77
+    @Category({ NoDatanucleus.class })
+    public void testSubqueryCorrelationResultCaching() {
+        EntityViewManager evm = build(
+                DocumentSimpleCorrelationViewSubqueryNormal.class,
+                SimpleDocumentCorrelatedView.class,
+                SimplePersonCorrelatedSubView.class,
+                SimpleVersionCorrelatedView.class
+        );
+
+        List<DocumentSimpleCorrelationViewSubqueryNormal> results = queryWithCorrelationResultCaching(evm);
+        CacheStatistics statistics = evm.getCacheStatistics().get(EntityViewCacheFactory.CORRELATION_RESULT_CACHE);
+        // The two distinct owners are loaded and cached
+        assertEquals(0, statistics.getHitCount());
+        assertEquals(2, statistics.getSize());
+
+        List<DocumentSimpleCorrelationViewSubqueryNormal> cachedResults = queryWithCorrelationResultCaching(evm);
+        statistics = evm.getCacheStatistics().get(EntityViewCacheFactory.CORRELATION_RESULT_CACHE);
+        assertEquals(2, statistics.getHitCount());
+        assertEquals(2, statistics.getSize());
+
+        assertEquals(results.size(), cachedResults.size());
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(results.get(i).getCorrelatedOwnerView().getId(), cachedResults.get(i).getCorrelatedOwnerView().getId());
+            assertEquals(results.get(i).getCorrelatedOwnerView().getName(), cachedResults.get(i).getCorrelatedOwnerView().getName());
+        }
+    }
+
+    private List<DocumentSimpleCorrelationViewSubqueryNormal> queryWithCorrelationResultCaching(EntityViewManager evm) {
+        CriteriaBuilder<Document> criteria = cbf.create(em, Document.class, "d").orderByAsc("id");
+        EntityViewSetting<DocumentSimpleCorrelationViewSubqueryNormal, CriteriaBuilder<DocumentSimpleCorrelationViewSubqueryNormal>> setting = EntityViewSetting.create(DocumentSimpleCorrelationViewSubqueryNormal.class);
+        setting.setProperty(ConfigurationProperties.CORRELATION_RESULT_CACHING + ".correlatedOwnerView", true);
+        return evm.applySetting(setting, criteria).getResultList();
+    }
+
+    @Test
+    // NOTE: Datenucleus issue: https://github.com/datanucleus/datanucleus-api-jpa/issues/77
+    @Category({ NoDatanucleus.class })
+    public void testCorrelationResultCachingIsKeyedByOptionalParameters() {
+        EntityViewManager evm = build(
+                DocumentOwnerWithParameterView.class,
+                PersonWithParameterView.class
+        );
+
+        List<DocumentOwnerWithParameterView> results = queryWithOptionalParameter(evm, "a");
+        CacheStatistics statistics = evm.getCacheStatistics().get(EntityViewCacheFactory.CORRELATION_RESULT_CACHE);
+        assertEquals(0, statistics.getHitCount());
+        assertEquals(2, statistics.getSize());
+        for (DocumentOwnerWithParameterView result : results) {
+            assertEquals("a", result.getOwner().getParameter());
+        }
+
+        // The results of the first query must not be reused for a different parameter value
+        results = queryWithOptionalParameter(evm, "b");
+        statistics = evm.getCacheStatistics().get(EntityViewCacheFactory.CORRELATION_RESULT_CACHE);
+        assertEquals(0, statistics.getHitCount());
+        assertEquals(4, statistics.getSize());
+        for (DocumentOwnerWithParameterView result : results) {
+            assertEquals("b", result.getOwner().getParameter());
+        }
+
+        queryWithOptionalParameter(evm, "a");
+        statistics = evm.getCacheStatistics().get(EntityViewCacheFactory.CORRELATION_RESULT_CACHE);
+        assertEquals(2, statistics.getHitCount());
+        assertEquals(4, statistics.getSize());
+    }
+
+    private List<DocumentOwnerWithParameterView> queryWithOptionalParameter(EntityViewManager evm, String parameter) {
+        CriteriaBuilder<Document> criteria = cbf.create(em, Document.class, "d").orderByAsc("id");
+        EntityViewSetting<DocumentOwnerWithParameterView, CriteriaBuilder<DocumentOwnerWithParameterView>> setting = EntityViewSetting.create(DocumentOwnerWithParameterView.class);
+        setting.setProperty(ConfigurationProperties.CORRELATION_RESULT_CACHING + ".owner", true);
+        setting.addOptionalParameter("parameter", parameter);
+        return evm.applySetting(setting, criteria).getResultList();
+    }
+
+    @EntityView(Document.class)
+    public interface DocumentOwnerWithParameterView {
+
+        @IdMapping
+        public Long getId();
+
+        @MappingCorrelatedSimple(correlationBasis = "owner", correlated = Person.class, correlationExpression = "this IN correlationKey", fetch = FetchStrategy.SELECT)
+        public PersonWithParameterView getOwner();
+    }
+
+    @EntityView(Person.class)
+    public interface PersonWithParameterView {
+
+        @IdMapping
+        public Long getId();
+
+        @MappingParameter("parameter")
+        public String getParameter();
+    }
+
     // TODO: test batch correlation expectation configuration
     // TODO: make explicit test for correlation key batching with view root usage maybe via nested subviews through collections?
 
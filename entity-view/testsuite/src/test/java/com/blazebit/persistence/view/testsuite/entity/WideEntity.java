@@ -0,0 +1,184 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.view.testsuite.entity;
+
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.Version;
+import java.io.Serializable;
+
+/**
+ * An entity with more attributes than fit into a single dirty bit mask.
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+@Entity
+@Table(name = "wide_entity")
+public class WideEntity implements Serializable {
+
+    @Id
+    @GeneratedValue
+    private Long id;
+    @Version
+    private Long version;
+    private String value0;
+    private String value1;
+    private String value2;
+    private String value3;
+    private String value4;
+    private String value5;
+    private String value6;
+    private String value7;
+    private String value8;
+    private String value9;
+    private String value10;
+    private String value11;
+    private String value12;
+    private String value13;
+    private String value14;
+    private String value15;
+    private String value16;
+    private String value17;
+    private String value18;
+    private String value19;
+    private String value20;
+    private String value21;
+    private String value22;
+    private String value23;
+    private String value24;
+    private String value25;
+    private String value26;
+    private String value27;
+    private String value28;
+    private String value29;
+    private String value30;
+    private String value31;
+    private String value32;
+    private String value33;
+    private String value34;
+    private String value35;
+    private String value36;
+    private String value37;
+    private String value38;
+    private String value39;
+    private String value40;
+    private String value41;
+    private String value42;
+    private String value43;
+    private String value44;
+    private String value45;
+    private String value46;
+    private String value47;
+    private String value48;
+    private String value49;
+    private String value50;
+    private String value51;
+    private String value52;
+    private String value53;
+    private String value54;
+    private String value55;
+    private String value56;
+    private String value57;
+    private String value58;
+    private String value59;
+    private String value60;
+    private String value61;
+    private String value62;
+    private String value63;
+    private String value64;
+    private String value65;
+    private String value66;
+    private String value67;
+    private String value68;
+    private String value69;
+
+    public WideEntity() {
+    }
+
+    public WideEntity(String value) {
+        this.value0 = value;
+        this.value1 = value;
+        this.value2 = value;
+        this.value3 = value;
+        this.value4 = value;
+        this.value5 = value;
+        this.value6 = value;
+        this.value7 = value;
+        this.value8 = value;
+        this.value9 = value;
+        this.value10 = value;
+        this.value11 = value;
+        this.value12 = value;
+        this.value13 = value;
+        this.value14 = value;
+        this.value15 = value;
+        this.value16 = value;
+        this.value17 = value;
+        this.value18 = value;
+        this.value19 = value;
+        this.value20 = value;
+        this.value21 = value;
+        this.value22 = value;
+        this.value23 = value;
+        this.value24 = value;
+        this.value25 = value;
+        this.value26 = value;
+        this.value27 = value;
+        this.value28 = value;
+        this.value29 = value;
+        this.value30 = value;
+        this.value31 = value;
+        this.value32 = value;
+        this.value33 = value;
+        this.value34 = value;
+        this.value35 = value;
+        this.value36 = value;
+        this.value37 = value;
+        this.value38 = value;
+        this.value39 = value;
+        this.value40 = value;
+        this.value41 = value;
+        this.value42 = value;
+        this.value43 = value;
+        this.value44 = value;
+        this.value45 = value;
+        this.value46 = value;
+        this.value47 = value;
+        this.value48 = value;
+        this.value49 = value;
+        this.value50 = value;
+        this.value51 = value;
+        this.value52 = value;
+        this.value53 = value;
+        this.value54 = value;
+        this.value55 = value;
+        this.value56 = value;
+        this.value57 = value;
+        this.value58 = value;
+        this.value59 = value;
+        this.value60 = value;
+        this.value61 = value;
+        this.value62 = value;
+        this.value63 = value;
+        this.value64 = value;
+        this.value65 = value;
+        this.value66 = value;
+        this.value67 = value;
+        this.value68 = value;
+        this.value69 = value;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+}
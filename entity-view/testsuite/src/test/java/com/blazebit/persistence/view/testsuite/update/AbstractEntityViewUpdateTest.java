@@ -311,6 +311,17 @@ public abstract class AbstractEntityViewUpdateTest<T> extends AbstractEntityView
         });
     }
 
+    protected void saveAll(final Collection<?> docViews) {
+        transactional(new TxVoidWork() {
+
+            @Override
+            public void work(EntityManager em) {
+                evm.saveAll(em, docViews);
+                em.flush();
+            }
+        });
+    }
+
     protected void saveWith(final Object docView, Consumer<FlushOperationBuilder> c) {
         transactional(new TxVoidWork() {
 
@@ -350,6 +361,17 @@ public abstract class AbstractEntityViewUpdateTest<T> extends AbstractEntityView
         });
     }
 
+    protected void removeAll(final Class<?> docView, final Collection<?> ids) {
+        transactional(new TxVoidWork() {
+
+            @Override
+            public void work(EntityManager em) {
+                evm.removeAll(em, docView, ids);
+                em.flush();
+            }
+        });
+    }
+
     protected void remove(final T docView) {
         transactional(new TxVoidWork() {
 
@@ -361,6 +383,17 @@ public abstract class AbstractEntityViewUpdateTest<T> extends AbstractEntityView
         });
     }
 
+    protected void removeAll(final Collection<?> views) {
+        transactional(new TxVoidWork() {
+
+            @Override
+            public void work(EntityManager em) {
+                evm.removeAll(em, views);
+                em.flush();
+            }
+        });
+    }
+
     protected void updateWithRollback(final T docView) {
         transactional(new TxVoidWork() {
 
@@ -9,14 +9,17 @@ import com.blazebit.persistence.testsuite.base.jpa.assertion.AssertStatementBuil
 import com.blazebit.persistence.testsuite.base.jpa.category.NoDatanucleus;
 import com.blazebit.persistence.testsuite.base.jpa.category.NoEclipselink;
 import com.blazebit.persistence.testsuite.entity.Document;
+import com.blazebit.persistence.view.CacheStatistics;
 import com.blazebit.persistence.view.FlushMode;
 import com.blazebit.persistence.view.FlushStrategy;
 import com.blazebit.persistence.view.change.ChangeModel;
 import com.blazebit.persistence.view.change.PluralChangeModel;
 import com.blazebit.persistence.view.change.SingularChangeModel;
+import com.blazebit.persistence.view.spi.EntityViewCacheFactory;
 import com.blazebit.persistence.view.spi.type.MutableStateTrackable;
 import com.blazebit.persistence.view.testsuite.update.basic.AbstractEntityViewUpdateBasicCollectionsTest;
 import com.blazebit.persistence.view.testsuite.update.basic.mutable.model.UpdatableDocumentBasicWithCollectionsView;
+import org.junit.Assume;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
@@ -199,6 +202,30 @@ public class EntityViewUpdateMutableBasicCollectionsTest extends AbstractEntityV
         assertEquals(Collections.singletonList("test"), doc1.getStrings());
     }
 
+    @Test
+    public void testPartialUpdateQueryWithCollectionIsCached() {
+        Assume.assumeTrue("Update queries of partial updates are only cached with the query flush strategy", isQueryStrategy() && !isFullMode());
+        // Given
+        final UpdatableDocumentBasicWithCollectionsView docView = getDoc1View();
+        docView.setName("newDoc1");
+        docView.getStrings().add("newString");
+        update(docView);
+        CacheStatistics statistics = evm.getCacheStatistics().get(EntityViewCacheFactory.UPDATE_QUERY_CACHE);
+
+        // When
+        docView.setName("newDoc1-2");
+        docView.getStrings().add("newString2");
+        update(docView);
+
+        // Then
+        CacheStatistics newStatistics = evm.getCacheStatistics().get(EntityViewCacheFactory.UPDATE_QUERY_CACHE);
+        assertEquals(statistics.getHitCount() + 1, newStatistics.getHitCount());
+        assertEquals(statistics.getSize(), newStatistics.getSize());
+        clearPersistenceContextAndReload();
+        assertEquals("newDoc1-2", doc1.getName());
+        assertTrue(doc1.getStrings().containsAll(Arrays.asList("newString", "newString2")));
+    }
+
     protected void assertChangesUpdateAndFlush(UpdatableDocumentBasicWithCollectionsView docView) {
         if (!isFullMode()) {
             SingularChangeModel<UpdatableDocumentBasicWithCollectionsView> changeModel = evm.getChangeModel(docView);
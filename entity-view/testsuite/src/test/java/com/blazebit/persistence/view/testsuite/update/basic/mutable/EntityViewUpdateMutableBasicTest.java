@@ -57,6 +57,39 @@ public class EntityViewUpdateMutableBasicTest extends AbstractEntityViewUpdateBa
         assertEquals("newDoc", doc1.getName());
     }
 
+    @Test
+    public void testSaveAll() {
+        // Given
+        final UpdatableDocumentBasicView docView1 = getDoc1View();
+        final UpdatableDocumentBasicView docView2 = getDoc2View();
+        Long oldVersion1 = docView1.getVersion();
+        Long oldVersion2 = docView2.getVersion();
+        clearQueries();
+
+        // When
+        docView1.setName("newDoc1");
+        docView2.setName("newDoc2");
+        saveAll(Arrays.asList(docView1, docView2));
+
+        // Then
+        // Both views have the same dirty state, so one update statement is executed per view through the same query
+        AssertStatementBuilder builder = assertUnorderedQuerySequence();
+        if (!isQueryStrategy()) {
+            fullFetch(builder);
+            fullFetch(builder);
+        }
+        builder.update(Document.class)
+                .update(Document.class)
+                .validate();
+        assertVersionDiff(oldVersion1, docView1.getVersion(), 1, 1);
+        assertVersionDiff(oldVersion2, docView2.getVersion(), 1, 1);
+        clearPersistenceContextAndReload();
+        assertEquals("newDoc1", doc1.getName());
+        assertEquals("newDoc2", doc2.getName());
+        assertEquals(doc1.getVersion(), docView1.getVersion());
+        assertEquals(doc2.getVersion(), docView2.getVersion());
+    }
+
     @Test
     public void testSimpleUpdate() {
         // Given & When
@@ -0,0 +1,141 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.view.testsuite.update.remove.cascade.simple;
+
+import com.blazebit.persistence.testsuite.base.jpa.assertion.AssertStatementBuilder;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoDatanucleus;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoEclipselink;
+import com.blazebit.persistence.testsuite.entity.PrimitiveDocument;
+import com.blazebit.persistence.testsuite.entity.PrimitiveFamily;
+import com.blazebit.persistence.testsuite.entity.PrimitivePerson;
+import com.blazebit.persistence.testsuite.entity.PrimitiveVersion;
+import com.blazebit.persistence.view.FlushMode;
+import com.blazebit.persistence.view.FlushStrategy;
+import com.blazebit.persistence.view.spi.EntityViewConfiguration;
+import com.blazebit.persistence.view.testsuite.update.AbstractEntityViewUpdateTest;
+import com.blazebit.persistence.view.testsuite.update.remove.cascade.simple.model.DocumentIdView;
+import com.blazebit.persistence.view.testsuite.update.remove.cascade.simple.model.PersonIdView;
+import com.blazebit.persistence.view.testsuite.update.remove.cascade.simple.model.PersonWithOwnedDocumentsView;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import javax.persistence.EntityManager;
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+@RunWith(Parameterized.class)
+// NOTE: No Datanucleus support yet
+@Category({ NoDatanucleus.class, NoEclipselink.class})
+public class EntityViewRemoveAllCascadeInverseTest extends AbstractEntityViewUpdateTest<PersonWithOwnedDocumentsView> {
+
+    private PrimitivePerson person1;
+    private PrimitivePerson person2;
+    private PrimitivePerson person3;
+    private PrimitivePerson person4;
+
+    public EntityViewRemoveAllCascadeInverseTest(FlushMode mode, FlushStrategy strategy, boolean version) {
+        super(mode, strategy, version, PersonWithOwnedDocumentsView.class);
+    }
+
+    @Override
+    protected void registerViewTypes(EntityViewConfiguration cfg) {
+        cfg.addEntityView(PersonIdView.class);
+        cfg.addEntityView(DocumentIdView.class);
+    }
+
+    @Override
+    protected Class<?>[] getEntityClasses() {
+        return new Class[]{
+                PrimitivePerson.class,
+                PrimitiveDocument.class,
+                PrimitiveVersion.class,
+                PrimitiveFamily.class
+        };
+    }
+
+    @Parameterized.Parameters(name = "{0} - {1} - VERSIONED={2}")
+    public static Object[][] combinations() {
+        return MODE_STRATEGY_VERSION_COMBINATIONS;
+    }
+
+    @Override
+    protected void prepareData(EntityManager em) {
+        person1 = createPersonWithDocuments(em, "pers1");
+        person2 = createPersonWithDocuments(em, "pers2");
+        person3 = createPersonWithDocuments(em, "pers3");
+        person4 = createPersonWithDocuments(em, "pers4");
+    }
+
+    private static PrimitivePerson createPersonWithDocuments(EntityManager em, String name) {
+        PrimitivePerson person = new PrimitivePerson(name);
+        em.persist(person);
+        for (int i = 1; i <= 2; i++) {
+            PrimitiveDocument document = new PrimitiveDocument(name + "-doc" + i);
+            document.setOwner(person);
+            em.persist(document);
+        }
+        return person;
+    }
+
+    @Test
+    public void testRemoveAllCascadesInverseCollectionSetBased() {
+        // Given
+        clearQueries();
+        removeAll(PersonWithOwnedDocumentsView.class, Collections.singletonList(person1.getId()));
+        int singleOwnerStatementCount = QueryInspectorListener.EXECUTED_QUERIES.size();
+        clearQueries();
+
+        // When
+        removeAll(PersonWithOwnedDocumentsView.class, Arrays.asList(person2.getId(), person3.getId(), person4.getId()));
+
+        // Then
+        if (isQueryStrategy()) {
+            // The owners, the elements of the inverse collection and the cascades of the elements are removed with the same statements, regardless of the number of owners
+            Assert.assertTrue(singleOwnerStatementCount > 0);
+            assertQueryCount(singleOwnerStatementCount);
+            int documentDeletes = 0;
+            for (String query : QueryInspectorListener.EXECUTED_QUERIES) {
+                if (query.toLowerCase().startsWith("delete from prim_doc ")) {
+                    documentDeletes++;
+                }
+            }
+            Assert.assertEquals(1, documentDeletes);
+        }
+
+        clearPersistenceContextAndReload();
+        Assert.assertNull(person1);
+        Assert.assertNull(person2);
+        Assert.assertNull(person3);
+        Assert.assertNull(person4);
+        Assert.assertEquals(0L, (long) em.createQuery("SELECT COUNT(*) FROM PrimitiveDocument", Long.class).getSingleResult());
+    }
+
+    @Override
+    protected void reload() {
+        person1 = em.find(PrimitivePerson.class, person1.getId());
+        person2 = em.find(PrimitivePerson.class, person2.getId());
+        person3 = em.find(PrimitivePerson.class, person3.getId());
+        person4 = em.find(PrimitivePerson.class, person4.getId());
+    }
+
+    @Override
+    protected AssertStatementBuilder fullFetch(AssertStatementBuilder builder) {
+        return builder;
+    }
+
+    @Override
+    protected AssertStatementBuilder versionUpdate(AssertStatementBuilder builder) {
+        return builder;
+    }
+}
@@ -31,6 +31,7 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 
 import javax.persistence.EntityManager;
+import java.util.Arrays;
 
 /**
  *
@@ -259,6 +260,70 @@ public class EntityViewRemoveCascadeOneToManyTest extends AbstractEntityViewUpda
         Assert.assertNull(family);
     }
 
+    @Test
+    public void testRemoveAll() {
+        // Given
+        final PrimitiveFamily family2 = new PrimitiveFamily("fam2");
+        transactional(new TxVoidWork() {
+            @Override
+            public void work(EntityManager em) {
+                family = new PrimitiveFamily("fam");
+                em.persist(family);
+                em.persist(family2);
+            }
+        });
+        FamilyIdView familyView1 = evm.find(em, FamilyIdView.class, family.getId());
+        FamilyIdView familyView2 = evm.find(em, FamilyIdView.class, family2.getId());
+        clearQueries();
+
+        // When
+        removeAll(Arrays.asList(familyView1, familyView2));
+
+        // Then
+        clearPersistenceContextAndReload();
+        Assert.assertNull(family);
+        Assert.assertNull(em.find(PrimitiveFamily.class, family2.getId()));
+    }
+
+    @Test
+    public void testRemoveAllByIds() {
+        // Given
+        final PrimitiveFamily family2 = new PrimitiveFamily("fam2");
+        transactional(new TxVoidWork() {
+            @Override
+            public void work(EntityManager em) {
+                family = new PrimitiveFamily("fam");
+                em.persist(family);
+                em.persist(family2);
+            }
+        });
+        clearQueries();
+
+        // When
+        removeAll(FamilyIdView.class, Arrays.asList(family.getId(), family2.getId()));
+
+        // Then
+        AssertStatementBuilder builder = assertUnorderedQuerySequence();
+
+        // In the query strategy, all families are deleted with a single statement
+        if (isQueryStrategy()) {
+            if (!dbmsDialect.supportsReturningColumns()) {
+                builder.select(PrimitiveFamily.class);
+            }
+            builder.delete(PrimitiveFamily.class);
+        } else {
+            builder.select(PrimitiveFamily.class)
+                .select(PrimitiveFamily.class)
+                .delete(PrimitiveFamily.class)
+                .delete(PrimitiveFamily.class);
+        }
+        builder.validate();
+
+        clearPersistenceContextAndReload();
+        Assert.assertNull(family);
+        Assert.assertNull(em.find(PrimitiveFamily.class, family2.getId()));
+    }
+
     @Override
     protected void reload() {
         person = em.find(PrimitivePerson.class, person.getId());
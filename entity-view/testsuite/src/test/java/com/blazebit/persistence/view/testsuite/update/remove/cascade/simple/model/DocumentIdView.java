@@ -0,0 +1,23 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.view.testsuite.update.remove.cascade.simple.model;
+
+import com.blazebit.persistence.testsuite.entity.PrimitiveDocument;
+import com.blazebit.persistence.view.EntityView;
+import com.blazebit.persistence.view.IdMapping;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+@EntityView(PrimitiveDocument.class)
+public interface DocumentIdView {
+
+    @IdMapping
+    long getId();
+
+}
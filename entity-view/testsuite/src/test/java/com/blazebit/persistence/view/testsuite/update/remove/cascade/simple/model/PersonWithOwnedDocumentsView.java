@@ -0,0 +1,31 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.view.testsuite.update.remove.cascade.simple.model;
+
+import com.blazebit.persistence.testsuite.entity.PrimitivePerson;
+import com.blazebit.persistence.view.CascadeType;
+import com.blazebit.persistence.view.EntityView;
+import com.blazebit.persistence.view.InverseRemoveStrategy;
+import com.blazebit.persistence.view.MappingInverse;
+import com.blazebit.persistence.view.UpdatableEntityView;
+import com.blazebit.persistence.view.UpdatableMapping;
+
+import java.util.Set;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+@UpdatableEntityView
+@EntityView(PrimitivePerson.class)
+public interface PersonWithOwnedDocumentsView extends PersonIdView {
+
+    @MappingInverse(removeStrategy = InverseRemoveStrategy.REMOVE)
+    @UpdatableMapping(cascade = { CascadeType.DELETE })
+    Set<DocumentIdView> getOwnedDocuments();
+    void setOwnedDocuments(Set<DocumentIdView> ownedDocuments);
+}
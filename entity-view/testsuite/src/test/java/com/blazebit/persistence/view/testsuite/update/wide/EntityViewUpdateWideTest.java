@@ -0,0 +1,230 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.view.testsuite.update.wide;
+
+import com.blazebit.persistence.testsuite.base.jpa.assertion.AssertStatementBuilder;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoDatanucleus;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoEclipselink;
+import com.blazebit.persistence.view.CacheStatistics;
+import com.blazebit.persistence.view.FlushMode;
+import com.blazebit.persistence.view.FlushStrategy;
+import com.blazebit.persistence.view.impl.metamodel.AbstractMethodAttribute;
+import com.blazebit.persistence.view.spi.EntityViewCacheFactory;
+import com.blazebit.persistence.view.spi.type.DirtyStateTrackable;
+import com.blazebit.persistence.view.testsuite.entity.WideEntity;
+import com.blazebit.persistence.view.testsuite.update.AbstractEntityViewUpdateTest;
+import com.blazebit.persistence.view.testsuite.update.wide.model.UpdatableWideView;
+import org.junit.Assume;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import javax.persistence.EntityManager;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests dirty tracking for views with more mutable attributes than fit into a single dirty bit mask.
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+@RunWith(Parameterized.class)
+// NOTE: No Datanucleus support yet
+@Category({ NoDatanucleus.class, NoEclipselink.class})
+public class EntityViewUpdateWideTest extends AbstractEntityViewUpdateTest<UpdatableWideView> {
+
+    private WideEntity entity;
+
+    public EntityViewUpdateWideTest(FlushMode mode, FlushStrategy strategy, boolean version) {
+        super(mode, strategy, version, UpdatableWideView.class);
+    }
+
+    @Parameterized.Parameters(name = "{0} - {1} - VERSIONED={2}")
+    public static Object[][] combinations() {
+        return MODE_STRATEGY_VERSION_COMBINATIONS;
+    }
+
+    @Override
+    protected Class<?>[] getEntityClasses() {
+        return new Class<?>[]{
+                WideEntity.class
+        };
+    }
+
+    @Override
+    protected void prepareData(EntityManager em) {
+        entity = new WideEntity("initial");
+        em.persist(entity);
+    }
+
+    @Override
+    protected void reload() {
+        entity = em.find(WideEntity.class, entity.getId());
+    }
+
+    @Test
+    public void testUpdateAttributesInDifferentDirtyWords() {
+        // Given
+        UpdatableWideView view = evm.find(em, UpdatableWideView.class, entity.getId());
+        DirtyStateTrackable dirtyStateTrackable = (DirtyStateTrackable) view;
+        assertFalse(dirtyStateTrackable.$$_isDirty());
+
+        // When
+        view.setValue1("changed1");
+        view.setValue66("changed66");
+
+        // Then
+        int index1 = getDirtyStateIndex("value1");
+        int index66 = getDirtyStateIndex("value66");
+        int lastIndex = getDirtyStateIndex("value9");
+        assertEquals(69, lastIndex);
+        assertTrue(dirtyStateTrackable.$$_isDirty());
+        assertTrue(dirtyStateTrackable.$$_isDirty(index1));
+        assertTrue(dirtyStateTrackable.$$_isDirty(index66));
+        assertFalse(dirtyStateTrackable.$$_isDirty(lastIndex));
+        long[] dirty = dirtyStateTrackable.$$_getDirty();
+        assertEquals(2, dirty.length);
+        assertEquals(2, Long.bitCount(dirty[0]) + Long.bitCount(dirty[1]));
+        assertEquals(2, evm.getChangeModel(view).getDirtyChanges().size());
+
+        // When
+        view.setValue9("changed9");
+
+        // Then
+        assertTrue(dirtyStateTrackable.$$_isDirty(lastIndex));
+        assertEquals(1L << (lastIndex & 63), dirtyStateTrackable.$$_getDirty()[1] & (1L << (lastIndex & 63)));
+
+        update(view);
+        assertFalse(dirtyStateTrackable.$$_isDirty());
+
+        clearPersistenceContextAndReload();
+        UpdatableWideView reloaded = evm.find(em, UpdatableWideView.class, entity.getId());
+        assertEquals("changed1", reloaded.getValue1());
+        assertEquals("changed66", reloaded.getValue66());
+        assertEquals("initial", reloaded.getValue0());
+        assertEquals("changed9", reloaded.getValue9());
+        assertEquals("initial", reloaded.getValue69());
+    }
+
+    @Test
+    public void testUpdateAttributeInLastDirtyWord() {
+        // Given
+        UpdatableWideView view = evm.find(em, UpdatableWideView.class, entity.getId());
+
+        // When
+        view.setValue69("changed69");
+        update(view);
+
+        // Then
+        clearPersistenceContextAndReload();
+        UpdatableWideView reloaded = evm.find(em, UpdatableWideView.class, entity.getId());
+        assertEquals("changed69", reloaded.getValue69());
+        assertEquals("initial", reloaded.getValue63());
+        assertEquals("initial", reloaded.getValue64());
+    }
+
+    @Test
+    public void testUpdateOnlyAttributeAboveFirstDirtyWord() {
+        // Given
+        UpdatableWideView view = evm.find(em, UpdatableWideView.class, entity.getId());
+        DirtyStateTrackable dirtyStateTrackable = (DirtyStateTrackable) view;
+        int lastIndex = getDirtyStateIndex("value9");
+        assertTrue(lastIndex > 64);
+
+        // When
+        view.setValue9("changed9");
+
+        // Then
+        long[] dirty = dirtyStateTrackable.$$_getDirty();
+        assertEquals(0L, dirty[0]);
+        assertEquals(1L << (lastIndex & 63), dirty[1]);
+        assertEquals(1, evm.getChangeModel(view).getDirtyChanges().size());
+        assertTrue(evm.getChangeModel(view).isDirty("value9"));
+
+        update(view);
+        assertFalse(dirtyStateTrackable.$$_isDirty());
+
+        clearPersistenceContextAndReload();
+        UpdatableWideView reloaded = evm.find(em, UpdatableWideView.class, entity.getId());
+        assertEquals("changed9", reloaded.getValue9());
+        assertEquals("initial", reloaded.getValue0());
+        assertEquals("initial", reloaded.getValue69());
+    }
+
+    @Test
+    public void testPartialUpdateQueryIsCachedPerShape() {
+        Assume.assumeTrue("Update queries of partial updates are only cached with the query flush strategy", isQueryStrategy() && !isFullMode());
+        // Given
+        UpdatableWideView view = evm.find(em, UpdatableWideView.class, entity.getId());
+        view.setValue1("changed1");
+        view.setValue66("changed66");
+        update(view);
+        long hits = getUpdateQueryCacheStatistics().getHitCount();
+        int size = getUpdateQueryCacheStatistics().getSize();
+
+        // When
+        view.setValue1("changed1-2");
+        view.setValue66("changed66-2");
+        update(view);
+
+        // Then
+        assertEquals(hits + 1, getUpdateQueryCacheStatistics().getHitCount());
+        assertEquals(size, getUpdateQueryCacheStatistics().getSize());
+
+        // When
+        view.setValue2("changed2");
+        update(view);
+
+        // Then
+        assertEquals(hits + 1, getUpdateQueryCacheStatistics().getHitCount());
+        assertEquals(size + 1, getUpdateQueryCacheStatistics().getSize());
+        clearPersistenceContextAndReload();
+        UpdatableWideView reloaded = evm.find(em, UpdatableWideView.class, entity.getId());
+        assertEquals("changed1-2", reloaded.getValue1());
+        assertEquals("changed66-2", reloaded.getValue66());
+        assertEquals("changed2", reloaded.getValue2());
+    }
+
+    @Test
+    public void testUpdateQueryCacheIsNotUsedForFullOrEntityFlushes() {
+        Assume.assumeFalse("Update queries of partial updates are cached with the query flush strategy", isQueryStrategy() && !isFullMode());
+        // Given
+        UpdatableWideView view = evm.find(em, UpdatableWideView.class, entity.getId());
+        view.setValue1("changed1");
+        update(view);
+        CacheStatistics statistics = getUpdateQueryCacheStatistics();
+
+        // When
+        view.setValue1("changed1-2");
+        update(view);
+
+        // Then
+        assertEquals(statistics.getHitCount(), getUpdateQueryCacheStatistics().getHitCount());
+        assertEquals(statistics.getMissCount(), getUpdateQueryCacheStatistics().getMissCount());
+        clearPersistenceContextAndReload();
+        assertEquals("changed1-2", evm.find(em, UpdatableWideView.class, entity.getId()).getValue1());
+    }
+
+    private CacheStatistics getUpdateQueryCacheStatistics() {
+        return evm.getCacheStatistics().get(EntityViewCacheFactory.UPDATE_QUERY_CACHE);
+    }
+
+    private int getDirtyStateIndex(String attributeName) {
+        return ((AbstractMethodAttribute<?, ?>) evm.getMetamodel().managedView(UpdatableWideView.class).getAttribute(attributeName)).getDirtyStateIndex();
+    }
+
+    @Override
+    protected AssertStatementBuilder fullFetch(AssertStatementBuilder builder) {
+        return builder.select(WideEntity.class);
+    }
+
+    @Override
+    protected AssertStatementBuilder versionUpdate(AssertStatementBuilder builder) {
+        return builder.update(WideEntity.class);
+    }
+}
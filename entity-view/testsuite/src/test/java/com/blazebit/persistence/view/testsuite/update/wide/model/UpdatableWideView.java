@@ -0,0 +1,307 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.view.testsuite.update.wide.model;
+
+import com.blazebit.persistence.view.EntityView;
+import com.blazebit.persistence.view.IdMapping;
+import com.blazebit.persistence.view.UpdatableEntityView;
+import com.blazebit.persistence.view.testsuite.entity.WideEntity;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+@UpdatableEntityView
+@EntityView(WideEntity.class)
+public interface UpdatableWideView {
+
+    @IdMapping
+    public Long getId();
+
+    public Long getVersion();
+
+    public String getValue0();
+
+    public void setValue0(String value0);
+
+    public String getValue1();
+
+    public void setValue1(String value1);
+
+    public String getValue2();
+
+    public void setValue2(String value2);
+
+    public String getValue3();
+
+    public void setValue3(String value3);
+
+    public String getValue4();
+
+    public void setValue4(String value4);
+
+    public String getValue5();
+
+    public void setValue5(String value5);
+
+    public String getValue6();
+
+    public void setValue6(String value6);
+
+    public String getValue7();
+
+    public void setValue7(String value7);
+
+    public String getValue8();
+
+    public void setValue8(String value8);
+
+    public String getValue9();
+
+    public void setValue9(String value9);
+
+    public String getValue10();
+
+    public void setValue10(String value10);
+
+    public String getValue11();
+
+    public void setValue11(String value11);
+
+    public String getValue12();
+
+    public void setValue12(String value12);
+
+    public String getValue13();
+
+    public void setValue13(String value13);
+
+    public String getValue14();
+
+    public void setValue14(String value14);
+
+    public String getValue15();
+
+    public void setValue15(String value15);
+
+    public String getValue16();
+
+    public void setValue16(String value16);
+
+    public String getValue17();
+
+    public void setValue17(String value17);
+
+    public String getValue18();
+
+    public void setValue18(String value18);
+
+    public String getValue19();
+
+    public void setValue19(String value19);
+
+    public String getValue20();
+
+    public void setValue20(String value20);
+
+    public String getValue21();
+
+    public void setValue21(String value21);
+
+    public String getValue22();
+
+    public void setValue22(String value22);
+
+    public String getValue23();
+
+    public void setValue23(String value23);
+
+    public String getValue24();
+
+    public void setValue24(String value24);
+
+    public String getValue25();
+
+    public void setValue25(String value25);
+
+    public String getValue26();
+
+    public void setValue26(String value26);
+
+    public String getValue27();
+
+    public void setValue27(String value27);
+
+    public String getValue28();
+
+    public void setValue28(String value28);
+
+    public String getValue29();
+
+    public void setValue29(String value29);
+
+    public String getValue30();
+
+    public void setValue30(String value30);
+
+    public String getValue31();
+
+    public void setValue31(String value31);
+
+    public String getValue32();
+
+    public void setValue32(String value32);
+
+    public String getValue33();
+
+    public void setValue33(String value33);
+
+    public String getValue34();
+
+    public void setValue34(String value34);
+
+    public String getValue35();
+
+    public void setValue35(String value35);
+
+    public String getValue36();
+
+    public void setValue36(String value36);
+
+    public String getValue37();
+
+    public void setValue37(String value37);
+
+    public String getValue38();
+
+    public void setValue38(String value38);
+
+    public String getValue39();
+
+    public void setValue39(String value39);
+
+    public String getValue40();
+
+    public void setValue40(String value40);
+
+    public String getValue41();
+
+    public void setValue41(String value41);
+
+    public String getValue42();
+
+    public void setValue42(String value42);
+
+    public String getValue43();
+
+    public void setValue43(String value43);
+
+    public String getValue44();
+
+    public void setValue44(String value44);
+
+    public String getValue45();
+
+    public void setValue45(String value45);
+
+    public String getValue46();
+
+    public void setValue46(String value46);
+
+    public String getValue47();
+
+    public void setValue47(String value47);
+
+    public String getValue48();
+
+    public void setValue48(String value48);
+
+    public String getValue49();
+
+    public void setValue49(String value49);
+
+    public String getValue50();
+
+    public void setValue50(String value50);
+
+    public String getValue51();
+
+    public void setValue51(String value51);
+
+    public String getValue52();
+
+    public void setValue52(String value52);
+
+    public String getValue53();
+
+    public void setValue53(String value53);
+
+    public String getValue54();
+
+    public void setValue54(String value54);
+
+    public String getValue55();
+
+    public void setValue55(String value55);
+
+    public String getValue56();
+
+    public void setValue56(String value56);
+
+    public String getValue57();
+
+    public void setValue57(String value57);
+
+    public String getValue58();
+
+    public void setValue58(String value58);
+
+    public String getValue59();
+
+    public void setValue59(String value59);
+
+    public String getValue60();
+
+    public void setValue60(String value60);
+
+    public String getValue61();
+
+    public void setValue61(String value61);
+
+    public String getValue62();
+
+    public void setValue62(String value62);
+
+    public String getValue63();
+
+    public void setValue63(String value63);
+
+    public String getValue64();
+
+    public void setValue64(String value64);
+
+    public String getValue65();
+
+    public void setValue65(String value65);
+
+    public String getValue66();
+
+    public void setValue66(String value66);
+
+    public String getValue67();
+
+    public void setValue67(String value67);
+
+    public String getValue68();
+
+    public void setValue68(String value68);
+
+    public String getValue69();
+
+    public void setValue69(String value69);
+
+}
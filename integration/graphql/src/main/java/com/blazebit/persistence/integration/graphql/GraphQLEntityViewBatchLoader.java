@@ -0,0 +1,174 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.integration.graphql;
+
+import com.blazebit.persistence.CriteriaBuilder;
+import com.blazebit.persistence.CriteriaBuilderFactory;
+import com.blazebit.persistence.view.EntityViewManager;
+import com.blazebit.persistence.view.EntityViewSetting;
+import com.blazebit.persistence.view.metamodel.MappingAttribute;
+import com.blazebit.persistence.view.metamodel.MethodAttribute;
+import com.blazebit.persistence.view.metamodel.ViewType;
+import com.blazebit.persistence.view.spi.type.EntityViewProxy;
+import org.dataloader.BatchLoader;
+
+import javax.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A {@link BatchLoader} that loads entity views by id with <code>IN</code> queries instead of one query per id.
+ * The ids are split into chunks of at most the configured batch size and every chunk is loaded with a single query.
+ * The resulting list contains the entity view for every requested id in the order of the ids, or <code>null</code> if no entity exists for an id.
+ * Numeric ids of a different type than the id attribute, like an {@link Integer} for a {@link Long} id, are converted if that is possible without loss,
+ * whereas other ids that don't match the id attribute type are rejected.
+ *
+ * Since the queries are executed with the given {@link EntityManager}, which is not thread safe, the batches are loaded in the thread
+ * that dispatches the data loader and the results are published through the returned {@link CompletionStage}.
+ *
+ * @param <K> The id type
+ * @param <T> The entity view type
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+public class GraphQLEntityViewBatchLoader<K, T> implements BatchLoader<K, T> {
+
+    private final EntityViewManager evm;
+    private final CriteriaBuilderFactory cbf;
+    private final EntityManager entityManager;
+    private final Class<T> entityViewClass;
+    private final Class<?> entityClass;
+    private final String idMapping;
+    private final Class<?> idType;
+    private final int batchSize;
+
+    /**
+     * Creates a new batch loader for the given entity view type.
+     *
+     * @param evm The entity view manager
+     * @param entityManager The entity manager to use for the queries
+     * @param entityViewClass The entity view type to load
+     * @param batchSize The maximum number of ids per query
+     */
+    public GraphQLEntityViewBatchLoader(EntityViewManager evm, EntityManager entityManager, Class<T> entityViewClass, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Invalid batch size: " + batchSize);
+        }
+        ViewType<T> viewType = evm.getMetamodel().view(entityViewClass);
+        if (viewType == null) {
+            throw new IllegalArgumentException("The class " + entityViewClass.getName() + " is not an entity view with an id attribute!");
+        }
+        MethodAttribute<? super T, ?> idAttribute = viewType.getIdAttribute();
+        if (!(idAttribute instanceof MappingAttribute<?, ?>)) {
+            throw new IllegalArgumentException("The id attribute " + idAttribute.getName() + " of the entity view " + entityViewClass.getName() + " is not a mapping attribute!");
+        }
+        this.evm = evm;
+        this.cbf = evm.getService(CriteriaBuilderFactory.class);
+        this.entityManager = entityManager;
+        this.entityViewClass = entityViewClass;
+        this.entityClass = viewType.getEntityClass();
+        this.idMapping = ((MappingAttribute<?, ?>) idAttribute).getMapping();
+        this.idType = boxed(idAttribute.getJavaType());
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public CompletionStage<List<T>> load(List<K> keys) {
+        CompletableFuture<List<T>> future = new CompletableFuture<>();
+        try {
+            future.complete(loadAll(keys));
+        } catch (RuntimeException ex) {
+            future.completeExceptionally(ex);
+        }
+        return future;
+    }
+
+    /**
+     * Loads the entity views for the given ids with one query per chunk of at most the configured batch size.
+     *
+     * @param keys The ids of the entity views to load
+     * @return The entity views in the order of the ids, <code>null</code> for ids that don't exist
+     * @throws IllegalArgumentException if an id can't be converted to the id type of the entity view
+     */
+    public List<T> loadAll(List<K> keys) {
+        List<Object> ids = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            ids.add(normalizeId(keys.get(i)));
+        }
+        Map<Object, T> views = new HashMap<>(ids.size());
+        for (int i = 0; i < ids.size(); i += batchSize) {
+            List<Object> chunk = ids.subList(i, Math.min(i + batchSize, ids.size()));
+            CriteriaBuilder<?> cb = cbf.create(entityManager, entityClass)
+                .where(idMapping).in(chunk);
+            List<T> resultList = evm.applySetting(EntityViewSetting.create(entityViewClass), cb).getResultList();
+            for (int j = 0; j < resultList.size(); j++) {
+                T view = resultList.get(j);
+                views.put(((EntityViewProxy) view).$$_getId(), view);
+            }
+        }
+        List<T> result = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            result.add(views.get(ids.get(i)));
+        }
+        return result;
+    }
+
+    private Object normalizeId(Object id) {
+        if (idType.isInstance(id)) {
+            return id;
+        }
+        if (id instanceof Number && Number.class.isAssignableFrom(idType)) {
+            try {
+                BigDecimal value = id instanceof BigDecimal ? (BigDecimal) id : new BigDecimal(id.toString());
+                if (idType == Long.class) {
+                    return value.longValueExact();
+                } else if (idType == Integer.class) {
+                    return value.intValueExact();
+                } else if (idType == Short.class) {
+                    return value.shortValueExact();
+                } else if (idType == Byte.class) {
+                    return value.byteValueExact();
+                } else if (idType == BigInteger.class) {
+                    return value.toBigIntegerExact();
+                } else if (idType == BigDecimal.class) {
+                    return value;
+                }
+            } catch (ArithmeticException | NumberFormatException ex) {
+                throw new IllegalArgumentException("The id " + id + " can't be converted to the id type " + idType.getName() + " of the entity view " + entityViewClass.getName() + "!", ex);
+            }
+        }
+        throw new IllegalArgumentException("The id " + id + (id == null ? "" : " of type " + id.getClass().getName()) + " does not match the id type " + idType.getName() + " of the entity view " + entityViewClass.getName() + "!");
+    }
+
+    private static Class<?> boxed(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return type;
+        } else if (type == long.class) {
+            return Long.class;
+        } else if (type == int.class) {
+            return Integer.class;
+        } else if (type == short.class) {
+            return Short.class;
+        } else if (type == byte.class) {
+            return Byte.class;
+        } else if (type == char.class) {
+            return Character.class;
+        } else if (type == boolean.class) {
+            return Boolean.class;
+        } else if (type == double.class) {
+            return Double.class;
+        } else if (type == float.class) {
+            return Float.class;
+        }
+        return type;
+    }
+}
@@ -13,6 +13,7 @@ import com.blazebit.persistence.KeysetPage;
 import com.blazebit.persistence.PagedList;
 import com.blazebit.persistence.PaginatedCriteriaBuilder;
 import com.blazebit.persistence.view.ConfigurationProperties;
+import com.blazebit.persistence.view.EntityViewManager;
 import com.blazebit.persistence.view.EntityViewSetting;
 import com.blazebit.persistence.view.metamodel.ManagedViewType;
 import com.blazebit.persistence.view.metamodel.ViewType;
@@ -36,23 +37,25 @@ import graphql.schema.GraphQLType;
 import graphql.schema.GraphQLUnionType;
 import graphql.schema.GraphQLUnmodifiedType;
 import graphql.schema.SelectedField;
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderFactory;
 
+import javax.persistence.EntityManager;
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
 
 import static graphql.schema.GraphQLTypeUtil.isLeaf;
 import static graphql.schema.GraphQLTypeUtil.unwrapAll;
@@ -101,6 +104,19 @@ public class GraphQLEntityViewSupport {
      * Default name for the total count field.
      */
     public static final String TOTAL_COUNT_NAME = "totalCount";
+    /**
+     * Default maximum number of ids that a data loader created via {@link #getDataLoader(DataFetchingEnvironment, EntityViewManager, EntityManager, Class)} loads with one query.
+     *
+     * @since 1.6.15
+     */
+    public static final int DEFAULT_DATA_LOADER_BATCH_SIZE = 100;
+    /**
+     * Default maximum number of selection sets for which the resolved fetches are cached.
+     *
+     * @since 1.6.15
+     */
+    public static final int DEFAULT_SELECTION_SET_FETCH_CACHE_SIZE = 512;
+    private static final String DATA_LOADER_KEY_PREFIX = "com.blazebit.persistence.integration.graphql.dataloader:";
 
     // GraphQL defines meta fields that can be used on any type: https://graphql.org/learn/queries/#meta-fields
     private static final Set<String> META_FIELDS = new HashSet<>(Arrays.asList("__typename"));
@@ -111,6 +127,8 @@ public class GraphQLEntityViewSupport {
     private final Set<String> serializableBasicTypes;
     private final ConcurrentMap<TypeRootCacheKey, GraphQLUnmodifiedType> typeReferenceCache = new ConcurrentHashMap<>();
     private final ConcurrentMap<String, String[]> selectedFieldCache = new ConcurrentHashMap<>();
+    private final SelectionSetFetchCache selectionSetFetchCache;
+    private final int dataLoaderBatchSize;
 
     private final String pageSizeName;
     private final String offsetName;
@@ -168,6 +186,22 @@ public class GraphQLEntityViewSupport {
         this(typeNameToViewType, typeNameToFieldMapping, typeNameToDefaultFetchMappings, serializableBasicTypes, PAGE_SIZE_NAME, OFFSET_NAME, BEFORE_CURSOR_NAME, AFTER_CURSOR_NAME, TOTAL_COUNT_NAME, EDGES_NAME, EDGE_NODE_NAME, EDGE_CURSOR_NAME);
     }
 
+    /**
+     * Creates a new {@link GraphQLEntityViewSupport} instance with the given type name to class mapping and serializable basic type whitelist.
+     * It uses the GraphQL Relay specification names for accessing page info fields for paginated settings.
+     *
+     * @param typeNameToViewType The mapping from GraphQL type names to entity view metamodels
+     * @param typeNameToFieldMapping The mapping from GraphQL type names to a map from GraphQL field name to entity view attribute name
+     * @param typeNameToDefaultFetchMappings The mapping from GraphQL type names to a list of default fetch mappings
+     * @param serializableBasicTypes The whitelist of allowed serializable basic types to use for cursor deserialization
+     * @param selectionSetFetchCacheSize The maximum number of selection sets for which the resolved fetches are cached, <code>0</code> disables the cache
+     * @param dataLoaderBatchSize The maximum number of ids that a data loader loads with one query
+     * @since 1.6.15
+     */
+    public GraphQLEntityViewSupport(Map<String, ManagedViewType<?>> typeNameToViewType, Map<String, Map<String, String>> typeNameToFieldMapping, Map<String, Set<DefaultFetchMapping>> typeNameToDefaultFetchMappings, Set<String> serializableBasicTypes, int selectionSetFetchCacheSize, int dataLoaderBatchSize) {
+        this(typeNameToViewType, typeNameToFieldMapping, typeNameToDefaultFetchMappings, serializableBasicTypes, PAGE_SIZE_NAME, OFFSET_NAME, BEFORE_CURSOR_NAME, AFTER_CURSOR_NAME, TOTAL_COUNT_NAME, EDGES_NAME, EDGE_NODE_NAME, EDGE_CURSOR_NAME, selectionSetFetchCacheSize, dataLoaderBatchSize);
+    }
+
     /**
      * Creates a new {@link GraphQLEntityViewSupport} instance with the given type name to class mapping and serializable basic type whitelist.
      *
@@ -226,6 +260,32 @@ public class GraphQLEntityViewSupport {
      * @param elementCursorName The name of the cursor field within elements
      */
     public GraphQLEntityViewSupport(Map<String, ManagedViewType<?>> typeNameToViewType, Map<String, Map<String, String>> typeNameToFieldMapping, Map<String, Set<DefaultFetchMapping>> typeNameToDefaultFetchMappings, Set<String> serializableBasicTypes, String pageSizeName, String offsetName, String beforeCursorName, String afterCursorName, String totalCountName, String pageElementsName, String pageElementObjectName, String elementCursorName) {
+        this(typeNameToViewType, typeNameToFieldMapping, typeNameToDefaultFetchMappings, serializableBasicTypes, pageSizeName, offsetName, beforeCursorName, afterCursorName, totalCountName, pageElementsName, pageElementObjectName, elementCursorName, DEFAULT_SELECTION_SET_FETCH_CACHE_SIZE, DEFAULT_DATA_LOADER_BATCH_SIZE);
+    }
+
+    /**
+     * Creates a new {@link GraphQLEntityViewSupport} instance with the given type name to class mapping and serializable basic type whitelist.
+     *
+     * @param typeNameToViewType The mapping from GraphQL type names to entity view metamodels
+     * @param typeNameToFieldMapping The mapping from GraphQL type names to a map from GraphQL field name to entity view attribute name
+     * @param typeNameToDefaultFetchMappings The mapping from GraphQL type names to a list of default fetch mappings
+     * @param serializableBasicTypes The whitelist of allowed serializable basic types to use for cursor deserialization
+     * @param pageSizeName The name of the page size field
+     * @param offsetName The name of the offset field
+     * @param beforeCursorName The name of the beforeCursor field
+     * @param afterCursorName The name of the afterCursor field
+     * @param totalCountName The name of the totalCount field
+     * @param pageElementsName The name of the elements field
+     * @param pageElementObjectName The name of the element object field within elements
+     * @param elementCursorName The name of the cursor field within elements
+     * @param selectionSetFetchCacheSize The maximum number of selection sets for which the resolved fetches are cached, <code>0</code> disables the cache
+     * @param dataLoaderBatchSize The maximum number of ids that a data loader loads with one query
+     * @since 1.6.15
+     */
+    public GraphQLEntityViewSupport(Map<String, ManagedViewType<?>> typeNameToViewType, Map<String, Map<String, String>> typeNameToFieldMapping, Map<String, Set<DefaultFetchMapping>> typeNameToDefaultFetchMappings, Set<String> serializableBasicTypes, String pageSizeName, String offsetName, String beforeCursorName, String afterCursorName, String totalCountName, String pageElementsName, String pageElementObjectName, String elementCursorName, int selectionSetFetchCacheSize, int dataLoaderBatchSize) {
+        if (selectionSetFetchCacheSize < 0) {
+            throw new IllegalArgumentException("Invalid selection set fetch cache size: " + selectionSetFetchCacheSize);
+        }
         this.pageSizeName = pageSizeName;
         this.offsetName = offsetName;
         this.beforeCursorName = beforeCursorName;
@@ -238,6 +298,8 @@ public class GraphQLEntityViewSupport {
         this.serializableBasicTypes = serializableBasicTypes;
         this.pageElementObjectName = pageElementObjectName;
         this.elementCursorName = elementCursorName;
+        this.selectionSetFetchCache = selectionSetFetchCacheSize == 0 ? null : new SelectionSetFetchCache(selectionSetFetchCacheSize);
+        this.dataLoaderBatchSize = dataLoaderBatchSize;
     }
 
     /**
@@ -638,6 +700,7 @@ public class GraphQLEntityViewSupport {
     /**
      * Applies the fetches to the {@link EntityViewSetting} as requested by the selection set of {@link DataFetchingEnvironment}
      * and interpreting the only paths below the given element root.
+     * Unless disabled, the resolved fetches are cached per entity view type and selection set.
      *
      * @param dataFetchingEnvironment The GraphQL data fetching environment
      * @param setting The entity view setting
@@ -645,15 +708,32 @@ public class GraphQLEntityViewSupport {
      */
     public void applyFetches(DataFetchingEnvironment dataFetchingEnvironment, EntityViewSetting<?, ?> setting, String elementRoot) {
         DataFetchingFieldSelectionSet selectionSet = dataFetchingEnvironment.getSelectionSet();
+        String[] fetches;
+        if (selectionSetFetchCache == null) {
+            fetches = resolveFetches(dataFetchingEnvironment, selectionSet, elementRoot);
+        } else {
+            String typeName = unwrapAll(dataFetchingEnvironment.getFieldDefinition().getType()).getName();
+            SelectionSetFetchCache.Key cacheKey = new SelectionSetFetchCache.Key(setting.getEntityViewClass(), typeName, elementRoot, selectionSet.getFields());
+            fetches = selectionSetFetchCache.get(cacheKey);
+            if (fetches == null) {
+                fetches = resolveFetches(dataFetchingEnvironment, selectionSet, elementRoot);
+                selectionSetFetchCache.put(cacheKey, fetches);
+            }
+        }
+        for (String fetch : fetches) {
+            setting.fetch(fetch);
+        }
+    }
+
+    private String[] resolveFetches(DataFetchingEnvironment dataFetchingEnvironment, DataFetchingFieldSelectionSet selectionSet, String elementRoot) {
         GraphQLSchema graphQLSchema = dataFetchingEnvironment.getGraphQLSchema();
+        Set<String> resolvedFetchSet = new LinkedHashSet<>();
         OUTER:
         for (SelectedField field : selectionSet.getFields()) {
             String fqFieldName = field.getFullyQualifiedName();
             String[] resolvedFetches = selectedFieldCache.get(fqFieldName);
             if (resolvedFetches != null) {
-                for (String resolvedFetch : resolvedFetches) {
-                    setting.fetch(resolvedFetch);
-                }
+                Collections.addAll(resolvedFetchSet, resolvedFetches);
                 continue;
             }
             if (!isLeaf(field.getType())) {
@@ -758,17 +838,16 @@ public class GraphQLEntityViewSupport {
             }
             if (!fetch.isEmpty()) {
                 if (fetches == null) {
-                    setting.fetch(fetch);
+                    resolvedFetchSet.add(fetch);
                     selectedFieldCache.putIfAbsent(fqFieldName, new String[]{ fetch });
                 } else {
                     fetches.add(fetch);
-                    for (String f : fetches) {
-                        setting.fetch(f);
-                    }
+                    resolvedFetchSet.addAll(fetches);
                     selectedFieldCache.putIfAbsent(fqFieldName, fetches.toArray(new String[0]));
                 }
             }
         }
+        return resolvedFetchSet.toArray(new String[resolvedFetchSet.size()]);
     }
 
     private SelectedField getSelectedField(List<SelectedField> fields, String qualifiedName) {
@@ -822,16 +901,25 @@ public class GraphQLEntityViewSupport {
 
     /**
      * Deserializes the given Base64 encoded cursor to a {@link GraphQLCursor} object.
+     * Cursors in the Java serialization based format of earlier versions can still be read.
      *
      * @param beforeCursor The Base64 encoded cursor
      * @return a new cursor
      */
     protected GraphQLCursor deserialize(String beforeCursor) {
-        try (ObjectInputStream ois = new GraphQLCursorObjectInputStream(Base64.getDecoder().wrap(new ByteArrayInputStream(beforeCursor.getBytes())), serializableBasicTypes)) {
-            int offset = ois.read();
-            int pageSize = ois.read();
-            Serializable[] tuple = (Serializable[]) ois.readObject();
-            return new GraphQLCursor(offset, pageSize, tuple);
+        try {
+            byte[] bytes = Base64.getDecoder().decode(beforeCursor);
+            if (bytes.length > 1 && bytes[0] == (byte) 0xAC && bytes[1] == (byte) 0xED) {
+                // The Java serialization stream magic, so this is a cursor that was created by an earlier version
+                try (ObjectInputStream ois = new GraphQLCursorObjectInputStream(new ByteArrayInputStream(bytes), serializableBasicTypes)) {
+                    int offset = ois.read();
+                    int pageSize = ois.read();
+                    Serializable[] tuple = (Serializable[]) ois.readObject();
+                    return new GraphQLCursor(offset, pageSize, tuple);
+                }
+            }
+            KeysetCursorCodec.Cursor cursor = KeysetCursorCodec.decode(bytes, serializableBasicTypes);
+            return new GraphQLCursor(cursor.getOffset(), cursor.getPageSize(), cursor.getTuple());
         } catch (Exception e) {
             throw new RuntimeException("Couldn't read cursor", e);
         }
@@ -846,15 +934,7 @@ public class GraphQLEntityViewSupport {
      * @return the serialized form of the cursor
      */
     protected byte[] serializeCursor(int offset, int pageSize, Serializable[] tuple) {
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
-            oos.write(offset);
-            oos.write(pageSize);
-            oos.writeObject(tuple);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
-        return baos.toByteArray();
+        return KeysetCursorCodec.encode(offset, pageSize, tuple);
     }
 
     /**
@@ -871,6 +951,30 @@ public class GraphQLEntityViewSupport {
         return entityViewClass.getJavaType();
     }
 
+    /**
+     * Returns the data loader for the given entity view type from the data loader registry of the GraphQL execution,
+     * registering a new {@link GraphQLEntityViewBatchLoader} based data loader if none exists yet.
+     * Since the registry is scoped to an execution, the ids requested through the data loader for nested fields of all elements
+     * are collected and loaded with <code>IN</code> queries of at most the configured batch size of ids when the data loader is dispatched.
+     *
+     * @param dataFetchingEnvironment The GraphQL data fetching environment
+     * @param evm The entity view manager
+     * @param entityManager The entity manager to use for loading
+     * @param entityViewClass The entity view type to load
+     * @param <K> The id type
+     * @param <T> The entity view type
+     * @return the data loader
+     * @since 1.6.15
+     */
+    public <K, T> DataLoader<K, T> getDataLoader(DataFetchingEnvironment dataFetchingEnvironment, final EntityViewManager evm, final EntityManager entityManager, final Class<T> entityViewClass) {
+        return dataFetchingEnvironment.getDataLoaderRegistry().computeIfAbsent(DATA_LOADER_KEY_PREFIX + entityViewClass.getName(), new Function<String, DataLoader<?, ?>>() {
+            @Override
+            public DataLoader<?, ?> apply(String key) {
+                return DataLoaderFactory.newDataLoader(new GraphQLEntityViewBatchLoader<K, T>(evm, entityManager, entityViewClass, dataLoaderBatchSize));
+            }
+        });
+    }
+
     /**
      * @author Christian Beikov
      * @since 1.6.2
@@ -151,6 +151,8 @@ public class GraphQLEntityViewSupportFactory {
     private Pattern typeFilterPattern;
     private Map<String, GraphQLScalarType> scalarTypeMap;
     private Set<String> registeredScalarTypeNames;
+    private int selectionSetFetchCacheSize = GraphQLEntityViewSupport.DEFAULT_SELECTION_SET_FETCH_CACHE_SIZE;
+    private int dataLoaderBatchSize = GraphQLEntityViewSupport.DEFAULT_DATA_LOADER_BATCH_SIZE;
 
     /**
      * Creates a new entity view support factory with the given configuration.
@@ -319,6 +321,53 @@ public class GraphQLEntityViewSupportFactory {
         this.typeFilterPattern = typeFilterPattern;
     }
 
+    /**
+     * Returns the maximum number of selection sets for which the created {@link GraphQLEntityViewSupport} caches the resolved fetches.
+     *
+     * @return the maximum number of cached selection sets
+     * @since 1.6.15
+     */
+    public int getSelectionSetFetchCacheSize() {
+        return selectionSetFetchCacheSize;
+    }
+
+    /**
+     * Sets the maximum number of selection sets for which the created {@link GraphQLEntityViewSupport} caches the resolved fetches.
+     * A value of <code>0</code> disables the cache.
+     *
+     * @param selectionSetFetchCacheSize the maximum number of cached selection sets
+     * @since 1.6.15
+     */
+    public void setSelectionSetFetchCacheSize(int selectionSetFetchCacheSize) {
+        if (selectionSetFetchCacheSize < 0) {
+            throw new IllegalArgumentException("Invalid selection set fetch cache size: " + selectionSetFetchCacheSize);
+        }
+        this.selectionSetFetchCacheSize = selectionSetFetchCacheSize;
+    }
+
+    /**
+     * Returns the maximum number of ids that the data loaders of the created {@link GraphQLEntityViewSupport} load with one query.
+     *
+     * @return the data loader batch size
+     * @since 1.6.15
+     */
+    public int getDataLoaderBatchSize() {
+        return dataLoaderBatchSize;
+    }
+
+    /**
+     * Sets the maximum number of ids that the data loaders of the created {@link GraphQLEntityViewSupport} load with one query.
+     *
+     * @param dataLoaderBatchSize the data loader batch size
+     * @since 1.6.15
+     */
+    public void setDataLoaderBatchSize(int dataLoaderBatchSize) {
+        if (dataLoaderBatchSize < 1) {
+            throw new IllegalArgumentException("Invalid data loader batch size: " + dataLoaderBatchSize);
+        }
+        this.dataLoaderBatchSize = dataLoaderBatchSize;
+    }
+
     /**
      * Returns a new {@link GraphQLEntityViewSupport} after registering the entity view types from {@link EntityViewManager}
      * on the given {@link TypeDefinitionRegistry}.
@@ -472,7 +521,7 @@ public class GraphQLEntityViewSupportFactory {
 
         serializableBasicTypes.add(Serializable[].class.getName());
         serializableBasicTypes.add(GraphQLCursor.class.getName());
-        return new GraphQLEntityViewSupport(typeNameToViewType, typeNameToFieldMapping, typeNameToDefaultFetchMappings, serializableBasicTypes);
+        return new GraphQLEntityViewSupport(typeNameToViewType, typeNameToFieldMapping, typeNameToDefaultFetchMappings, serializableBasicTypes, selectionSetFetchCacheSize, dataLoaderBatchSize);
     }
 
     /**
@@ -713,7 +762,7 @@ public class GraphQLEntityViewSupportFactory {
                 schemaBuilder.additionalType(additionalType);
             }
         }
-        return new GraphQLEntityViewSupport(typeNameToViewType, typeNameToFieldMapping, typeNameToDefaultFetchMappings, serializableBasicTypes);
+        return new GraphQLEntityViewSupport(typeNameToViewType, typeNameToFieldMapping, typeNameToDefaultFetchMappings, serializableBasicTypes, selectionSetFetchCacheSize, dataLoaderBatchSize);
     }
 
     private ArrayList<ManagedViewType<?>> determineViewsForSchema(EntityViewManager entityViewManager) {
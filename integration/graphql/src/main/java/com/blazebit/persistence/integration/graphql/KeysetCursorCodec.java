@@ -0,0 +1,560 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.integration.graphql;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Encodes and decodes keyset cursors, consisting of offset, page size and keyset tuple, in a compact and versioned binary format.
+ * Offset and page size are encoded as variable length integers and the tuple elements are encoded with a type tag followed by a compact
+ * binary representation for common basic types. Elements of other types are encoded with Java serialization
+ * and are only decoded if the type is contained in the set of allowed serializable types passed to {@link #decode(byte[], Set)}.
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+public final class KeysetCursorCodec {
+
+    /**
+     * The version of the binary format that is written as first byte.
+     */
+    public static final byte VERSION = 1;
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte INTEGER = 2;
+    private static final byte LONG = 3;
+    private static final byte SHORT = 4;
+    private static final byte BYTE = 5;
+    private static final byte TRUE = 6;
+    private static final byte FALSE = 7;
+    private static final byte CHARACTER = 8;
+    private static final byte DOUBLE = 9;
+    private static final byte FLOAT = 10;
+    private static final byte BIG_INTEGER = 11;
+    private static final byte BIG_DECIMAL = 12;
+    private static final byte UUID_TYPE = 13;
+    private static final byte DATE = 14;
+    private static final byte SQL_DATE = 15;
+    private static final byte SQL_TIME = 16;
+    private static final byte SQL_TIMESTAMP = 17;
+    private static final byte INSTANT = 18;
+    private static final byte LOCAL_DATE = 19;
+    private static final byte LOCAL_DATE_TIME = 20;
+    private static final byte LOCAL_TIME = 21;
+    private static final byte OFFSET_DATE_TIME = 22;
+    private static final byte SERIALIZED = 127;
+
+    private KeysetCursorCodec() {
+    }
+
+    /**
+     * Encodes the given cursor components.
+     *
+     * @param offset The offset
+     * @param pageSize The page size
+     * @param tuple The keyset tuple, may be <code>null</code>
+     * @return the encoded cursor
+     */
+    public static byte[] encode(int offset, int pageSize, Serializable[] tuple) {
+        Output output = new Output(tuple == null ? 16 : 16 + tuple.length * 10);
+        output.writeByte(VERSION);
+        output.writeVarInt(offset);
+        output.writeVarInt(pageSize);
+        if (tuple == null) {
+            output.writeVarInt(0);
+        } else {
+            output.writeVarInt(tuple.length + 1);
+            for (int i = 0; i < tuple.length; i++) {
+                writeValue(output, tuple[i]);
+            }
+        }
+        return output.toByteArray();
+    }
+
+    /**
+     * Decodes the given encoded cursor.
+     *
+     * @param bytes The encoded cursor
+     * @param serializableTypes The fully qualified class names of the types that are allowed to be decoded with Java serialization
+     * @return the decoded cursor
+     * @throws IllegalArgumentException If the given bytes are not a valid encoded cursor or contain a disallowed type
+     */
+    public static Cursor decode(byte[] bytes, Set<String> serializableTypes) {
+        if (bytes.length == 0 || bytes[0] != VERSION) {
+            throw new IllegalArgumentException("Unsupported cursor format version: " + (bytes.length == 0 ? "none" : bytes[0]));
+        }
+        Input input = new Input(bytes);
+        try {
+            int offset = input.readVarInt();
+            int pageSize = input.readVarInt();
+            int tupleSize = input.readVarInt();
+            Serializable[] tuple;
+            if (tupleSize == 0) {
+                tuple = null;
+            } else {
+                // Every element needs at least one byte for the type tag, so reject sizes that can't be backed by the remaining bytes
+                if (tupleSize - 1 > bytes.length - input.position) {
+                    throw new IllegalArgumentException("Invalid cursor tuple size: " + (tupleSize - 1));
+                }
+                tuple = new Serializable[tupleSize - 1];
+                for (int i = 0; i < tuple.length; i++) {
+                    tuple[i] = readValue(input, serializableTypes);
+                }
+            }
+            if (input.position != bytes.length) {
+                throw new IllegalArgumentException("Unexpected trailing data in cursor at: " + input.position);
+            }
+            return new Cursor(offset, pageSize, tuple);
+        } catch (ArrayIndexOutOfBoundsException | NegativeArraySizeException ex) {
+            throw new IllegalArgumentException("Truncated cursor", ex);
+        }
+    }
+
+    private static void writeValue(Output output, Serializable value) {
+        if (value == null) {
+            output.writeByte(NULL);
+            return;
+        }
+        Class<?> valueClass = value.getClass();
+        if (valueClass == String.class) {
+            output.writeByte(STRING);
+            output.writeString((String) value);
+        } else if (valueClass == Long.class) {
+            output.writeByte(LONG);
+            output.writeZigZagLong((Long) value);
+        } else if (valueClass == Integer.class) {
+            output.writeByte(INTEGER);
+            output.writeZigZagLong((Integer) value);
+        } else if (valueClass == Short.class) {
+            output.writeByte(SHORT);
+            output.writeZigZagLong((Short) value);
+        } else if (valueClass == Byte.class) {
+            output.writeByte(BYTE);
+            output.writeByte((Byte) value);
+        } else if (valueClass == Boolean.class) {
+            output.writeByte((Boolean) value ? TRUE : FALSE);
+        } else if (valueClass == Character.class) {
+            output.writeByte(CHARACTER);
+            output.writeVarInt((Character) value);
+        } else if (valueClass == Double.class) {
+            output.writeByte(DOUBLE);
+            output.writeFixedLong(Double.doubleToRawLongBits((Double) value));
+        } else if (valueClass == Float.class) {
+            output.writeByte(FLOAT);
+            output.writeFixedInt(Float.floatToRawIntBits((Float) value));
+        } else if (valueClass == BigInteger.class) {
+            output.writeByte(BIG_INTEGER);
+            output.writeBytes(((BigInteger) value).toByteArray());
+        } else if (valueClass == BigDecimal.class) {
+            BigDecimal bigDecimal = (BigDecimal) value;
+            output.writeByte(BIG_DECIMAL);
+            output.writeZigZagLong(bigDecimal.scale());
+            output.writeBytes(bigDecimal.unscaledValue().toByteArray());
+        } else if (valueClass == UUID.class) {
+            UUID uuid = (UUID) value;
+            output.writeByte(UUID_TYPE);
+            output.writeFixedLong(uuid.getMostSignificantBits());
+            output.writeFixedLong(uuid.getLeastSignificantBits());
+        } else if (valueClass == Date.class) {
+            output.writeByte(DATE);
+            output.writeZigZagLong(((Date) value).getTime());
+        } else if (valueClass == java.sql.Date.class) {
+            output.writeByte(SQL_DATE);
+            output.writeZigZagLong(((java.sql.Date) value).getTime());
+        } else if (valueClass == java.sql.Time.class) {
+            output.writeByte(SQL_TIME);
+            output.writeZigZagLong(((java.sql.Time) value).getTime());
+        } else if (valueClass == java.sql.Timestamp.class) {
+            java.sql.Timestamp timestamp = (java.sql.Timestamp) value;
+            output.writeByte(SQL_TIMESTAMP);
+            output.writeZigZagLong(timestamp.getTime());
+            output.writeVarInt(timestamp.getNanos());
+        } else if (valueClass == Instant.class) {
+            Instant instant = (Instant) value;
+            output.writeByte(INSTANT);
+            output.writeZigZagLong(instant.getEpochSecond());
+            output.writeVarInt(instant.getNano());
+        } else if (valueClass == LocalDate.class) {
+            output.writeByte(LOCAL_DATE);
+            output.writeZigZagLong(((LocalDate) value).toEpochDay());
+        } else if (valueClass == LocalDateTime.class) {
+            LocalDateTime localDateTime = (LocalDateTime) value;
+            output.writeByte(LOCAL_DATE_TIME);
+            output.writeZigZagLong(localDateTime.toLocalDate().toEpochDay());
+            output.writeVarLong(localDateTime.toLocalTime().toNanoOfDay());
+        } else if (valueClass == LocalTime.class) {
+            output.writeByte(LOCAL_TIME);
+            output.writeVarLong(((LocalTime) value).toNanoOfDay());
+        } else if (valueClass == OffsetDateTime.class) {
+            OffsetDateTime offsetDateTime = (OffsetDateTime) value;
+            output.writeByte(OFFSET_DATE_TIME);
+            output.writeZigZagLong(offsetDateTime.toLocalDate().toEpochDay());
+            output.writeVarLong(offsetDateTime.toLocalTime().toNanoOfDay());
+            output.writeZigZagLong(offsetDateTime.getOffset().getTotalSeconds());
+        } else {
+            output.writeByte(SERIALIZED);
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+                oos.writeObject(value);
+            } catch (IOException e) {
+                throw new IllegalArgumentException("Couldn't serialize cursor value of type: " + valueClass.getName(), e);
+            }
+            output.writeBytes(baos.toByteArray());
+        }
+    }
+
+    private static Serializable readValue(Input input, Set<String> serializableTypes) {
+        byte tag = input.readByte();
+        switch (tag) {
+            case NULL:
+                return null;
+            case STRING:
+                return input.readString();
+            case INTEGER:
+                return (int) input.readZigZagLong();
+            case LONG:
+                return input.readZigZagLong();
+            case SHORT:
+                return (short) input.readZigZagLong();
+            case BYTE:
+                return input.readByte();
+            case TRUE:
+                return Boolean.TRUE;
+            case FALSE:
+                return Boolean.FALSE;
+            case CHARACTER:
+                return (char) input.readVarInt();
+            case DOUBLE:
+                return Double.longBitsToDouble(input.readFixedLong());
+            case FLOAT:
+                return Float.intBitsToFloat(input.readFixedInt());
+            case BIG_INTEGER:
+                return new BigInteger(input.readBytes());
+            case BIG_DECIMAL:
+                int scale = (int) input.readZigZagLong();
+                return new BigDecimal(new BigInteger(input.readBytes()), scale);
+            case UUID_TYPE:
+                return new UUID(input.readFixedLong(), input.readFixedLong());
+            case DATE:
+                return new Date(input.readZigZagLong());
+            case SQL_DATE:
+                return new java.sql.Date(input.readZigZagLong());
+            case SQL_TIME:
+                return new java.sql.Time(input.readZigZagLong());
+            case SQL_TIMESTAMP:
+                java.sql.Timestamp timestamp = new java.sql.Timestamp(input.readZigZagLong());
+                timestamp.setNanos(input.readVarInt());
+                return timestamp;
+            case INSTANT:
+                long epochSecond = input.readZigZagLong();
+                return Instant.ofEpochSecond(epochSecond, input.readVarInt());
+            case LOCAL_DATE:
+                return LocalDate.ofEpochDay(input.readZigZagLong());
+            case LOCAL_DATE_TIME:
+                LocalDate localDate = LocalDate.ofEpochDay(input.readZigZagLong());
+                return LocalDateTime.of(localDate, LocalTime.ofNanoOfDay(input.readVarLong()));
+            case LOCAL_TIME:
+                return LocalTime.ofNanoOfDay(input.readVarLong());
+            case OFFSET_DATE_TIME:
+                LocalDate date = LocalDate.ofEpochDay(input.readZigZagLong());
+                LocalTime time = LocalTime.ofNanoOfDay(input.readVarLong());
+                return OffsetDateTime.of(date, time, ZoneOffset.ofTotalSeconds((int) input.readZigZagLong()));
+            case SERIALIZED:
+                try (ObjectInputStream ois = new AllowedTypesObjectInputStream(new ByteArrayInputStream(input.readBytes()), serializableTypes)) {
+                    return (Serializable) ois.readObject();
+                } catch (IOException | ClassNotFoundException e) {
+                    throw new IllegalArgumentException("Couldn't deserialize cursor value", e);
+                }
+            default:
+                throw new IllegalArgumentException("Unknown cursor value type tag " + tag + " at: " + (input.position - 1));
+        }
+    }
+
+    /**
+     * A decoded keyset cursor.
+     *
+     * @author Christian Beikov
+     * @since 1.6.15
+     */
+    public static final class Cursor {
+
+        private final int offset;
+        private final int pageSize;
+        private final Serializable[] tuple;
+
+        private Cursor(int offset, int pageSize, Serializable[] tuple) {
+            this.offset = offset;
+            this.pageSize = pageSize;
+            this.tuple = tuple;
+        }
+
+        /**
+         * The offset for which the cursor was created.
+         *
+         * @return the offset
+         */
+        public int getOffset() {
+            return offset;
+        }
+
+        /**
+         * The page size for which the cursor was created.
+         *
+         * @return the page size
+         */
+        public int getPageSize() {
+            return pageSize;
+        }
+
+        /**
+         * The keyset tuple of the cursor or <code>null</code>.
+         *
+         * @return the tuple
+         */
+        public Serializable[] getTuple() {
+            return tuple;
+        }
+    }
+
+    /**
+     * @author Christian Beikov
+     * @since 1.6.15
+     */
+    private static final class Output {
+
+        private byte[] buffer;
+        private int position;
+
+        public Output(int initialCapacity) {
+            this.buffer = new byte[initialCapacity];
+        }
+
+        private void ensureCapacity(int additional) {
+            if (position + additional > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, position + additional));
+            }
+        }
+
+        public void writeByte(int b) {
+            ensureCapacity(1);
+            buffer[position++] = (byte) b;
+        }
+
+        public void writeVarInt(int value) {
+            ensureCapacity(5);
+            while ((value & ~0x7F) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        public void writeVarLong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        public void writeZigZagLong(long value) {
+            writeVarLong((value << 1) ^ (value >> 63));
+        }
+
+        public void writeFixedInt(int value) {
+            ensureCapacity(4);
+            for (int shift = 24; shift >= 0; shift -= 8) {
+                buffer[position++] = (byte) (value >>> shift);
+            }
+        }
+
+        public void writeFixedLong(long value) {
+            ensureCapacity(8);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                buffer[position++] = (byte) (value >>> shift);
+            }
+        }
+
+        public void writeBytes(byte[] bytes) {
+            writeVarInt(bytes.length);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        public void writeString(String string) {
+            int length = string.length();
+            int utf8Length = 0;
+            for (int i = 0; i < length; i++) {
+                char c = string.charAt(i);
+                if (c < 0x80) {
+                    utf8Length++;
+                } else if (c < 0x800) {
+                    utf8Length += 2;
+                } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(string.charAt(i + 1))) {
+                    utf8Length += 4;
+                    i++;
+                } else if (Character.isSurrogate(c)) {
+                    // Unpaired surrogates are replaced with '?' like String.getBytes does
+                    utf8Length++;
+                } else {
+                    utf8Length += 3;
+                }
+            }
+            writeVarInt(utf8Length);
+            ensureCapacity(utf8Length);
+            for (int i = 0; i < length; i++) {
+                char c = string.charAt(i);
+                if (c < 0x80) {
+                    buffer[position++] = (byte) c;
+                } else if (c < 0x800) {
+                    buffer[position++] = (byte) (0xC0 | (c >> 6));
+                    buffer[position++] = (byte) (0x80 | (c & 0x3F));
+                } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(string.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, string.charAt(++i));
+                    buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+                    buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+                } else if (Character.isSurrogate(c)) {
+                    buffer[position++] = '?';
+                } else {
+                    buffer[position++] = (byte) (0xE0 | (c >> 12));
+                    buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                    buffer[position++] = (byte) (0x80 | (c & 0x3F));
+                }
+            }
+        }
+
+        public byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+    }
+
+    /**
+     * @author Christian Beikov
+     * @since 1.6.15
+     */
+    private static final class Input {
+
+        private final byte[] buffer;
+        // Skip the version
+        private int position = 1;
+
+        public Input(byte[] buffer) {
+            this.buffer = buffer;
+        }
+
+        public byte readByte() {
+            return buffer[position++];
+        }
+
+        public int readVarInt() {
+            long value = readVarLong();
+            if (value < 0 || value > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Invalid variable length integer before: " + position);
+            }
+            return (int) value;
+        }
+
+        public long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = buffer[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Invalid variable length integer before: " + position);
+        }
+
+        public long readZigZagLong() {
+            long value = readVarLong();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        public int readFixedInt() {
+            int value = 0;
+            for (int i = 0; i < 4; i++) {
+                value = (value << 8) | (buffer[position++] & 0xFF);
+            }
+            return value;
+        }
+
+        public long readFixedLong() {
+            long value = 0;
+            for (int i = 0; i < 8; i++) {
+                value = (value << 8) | (buffer[position++] & 0xFF);
+            }
+            return value;
+        }
+
+        public byte[] readBytes() {
+            int length = readVarInt();
+            if (length > buffer.length - position) {
+                throw new ArrayIndexOutOfBoundsException(position + length);
+            }
+            byte[] bytes = Arrays.copyOfRange(buffer, position, position + length);
+            position += length;
+            return bytes;
+        }
+
+        public String readString() {
+            int length = readVarInt();
+            if (length > buffer.length - position) {
+                throw new ArrayIndexOutOfBoundsException(position + length);
+            }
+            String string = new String(buffer, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return string;
+        }
+    }
+
+    /**
+     * @author Christian Beikov
+     * @since 1.6.15
+     */
+    private static final class AllowedTypesObjectInputStream extends ObjectInputStream {
+
+        private final Set<String> serializableTypes;
+
+        public AllowedTypesObjectInputStream(InputStream in, Set<String> serializableTypes) throws IOException {
+            super(in);
+            this.serializableTypes = serializableTypes;
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            if (serializableTypes.contains(desc.getName())) {
+                return super.resolveClass(desc);
+            }
+            throw new IllegalArgumentException("Illegal attempt to deserialize disallowed type: " + desc.getName());
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.integration.graphql;
+
+import graphql.schema.SelectedField;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A size bounded LRU cache for the entity view fetches resolved from a GraphQL selection set.
+ *
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+final class SelectionSetFetchCache {
+
+    private final Map<Key, String[]> cache;
+
+    /**
+     * Creates a new cache that holds at most the given number of selection sets.
+     *
+     * @param maximumSize The maximum number of cached selection sets, must be at least 1
+     */
+    public SelectionSetFetchCache(final int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Invalid selection set fetch cache size: " + maximumSize);
+        }
+        this.cache = new LinkedHashMap<Key, String[]>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, String[]> eldest) {
+                return size() > maximumSize;
+            }
+        };
+    }
+
+    public String[] get(Key key) {
+        synchronized (cache) {
+            return cache.get(key);
+        }
+    }
+
+    public void put(Key key, String[] fetches) {
+        synchronized (cache) {
+            cache.put(key, fetches);
+        }
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    /**
+     * The key of a selection set which is made up of the entity view type, the name of the GraphQL type of the field,
+     * the element root and the fully qualified names of the selected fields in a normalized order.
+     *
+     * @author Christian Beikov
+     * @since 1.6.15
+     */
+    static final class Key {
+        private final Class<?> entityViewClass;
+        private final String typeName;
+        private final String root;
+        private final String[] fieldNames;
+        private final int hash;
+
+        public Key(Class<?> entityViewClass, String typeName, String root, List<SelectedField> fields) {
+            this.entityViewClass = entityViewClass;
+            this.typeName = typeName;
+            this.root = root;
+            String[] fieldNames = new String[fields.size()];
+            for (int i = 0; i < fieldNames.length; i++) {
+                fieldNames[i] = fields.get(i).getFullyQualifiedName();
+            }
+            // Selection sets that only differ in the order of the fields resolve to the same fetches
+            Arrays.sort(fieldNames);
+            this.fieldNames = fieldNames;
+            int hash = entityViewClass.hashCode();
+            hash = 31 * hash + typeName.hashCode();
+            hash = 31 * hash + root.hashCode();
+            hash = 31 * hash + Arrays.hashCode(fieldNames);
+            this.hash = hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) o;
+            return hash == that.hash
+                && entityViewClass.equals(that.entityViewClass)
+                && typeName.equals(that.typeName)
+                && root.equals(that.root)
+                && Arrays.equals(fieldNames, that.fieldNames);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -5,6 +5,7 @@
 
 package com.blazebit.persistence.integration.graphql;
 
+import com.blazebit.persistence.view.metamodel.ManagedViewType;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -12,9 +13,15 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author Christian Beikov
@@ -59,4 +66,87 @@ public class GraphQLDeserializerTest {
             Assert.assertEquals("Illegal attempt to deserialize disallowed type: java.util.UUID", ex.getMessage());
         }
     }
+
+    @Test
+    public void testCursorRoundTrip() {
+        Set<String> allowedTypes = new HashSet<>();
+        GraphQLEntityViewSupport support = new GraphQLEntityViewSupport(Collections.<String, ManagedViewType<?>>emptyMap(), allowedTypes);
+        Serializable[] tuple = new Serializable[]{ 1L, "abc", null, UUID.randomUUID(), LocalDateTime.of(2024, 1, 2, 3, 4, 5, 6), new BigDecimal("-1.50") };
+
+        byte[] bytes = support.serializeCursor(300, 20, tuple);
+        GraphQLCursor cursor = support.deserialize(Base64.getEncoder().encodeToString(bytes));
+        Assert.assertEquals(300, cursor.getOffset());
+        Assert.assertEquals(20, cursor.getPageSize());
+        Assert.assertArrayEquals(tuple, cursor.getTuple());
+    }
+
+    @Test
+    public void testLegacyCursor() throws Exception {
+        Set<String> allowedTypes = new HashSet<>();
+        allowedTypes.add(Long.class.getName());
+        allowedTypes.add(Number.class.getName());
+        allowedTypes.add(Serializable[].class.getName());
+        GraphQLEntityViewSupport support = new GraphQLEntityViewSupport(Collections.<String, ManagedViewType<?>>emptyMap(), allowedTypes);
+
+        Serializable[] tuple = new Serializable[]{ 1L };
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+            oos.write(10);
+            oos.write(5);
+            oos.writeObject(tuple);
+        }
+
+        GraphQLCursor cursor = support.deserialize(Base64.getEncoder().encodeToString(baos.toByteArray()));
+        Assert.assertEquals(10, cursor.getOffset());
+        Assert.assertEquals(5, cursor.getPageSize());
+        Assert.assertArrayEquals(tuple, cursor.getTuple());
+    }
+
+    @Test
+    public void testCursorDisallowedType() {
+        GraphQLEntityViewSupport support = new GraphQLEntityViewSupport(Collections.<String, ManagedViewType<?>>emptyMap(), Collections.<String>emptySet());
+        byte[] bytes = support.serializeCursor(0, 10, new Serializable[]{ TimeUnit.SECONDS });
+
+        try {
+            support.deserialize(Base64.getEncoder().encodeToString(bytes));
+            Assert.fail("Expected to fail deserializing of TimeUnit");
+        } catch (RuntimeException ex) {
+            Assert.assertEquals("Illegal attempt to deserialize disallowed type: java.util.concurrent.TimeUnit", ex.getCause().getMessage());
+        }
+    }
+
+    @Test
+    public void testMalformedCursorTupleSize() {
+        // Version, offset 0, page size 10 and a tuple size that is bigger than the remaining bytes
+        byte[] bytes = new byte[]{ KeysetCursorCodec.VERSION, 0, 10, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07 };
+        try {
+            KeysetCursorCodec.decode(bytes, Collections.<String>emptySet());
+            Assert.fail("Expected to fail decoding a cursor with an invalid tuple size");
+        } catch (IllegalArgumentException ex) {
+            Assert.assertEquals("Invalid cursor tuple size: " + (Integer.MAX_VALUE - 1), ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testMalformedCursorTruncated() {
+        byte[] bytes = KeysetCursorCodec.encode(0, 10, new Serializable[]{ "abc", 1L });
+        try {
+            KeysetCursorCodec.decode(Arrays.copyOf(bytes, bytes.length - 2), Collections.<String>emptySet());
+            Assert.fail("Expected to fail decoding a truncated cursor");
+        } catch (IllegalArgumentException ex) {
+            Assert.assertEquals("Truncated cursor", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testMalformedCursorStringLength() {
+        // Version, offset 0, page size 10, one element with the string tag and a length that exceeds the remaining bytes
+        byte[] bytes = new byte[]{ KeysetCursorCodec.VERSION, 0, 10, 2, 1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07 };
+        try {
+            KeysetCursorCodec.decode(bytes, Collections.<String>emptySet());
+            Assert.fail("Expected to fail decoding a cursor with an invalid string length");
+        } catch (IllegalArgumentException ex) {
+            Assert.assertEquals("Truncated cursor", ex.getMessage());
+        }
+    }
 }
@@ -0,0 +1,199 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.integration.graphql;
+
+import com.blazebit.persistence.CriteriaBuilder;
+import com.blazebit.persistence.CriteriaBuilderFactory;
+import com.blazebit.persistence.RestrictionBuilder;
+import com.blazebit.persistence.integration.graphql.entities.Document;
+import com.blazebit.persistence.integration.graphql.views.DocumentView;
+import com.blazebit.persistence.view.EntityViewManager;
+import com.blazebit.persistence.view.EntityViewSetting;
+import com.blazebit.persistence.view.metamodel.MappingAttribute;
+import com.blazebit.persistence.view.metamodel.MethodAttribute;
+import com.blazebit.persistence.view.metamodel.ViewMetamodel;
+import com.blazebit.persistence.view.metamodel.ViewType;
+import com.blazebit.persistence.view.spi.type.EntityViewProxy;
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderRegistry;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.persistence.EntityManager;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+public class GraphQLEntityViewBatchLoaderTest {
+
+    private EntityViewManager evm;
+    private EntityManager entityManager;
+    private CriteriaBuilderFactory cbf;
+    private RestrictionBuilder<CriteriaBuilder<Document>> restrictionBuilder;
+    private CriteriaBuilder<DocumentView> viewCriteriaBuilder;
+
+    @Before
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public void setup() {
+        evm = mock(EntityViewManager.class);
+        entityManager = mock(EntityManager.class);
+        cbf = mock(CriteriaBuilderFactory.class);
+        ViewMetamodel metamodel = mock(ViewMetamodel.class);
+        ViewType<DocumentView> viewType = mock(ViewType.class);
+        MethodAttribute idAttribute = mock(MethodAttribute.class, withSettings().extraInterfaces(MappingAttribute.class));
+        when(((MappingAttribute<?, ?>) idAttribute).getMapping()).thenReturn("id");
+        when(idAttribute.getJavaType()).thenReturn(Long.class);
+        when(viewType.getIdAttribute()).thenReturn(idAttribute);
+        when(viewType.getEntityClass()).thenReturn((Class) Document.class);
+        when(metamodel.view(DocumentView.class)).thenReturn(viewType);
+        when(evm.getMetamodel()).thenReturn(metamodel);
+        when(evm.getService(CriteriaBuilderFactory.class)).thenReturn(cbf);
+
+        CriteriaBuilder<Document> criteriaBuilder = mock(CriteriaBuilder.class);
+        restrictionBuilder = mock(RestrictionBuilder.class);
+        viewCriteriaBuilder = mock(CriteriaBuilder.class);
+        when(cbf.create(entityManager, Document.class)).thenReturn(criteriaBuilder);
+        when(criteriaBuilder.where("id")).thenReturn(restrictionBuilder);
+        when(restrictionBuilder.in(anyCollection())).thenReturn(criteriaBuilder);
+        when(evm.applySetting(any(EntityViewSetting.class), any(CriteriaBuilder.class))).thenReturn((CriteriaBuilder) viewCriteriaBuilder);
+    }
+
+    @Test
+    public void testLoadInBatches() throws Exception {
+        DocumentView document1 = makeDocumentView(1L);
+        DocumentView document3 = makeDocumentView(3L);
+        when(viewCriteriaBuilder.getResultList()).thenReturn(Collections.singletonList(document1), Collections.singletonList(document3));
+
+        GraphQLEntityViewBatchLoader<Long, DocumentView> batchLoader = new GraphQLEntityViewBatchLoader<>(evm, entityManager, DocumentView.class, 2);
+        List<DocumentView> result = batchLoader.load(Arrays.asList(1L, 2L, 3L)).toCompletableFuture().get();
+
+        Assert.assertEquals(Arrays.asList(document1, null, document3), result);
+        verify(cbf, times(2)).create(entityManager, Document.class);
+        verify(restrictionBuilder).in((Collection<?>) Arrays.asList(1L, 2L));
+        verify(restrictionBuilder).in((Collection<?>) Collections.singletonList(3L));
+    }
+
+    @Test
+    public void testConvertNumericIds() throws Exception {
+        DocumentView document1 = makeDocumentView(1L);
+        when(viewCriteriaBuilder.getResultList()).thenReturn(Collections.singletonList(document1));
+
+        GraphQLEntityViewBatchLoader<Integer, DocumentView> batchLoader = new GraphQLEntityViewBatchLoader<>(evm, entityManager, DocumentView.class, 2);
+        List<DocumentView> result = batchLoader.load(Arrays.asList(1, 2)).toCompletableFuture().get();
+
+        Assert.assertEquals(Arrays.asList(document1, null), result);
+        verify(restrictionBuilder).in((Collection<?>) Arrays.asList(1L, 2L));
+    }
+
+    @Test
+    public void testRejectMismatchingIds() throws Exception {
+        GraphQLEntityViewBatchLoader<String, DocumentView> batchLoader = new GraphQLEntityViewBatchLoader<>(evm, entityManager, DocumentView.class, 2);
+        try {
+            batchLoader.load(Collections.singletonList("1")).toCompletableFuture().get();
+            Assert.fail("Expected the mismatching id to be rejected");
+        } catch (ExecutionException ex) {
+            Assert.assertTrue(ex.getCause() instanceof IllegalArgumentException);
+        }
+        verify(cbf, never()).create(entityManager, Document.class);
+    }
+
+    @Test
+    public void testBatchNestedFieldsOfQuery() {
+        DocumentView document1 = makeDocumentView(1L);
+        DocumentView document2 = makeDocumentView(2L);
+        DocumentView document3 = makeDocumentView(3L);
+        when(document1.getName()).thenReturn("doc1");
+        when(document2.getName()).thenReturn("doc2");
+        when(document3.getName()).thenReturn("doc3");
+        when(viewCriteriaBuilder.getResultList()).thenReturn(Arrays.asList(document1, document2), Collections.singletonList(document3));
+
+        GraphQLEntityViewSupport graphQLEntityViewSupport = new GraphQLEntityViewSupport(
+            Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap(), Collections.emptySet(), 0, 2);
+        String sdl = "type Query { comments: [Comment] }\n"
+            + "type Comment { text: String document: Document }\n"
+            + "type Document { id: ID name: String }";
+        RuntimeWiring runtimeWiring = RuntimeWiring.newRuntimeWiring()
+            .type("Query", builder -> builder.dataFetcher("comments", env -> Arrays.asList(
+                makeComment("c1", 1L), makeComment("c2", 2L), makeComment("c3", 3L), makeComment("c4", 1L))))
+            .type("Comment", builder -> builder.dataFetcher("document", env -> graphQLEntityViewSupport.<Long, DocumentView>getDataLoader(env, evm, entityManager, DocumentView.class)
+                .load((Long) env.<Map<String, Object>>getSource().get("documentId"))))
+            .type("Document", builder -> builder.dataFetcher("name", env -> env.<DocumentView>getSource().getName()))
+            .build();
+        GraphQLSchema schema = new SchemaGenerator().makeExecutableSchema(new SchemaParser().parse(sdl), runtimeWiring);
+
+        ExecutionResult result = GraphQL.newGraphQL(schema).build().execute(ExecutionInput.newExecutionInput()
+            .query("{ comments { text document { name } } }")
+            .dataLoaderRegistry(new DataLoaderRegistry())
+            .build());
+
+        Assert.assertTrue(result.getErrors().toString(), result.getErrors().isEmpty());
+        List<Map<String, Map<String, Object>>> comments = result.<Map<String, List<Map<String, Map<String, Object>>>>>getData().get("comments");
+        Assert.assertEquals("doc1", comments.get(0).get("document").get("name"));
+        Assert.assertEquals("doc2", comments.get(1).get("document").get("name"));
+        Assert.assertEquals("doc3", comments.get(2).get("document").get("name"));
+        Assert.assertEquals("doc1", comments.get(3).get("document").get("name"));
+        // The four nested fields only reference three distinct ids which are loaded with one IN query per chunk of two
+        verify(cbf, times(2)).create(entityManager, Document.class);
+        verify(restrictionBuilder).in((Collection<?>) Arrays.asList(1L, 2L));
+        verify(restrictionBuilder).in((Collection<?>) Collections.singletonList(3L));
+    }
+
+    @Test
+    public void testDataLoaderIsScopedToRegistry() {
+        GraphQLEntityViewSupport graphQLEntityViewSupport = TestSchemaHelpers.getGraphQLEntityViewSupport();
+        DataFetchingEnvironment dfe1 = mock(DataFetchingEnvironment.class);
+        DataFetchingEnvironment dfe2 = mock(DataFetchingEnvironment.class);
+        DataFetchingEnvironment dfe3 = mock(DataFetchingEnvironment.class);
+        DataLoaderRegistry registry = new DataLoaderRegistry();
+        when(dfe1.getDataLoaderRegistry()).thenReturn(registry);
+        when(dfe2.getDataLoaderRegistry()).thenReturn(registry);
+        when(dfe3.getDataLoaderRegistry()).thenReturn(new DataLoaderRegistry());
+
+        DataLoader<Long, DocumentView> dataLoader = graphQLEntityViewSupport.getDataLoader(dfe1, evm, entityManager, DocumentView.class);
+
+        Assert.assertSame(dataLoader, graphQLEntityViewSupport.getDataLoader(dfe2, evm, entityManager, DocumentView.class));
+        Assert.assertNotSame(dataLoader, graphQLEntityViewSupport.getDataLoader(dfe3, evm, entityManager, DocumentView.class));
+    }
+
+    private static Map<String, Object> makeComment(String text, Long documentId) {
+        Map<String, Object> comment = new HashMap<>();
+        comment.put("text", text);
+        comment.put("documentId", documentId);
+        return comment;
+    }
+
+    private static DocumentView makeDocumentView(Long id) {
+        DocumentView documentView = mock(DocumentView.class, withSettings().extraInterfaces(EntityViewProxy.class));
+        when(((EntityViewProxy) documentView).$$_getId()).thenReturn(id);
+        return documentView;
+    }
+}
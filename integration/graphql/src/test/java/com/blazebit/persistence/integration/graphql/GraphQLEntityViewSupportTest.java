@@ -17,6 +17,7 @@ import graphql.schema.DataFetchingFieldSelectionSet;
 import graphql.schema.GraphQLFieldDefinition;
 import org.junit.Assert;
 import org.junit.Test;
+import org.mockito.Mockito;
 
 import java.util.Arrays;
 import java.util.HashSet;
@@ -51,6 +52,35 @@ public class GraphQLEntityViewSupportTest {
         Assert.assertEquals(new HashSet<>(Arrays.asList("id", "name", "owner.name")), setting.getFetches());
     }
 
+    @Test
+    public void testFetchesCachedPerSelectionSet() {
+        GraphQLFieldDefinition rootFieldDefinition = makeFieldDefinition("getDocument", documentObjectType);
+        DataFetchingEnvironment dfe1 = makeMockDataFetchingEnvironment(rootFieldDefinition, makeMockSelectionSet("Document", "name", "owner", "owner/name"));
+        DataFetchingEnvironment dfe2 = makeMockDataFetchingEnvironment(rootFieldDefinition, makeMockSelectionSet("Document", "owner", "owner/name", "name"));
+
+        EntityViewSetting<DocumentView, CriteriaBuilder<DocumentView>> setting1 = graphQLEntityViewSupport.createSetting(dfe1);
+        EntityViewSetting<DocumentView, CriteriaBuilder<DocumentView>> setting2 = graphQLEntityViewSupport.createSetting(dfe2);
+
+        Assert.assertEquals(new HashSet<>(Arrays.asList("id", "name", "owner.name")), setting1.getFetches());
+        Assert.assertEquals(setting1.getFetches(), setting2.getFetches());
+        // The second selection set only differs in the field order, so the fetches are resolved from the cache
+        Mockito.verify(dfe2, Mockito.never()).getGraphQLSchema();
+    }
+
+    @Test
+    public void testFetchesNotCachedIfDisabled() {
+        GraphQLEntityViewSupport graphQLEntityViewSupport = getGraphQLEntityViewSupport(0);
+        GraphQLFieldDefinition rootFieldDefinition = makeFieldDefinition("getDocument", documentObjectType);
+        DataFetchingEnvironment dfe1 = makeMockDataFetchingEnvironment(rootFieldDefinition, makeMockSelectionSet("Document", "name", "owner", "owner/name"));
+        DataFetchingEnvironment dfe2 = makeMockDataFetchingEnvironment(rootFieldDefinition, makeMockSelectionSet("Document", "name", "owner", "owner/name"));
+
+        EntityViewSetting<DocumentView, CriteriaBuilder<DocumentView>> setting1 = graphQLEntityViewSupport.createSetting(dfe1);
+        EntityViewSetting<DocumentView, CriteriaBuilder<DocumentView>> setting2 = graphQLEntityViewSupport.createSetting(dfe2);
+
+        Assert.assertEquals(setting1.getFetches(), setting2.getFetches());
+        Mockito.verify(dfe2).getGraphQLSchema();
+    }
+
     @Test
     public void testFetchesInPaginatedSetting() {
         GraphQLFieldDefinition rootFieldDefinition = makeFieldDefinition("getDocument", makeRelayConnection(documentObjectType));
@@ -0,0 +1,59 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.integration.graphql;
+
+import com.blazebit.persistence.integration.graphql.views.DocumentView;
+import com.blazebit.persistence.integration.graphql.views.PersonView;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Collections;
+
+/**
+ * @author Christian Beikov
+ * @since 1.6.15
+ */
+public class SelectionSetFetchCacheTest {
+
+    @Test
+    public void testEvictLeastRecentlyUsed() {
+        SelectionSetFetchCache cache = new SelectionSetFetchCache(2);
+        SelectionSetFetchCache.Key key1 = key(DocumentView.class, "Document");
+        SelectionSetFetchCache.Key key2 = key(DocumentView.class, "DocumentConnection");
+        SelectionSetFetchCache.Key key3 = key(PersonView.class, "Document");
+        String[] fetches1 = { "name" };
+        String[] fetches2 = { "owner.name" };
+        String[] fetches3 = { "id" };
+
+        cache.put(key1, fetches1);
+        cache.put(key2, fetches2);
+        Assert.assertSame(fetches1, cache.get(key1));
+        cache.put(key3, fetches3);
+
+        Assert.assertEquals(2, cache.size());
+        Assert.assertSame(fetches1, cache.get(key(DocumentView.class, "Document")));
+        Assert.assertNull(cache.get(key2));
+        Assert.assertSame(fetches3, cache.get(key3));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectInvalidSize() {
+        new SelectionSetFetchCache(0);
+    }
+
+    @Test
+    public void testKeyEquality() {
+        SelectionSetFetchCache.Key key = key(DocumentView.class, "Document");
+        Assert.assertEquals(key, key(DocumentView.class, "Document"));
+        Assert.assertNotEquals(key, key(PersonView.class, "Document"));
+        Assert.assertNotEquals(key, null);
+        Assert.assertNotEquals(key, "Document");
+    }
+
+    private static SelectionSetFetchCache.Key key(Class<?> entityViewClass, String typeName) {
+        return new SelectionSetFetchCache.Key(entityViewClass, typeName, "", Collections.emptyList());
+    }
+}
@@ -187,14 +187,22 @@ public class TestSchemaHelpers {
     }
 
     public static GraphQLEntityViewSupport getGraphQLEntityViewSupport() {
+        return getGraphQLEntityViewSupport(GraphQLEntityViewSupport.DEFAULT_SELECTION_SET_FETCH_CACHE_SIZE);
+    }
+
+    public static GraphQLEntityViewSupport getGraphQLEntityViewSupport(int selectionSetFetchCacheSize) {
         TypeDef documentTypeDef = new TypeDef("Document", DocumentView.class, Arrays.asList("id", "name", "owner"));
         TypeDef personTypeDef = new TypeDef("Person", PersonView.class, Arrays.asList("id", "name", "animal"));
         TypeDef animalTypeDef = new TypeDef("Animal", AnimalView.class, Arrays.asList("id", "name"));
         TypeDef catTypeDef = new TypeDef("Cat", CatView.class, Arrays.asList("id", "name"));
-        return setupEntityViewSupport(documentTypeDef, personTypeDef, animalTypeDef, catTypeDef);
+        return setupEntityViewSupport(selectionSetFetchCacheSize, documentTypeDef, personTypeDef, animalTypeDef, catTypeDef);
     }
 
     public static GraphQLEntityViewSupport setupEntityViewSupport(TypeDef... typeDefs) {
+        return setupEntityViewSupport(GraphQLEntityViewSupport.DEFAULT_SELECTION_SET_FETCH_CACHE_SIZE, typeDefs);
+    }
+
+    public static GraphQLEntityViewSupport setupEntityViewSupport(int selectionSetFetchCacheSize, TypeDef... typeDefs) {
         Map<String, ManagedViewType<?>> typeNameToViewType = new HashMap<>();
         Map<String, Map<String, String>> typeNameToFieldMapping = new HashMap<>();
         Map<String, Set<DefaultFetchMapping>> typeNameToDefaultFetchMappings = new HashMap<>();
@@ -207,7 +215,7 @@ public class TestSchemaHelpers {
             typeNameToFieldMapping.put(name, fieldMapping);
         });
 
-        return new GraphQLEntityViewSupport(typeNameToViewType, typeNameToFieldMapping, typeNameToDefaultFetchMappings, Collections.emptySet());
+        return new GraphQLEntityViewSupport(typeNameToViewType, typeNameToFieldMapping, typeNameToDefaultFetchMappings, Collections.emptySet(), selectionSetFetchCacheSize, GraphQLEntityViewSupport.DEFAULT_DATA_LOADER_BATCH_SIZE);
     }
 
     /**
@@ -7,6 +7,7 @@ package com.blazebit.persistence.integration.hibernate.base;
 
 import com.blazebit.persistence.JoinType;
 import com.blazebit.persistence.integration.jpa.JpaMetamodelAccessorImpl;
+import com.blazebit.persistence.spi.ArrayParameterSupport;
 import com.blazebit.persistence.spi.JoinTable;
 import com.blazebit.persistence.spi.JpaMetamodelAccessor;
 import com.blazebit.persistence.spi.JpaProvider;
@@ -74,7 +75,7 @@ import java.util.Set;
  * @author Christian Beikov
  * @since 1.6.7
  */
-public class HibernateJpaProvider implements JpaProvider {
+public class HibernateJpaProvider implements JpaProvider, ArrayParameterSupport {
 
     protected final PersistenceUnitUtil persistenceUnitUtil;
     protected final DB db;
@@ -1625,6 +1626,13 @@ public class HibernateJpaProvider implements JpaProvider {
         return true;
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public void setArrayParameter(Query query, String parameterName, Object[] array) {
+        // The parameter type can't be inferred in an untyped context, so we have to pass the array type explicitly
+        query.unwrap(org.hibernate.query.Query.class).setParameter(parameterName, array, (Class<Object[]>) array.getClass());
+    }
+
     @Override
     public void initialize(Object entity) {
         Hibernate.initialize(entity);
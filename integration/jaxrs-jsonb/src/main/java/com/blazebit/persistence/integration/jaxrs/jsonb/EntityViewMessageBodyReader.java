@@ -10,6 +10,7 @@ import com.blazebit.persistence.FullQueryBuilder;
 import com.blazebit.persistence.integration.jaxrs.EntityViewId;
 import com.blazebit.persistence.integration.jsonb.EntityViewIdValueAccessor;
 import com.blazebit.persistence.integration.jsonb.EntityViewJsonbDeserializer;
+import com.blazebit.persistence.view.CacheStatistics;
 import com.blazebit.persistence.view.ConvertOperationBuilder;
 import com.blazebit.persistence.view.ConvertOption;
 import com.blazebit.persistence.view.EntityViewBuilder;
@@ -52,6 +53,7 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
+import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -367,6 +369,10 @@ public class EntityViewMessageBodyReader implements MessageBodyReader<Object> {
             return entityViewManager.get().getOptionalParameters();
         }
 
+        public Map<String, CacheStatistics> getCacheStatistics() {
+            return entityViewManager.get().getCacheStatistics();
+        }
+
         public <T> T find(EntityManager entityManager, Class<T> entityViewClass, Object entityId) {
             return entityViewManager.get().find(entityManager, entityViewClass, entityId);
         }
@@ -501,6 +507,14 @@ public class EntityViewMessageBodyReader implements MessageBodyReader<Object> {
             return entityViewManager.get().saveFullWithTo(entityManager, view, entity);
         }
 
+        public void saveAll(EntityManager entityManager, Collection<?> views) {
+            entityViewManager.get().saveAll(entityManager, views);
+        }
+
+        public FlushOperationBuilder saveAllWith(EntityManager entityManager, Collection<?> views) {
+            return entityViewManager.get().saveAllWith(entityManager, views);
+        }
+
         public void remove(EntityManager entityManager, Object view) {
             entityViewManager.get().remove(entityManager, view);
         }
@@ -517,6 +531,22 @@ public class EntityViewMessageBodyReader implements MessageBodyReader<Object> {
             return entityViewManager.get().removeWith(entityManager, entityViewClass, viewId);
         }
 
+        public void removeAll(EntityManager entityManager, Collection<?> views) {
+            entityViewManager.get().removeAll(entityManager, views);
+        }
+
+        public FlushOperationBuilder removeAllWith(EntityManager entityManager, Collection<?> views) {
+            return entityViewManager.get().removeAllWith(entityManager, views);
+        }
+
+        public void removeAll(EntityManager entityManager, Class<?> entityViewClass, Collection<?> viewIds) {
+            entityViewManager.get().removeAll(entityManager, entityViewClass, viewIds);
+        }
+
+        public FlushOperationBuilder removeAllWith(EntityManager entityManager, Class<?> entityViewClass, Collection<?> viewIds) {
+            return entityViewManager.get().removeAllWith(entityManager, entityViewClass, viewIds);
+        }
+
         public <T, Q extends FullQueryBuilder<T, Q>> Q applySetting(EntityViewSetting<T, Q> setting, CriteriaBuilder<?> criteriaBuilder) {
             return entityViewManager.get().applySetting(setting, criteriaBuilder);
         }